@@ -0,0 +1,144 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.siouan.frontendgradleplugin.domain.model.DownloadSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.RetrySettings;
+import org.siouan.frontendgradleplugin.infrastructure.provider.ChannelProviderImpl;
+import org.siouan.frontendgradleplugin.infrastructure.provider.FileManagerImpl;
+
+/**
+ * Measures the time to download a resource as large as a Node distribution from a local HTTP server supporting range
+ * requests, depending on the number of connections used.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DownloadResourceBenchmark {
+
+    private static final String RESOURCE_PATH = "/node-v12.16.1-x64.tar.gz";
+
+    private static final int RESOURCE_SIZE = 32 * 1024 * 1024;
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d+)-(\\d*)$");
+
+    @Param({"1", "4"})
+    public int connectionCount;
+
+    private byte[] resourceContent;
+
+    private ExecutorService executorService;
+
+    private HttpServer server;
+
+    private Path temporaryDirectoryPath;
+
+    private DownloadResource downloadResource;
+
+    private DownloadSettings downloadSettings;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        resourceContent = new byte[RESOURCE_SIZE];
+        new Random(0).nextBytes(resourceContent);
+        executorService = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executorService);
+        server.createContext(RESOURCE_PATH, this::sendResource);
+        server.start();
+
+        temporaryDirectoryPath = Files.createTempDirectory("download-resource-benchmark");
+        final FileManagerImpl fileManager = new FileManagerImpl();
+        final ChannelProviderImpl channelProvider = new ChannelProviderImpl();
+        downloadResource = new DownloadResource(fileManager, channelProvider, new ConvertToHexadecimalString(),
+            new NoOpLogger());
+        downloadSettings = new DownloadSettings(
+            new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), RESOURCE_PATH),
+            Proxy.NO_PROXY, temporaryDirectoryPath, temporaryDirectoryPath.resolve("distribution.tar.gz"),
+            RetrySettings.NO_RETRY, connectionCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.stop(0);
+        executorService.shutdownNow();
+        new FileManagerImpl().deleteFileTree(temporaryDirectoryPath, true);
+    }
+
+    @Benchmark
+    public String execute() throws IOException {
+        return downloadResource.execute(downloadSettings);
+    }
+
+    private void sendResource(final HttpExchange exchange) throws IOException {
+        final String range = exchange.getRequestHeaders().getFirst("Range");
+        final Matcher matcher = (range == null) ? null : RANGE_PATTERN.matcher(range);
+        final int offset;
+        final int length;
+        final int status;
+        if (matcher != null && matcher.matches()) {
+            offset = Integer.parseInt(matcher.group(1));
+            final int lastOffset = matcher.group(2).isEmpty() ? resourceContent.length - 1 : Math.min(
+                Integer.parseInt(matcher.group(2)), resourceContent.length - 1);
+            length = lastOffset - offset + 1;
+            exchange
+                .getResponseHeaders()
+                .add("Content-Range", "bytes " + offset + '-' + lastOffset + '/' + resourceContent.length);
+            status = HttpURLConnection.HTTP_PARTIAL;
+        } else {
+            offset = 0;
+            length = resourceContent.length;
+            status = HttpURLConnection.HTTP_OK;
+        }
+        exchange.sendResponseHeaders(status, length);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(resourceContent, offset, length);
+        }
+    }
+
+    private static class NoOpLogger implements Logger {
+
+        @Override
+        public void debug(@Nonnull final String message, @Nullable final Object... parameters) {
+        }
+
+        @Override
+        public void info(@Nonnull final String message, @Nullable final Object... parameters) {
+        }
+    }
+}
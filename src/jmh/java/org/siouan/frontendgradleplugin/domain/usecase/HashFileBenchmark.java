@@ -0,0 +1,69 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.siouan.frontendgradleplugin.infrastructure.provider.ChannelProviderImpl;
+
+/**
+ * Measures the time to hash a file as large as a Node distribution, depending on the capacity of the buffer used to
+ * read it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashFileBenchmark {
+
+    private static final int FILE_SIZE = 64 * 1024 * 1024;
+
+    @Param({"4096", "8192", "65536", "1048576"})
+    public int bufferCapacity;
+
+    private Path filePath;
+
+    private HashFile hashFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        filePath = Files.createTempFile("hash-file-benchmark", ".bin");
+        final Random random = new Random(0);
+        final byte[] buffer = new byte[1024 * 1024];
+        try (final OutputStream outputStream = Files.newOutputStream(filePath)) {
+            for (int i = 0; i < FILE_SIZE / buffer.length; i++) {
+                random.nextBytes(buffer);
+                outputStream.write(buffer);
+            }
+        }
+        hashFile = new HashFile(new ChannelProviderImpl(), new ConvertToHexadecimalString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public String execute() throws IOException {
+        return hashFile.execute(filePath, bufferCapacity);
+    }
+}
@@ -0,0 +1,72 @@
+package org.siouan.frontendgradleplugin.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.Platform;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.usecase.InstallNodeDistribution;
+import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.GradleLoggerAdapter;
+import org.siouan.frontendgradleplugin.infrastructure.provider.ArchiverProviderImpl;
+import org.siouan.frontendgradleplugin.infrastructure.provider.ChannelProviderImpl;
+import org.siouan.frontendgradleplugin.infrastructure.provider.FileManagerImpl;
+
+/**
+ * Measures the time to get beans from a registry populated like the plugin does, once beans are instanciated, i.e.
+ * the overhead of the registry when tasks are executed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanRegistryBenchmark {
+
+    private BeanRegistry beanRegistry;
+
+    @Setup(Level.Trial)
+    public void setUp() throws BeanRegistryException {
+        beanRegistry = new BeanRegistry();
+        beanRegistry.registerBean(new Platform(SystemUtils.getSystemJvmArch(), SystemUtils.getSystemOsName()));
+        beanRegistry.registerBean(GradleLoggerAdapter.class);
+        beanRegistry.registerBean(FileManagerImpl.class);
+        beanRegistry.registerBean(ChannelProviderImpl.class);
+        beanRegistry.registerBean(ArchiverProviderImpl.class);
+        beanRegistry.getBean(InstallNodeDistribution.class);
+    }
+
+    @Benchmark
+    public Platform getBeanWithClass() throws BeanRegistryException {
+        return beanRegistry.getBean(Platform.class);
+    }
+
+    @Benchmark
+    public FileManager getBeanWithInterface() throws BeanRegistryException {
+        return beanRegistry.getBean(FileManager.class);
+    }
+
+    @Benchmark
+    public InstallNodeDistribution getBeanWithDependencies() throws BeanRegistryException {
+        return beanRegistry.getBean(InstallNodeDistribution.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Logger getBeanWithInterfaceConcurrently() throws BeanRegistryException {
+        return beanRegistry.getBean(Logger.class);
+    }
+}
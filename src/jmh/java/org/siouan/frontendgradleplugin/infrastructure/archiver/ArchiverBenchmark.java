@@ -0,0 +1,226 @@
+package org.siouan.frontendgradleplugin.infrastructure.archiver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarConstants;
+import org.apache.commons.compress.archivers.zip.UnixStat;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
+import org.siouan.frontendgradleplugin.domain.model.ExplodeSettings;
+import org.siouan.frontendgradleplugin.domain.model.Platform;
+import org.siouan.frontendgradleplugin.domain.usecase.AbstractArchiver;
+import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
+import org.siouan.frontendgradleplugin.infrastructure.provider.FileManagerImpl;
+
+/**
+ * Measures the time to explode a synthetic archive shaped like a Node distribution: thousands of small files in
+ * nested directories, and symbolic links.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArchiverBenchmark {
+
+    private static final String ROOT_DIRECTORY_NAME = "node-v12.16.1-x64/";
+
+    private static final int PACKAGE_COUNT = 300;
+
+    private static final int FILE_COUNT_PER_PACKAGE = 10;
+
+    private static final int MAX_FILE_SIZE = 8192;
+
+    @Param({"tar.gz", "zip"})
+    public String archiveType;
+
+    @Param({"1", "4"})
+    public int workerCount;
+
+    private final FileManagerImpl fileManager = new FileManagerImpl();
+
+    private Platform platform;
+
+    private Path workDirectoryPath;
+
+    private Path archiveFilePath;
+
+    private AbstractArchiver<?, ?> archiver;
+
+    private Path targetDirectoryPath;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        platform = new Platform(SystemUtils.getSystemJvmArch(), SystemUtils.getSystemOsName());
+        workDirectoryPath = Files.createTempDirectory("archiver-benchmark");
+        archiveFilePath = workDirectoryPath.resolve("distribution." + archiveType);
+        if (archiveType.equals("zip")) {
+            writeZipArchive();
+            archiver = new ZipArchiver(fileManager);
+        } else {
+            writeTarArchive();
+            archiver = new TarArchiver(fileManager);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws IOException {
+        targetDirectoryPath = Files.createTempDirectory(workDirectoryPath, "explode");
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws IOException {
+        fileManager.deleteFileTree(targetDirectoryPath, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        fileManager.deleteFileTree(workDirectoryPath, true);
+    }
+
+    @Benchmark
+    public void explode() throws ArchiverException, IOException {
+        archiver.explode(new ExplodeSettings(platform, archiveFilePath, targetDirectoryPath, null, workerCount));
+    }
+
+    private void writeTarArchive() throws IOException {
+        try (final TarArchiveOutputStream outputStream = new TarArchiveOutputStream(
+            new GzipCompressorOutputStream(Files.newOutputStream(archiveFilePath)))) {
+            outputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            writeEntries(new EntryWriter() {
+
+                @Override
+                public void writeDirectory(final String name) throws IOException {
+                    final TarArchiveEntry entry = new TarArchiveEntry(name);
+                    entry.setMode(TarArchiveEntry.DEFAULT_DIR_MODE);
+                    outputStream.putArchiveEntry(entry);
+                    outputStream.closeArchiveEntry();
+                }
+
+                @Override
+                public void writeFile(final String name, final byte[] content) throws IOException {
+                    final TarArchiveEntry entry = new TarArchiveEntry(name);
+                    entry.setSize(content.length);
+                    entry.setMode(TarArchiveEntry.DEFAULT_FILE_MODE);
+                    outputStream.putArchiveEntry(entry);
+                    outputStream.write(content);
+                    outputStream.closeArchiveEntry();
+                }
+
+                @Override
+                public void writeSymbolicLink(final String name, final String target) throws IOException {
+                    final TarArchiveEntry entry = new TarArchiveEntry(name, TarConstants.LF_SYMLINK);
+                    entry.setLinkName(target);
+                    outputStream.putArchiveEntry(entry);
+                    outputStream.closeArchiveEntry();
+                }
+            });
+        }
+    }
+
+    private void writeZipArchive() throws IOException {
+        try (final ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(archiveFilePath.toFile())) {
+            writeEntries(new EntryWriter() {
+
+                @Override
+                public void writeDirectory(final String name) throws IOException {
+                    final ZipArchiveEntry entry = new ZipArchiveEntry(name);
+                    entry.setUnixMode(UnixStat.DIR_FLAG | UnixStat.DEFAULT_DIR_PERM);
+                    outputStream.putArchiveEntry(entry);
+                    outputStream.closeArchiveEntry();
+                }
+
+                @Override
+                public void writeFile(final String name, final byte[] content) throws IOException {
+                    final ZipArchiveEntry entry = new ZipArchiveEntry(name);
+                    entry.setUnixMode(UnixStat.FILE_FLAG | UnixStat.DEFAULT_FILE_PERM);
+                    outputStream.putArchiveEntry(entry);
+                    outputStream.write(content);
+                    outputStream.closeArchiveEntry();
+                }
+
+                @Override
+                public void writeSymbolicLink(final String name, final String target) throws IOException {
+                    final ZipArchiveEntry entry = new ZipArchiveEntry(name);
+                    entry.setUnixMode(UnixStat.LINK_FLAG | UnixStat.DEFAULT_LINK_PERM);
+                    outputStream.putArchiveEntry(entry);
+                    outputStream.write(target.getBytes(StandardCharsets.UTF_8));
+                    outputStream.closeArchiveEntry();
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes entries of a synthetic Node distribution. The content of files is pseudo-random, but the same for each
+     * trial.
+     *
+     * @param writer Entry writer.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void writeEntries(final EntryWriter writer) throws IOException {
+        final Random random = new Random(0);
+        final String modulesDirectoryName = ROOT_DIRECTORY_NAME + "lib/node_modules/npm/node_modules/";
+        writer.writeDirectory(ROOT_DIRECTORY_NAME);
+        writer.writeDirectory(ROOT_DIRECTORY_NAME + "bin/");
+        writer.writeFile(ROOT_DIRECTORY_NAME + "bin/node", randomContent(random));
+        writer.writeDirectory(modulesDirectoryName);
+        writer.writeDirectory(modulesDirectoryName + ".bin/");
+        for (int i = 0; i < PACKAGE_COUNT; i++) {
+            final String packageName = "package-" + i;
+            final String packageDirectoryName = modulesDirectoryName + packageName + '/';
+            writer.writeDirectory(packageDirectoryName);
+            writer.writeDirectory(packageDirectoryName + "lib/");
+            writer.writeFile(packageDirectoryName + "index.js", randomContent(random));
+            for (int j = 1; j < FILE_COUNT_PER_PACKAGE; j++) {
+                writer.writeFile(packageDirectoryName + "lib/file-" + j + ".js", randomContent(random));
+            }
+            writer.writeSymbolicLink(modulesDirectoryName + ".bin/" + packageName,
+                "../" + packageName + "/index.js");
+        }
+        writer.writeSymbolicLink(ROOT_DIRECTORY_NAME + "bin/npm",
+            "../lib/node_modules/npm/node_modules/package-0/index.js");
+    }
+
+    private static byte[] randomContent(final Random random) {
+        final byte[] content = new byte[1 + random.nextInt(MAX_FILE_SIZE)];
+        // Printable characters, so as compression ratio is close to the one of source files.
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (' ' + random.nextInt(95));
+        }
+        return content;
+    }
+
+    private interface EntryWriter {
+
+        void writeDirectory(String name) throws IOException;
+
+        void writeFile(String name, byte[] content) throws IOException;
+
+        void writeSymbolicLink(String name, String target) throws IOException;
+    }
+}
@@ -1,5 +1,6 @@
 package org.siouan.frontendgradleplugin;
 
+import java.io.File;
 import java.util.function.BiPredicate;
 
 import org.gradle.api.GradleException;
@@ -11,6 +12,7 @@ import org.gradle.api.publish.plugins.PublishingPlugin;
 import org.gradle.api.tasks.TaskContainer;
 import org.gradle.api.tasks.TaskProvider;
 import org.gradle.language.base.plugins.LifecycleBasePlugin;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
 import org.siouan.frontendgradleplugin.domain.model.Platform;
 import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
 import org.siouan.frontendgradleplugin.infrastructure.BeanRegistry;
@@ -19,6 +21,7 @@ import org.siouan.frontendgradleplugin.infrastructure.Beans;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.AssembleTask;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.CheckTask;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.CleanTask;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.ExecutablePathCacheService;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.FrontendExtension;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.InstallTask;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.NodeInstallTask;
@@ -73,6 +76,46 @@ public class FrontendGradlePlugin implements Plugin<Project> {
      */
     public static final String DEFAULT_NODE_INSTALL_DIRNAME = "node";
 
+    /**
+     * Path to the directory where the plugin caches data shared by builds, relative to the Gradle user home directory.
+     */
+    public static final String DEFAULT_CACHE_DIRNAME = "caches/frontend-gradle-plugin";
+
+    /**
+     * Path to the directory where install tasks write metrics reports, relative to the build directory.
+     */
+    public static final String METRICS_REPORT_DIRNAME = "reports/frontend";
+
+    /**
+     * Suffix of the name of a metrics report file, preceded by the name of the install task.
+     */
+    public static final String METRICS_REPORT_FILE_SUFFIX = "-metrics.json";
+
+    /**
+     * Default number of threads used to explode distributions: entries are written sequentially.
+     */
+    public static final int DEFAULT_EXPLODE_WORKER_COUNT = 1;
+
+    /**
+     * Default maximum number of attempts to download a distribution.
+     */
+    public static final int DEFAULT_DOWNLOAD_MAX_ATTEMPTS = 3;
+
+    /**
+     * Default delay in milliseconds before downloading a distribution again after a first failure.
+     */
+    public static final long DEFAULT_DOWNLOAD_RETRY_INITIAL_DELAY_MS = 1000;
+
+    /**
+     * Default maximum number of concurrent connections used to download a distribution.
+     */
+    public static final int DEFAULT_DOWNLOAD_CONNECTION_COUNT = 1;
+
+    /**
+     * Default maximum number of scripts run in parallel by tasks of a project: scripts are run sequentially.
+     */
+    public static final int DEFAULT_SCRIPT_WORKER_COUNT = 1;
+
     /**
      * Default port for the proxy server.
      */
@@ -134,13 +177,27 @@ public class FrontendGradlePlugin implements Plugin<Project> {
         extension.getInstallScript().convention(DEFAULT_INSTALL_SCRIPT);
         extension.getPackageJsonDirectory().convention(project.getLayout().getProjectDirectory().getAsFile());
         extension.getProxyPort().convention(DEFAULT_PROXY_PORT);
+        extension.getDistributionCacheEnabled().convention(false);
+        extension
+            .getCacheDirectory()
+            .convention(project
+                .getLayout()
+                .dir(project.provider(() -> new File(project.getGradle().getGradleUserHomeDir(),
+                    DEFAULT_CACHE_DIRNAME))));
+        extension.getDistributionStreamingEnabled().convention(false);
+        extension.getExplodeWorkerCount().convention(DEFAULT_EXPLODE_WORKER_COUNT);
+        extension.getDownloadMaxAttempts().convention(DEFAULT_DOWNLOAD_MAX_ATTEMPTS);
+        extension.getDownloadRetryInitialDelayMs().convention(DEFAULT_DOWNLOAD_RETRY_INITIAL_DELAY_MS);
+        extension.getDownloadConnectionCount().convention(DEFAULT_DOWNLOAD_CONNECTION_COUNT);
+        extension.getScriptWorkerCount().convention(DEFAULT_SCRIPT_WORKER_COUNT);
         extension.getVerboseModeEnabled().convention(false);
 
+        final Platform platform = new Platform(SystemUtils.getSystemJvmArch(), SystemUtils.getSystemOsName());
         final TaskContainer taskContainer = project.getTasks();
         taskContainer.register(NODE_INSTALL_TASK_NAME, NodeInstallTask.class,
-            task -> configureNodeInstallTask(task, extension));
+            task -> configureNodeInstallTask(task, extension, platform));
         taskContainer.register(YARN_INSTALL_TASK_NAME, YarnInstallTask.class,
-            task -> configureYarnInstallTask(task, extension));
+            task -> configureYarnInstallTask(task, extension, platform));
         taskContainer.register(INSTALL_TASK_NAME, InstallTask.class,
             task -> configureInstallTask(taskContainer, task, extension));
         taskContainer.register(CLEAN_TASK_NAME, CleanTask.class,
@@ -158,16 +215,19 @@ public class FrontendGradlePlugin implements Plugin<Project> {
         configureDependency(taskContainer, PublishingPlugin.PUBLISH_LIFECYCLE_TASK_NAME, PUBLISH_TASK_NAME,
             PublishTask.class);
 
-        Beans.registerBean(new Platform(SystemUtils.getSystemJvmArch(), SystemUtils.getSystemOsName()));
+        Beans.registerBean(platform);
         Beans.registerBean(GradleLoggerAdapter.class);
         Beans.registerBean(FileManagerImpl.class);
         Beans.registerBean(ChannelProviderImpl.class);
         Beans.registerBean(ArchiverProviderImpl.class);
         try {
-            project.getGradle().addListener(new TaskLoggerConfigurer(Beans.getBean(BeanRegistry.class), extension));
+            project
+                .getGradle()
+                .addListener(new TaskLoggerConfigurer(Beans.getBean(BeanRegistry.class), extension, project));
         } catch (final BeanRegistryException e) {
             throw new GradleException("Cannot get instance of bean registry", e);
         }
+        ExecutablePathCacheService.start(project);
     }
 
     /**
@@ -175,15 +235,32 @@ public class FrontendGradlePlugin implements Plugin<Project> {
      *
      * @param task Task.
      * @param extension Plugin extension.
+     * @param platform Underlying platform.
      */
-    private void configureNodeInstallTask(final NodeInstallTask task, final FrontendExtension extension) {
+    private void configureNodeInstallTask(final NodeInstallTask task, final FrontendExtension extension,
+        final Platform platform) {
         task.setGroup(TASK_GROUP);
         task.setDescription("Downloads and installs a Node distribution.");
         task.getNodeVersion().set(extension.getNodeVersion());
         task.getNodeDistributionUrl().set(extension.getNodeDistributionUrl());
         task.getNodeInstallDirectory().set(extension.getNodeInstallDirectory());
+        task.getPlatform().set(InstallManifest.toPlatformId(platform));
         task.getProxyHost().set(extension.getProxyHost());
         task.getProxyPort().set(extension.getProxyPort());
+        task.getDistributionCacheEnabled().set(extension.getDistributionCacheEnabled());
+        task.getCacheDirectory().set(extension.getCacheDirectory());
+        task.getDistributionStreamingEnabled().set(extension.getDistributionStreamingEnabled());
+        task.getExplodeWorkerCount().set(extension.getExplodeWorkerCount());
+        task.getDownloadMaxAttempts().set(extension.getDownloadMaxAttempts());
+        task.getDownloadRetryInitialDelayMs().set(extension.getDownloadRetryInitialDelayMs());
+        task.getDownloadConnectionCount().set(extension.getDownloadConnectionCount());
+        task
+            .getMetricsReportFile()
+            .set(task
+                .getProject()
+                .getLayout()
+                .getBuildDirectory()
+                .file(METRICS_REPORT_DIRNAME + '/' + task.getName() + METRICS_REPORT_FILE_SUFFIX));
         task.setOnlyIf(t -> !extension.getNodeDistributionProvided().get());
     }
 
@@ -192,15 +269,32 @@ public class FrontendGradlePlugin implements Plugin<Project> {
      *
      * @param task Task.
      * @param extension Plugin extension.
+     * @param platform Underlying platform.
      */
-    private void configureYarnInstallTask(final YarnInstallTask task, final FrontendExtension extension) {
+    private void configureYarnInstallTask(final YarnInstallTask task, final FrontendExtension extension,
+        final Platform platform) {
         task.setGroup(TASK_GROUP);
         task.setDescription("Downloads and installs a Yarn distribution.");
         task.getYarnVersion().set(extension.getYarnVersion());
         task.getYarnDistributionUrl().set(extension.getYarnDistributionUrl());
         task.getYarnInstallDirectory().set(extension.getYarnInstallDirectory());
+        task.getPlatform().set(InstallManifest.toPlatformId(platform));
         task.getProxyHost().set(extension.getProxyHost());
         task.getProxyPort().set(extension.getProxyPort());
+        task.getDistributionCacheEnabled().set(extension.getDistributionCacheEnabled());
+        task.getCacheDirectory().set(extension.getCacheDirectory());
+        task.getDistributionStreamingEnabled().set(extension.getDistributionStreamingEnabled());
+        task.getExplodeWorkerCount().set(extension.getExplodeWorkerCount());
+        task.getDownloadMaxAttempts().set(extension.getDownloadMaxAttempts());
+        task.getDownloadRetryInitialDelayMs().set(extension.getDownloadRetryInitialDelayMs());
+        task.getDownloadConnectionCount().set(extension.getDownloadConnectionCount());
+        task
+            .getMetricsReportFile()
+            .set(task
+                .getProject()
+                .getLayout()
+                .getBuildDirectory()
+                .file(METRICS_REPORT_DIRNAME + '/' + task.getName() + METRICS_REPORT_FILE_SUFFIX));
         task.setOnlyIf(t -> extension.getYarnEnabled().get() && !extension.getYarnDistributionProvided().get());
     }
 
@@ -20,4 +20,16 @@ public interface Archiver {
      * @throws IOException If an I/O error occurs.
      */
     void explode(@Nonnull ExplodeSettings settings) throws ArchiverException, IOException;
+
+    /**
+     * Whether this archiver is able to explode an archive read sequentially from a channel, i.e. while it is being
+     * downloaded.
+     *
+     * @return {@code true} if the archiver supports streaming.
+     * @see ExplodeSettings#getArchiveChannel()
+     * @since 2.2.0
+     */
+    default boolean isStreamingSupported() {
+        return false;
+    }
 }
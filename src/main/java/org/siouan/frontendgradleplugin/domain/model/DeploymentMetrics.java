@@ -0,0 +1,65 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+/**
+ * Durations of the steps of a distribution deployment, and how the exploded distribution was moved.
+ *
+ * @since 2.2.0
+ */
+public class DeploymentMetrics {
+
+    /**
+     * Duration in milliseconds to explode the distribution archive in the extract directory.
+     */
+    private final long explodeDurationMs;
+
+    /**
+     * Duration in milliseconds to move the exploded distribution in the install directory.
+     */
+    private final long moveDurationMs;
+
+    /**
+     * Whether the exploded distribution was moved with an atomic rename, {@code false} if it was copied then deleted.
+     */
+    private final boolean atomicMove;
+
+    /**
+     * Builds deployment metrics.
+     *
+     * @param explodeDurationMs Duration in milliseconds to explode the distribution archive.
+     * @param moveDurationMs Duration in milliseconds to move the exploded distribution in the install directory.
+     * @param atomicMove Whether the exploded distribution was moved with an atomic rename.
+     */
+    public DeploymentMetrics(final long explodeDurationMs, final long moveDurationMs, final boolean atomicMove) {
+        this.explodeDurationMs = explodeDurationMs;
+        this.moveDurationMs = moveDurationMs;
+        this.atomicMove = atomicMove;
+    }
+
+    /**
+     * Gets the duration to explode the distribution archive in the extract directory.
+     *
+     * @return Duration in milliseconds.
+     */
+    public long getExplodeDurationMs() {
+        return explodeDurationMs;
+    }
+
+    /**
+     * Gets the duration to move the exploded distribution in the install directory.
+     *
+     * @return Duration in milliseconds.
+     */
+    public long getMoveDurationMs() {
+        return moveDurationMs;
+    }
+
+    /**
+     * Tells whether the exploded distribution was moved with an atomic rename.
+     *
+     * @return {@code true} if the extract directory was renamed, {@code false} if its content was copied then deleted,
+     * because the extract directory and the install directory are on different volumes.
+     */
+    public boolean isAtomicMove() {
+        return atomicMove;
+    }
+}
@@ -30,6 +30,11 @@ public class DeploymentSettings {
      */
     private final Path distributionFilePath;
 
+    /**
+     * Maximum number of threads used to explode the distribution.
+     */
+    private final int explodeWorkerCount;
+
     /**
      * Builds an installer.
      *
@@ -40,10 +45,27 @@ public class DeploymentSettings {
      */
     public DeploymentSettings(@Nonnull final Platform platform, @Nonnull final Path extractDirectoryPath,
         @Nonnull final Path installDirectoryPath, @Nonnull final Path distributionFilePath) {
+        this(platform, extractDirectoryPath, installDirectoryPath, distributionFilePath, 1);
+    }
+
+    /**
+     * Builds an installer.
+     *
+     * @param platform Underlying platform.
+     * @param extractDirectoryPath Path to a directory where the archive content may be temporarily extracted.
+     * @param installDirectoryPath Path to a directory where the archive content must be deployed.
+     * @param distributionFilePath Path to the distribution archive.
+     * @param explodeWorkerCount Maximum number of threads used to explode the distribution.
+     * @since 2.2.0
+     */
+    public DeploymentSettings(@Nonnull final Platform platform, @Nonnull final Path extractDirectoryPath,
+        @Nonnull final Path installDirectoryPath, @Nonnull final Path distributionFilePath,
+        final int explodeWorkerCount) {
         this.platform = platform;
         this.extractDirectoryPath = extractDirectoryPath;
         this.installDirectoryPath = installDirectoryPath;
         this.distributionFilePath = distributionFilePath;
+        this.explodeWorkerCount = explodeWorkerCount;
     }
 
     /**
@@ -85,4 +107,14 @@ public class DeploymentSettings {
     public Path getDistributionFilePath() {
         return distributionFilePath;
     }
+
+    /**
+     * Gets the maximum number of threads used to explode the distribution.
+     *
+     * @return Number of threads.
+     * @since 2.2.0
+     */
+    public int getExplodeWorkerCount() {
+        return explodeWorkerCount;
+    }
 }
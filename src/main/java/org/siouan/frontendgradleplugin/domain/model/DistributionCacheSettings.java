@@ -0,0 +1,198 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+
+/**
+ * Settings to access a distribution in the distribution cache. The cache is content-addressed: distribution files are
+ * stored in a directory named after their SHA-256 hash, and an index file associates the distribution ID, the version,
+ * the platform, the URL used to download the distribution and the file name with this hash:
+ * <ul>
+ * <li>{@code <cache-directory>/distributions/sha256/<hash>/<file-name>}: the distribution file.</li>
+ * <li>{@code <cache-directory>/distributions/<id>/<version>/<platform>/<url-key>/<file-name>.sha256}: the index file,
+ * where {@code <url-key>} is a name-based UUID derived from the URL, so as distributions downloaded from different
+ * servers (e.g. a mirror) are never mixed.</li>
+ * </ul>
+ * The cache has no size limit, and entries are never evicted based on their age: an entry is only evicted when its
+ * distribution file is found missing or corrupted. Since each entry is written atomically and checked before it is
+ * reused, the whole cache directory may be deleted safely at any time when no build is running, to reclaim disk space.
+ *
+ * @since 2.2.0
+ */
+public class DistributionCacheSettings {
+
+    /**
+     * Name of the directory containing distributions in the cache directory.
+     */
+    public static final String DISTRIBUTIONS_DIRECTORY_NAME = "distributions";
+
+    /**
+     * Name of the directory containing distribution files indexed by their hash.
+     */
+    public static final String CONTENT_DIRECTORY_NAME = "sha256";
+
+    /**
+     * Extension of an index file.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".sha256";
+
+    /**
+     * Path to the cache directory.
+     */
+    private final Path cacheDirectoryPath;
+
+    /**
+     * Distribution ID.
+     */
+    private final String distributionId;
+
+    /**
+     * Version of the distribution.
+     */
+    private final String version;
+
+    /**
+     * Underlying platform.
+     */
+    private final Platform platform;
+
+    /**
+     * URL used to download the distribution.
+     */
+    private final URL distributionUrl;
+
+    /**
+     * Name of the distribution file.
+     */
+    private final String distributionFileName;
+
+    /**
+     * Builds settings to access a distribution in the cache.
+     *
+     * @param cacheDirectoryPath Path to the cache directory.
+     * @param distributionId Distribution ID.
+     * @param version Version of the distribution.
+     * @param platform Underlying platform.
+     * @param distributionUrl URL used to download the distribution.
+     * @param distributionFileName Name of the distribution file.
+     * @see DistributionId
+     */
+    public DistributionCacheSettings(@Nonnull final Path cacheDirectoryPath, @Nonnull final String distributionId,
+        @Nonnull final String version, @Nonnull final Platform platform, @Nonnull final URL distributionUrl,
+        @Nonnull final String distributionFileName) {
+        this.cacheDirectoryPath = cacheDirectoryPath;
+        this.distributionId = distributionId;
+        this.version = version;
+        this.platform = platform;
+        this.distributionUrl = distributionUrl;
+        this.distributionFileName = distributionFileName;
+    }
+
+    /**
+     * Gets the path to the cache directory.
+     *
+     * @return Path.
+     */
+    @Nonnull
+    public Path getCacheDirectoryPath() {
+        return cacheDirectoryPath;
+    }
+
+    /**
+     * Gets the distribution ID.
+     *
+     * @return ID.
+     */
+    @Nonnull
+    public String getDistributionId() {
+        return distributionId;
+    }
+
+    /**
+     * Gets the version of the distribution.
+     *
+     * @return Version.
+     */
+    @Nonnull
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the underlying platform.
+     *
+     * @return Platform.
+     */
+    @Nonnull
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    /**
+     * Gets the URL used to download the distribution.
+     *
+     * @return URL.
+     */
+    @Nonnull
+    public URL getDistributionUrl() {
+        return distributionUrl;
+    }
+
+    /**
+     * Gets the name of the distribution file.
+     *
+     * @return File name.
+     */
+    @Nonnull
+    public String getDistributionFileName() {
+        return distributionFileName;
+    }
+
+    /**
+     * Gets the path to the index file, containing the hash of the distribution file on the first line, and its size
+     * in bytes on the second line.
+     *
+     * @return Path.
+     */
+    @Nonnull
+    public Path getIndexFilePath() {
+        return cacheDirectoryPath
+            .resolve(DISTRIBUTIONS_DIRECTORY_NAME)
+            .resolve(toPathSegment(distributionId))
+            .resolve(toPathSegment(version))
+            .resolve(toPathSegment(platform.getOsName() + '-' + platform.getJvmArch()))
+            .resolve(UUID.nameUUIDFromBytes(distributionUrl.toString().getBytes(StandardCharsets.UTF_8)).toString())
+            .resolve(distributionFileName + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the path to the distribution file with the given hash.
+     *
+     * @param hash SHA-256 hash of the distribution file, as an hexadecimal string.
+     * @return Path.
+     */
+    @Nonnull
+    public Path getContentFilePath(@Nonnull final String hash) {
+        return cacheDirectoryPath
+            .resolve(DISTRIBUTIONS_DIRECTORY_NAME)
+            .resolve(CONTENT_DIRECTORY_NAME)
+            .resolve(toPathSegment(hash))
+            .resolve(distributionFileName);
+    }
+
+    /**
+     * Converts a value into a string usable as a path segment, by replacing any character other than a letter, a
+     * digit, a dot, an hyphen or an underscore.
+     *
+     * @param value Value.
+     * @return Path segment.
+     */
+    @Nonnull
+    private static String toPathSegment(@Nonnull final String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]", "_");
+    }
+}
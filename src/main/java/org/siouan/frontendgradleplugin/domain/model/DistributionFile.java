@@ -0,0 +1,54 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.nio.file.Path;
+import javax.annotation.Nonnull;
+
+/**
+ * Distribution file available locally, with its hash computed once while it was downloaded or verified in the
+ * distribution cache.
+ *
+ * @since 2.2.0
+ */
+public class DistributionFile {
+
+    /**
+     * Path to the distribution file.
+     */
+    private final Path filePath;
+
+    /**
+     * SHA-256 hash of the distribution file, as an hexadecimal string.
+     */
+    private final String hash;
+
+    /**
+     * Builds a distribution file.
+     *
+     * @param filePath Path to the distribution file.
+     * @param hash SHA-256 hash of the distribution file, as an hexadecimal string.
+     */
+    public DistributionFile(@Nonnull final Path filePath, @Nonnull final String hash) {
+        this.filePath = filePath;
+        this.hash = hash;
+    }
+
+    /**
+     * Gets the path to the distribution file.
+     *
+     * @return Path.
+     */
+    @Nonnull
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Gets the SHA-256 hash of the distribution file.
+     *
+     * @return Hash, as an hexadecimal string.
+     */
+    @Nonnull
+    public String getHash() {
+        return hash;
+    }
+}
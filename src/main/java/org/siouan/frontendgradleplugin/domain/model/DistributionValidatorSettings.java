@@ -4,6 +4,7 @@ import java.net.Proxy;
 import java.net.URL;
 import java.nio.file.Path;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Settings for distribution validation.
@@ -20,6 +21,10 @@ public class DistributionValidatorSettings {
 
     private final Proxy proxy;
 
+    private final String distributionFileHash;
+
+    private final Path cacheDirectoryPath;
+
     /**
      * Builds validator settings.
      *
@@ -30,10 +35,48 @@ public class DistributionValidatorSettings {
      */
     public DistributionValidatorSettings(@Nonnull final Path temporaryDirectoryPath, @Nonnull final URL distributionUrl,
         @Nonnull final Path distributionFilePath, @Nonnull final Proxy proxy) {
+        this(temporaryDirectoryPath, distributionUrl, distributionFilePath, proxy, null);
+    }
+
+    /**
+     * Builds validator settings.
+     *
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param distributionUrl URL used to download the distribution.
+     * @param distributionFilePath Path to the distribution archive.
+     * @param proxy Proxy used for any connections.
+     * @param distributionFileHash SHA-256 hash of the distribution archive, computed during its download, or {@code
+     * null} if it is unknown.
+     * @since 2.2.0
+     */
+    public DistributionValidatorSettings(@Nonnull final Path temporaryDirectoryPath, @Nonnull final URL distributionUrl,
+        @Nonnull final Path distributionFilePath, @Nonnull final Proxy proxy,
+        @Nullable final String distributionFileHash) {
+        this(temporaryDirectoryPath, distributionUrl, distributionFilePath, proxy, distributionFileHash, null);
+    }
+
+    /**
+     * Builds validator settings.
+     *
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param distributionUrl URL used to download the distribution.
+     * @param distributionFilePath Path to the distribution archive.
+     * @param proxy Proxy used for any connections.
+     * @param distributionFileHash SHA-256 hash of the distribution archive, computed during its download, or {@code
+     * null} if it is unknown.
+     * @param cacheDirectoryPath Path to the cache directory where resources used for the validation may be stored,
+     * {@code null} to download them each time.
+     * @since 2.2.0
+     */
+    public DistributionValidatorSettings(@Nonnull final Path temporaryDirectoryPath, @Nonnull final URL distributionUrl,
+        @Nonnull final Path distributionFilePath, @Nonnull final Proxy proxy,
+        @Nullable final String distributionFileHash, @Nullable final Path cacheDirectoryPath) {
         this.temporaryDirectoryPath = temporaryDirectoryPath;
         this.distributionUrl = distributionUrl;
         this.distributionFilePath = distributionFilePath;
         this.proxy = proxy;
+        this.distributionFileHash = distributionFileHash;
+        this.cacheDirectoryPath = cacheDirectoryPath;
     }
 
     /**
@@ -75,4 +118,26 @@ public class DistributionValidatorSettings {
     public Proxy getProxy() {
         return proxy;
     }
+
+    /**
+     * Gets the SHA-256 hash of the distribution archive computed during its download.
+     *
+     * @return Hash as an hexadecimal string, may be {@code null} if the hash is unknown.
+     * @since 2.2.0
+     */
+    @Nullable
+    public String getDistributionFileHash() {
+        return distributionFileHash;
+    }
+
+    /**
+     * Gets the path to the cache directory where resources used for the validation may be stored.
+     *
+     * @return Path, may be {@code null} if resources shall be downloaded each time.
+     * @since 2.2.0
+     */
+    @Nullable
+    public Path getCacheDirectoryPath() {
+        return cacheDirectoryPath;
+    }
 }
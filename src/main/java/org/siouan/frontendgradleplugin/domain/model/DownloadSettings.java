@@ -20,6 +20,10 @@ public class DownloadSettings {
 
     private final Path destinationFilePath;
 
+    private final RetrySettings retrySettings;
+
+    private final int connectionCount;
+
     /**
      * Builds download settings.
      *
@@ -30,10 +34,46 @@ public class DownloadSettings {
      */
     public DownloadSettings(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
         @Nonnull final Path temporaryDirectoryPath, @Nonnull final Path destinationFilePath) {
+        this(resourceUrl, proxy, temporaryDirectoryPath, destinationFilePath, RetrySettings.NO_RETRY);
+    }
+
+    /**
+     * Builds download settings.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy used for the connection.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param destinationFilePath Path to a destination file.
+     * @param retrySettings Settings to retry the download when it fails.
+     * @since 2.2.0
+     */
+    public DownloadSettings(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
+        @Nonnull final Path temporaryDirectoryPath, @Nonnull final Path destinationFilePath,
+        @Nonnull final RetrySettings retrySettings) {
+        this(resourceUrl, proxy, temporaryDirectoryPath, destinationFilePath, retrySettings, 1);
+    }
+
+    /**
+     * Builds download settings.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy used for the connection.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param destinationFilePath Path to a destination file.
+     * @param retrySettings Settings to retry the download when it fails.
+     * @param connectionCount Maximum number of concurrent connections used to download segments of the resource,
+     * when the server supports range requests.
+     * @since 2.2.0
+     */
+    public DownloadSettings(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
+        @Nonnull final Path temporaryDirectoryPath, @Nonnull final Path destinationFilePath,
+        @Nonnull final RetrySettings retrySettings, final int connectionCount) {
         this.resourceUrl = resourceUrl;
         this.proxy = proxy;
         this.temporaryDirectoryPath = temporaryDirectoryPath;
         this.destinationFilePath = destinationFilePath;
+        this.retrySettings = retrySettings;
+        this.connectionCount = connectionCount;
     }
 
     /**
@@ -75,4 +115,25 @@ public class DownloadSettings {
     public Path getDestinationFilePath() {
         return destinationFilePath;
     }
+
+    /**
+     * Gets the settings to retry the download when it fails.
+     *
+     * @return Settings.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public RetrySettings getRetrySettings() {
+        return retrySettings;
+    }
+
+    /**
+     * Gets the maximum number of concurrent connections used to download segments of the resource.
+     *
+     * @return Number of connections.
+     * @since 2.2.0
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
 }
@@ -0,0 +1,54 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+
+/**
+ * Cache of executable paths known to exist, so as tasks running scripts do not check again the presence of the same
+ * executables in install directories. Only existing executables are cached: a missing executable is always checked
+ * again. Paths in an install directory must be invalidated when a distribution is installed in this directory, and the
+ * whole cache must be cleared when a build completes, since install directories may be modified between builds.
+ *
+ * @since 2.2.0
+ */
+public class ExecutablePathCache {
+
+    private final Set<Path> executablePaths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Tells whether the given executable is known to exist.
+     *
+     * @param executablePath Path to the executable.
+     * @return {@code true} if the executable was found since the cache was last cleared.
+     */
+    public boolean contains(@Nonnull final Path executablePath) {
+        return executablePaths.contains(executablePath);
+    }
+
+    /**
+     * Remembers an executable found.
+     *
+     * @param executablePath Path to the executable.
+     */
+    public void add(@Nonnull final Path executablePath) {
+        executablePaths.add(executablePath);
+    }
+
+    /**
+     * Forgets all executables located in the given install directory.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     */
+    public void invalidate(@Nonnull final Path installDirectoryPath) {
+        executablePaths.removeIf(executablePath -> executablePath.startsWith(installDirectoryPath));
+    }
+
+    /**
+     * Forgets all executables.
+     */
+    public void clear() {
+        executablePaths.clear();
+    }
+}
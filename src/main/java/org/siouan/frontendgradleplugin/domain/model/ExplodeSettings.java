@@ -1,7 +1,9 @@
 package org.siouan.frontendgradleplugin.domain.model;
 
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Settings to explode an archive.
@@ -25,6 +27,16 @@ public class ExplodeSettings {
      */
     private final Path targetDirectoryPath;
 
+    /**
+     * Channel to read the archive content, instead of the archive file.
+     */
+    private final ReadableByteChannel archiveChannel;
+
+    /**
+     * Maximum number of threads used to write entries, when the archiver supports random access to entries.
+     */
+    private final int workerCount;
+
     /**
      * Builds settings to explode an archive.
      *
@@ -34,9 +46,44 @@ public class ExplodeSettings {
      */
     public ExplodeSettings(@Nonnull final Platform platform, @Nonnull final Path archiveFilePath,
         @Nonnull final Path targetDirectoryPath) {
+        this(platform, archiveFilePath, targetDirectoryPath, null);
+    }
+
+    /**
+     * Builds settings to explode an archive read from a channel. The archive file path is still used to resolve the
+     * archive type, but the file does not need to exist. The channel is not closed by the archiver.
+     *
+     * @param platform Underlying platform.
+     * @param archiveFilePath Archive file.
+     * @param targetDirectoryPath Path to the directory where the archive shall be exploded.
+     * @param archiveChannel Channel to read the archive content, {@code null} to read the archive file.
+     * @since 2.2.0
+     */
+    public ExplodeSettings(@Nonnull final Platform platform, @Nonnull final Path archiveFilePath,
+        @Nonnull final Path targetDirectoryPath, @Nullable final ReadableByteChannel archiveChannel) {
+        this(platform, archiveFilePath, targetDirectoryPath, archiveChannel, 1);
+    }
+
+    /**
+     * Builds settings to explode an archive with multiple workers. The archive file path is still used to resolve the
+     * archive type, but the file does not need to exist if a channel is provided. The channel is not closed by the
+     * archiver.
+     *
+     * @param platform Underlying platform.
+     * @param archiveFilePath Archive file.
+     * @param targetDirectoryPath Path to the directory where the archive shall be exploded.
+     * @param archiveChannel Channel to read the archive content, {@code null} to read the archive file.
+     * @param workerCount Maximum number of threads used to write entries, {@code 1} to write them sequentially.
+     * @since 2.2.0
+     */
+    public ExplodeSettings(@Nonnull final Platform platform, @Nonnull final Path archiveFilePath,
+        @Nonnull final Path targetDirectoryPath, @Nullable final ReadableByteChannel archiveChannel,
+        final int workerCount) {
         this.platform = platform;
         this.archiveFilePath = archiveFilePath;
         this.targetDirectoryPath = targetDirectoryPath;
+        this.archiveChannel = archiveChannel;
+        this.workerCount = workerCount;
     }
 
     /**
@@ -68,4 +115,25 @@ public class ExplodeSettings {
     public Path getTargetDirectoryPath() {
         return targetDirectoryPath;
     }
+
+    /**
+     * Gets the channel to read the archive content.
+     *
+     * @return Channel, may be {@code null} if the archive file shall be read.
+     * @since 2.2.0
+     */
+    @Nullable
+    public ReadableByteChannel getArchiveChannel() {
+        return archiveChannel;
+    }
+
+    /**
+     * Gets the maximum number of threads used to write entries.
+     *
+     * @return Number of threads.
+     * @since 2.2.0
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
 }
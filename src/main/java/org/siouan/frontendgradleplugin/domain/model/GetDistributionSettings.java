@@ -25,6 +25,12 @@ public class GetDistributionSettings {
 
     private final Proxy proxy;
 
+    private final Path cacheDirectoryPath;
+
+    private final RetrySettings downloadRetrySettings;
+
+    private final int downloadConnectionCount;
+
     /**
      * Builds settings to get a distribution.
      *
@@ -39,12 +45,79 @@ public class GetDistributionSettings {
     public GetDistributionSettings(@Nonnull String distributionId, @Nonnull final Platform platform,
         @Nonnull final String version, @Nullable final URL distributionUrl, @Nonnull final Path temporaryDirectoryPath,
         @Nonnull final Proxy proxy) {
+        this(distributionId, platform, version, distributionUrl, temporaryDirectoryPath, proxy, null);
+    }
+
+    /**
+     * Builds settings to get a distribution.
+     *
+     * @param distributionId Distribution ID.
+     * @param platform Underlying platform.
+     * @param version Version.
+     * @param distributionUrl URL to download the distribution.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param proxy Proxy used for the connection.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @see DistributionId
+     * @since 2.2.0
+     */
+    public GetDistributionSettings(@Nonnull String distributionId, @Nonnull final Platform platform,
+        @Nonnull final String version, @Nullable final URL distributionUrl, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Proxy proxy, @Nullable final Path cacheDirectoryPath) {
+        this(distributionId, platform, version, distributionUrl, temporaryDirectoryPath, proxy, cacheDirectoryPath,
+            RetrySettings.NO_RETRY);
+    }
+
+    /**
+     * Builds settings to get a distribution.
+     *
+     * @param distributionId Distribution ID.
+     * @param platform Underlying platform.
+     * @param version Version.
+     * @param distributionUrl URL to download the distribution.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param proxy Proxy used for the connection.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @param downloadRetrySettings Settings to retry downloading the distribution when it fails.
+     * @see DistributionId
+     * @since 2.2.0
+     */
+    public GetDistributionSettings(@Nonnull String distributionId, @Nonnull final Platform platform,
+        @Nonnull final String version, @Nullable final URL distributionUrl, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Proxy proxy, @Nullable final Path cacheDirectoryPath,
+        @Nonnull final RetrySettings downloadRetrySettings) {
+        this(distributionId, platform, version, distributionUrl, temporaryDirectoryPath, proxy, cacheDirectoryPath,
+            downloadRetrySettings, 1);
+    }
+
+    /**
+     * Builds settings to get a distribution.
+     *
+     * @param distributionId Distribution ID.
+     * @param platform Underlying platform.
+     * @param version Version.
+     * @param distributionUrl URL to download the distribution.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param proxy Proxy used for the connection.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @param downloadRetrySettings Settings to retry downloading the distribution when it fails.
+     * @param downloadConnectionCount Maximum number of concurrent connections used to download the distribution.
+     * @see DistributionId
+     * @since 2.2.0
+     */
+    public GetDistributionSettings(@Nonnull String distributionId, @Nonnull final Platform platform,
+        @Nonnull final String version, @Nullable final URL distributionUrl, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Proxy proxy, @Nullable final Path cacheDirectoryPath,
+        @Nonnull final RetrySettings downloadRetrySettings, final int downloadConnectionCount) {
         this.distributionId = distributionId;
         this.platform = platform;
         this.version = version;
         this.distributionUrl = distributionUrl;
         this.temporaryDirectoryPath = temporaryDirectoryPath;
         this.proxy = proxy;
+        this.cacheDirectoryPath = cacheDirectoryPath;
+        this.downloadRetrySettings = downloadRetrySettings;
+        this.downloadConnectionCount = downloadConnectionCount;
     }
 
     /**
@@ -106,4 +179,36 @@ public class GetDistributionSettings {
     public Proxy getProxy() {
         return proxy;
     }
+
+    /**
+     * Gets the path to the cache directory.
+     *
+     * @return Path, may be {@code null} if the distribution cache is disabled.
+     * @since 2.2.0
+     */
+    @Nullable
+    public Path getCacheDirectoryPath() {
+        return cacheDirectoryPath;
+    }
+
+    /**
+     * Gets the settings to retry downloading the distribution when it fails.
+     *
+     * @return Settings.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public RetrySettings getDownloadRetrySettings() {
+        return downloadRetrySettings;
+    }
+
+    /**
+     * Gets the maximum number of concurrent connections used to download the distribution.
+     *
+     * @return Number of connections.
+     * @since 2.2.0
+     */
+    public int getDownloadConnectionCount() {
+        return downloadConnectionCount;
+    }
 }
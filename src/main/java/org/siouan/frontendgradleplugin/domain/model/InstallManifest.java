@@ -0,0 +1,162 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Manifest describing a distribution installed in a directory. The manifest is written once the installation is
+ * complete, and allows to check quickly whether an existing installation matches the distribution requested, without
+ * downloading the distribution again.
+ *
+ * @since 2.2.0
+ */
+public class InstallManifest {
+
+    /**
+     * Name of the manifest file, located in the install directory.
+     */
+    public static final String FILE_NAME = ".frontend-gradle-plugin.properties";
+
+    /**
+     * Distribution ID.
+     */
+    private final String distributionId;
+
+    /**
+     * Version of the distribution.
+     */
+    private final String version;
+
+    /**
+     * Platform the distribution was installed for, as resolved with {@link #toPlatformId(Platform)}.
+     */
+    private final String platformId;
+
+    /**
+     * URL pattern or exact URL used to download the distribution, if one was provided.
+     */
+    private final String downloadUrl;
+
+    /**
+     * SHA-256 hash of the distribution file, as an hexadecimal string.
+     */
+    private final String distributionFileHash;
+
+    /**
+     * Number of files in the install directory, excluding the manifest file.
+     */
+    private final long fileCount;
+
+    /**
+     * Symbolic links in the install directory: path of each link relative to the install directory, with '/'
+     * separators, mapped to the target of the link. Links are recorded so as they can be restored when the install
+     * directory is restored from a cache that does not preserve them.
+     */
+    private final Map<String, String> symbolicLinks;
+
+    /**
+     * Builds a manifest.
+     *
+     * @param distributionId Distribution ID.
+     * @param version Version of the distribution.
+     * @param platformId Platform the distribution was installed for.
+     * @param downloadUrl URL pattern or exact URL used to download the distribution, if one was provided.
+     * @param distributionFileHash SHA-256 hash of the distribution file, as an hexadecimal string.
+     * @param fileCount Number of files in the install directory, excluding the manifest file.
+     * @param symbolicLinks Relative paths of symbolic links in the install directory, mapped to their target.
+     * @see DistributionId
+     */
+    public InstallManifest(@Nonnull final String distributionId, @Nonnull final String version,
+        @Nonnull final String platformId, @Nullable final String downloadUrl,
+        @Nonnull final String distributionFileHash, final long fileCount,
+        @Nonnull final Map<String, String> symbolicLinks) {
+        this.distributionId = distributionId;
+        this.version = version;
+        this.platformId = platformId;
+        this.downloadUrl = downloadUrl;
+        this.distributionFileHash = distributionFileHash;
+        this.fileCount = fileCount;
+        this.symbolicLinks = symbolicLinks;
+    }
+
+    /**
+     * Gets the distribution ID.
+     *
+     * @return ID.
+     */
+    @Nonnull
+    public String getDistributionId() {
+        return distributionId;
+    }
+
+    /**
+     * Gets the version of the distribution.
+     *
+     * @return Version.
+     */
+    @Nonnull
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the platform the distribution was installed for.
+     *
+     * @return Platform ID.
+     */
+    @Nonnull
+    public String getPlatformId() {
+        return platformId;
+    }
+
+    /**
+     * Gets the URL pattern or exact URL used to download the distribution.
+     *
+     * @return URL, or {@code null} if no URL was provided.
+     */
+    @Nullable
+    public String getDownloadUrl() {
+        return downloadUrl;
+    }
+
+    /**
+     * Gets the SHA-256 hash of the distribution file.
+     *
+     * @return Hash as an hexadecimal string.
+     */
+    @Nonnull
+    public String getDistributionFileHash() {
+        return distributionFileHash;
+    }
+
+    /**
+     * Gets the number of files in the install directory, excluding the manifest file.
+     *
+     * @return Number of files.
+     */
+    public long getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Gets the symbolic links in the install directory.
+     *
+     * @return Map of relative link paths, with '/' separators, to link targets.
+     */
+    @Nonnull
+    public Map<String, String> getSymbolicLinks() {
+        return symbolicLinks;
+    }
+
+    /**
+     * Resolves the ID identifying a platform in a manifest.
+     *
+     * @param platform Platform.
+     * @return Platform ID.
+     */
+    @Nonnull
+    public static String toPlatformId(@Nonnull final Platform platform) {
+        return platform.getOsName() + '-' + platform.getJvmArch();
+    }
+}
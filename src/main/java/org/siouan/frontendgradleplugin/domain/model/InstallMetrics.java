@@ -0,0 +1,256 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Metrics of a distribution install: sizes and durations of each step. A metric is {@code null} when the step was
+ * not performed or cannot be measured. When the distribution is streamed, it is downloaded, validated, exploded and
+ * moved at once: the duration of the whole operation is reported as the download duration, and the size of the
+ * distribution, the explode and move durations, and the way the distribution was moved are unknown.
+ *
+ * @since 2.2.0
+ */
+public class InstallMetrics {
+
+    /**
+     * Distribution ID.
+     */
+    private final String distributionId;
+
+    /**
+     * Version of the distribution.
+     */
+    private final String version;
+
+    /**
+     * Whether the distribution was installed, {@code false} if it was already installed.
+     */
+    private final boolean installed;
+
+    /**
+     * Whether the distribution was streamed.
+     */
+    private final boolean streamed;
+
+    /**
+     * Size of the distribution file in bytes.
+     */
+    private final Long distributionFileSize;
+
+    /**
+     * Duration in milliseconds to get the distribution, from the network or from the cache. The distribution file is
+     * hashed while it is downloaded or verified in the cache: the duration includes the hash computation.
+     */
+    private final Long downloadDurationMs;
+
+    /**
+     * Duration in milliseconds to explode the distribution archive.
+     */
+    private final Long explodeDurationMs;
+
+    /**
+     * Duration in milliseconds to move the exploded distribution in the install directory.
+     */
+    private final Long moveDurationMs;
+
+    /**
+     * Whether the exploded distribution was moved with an atomic rename, {@code false} if it was copied then deleted.
+     */
+    private final Boolean atomicMove;
+
+    /**
+     * Number of files, directories and links installed.
+     */
+    private final Long installedFileCount;
+
+    /**
+     * Size in bytes of the files and links installed.
+     */
+    private final Long installedFileSize;
+
+    /**
+     * Duration in milliseconds of the whole install, including the time spent waiting for the install directory lock.
+     */
+    private final long totalDurationMs;
+
+    /**
+     * Builds install metrics.
+     *
+     * @param distributionId Distribution ID.
+     * @param version Version of the distribution.
+     * @param installed Whether the distribution was installed, {@code false} if it was already installed.
+     * @param streamed Whether the distribution was streamed.
+     * @param distributionFileSize Size of the distribution file in bytes.
+     * @param downloadDurationMs Duration in milliseconds to get the distribution.
+     * @param explodeDurationMs Duration in milliseconds to explode the distribution archive.
+     * @param moveDurationMs Duration in milliseconds to move the exploded distribution in the install directory.
+     * @param atomicMove Whether the exploded distribution was moved with an atomic rename.
+     * @param installedFileCount Number of files, directories and links installed.
+     * @param installedFileSize Size in bytes of the files and links installed.
+     * @param totalDurationMs Duration in milliseconds of the whole install.
+     */
+    public InstallMetrics(@Nonnull final String distributionId, @Nonnull final String version,
+        final boolean installed, final boolean streamed, @Nullable final Long distributionFileSize,
+        @Nullable final Long downloadDurationMs, @Nullable final Long explodeDurationMs,
+        @Nullable final Long moveDurationMs, @Nullable final Boolean atomicMove,
+        @Nullable final Long installedFileCount, @Nullable final Long installedFileSize, final long totalDurationMs) {
+        this.distributionId = distributionId;
+        this.version = version;
+        this.installed = installed;
+        this.streamed = streamed;
+        this.distributionFileSize = distributionFileSize;
+        this.downloadDurationMs = downloadDurationMs;
+        this.explodeDurationMs = explodeDurationMs;
+        this.moveDurationMs = moveDurationMs;
+        this.atomicMove = atomicMove;
+        this.installedFileCount = installedFileCount;
+        this.installedFileSize = installedFileSize;
+        this.totalDurationMs = totalDurationMs;
+    }
+
+    /**
+     * Builds metrics of a distribution found already installed.
+     *
+     * @param distributionId Distribution ID.
+     * @param version Version of the distribution.
+     * @param totalDurationMs Duration in milliseconds to check the install directory.
+     * @return Metrics.
+     */
+    @Nonnull
+    public static InstallMetrics alreadyInstalled(@Nonnull final String distributionId, @Nonnull final String version,
+        final long totalDurationMs) {
+        return new InstallMetrics(distributionId, version, false, false, null, null, null, null, null, null, null,
+            totalDurationMs);
+    }
+
+    /**
+     * Gets the distribution ID.
+     *
+     * @return Distribution ID.
+     */
+    @Nonnull
+    public String getDistributionId() {
+        return distributionId;
+    }
+
+    /**
+     * Gets the version of the distribution.
+     *
+     * @return Version.
+     */
+    @Nonnull
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Tells whether the distribution was installed.
+     *
+     * @return {@code false} if the distribution was already installed.
+     */
+    public boolean isInstalled() {
+        return installed;
+    }
+
+    /**
+     * Tells whether the distribution was streamed.
+     *
+     * @return {@code true} if the distribution was streamed.
+     */
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * Gets the size of the distribution file.
+     *
+     * @return Size in bytes.
+     */
+    @Nullable
+    public Long getDistributionFileSize() {
+        return distributionFileSize;
+    }
+
+    /**
+     * Gets the duration to get the distribution, from the network or from the cache.
+     *
+     * @return Duration in milliseconds.
+     */
+    @Nullable
+    public Long getDownloadDurationMs() {
+        return downloadDurationMs;
+    }
+
+    /**
+     * Gets the download throughput, if the size of the distribution file and the download duration are known.
+     *
+     * @return Throughput in bytes per second.
+     */
+    @Nullable
+    public Long getDownloadThroughput() {
+        if ((distributionFileSize == null) || (downloadDurationMs == null)) {
+            return null;
+        }
+        return distributionFileSize * 1000 / Math.max(1, downloadDurationMs);
+    }
+
+    /**
+     * Gets the duration to explode the distribution archive.
+     *
+     * @return Duration in milliseconds.
+     */
+    @Nullable
+    public Long getExplodeDurationMs() {
+        return explodeDurationMs;
+    }
+
+    /**
+     * Gets the duration to move the exploded distribution in the install directory.
+     *
+     * @return Duration in milliseconds.
+     */
+    @Nullable
+    public Long getMoveDurationMs() {
+        return moveDurationMs;
+    }
+
+    /**
+     * Tells whether the exploded distribution was moved with an atomic rename.
+     *
+     * @return {@code true} if the extract directory was renamed, {@code false} if its content was copied then deleted.
+     */
+    @Nullable
+    public Boolean isAtomicMove() {
+        return atomicMove;
+    }
+
+    /**
+     * Gets the number of files, directories and links installed.
+     *
+     * @return Number of files.
+     */
+    @Nullable
+    public Long getInstalledFileCount() {
+        return installedFileCount;
+    }
+
+    /**
+     * Gets the size of the files and links installed.
+     *
+     * @return Size in bytes.
+     */
+    @Nullable
+    public Long getInstalledFileSize() {
+        return installedFileSize;
+    }
+
+    /**
+     * Gets the duration of the whole install.
+     *
+     * @return Duration in milliseconds.
+     */
+    public long getTotalDurationMs() {
+        return totalDurationMs;
+    }
+}
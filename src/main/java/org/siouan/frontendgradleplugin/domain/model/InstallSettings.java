@@ -25,6 +25,16 @@ public class InstallSettings {
 
     private final Path installDirectoryPath;
 
+    private final Path cacheDirectoryPath;
+
+    private final boolean distributionStreamingEnabled;
+
+    private final int explodeWorkerCount;
+
+    private final RetrySettings downloadRetrySettings;
+
+    private final int downloadConnectionCount;
+
     /**
      * Builds an installer.
      *
@@ -38,12 +48,131 @@ public class InstallSettings {
     public InstallSettings(@Nonnull final Platform platform, @Nonnull final String version,
         @Nullable final URL downloadUrl, @Nullable final Proxy proxy, @Nonnull final Path temporaryDirectoryPath,
         @Nonnull final Path installDirectoryPath) {
+        this(platform, version, downloadUrl, proxy, temporaryDirectoryPath, installDirectoryPath, null);
+    }
+
+    /**
+     * Builds an installer.
+     *
+     * @param platform Underlying platform.
+     * @param version Version of the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param proxy Proxy used for downloads.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param installDirectoryPath Path to a directory where the distribution shall be installed.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @since 2.2.0
+     */
+    public InstallSettings(@Nonnull final Platform platform, @Nonnull final String version,
+        @Nullable final URL downloadUrl, @Nullable final Proxy proxy, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Path installDirectoryPath, @Nullable final Path cacheDirectoryPath) {
+        this(platform, version, downloadUrl, proxy, temporaryDirectoryPath, installDirectoryPath, cacheDirectoryPath,
+            false);
+    }
+
+    /**
+     * Builds an installer.
+     *
+     * @param platform Underlying platform.
+     * @param version Version of the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param proxy Proxy used for downloads.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param installDirectoryPath Path to a directory where the distribution shall be installed.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @param distributionStreamingEnabled Whether the distribution may be exploded while it is downloaded, when the
+     * distribution cache is disabled.
+     * @since 2.2.0
+     */
+    public InstallSettings(@Nonnull final Platform platform, @Nonnull final String version,
+        @Nullable final URL downloadUrl, @Nullable final Proxy proxy, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Path installDirectoryPath, @Nullable final Path cacheDirectoryPath,
+        final boolean distributionStreamingEnabled) {
+        this(platform, version, downloadUrl, proxy, temporaryDirectoryPath, installDirectoryPath, cacheDirectoryPath,
+            distributionStreamingEnabled, 1);
+    }
+
+    /**
+     * Builds an installer.
+     *
+     * @param platform Underlying platform.
+     * @param version Version of the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param proxy Proxy used for downloads.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param installDirectoryPath Path to a directory where the distribution shall be installed.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @param distributionStreamingEnabled Whether the distribution may be exploded while it is downloaded, when the
+     * distribution cache is disabled.
+     * @param explodeWorkerCount Maximum number of threads used to explode the distribution.
+     * @since 2.2.0
+     */
+    public InstallSettings(@Nonnull final Platform platform, @Nonnull final String version,
+        @Nullable final URL downloadUrl, @Nullable final Proxy proxy, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Path installDirectoryPath, @Nullable final Path cacheDirectoryPath,
+        final boolean distributionStreamingEnabled, final int explodeWorkerCount) {
+        this(platform, version, downloadUrl, proxy, temporaryDirectoryPath, installDirectoryPath, cacheDirectoryPath,
+            distributionStreamingEnabled, explodeWorkerCount, RetrySettings.NO_RETRY);
+    }
+
+    /**
+     * Builds an installer.
+     *
+     * @param platform Underlying platform.
+     * @param version Version of the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param proxy Proxy used for downloads.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param installDirectoryPath Path to a directory where the distribution shall be installed.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @param distributionStreamingEnabled Whether the distribution may be exploded while it is downloaded, when the
+     * distribution cache is disabled.
+     * @param explodeWorkerCount Maximum number of threads used to explode the distribution.
+     * @param downloadRetrySettings Settings to retry downloading the distribution when it fails.
+     * @since 2.2.0
+     */
+    public InstallSettings(@Nonnull final Platform platform, @Nonnull final String version,
+        @Nullable final URL downloadUrl, @Nullable final Proxy proxy, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Path installDirectoryPath, @Nullable final Path cacheDirectoryPath,
+        final boolean distributionStreamingEnabled, final int explodeWorkerCount,
+        @Nonnull final RetrySettings downloadRetrySettings) {
+        this(platform, version, downloadUrl, proxy, temporaryDirectoryPath, installDirectoryPath, cacheDirectoryPath,
+            distributionStreamingEnabled, explodeWorkerCount, downloadRetrySettings, 1);
+    }
+
+    /**
+     * Builds an installer.
+     *
+     * @param platform Underlying platform.
+     * @param version Version of the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param proxy Proxy used for downloads.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param installDirectoryPath Path to a directory where the distribution shall be installed.
+     * @param cacheDirectoryPath Path to the cache directory, {@code null} to disable the distribution cache.
+     * @param distributionStreamingEnabled Whether the distribution may be exploded while it is downloaded, when the
+     * distribution cache is disabled.
+     * @param explodeWorkerCount Maximum number of threads used to explode the distribution.
+     * @param downloadRetrySettings Settings to retry downloading the distribution when it fails.
+     * @param downloadConnectionCount Maximum number of concurrent connections used to download the distribution.
+     * @since 2.2.0
+     */
+    public InstallSettings(@Nonnull final Platform platform, @Nonnull final String version,
+        @Nullable final URL downloadUrl, @Nullable final Proxy proxy, @Nonnull final Path temporaryDirectoryPath,
+        @Nonnull final Path installDirectoryPath, @Nullable final Path cacheDirectoryPath,
+        final boolean distributionStreamingEnabled, final int explodeWorkerCount,
+        @Nonnull final RetrySettings downloadRetrySettings, final int downloadConnectionCount) {
         this.platform = platform;
         this.version = version;
         this.downloadUrl = downloadUrl;
         this.proxy = proxy;
         this.temporaryDirectoryPath = temporaryDirectoryPath;
         this.installDirectoryPath = installDirectoryPath;
+        this.cacheDirectoryPath = cacheDirectoryPath;
+        this.distributionStreamingEnabled = distributionStreamingEnabled;
+        this.explodeWorkerCount = explodeWorkerCount;
+        this.downloadRetrySettings = downloadRetrySettings;
+        this.downloadConnectionCount = downloadConnectionCount;
     }
 
     /**
@@ -105,4 +234,56 @@ public class InstallSettings {
     public Path getInstallDirectoryPath() {
         return installDirectoryPath;
     }
+
+    /**
+     * Gets the path to the cache directory.
+     *
+     * @return Path, may be {@code null} if the distribution cache is disabled.
+     * @since 2.2.0
+     */
+    @Nullable
+    public Path getCacheDirectoryPath() {
+        return cacheDirectoryPath;
+    }
+
+    /**
+     * Whether the distribution may be exploded while it is downloaded.
+     *
+     * @return {@code true} if streaming is enabled.
+     * @since 2.2.0
+     */
+    public boolean isDistributionStreamingEnabled() {
+        return distributionStreamingEnabled;
+    }
+
+    /**
+     * Gets the maximum number of threads used to explode the distribution.
+     *
+     * @return Number of threads.
+     * @since 2.2.0
+     */
+    public int getExplodeWorkerCount() {
+        return explodeWorkerCount;
+    }
+
+    /**
+     * Gets the settings to retry downloading the distribution when it fails.
+     *
+     * @return Settings.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public RetrySettings getDownloadRetrySettings() {
+        return downloadRetrySettings;
+    }
+
+    /**
+     * Gets the maximum number of concurrent connections used to download the distribution.
+     *
+     * @return Number of connections.
+     * @since 2.2.0
+     */
+    public int getDownloadConnectionCount() {
+        return downloadConnectionCount;
+    }
 }
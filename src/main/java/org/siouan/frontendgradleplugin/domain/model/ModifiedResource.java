@@ -0,0 +1,60 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import javax.annotation.Nonnull;
+
+/**
+ * Content of a resource returned by a server, because the resource was modified or because no metadata was known.
+ *
+ * @since 2.2.0
+ */
+public class ModifiedResource implements Closeable {
+
+    /**
+     * Channel to read the content of the resource.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Metadata of the content.
+     */
+    private final ResourceMetadata metadata;
+
+    /**
+     * Builds a modified resource.
+     *
+     * @param channel Channel to read the content of the resource.
+     * @param metadata Metadata of the content.
+     */
+    public ModifiedResource(@Nonnull final ReadableByteChannel channel, @Nonnull final ResourceMetadata metadata) {
+        this.channel = channel;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Gets the channel to read the content of the resource.
+     *
+     * @return Channel.
+     */
+    @Nonnull
+    public ReadableByteChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the metadata of the content.
+     *
+     * @return Metadata.
+     */
+    @Nonnull
+    public ResourceMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
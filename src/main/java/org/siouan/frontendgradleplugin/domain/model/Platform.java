@@ -40,6 +40,28 @@ public class Platform {
         this.osName = osName;
     }
 
+    /**
+     * Gets the architecture on which the JVM runs.
+     *
+     * @return JVM architecture.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String getJvmArch() {
+        return jvmArch;
+    }
+
+    /**
+     * Gets the name of the underlying O/S.
+     *
+     * @return O/S name.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String getOsName() {
+        return osName;
+    }
+
     /**
      * Tells whether the JVM has a 64 bits architecture.
      *
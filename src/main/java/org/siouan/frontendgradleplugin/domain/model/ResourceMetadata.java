@@ -0,0 +1,90 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import javax.annotation.Nullable;
+
+/**
+ * Metadata returned by a server with the content of a resource, allowing to check later whether the resource was
+ * modified with a conditional request.
+ *
+ * @since 2.2.0
+ */
+public class ResourceMetadata {
+
+    /**
+     * Entity tag of the resource ({@code ETag} HTTP header).
+     */
+    private final String entityTag;
+
+    /**
+     * Date the resource was last modified ({@code Last-Modified} HTTP header), as returned by the server.
+     */
+    private final String lastModified;
+
+    /**
+     * Number of bytes in the resource ({@code Content-Length} HTTP header).
+     */
+    private final Long length;
+
+    /**
+     * Builds resource metadata, without the length of the resource.
+     *
+     * @param entityTag Entity tag of the resource.
+     * @param lastModified Date the resource was last modified, as returned by the server.
+     */
+    public ResourceMetadata(@Nullable final String entityTag, @Nullable final String lastModified) {
+        this(entityTag, lastModified, null);
+    }
+
+    /**
+     * Builds resource metadata.
+     *
+     * @param entityTag Entity tag of the resource.
+     * @param lastModified Date the resource was last modified, as returned by the server.
+     * @param length Number of bytes in the resource.
+     */
+    public ResourceMetadata(@Nullable final String entityTag, @Nullable final String lastModified,
+        @Nullable final Long length) {
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+        this.length = length;
+    }
+
+    /**
+     * Gets the entity tag of the resource.
+     *
+     * @return Entity tag, or {@code null} if the server did not provide one.
+     */
+    @Nullable
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    /**
+     * Gets the date the resource was last modified.
+     *
+     * @return Date, or {@code null} if the server did not provide one.
+     */
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Gets the number of bytes in the resource.
+     *
+     * @return Length, or {@code null} if the server did not provide it.
+     */
+    @Nullable
+    public Long getLength() {
+        return length;
+    }
+
+    /**
+     * Tells whether this metadata allows to issue a conditional request.
+     *
+     * @return {@code true} if an entity tag or a date of last modification is available.
+     */
+    public boolean isRevalidable() {
+        return (entityTag != null) || (lastModified != null);
+    }
+}
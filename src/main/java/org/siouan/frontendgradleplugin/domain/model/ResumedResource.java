@@ -0,0 +1,79 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import javax.annotation.Nonnull;
+
+/**
+ * Content of a resource returned by a server when a download is resumed at a given offset. Depending on the response,
+ * the content starts at the offset requested, or at the beginning of the resource if the resource changed since bytes
+ * were first received, or if the server does not support range requests.
+ *
+ * @since 2.2.0
+ */
+public class ResumedResource implements Closeable {
+
+    /**
+     * Channel to read the content of the resource.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Offset in the resource of the first byte read from the channel.
+     */
+    private final long offset;
+
+    /**
+     * Metadata of the content.
+     */
+    private final ResourceMetadata metadata;
+
+    /**
+     * Builds a resumed resource.
+     *
+     * @param channel Channel to read the content of the resource.
+     * @param offset Offset in the resource of the first byte read from the channel.
+     * @param metadata Metadata of the content.
+     */
+    public ResumedResource(@Nonnull final ReadableByteChannel channel, final long offset,
+        @Nonnull final ResourceMetadata metadata) {
+        this.channel = channel;
+        this.offset = offset;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Gets the channel to read the content of the resource.
+     *
+     * @return Channel.
+     */
+    @Nonnull
+    public ReadableByteChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the offset in the resource of the first byte read from the channel.
+     *
+     * @return Offset, {@code 0} if the whole resource is sent again.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the metadata of the content.
+     *
+     * @return Metadata.
+     */
+    @Nonnull
+    public ResourceMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
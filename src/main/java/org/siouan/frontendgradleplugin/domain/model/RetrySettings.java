@@ -0,0 +1,54 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+/**
+ * Settings to retry an operation that may fail temporarily (e.g. a download over a network). The delay between two
+ * attempts is doubled after each failed attempt.
+ *
+ * @since 2.2.0
+ */
+public class RetrySettings {
+
+    /**
+     * Settings to execute an operation once, without any retry.
+     */
+    public static final RetrySettings NO_RETRY = new RetrySettings(1, 0);
+
+    /**
+     * Maximum number of attempts, including the first one.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Delay in milliseconds before the second attempt.
+     */
+    private final long initialDelayMs;
+
+    /**
+     * Builds retry settings.
+     *
+     * @param maxAttempts Maximum number of attempts, including the first one.
+     * @param initialDelayMs Delay in milliseconds before the second attempt.
+     */
+    public RetrySettings(final int maxAttempts, final long initialDelayMs) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMs = initialDelayMs;
+    }
+
+    /**
+     * Gets the maximum number of attempts, including the first one.
+     *
+     * @return Number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Gets the delay before the second attempt.
+     *
+     * @return Delay in milliseconds.
+     */
+    public long getInitialDelayMs() {
+        return initialDelayMs;
+    }
+}
@@ -0,0 +1,55 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import java.nio.file.Path;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Resource stored in the cache directory, after it was revalidated with the server.
+ *
+ * @since 2.2.0
+ */
+public class RevalidatedResource {
+
+    /**
+     * Path to the file containing the resource.
+     */
+    private final Path filePath;
+
+    /**
+     * Metadata of the content returned by the server.
+     */
+    private final ResourceMetadata metadata;
+
+    /**
+     * Builds a revalidated resource.
+     *
+     * @param filePath Path to the file containing the resource.
+     * @param metadata Metadata of the content returned by the server, if it allows to revalidate the resource.
+     */
+    public RevalidatedResource(@Nonnull final Path filePath, @Nullable final ResourceMetadata metadata) {
+        this.filePath = filePath;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Gets the path to the file containing the resource.
+     *
+     * @return Path.
+     */
+    @Nonnull
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Gets the metadata of the content returned by the server. Unlike the content file, which may be replaced when
+     * the resource is modified, metadata identify unambiguously the version of the content.
+     *
+     * @return Metadata, or {@code null} if the server did not provide an entity tag nor a date of last modification.
+     */
+    @Nullable
+    public ResourceMetadata getMetadata() {
+        return metadata;
+    }
+}
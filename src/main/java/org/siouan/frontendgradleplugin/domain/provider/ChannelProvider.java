@@ -9,7 +9,14 @@ import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.ModifiedResource;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.ResumedResource;
 
 /**
  * Provider of Java NIO {@link Channel}.
@@ -29,6 +36,70 @@ public interface ChannelProvider {
     @Nonnull
     ReadableByteChannel getReadableByteChannel(@Nonnull URL resourceUrl, @Nonnull Proxy proxy) throws IOException;
 
+    /**
+     * Resumes the download of the resource at the given URL, at the given offset. When metadata of the content already
+     * received allows it, the range is requested only if the resource did not change, and the whole resource is
+     * returned otherwise. The whole resource is also returned if the server does not support range requests, or if the
+     * range it returns does not start at the offset. If the offset is the length of the resource, the resource is
+     * complete, and the channel returned is empty.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy to use for the connection.
+     * @param offset Offset of the first byte to read in the resource.
+     * @param metadata Metadata returned with the content already received, or {@code null} if unknown.
+     * @return The content of the resource, either from the offset, or from the beginning of the resource.
+     * @throws IOException In case an I/O error occurs, or if the server cannot satisfy the range requested, and the
+     * offset is not the length of the resource.
+     * @since 2.2.0
+     */
+    @Nonnull
+    ResumedResource getResumedResource(@Nonnull URL resourceUrl, @Nonnull Proxy proxy, long offset,
+        @Nullable ResourceMetadata metadata) throws IOException;
+
+    /**
+     * Downloads a segment of the resource at the given URL. The server must support range requests.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy to use for the connection.
+     * @param offset Offset of the first byte of the segment in the resource.
+     * @param length Number of bytes in the segment.
+     * @return Channel to read the segment content.
+     * @throws IOException In case an I/O error occurs, or if the server does not return the segment.
+     * @since 2.2.0
+     */
+    @Nonnull
+    ReadableByteChannel getReadableByteChannel(@Nonnull URL resourceUrl, @Nonnull Proxy proxy, long offset,
+        long length) throws IOException;
+
+    /**
+     * Gets the length of the resource at the given URL, if the server accepts range requests for this resource.
+     *
+     * @param resourceUrl URL of the resource.
+     * @param proxy Proxy to use for the connection.
+     * @return Number of bytes in the resource, or an empty value if the server does not support range requests, or if
+     * the length of the resource is unknown.
+     * @throws IOException In case an I/O error occurs.
+     * @since 2.2.0
+     */
+    @Nonnull
+    OptionalLong getRangeableResourceLength(@Nonnull URL resourceUrl, @Nonnull Proxy proxy) throws IOException;
+
+    /**
+     * Downloads the resource at the given URL, unless the server tells it was not modified since the given metadata
+     * was returned. The metadata returned includes the length of the resource, if known.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy to use for the connection.
+     * @param metadata Metadata of the content already downloaded, or {@code null} to download the resource
+     * unconditionally.
+     * @return The content of the resource and its metadata, or an empty value if the resource was not modified.
+     * @throws IOException In case an I/O error occurs.
+     * @since 2.2.0
+     */
+    @Nonnull
+    Optional<ModifiedResource> getModifiedResource(@Nonnull URL resourceUrl, @Nonnull Proxy proxy,
+        @Nullable ResourceMetadata metadata) throws IOException;
+
     /**
      * Opens the file at the given path for reading.
      *
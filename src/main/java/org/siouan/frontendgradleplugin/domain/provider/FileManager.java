@@ -1,6 +1,7 @@
 package org.siouan.frontendgradleplugin.domain.provider;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -30,6 +31,19 @@ public interface FileManager {
      */
     long copy(@Nonnull InputStream inputStream, @Nonnull Path filePath) throws IOException;
 
+    /**
+     * Copies a file into a target file.
+     *
+     * @param sourcePath Path to the source file.
+     * @param targetPath Path to the target file.
+     * @param options Copy options.
+     * @return Path to the target file.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    @Nonnull
+    Path copy(@Nonnull Path sourcePath, @Nonnull Path targetPath, @Nonnull CopyOption... options) throws IOException;
+
     /**
      * Copies a file at the given path, recursively if it is a directory. File attributes and symlinks are preserved.
      *
@@ -59,6 +73,20 @@ public interface FileManager {
     @Nonnull
     Path createDirectory(@Nonnull Path path) throws IOException;
 
+    /**
+     * Creates a new link (directory entry) for an existing file.
+     *
+     * @param linkFilePath Path to the link.
+     * @param existingFilePath Path to the existing file.
+     * @return The link file path.
+     * @throws IOException If an I/O error occurs.
+     * @throws UnsupportedOperationException If the file system does not support adding an existing file to a
+     * directory.
+     * @since 2.2.0
+     */
+    @Nonnull
+    Path createLink(@Nonnull Path linkFilePath, @Nonnull Path existingFilePath) throws IOException;
+
     /**
      * Creates a symbolic link.
      *
@@ -123,6 +151,15 @@ public interface FileManager {
      */
     boolean isSameFile(@Nonnull Path path1, @Nonnull Path path2) throws IOException;
 
+    /**
+     * Whether the file at the given path is a symbolic link.
+     *
+     * @param filePath File path.
+     * @return {@code true} if the file is a symbolic link.
+     * @since 2.2.0
+     */
+    boolean isSymbolicLink(@Nonnull Path filePath);
+
     /**
      * Gets the paths to the files located under the directory at the given path.
      *
@@ -133,6 +170,30 @@ public interface FileManager {
     @Nonnull
     Stream<Path> list(@Nonnull Path directoryPath) throws IOException;
 
+    /**
+     * Acquires an exclusive lock on a file, creating the file if it does not exist. This method blocks until the lock
+     * is released by other threads and other processes holding it.
+     *
+     * @param lockFilePath Path to the lock file.
+     * @return Lock, that shall be closed to release it.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    @Nonnull
+    Closeable lock(@Nonnull Path lockFilePath) throws IOException;
+
+    /**
+     * Gets the paths to the files located under the directory at the given path, and recursively in its
+     * sub-directories. The stream includes the path to the directory itself. Symbolic links are not followed.
+     *
+     * @param directoryPath Path to a directory.
+     * @return Stream of paths (must be closed after usage).
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    @Nonnull
+    Stream<Path> walk(@Nonnull Path directoryPath) throws IOException;
+
     /**
      * Moves/renames a file at the given source path into the given target path.
      *
@@ -175,19 +236,33 @@ public interface FileManager {
     @Nonnull
     OutputStream newOutputStream(@Nonnull Path filePath) throws IOException;
 
+    /**
+     * Reads the target of a symbolic link.
+     *
+     * @param linkFilePath Path to the symbolic link.
+     * @return Path to the target of the link, as stored in the link.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    @Nonnull
+    Path readSymbolicLink(@Nonnull Path linkFilePath) throws IOException;
+
     /**
      * Moves all files/directories from a source directory into a destination directory. The destination directory is
-     * created, and therefore must not exist before this method is called. All directories/files in the source path are
-     * copied first, preserving file attributes and symlinks. Finally the source path is deleted. Such method ensures
-     * any file tree can be moved from a volume to another.
+     * created, and therefore must not exist before this method is called. The source directory is first renamed
+     * atomically into the destination directory. If both directories are not on the same volume, all
+     * directories/files in the source path are copied, preserving file attributes and symlinks, and finally the source
+     * path is deleted. Such method ensures any file tree can be moved from a volume to another.
      *
      * @param sourcePath Source path.
      * @param targetPath Target path.
+     * @return {@code true} if the source directory was renamed atomically, {@code false} if the file tree was copied
+     * then deleted.
      * @throws IOException If an I/O error occurs.
      * @throws IllegalArgumentException If either the source directory or the destination directory is not an existing
      * directory.
      */
-    void moveFileTree(@Nonnull Path sourcePath, @Nonnull Path targetPath) throws IOException;
+    boolean moveFileTree(@Nonnull Path sourcePath, @Nonnull Path targetPath) throws IOException;
 
     /**
      * Marks the file as executable. This method does nothing under Windows.
@@ -210,4 +285,15 @@ public interface FileManager {
      */
     @Nonnull
     Path setPosixFilePermissions(@Nonnull Path path, @Nonnull Set<PosixFilePermission> permissions) throws IOException;
+
+    /**
+     * Gets the size of a file in bytes. Symbolic links are not followed: the size of a link is the size of the link
+     * itself.
+     *
+     * @param filePath File path.
+     * @return Size.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    long size(@Nonnull Path filePath) throws IOException;
 }
@@ -3,12 +3,19 @@ package org.siouan.frontendgradleplugin.domain.usecase;
 import static java.util.stream.Collectors.toSet;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 
 import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
@@ -101,45 +108,221 @@ public abstract class AbstractArchiver<C extends ArchiverContext, E extends Arch
         }
 
         try (final C context = initializeContext(settings)) {
-            Optional<E> entry = getNextEntry(context);
-            while (entry.isPresent()) {
-                extractEntry(context, entry.get());
-                entry = getNextEntry(context);
+            if ((settings.getWorkerCount() > 1) && isRandomAccessSupported()) {
+                extractEntriesConcurrently(context);
+            } else {
+                Optional<E> entry = getNextEntry(context);
+                while (entry.isPresent()) {
+                    extractEntry(context, entry.get());
+                    entry = getNextEntry(context);
+                }
+                awaitPendingWrites(context);
             }
         }
     }
 
     /**
-     * Extracts the given entry into the destination directory.
+     * Whether the content of entries may be read concurrently, in any order. When random access is supported, and the
+     * explode settings allow multiple workers, regular files are written by a pool of threads. In this case, the
+     * {@link #writeRegularFile(ArchiverContext, ArchiveEntry, Path)} method must be thread-safe.
+     *
+     * @return {@code true} if random access to entries is supported.
+     * @since 2.2.0
+     */
+    protected boolean isRandomAccessSupported() {
+        return false;
+    }
+
+    /**
+     * Extracts all entries into the destination directory, using multiple threads to write regular files. All entries
+     * are checked before anything is written. Directories are created first, so as workers never race to create them,
+     * then regular files are written concurrently, and symbolic links are created last, once their target exist.
+     * Permissions of directories are set at the end, in case a directory is not writable.
      *
      * @param context Context.
-     * @param entry Archive entry.
      * @throws SlipAttackException If a slip attack is detected.
      * @throws UnsupportedEntryException If the archive contains an unsupported entry (not a symbolic link, a regular
      * file or a directory).
      * @throws ArchiverException If extraction fails.
+     * @throws IOException If an I/O error occurs.
      */
-    private void extractEntry(@Nonnull final C context, @Nonnull final E entry) throws ArchiverException, IOException {
-        final Path targetFilePath = context.getSettings().getTargetDirectoryPath().resolve(entry.getName());
-        if (!targetFilePath.normalize().startsWith(context.getSettings().getTargetDirectoryPath().normalize())) {
-            throw new SlipAttackException(entry.getName());
+    private void extractEntriesConcurrently(@Nonnull final C context) throws ArchiverException, IOException {
+        final List<ResolvedEntry<E>> directoryEntries = new ArrayList<>();
+        final List<ResolvedEntry<E>> fileEntries = new ArrayList<>();
+        final List<ResolvedEntry<E>> symbolicLinkEntries = new ArrayList<>();
+        Optional<E> nextEntry = getNextEntry(context);
+        while (nextEntry.isPresent()) {
+            final E entry = nextEntry.get();
+            final ResolvedEntry<E> resolvedEntry = new ResolvedEntry<>(entry, resolveTargetFilePath(context, entry));
+            if (entry.isSymbolicLink()) {
+                symbolicLinkEntries.add(resolvedEntry);
+            } else if (entry.isDirectory()) {
+                directoryEntries.add(resolvedEntry);
+            } else if (entry.isFile()) {
+                fileEntries.add(resolvedEntry);
+            } else {
+                throw new UnsupportedEntryException(entry.getName());
+            }
+            nextEntry = getNextEntry(context);
+        }
+
+        for (final ResolvedEntry<E> directoryEntry : directoryEntries) {
+            fileManager.createDirectories(directoryEntry.getTargetFilePath());
+        }
+        for (final ResolvedEntry<E> fileEntry : fileEntries) {
+            createParentDirectories(fileEntry.getTargetFilePath());
+        }
+
+        if (!fileEntries.isEmpty()) {
+            final ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(context.getSettings().getWorkerCount(), fileEntries.size()));
+            try {
+                final List<Future<Void>> futures = new ArrayList<>();
+                for (final ResolvedEntry<E> fileEntry : fileEntries) {
+                    futures.add(executorService.submit(() -> {
+                        writeRegularFile(context, fileEntry.getEntry(), fileEntry.getTargetFilePath());
+                        setPermissions(context, fileEntry.getEntry(), fileEntry.getTargetFilePath());
+                        return null;
+                    }));
+                }
+                for (final Future<Void> future : futures) {
+                    await(future);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
+        for (final ResolvedEntry<E> symbolicLinkEntry : symbolicLinkEntries) {
+            createParentDirectories(symbolicLinkEntry.getTargetFilePath());
+            writeSymbolicLink(context, symbolicLinkEntry.getEntry(), symbolicLinkEntry.getTargetFilePath());
         }
+        for (final ResolvedEntry<E> directoryEntry : directoryEntries) {
+            setPermissions(context, directoryEntry.getEntry(), directoryEntry.getTargetFilePath());
+        }
+    }
 
-        if (!fileManager.isDirectory(targetFilePath.getParent())) {
-            fileManager.createDirectories(targetFilePath.getParent());
+    /**
+     * Waits for the completion of a task writing an entry.
+     *
+     * @param future Task.
+     * @throws IOException If the task failed, or if the current thread is interrupted.
+     */
+    private void await(@Nonnull final Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while exploding archive");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
         }
+    }
+
+    /**
+     * Extracts the given entry into the destination directory.
+     *
+     * @param context Context.
+     * @param entry Archive entry.
+     * @throws SlipAttackException If a slip attack is detected.
+     * @throws UnsupportedEntryException If the archive contains an unsupported entry (not a symbolic link, a regular
+     * file or a directory).
+     * @throws ArchiverException If extraction fails.
+     */
+    private void extractEntry(@Nonnull final C context, @Nonnull final E entry) throws ArchiverException, IOException {
+        final Path targetFilePath = resolveTargetFilePath(context, entry);
+        createParentDirectories(targetFilePath);
         if (entry.isSymbolicLink()) {
             writeSymbolicLink(context, entry, targetFilePath);
         } else if (entry.isDirectory()) {
             writeDirectory(targetFilePath);
+            setPermissions(context, entry, targetFilePath);
         } else if (entry.isFile()) {
-            writeRegularFile(context, entry, targetFilePath);
+            extractRegularFile(context, entry, targetFilePath);
         } else {
             throw new UnsupportedEntryException(entry.getName());
         }
+    }
 
-        if (!entry.isSymbolicLink() && !context.getSettings().getPlatform().isWindowsOs()) {
-            fileManager.setPosixFilePermissions(targetFilePath, toPosixPermissions(entry.getUnixMode()));
+    /**
+     * Extracts a regular file: writes its content, and restores its permissions. Sub-classes may override this method
+     * to complete the extraction asynchronously, provided the {@link #awaitPendingWrites(ArchiverContext)} method
+     * waits for its completion.
+     *
+     * @param context Context.
+     * @param entry Archive entry.
+     * @param filePath Target file.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    protected void extractRegularFile(@Nonnull final C context, @Nonnull final E entry, @Nonnull final Path filePath)
+        throws IOException {
+        writeRegularFile(context, entry, filePath);
+        setPermissions(context, entry, filePath);
+    }
+
+    /**
+     * Waits until all regular files extracted asynchronously are complete. This method is called once all entries
+     * were read, and does nothing by default.
+     *
+     * @param context Context.
+     * @throws IOException If a file could not be extracted.
+     * @since 2.2.0
+     */
+    protected void awaitPendingWrites(@Nonnull final C context) throws IOException {
+        // Regular files are extracted synchronously by default.
+    }
+
+    /**
+     * Resolves the path where the given entry shall be extracted.
+     *
+     * @param context Context.
+     * @param entry Archive entry.
+     * @return Target path.
+     * @throws SlipAttackException If a slip attack is detected.
+     */
+    @Nonnull
+    private Path resolveTargetFilePath(@Nonnull final C context, @Nonnull final E entry) throws SlipAttackException {
+        final Path targetFilePath = context.getSettings().getTargetDirectoryPath().resolve(entry.getName());
+        if (!targetFilePath.normalize().startsWith(context.getSettings().getTargetDirectoryPath().normalize())) {
+            throw new SlipAttackException(entry.getName());
+        }
+        return targetFilePath;
+    }
+
+    /**
+     * Creates the parent directories of the given path, if they do not exist.
+     *
+     * @param filePath Path.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void createParentDirectories(@Nonnull final Path filePath) throws IOException {
+        if (!fileManager.isDirectory(filePath.getParent())) {
+            fileManager.createDirectories(filePath.getParent());
+        }
+    }
+
+    /**
+     * Restores the Unix permissions of an entry. This method does nothing under Windows.
+     *
+     * @param context Context.
+     * @param entry Archive entry.
+     * @param filePath Path to the extracted file.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    protected void setPermissions(@Nonnull final C context, @Nonnull final E entry, @Nonnull final Path filePath)
+        throws IOException {
+        if (!context.getSettings().getPlatform().isWindowsOs()) {
+            fileManager.setPosixFilePermissions(filePath, toPosixPermissions(entry.getUnixMode()));
         }
     }
 
@@ -205,4 +388,31 @@ public abstract class AbstractArchiver<C extends ArchiverContext, E extends Arch
             .map(Map.Entry::getValue)
             .collect(toSet());
     }
+
+    /**
+     * An archive entry with the path where it shall be extracted.
+     *
+     * @param <E> Class of an archive entry.
+     */
+    private static class ResolvedEntry<E extends ArchiveEntry> {
+
+        private final E entry;
+
+        private final Path targetFilePath;
+
+        ResolvedEntry(@Nonnull final E entry, @Nonnull final Path targetFilePath) {
+            this.entry = entry;
+            this.targetFilePath = targetFilePath;
+        }
+
+        @Nonnull
+        E getEntry() {
+            return entry;
+        }
+
+        @Nonnull
+        Path getTargetFilePath() {
+            return targetFilePath;
+        }
+    }
 }
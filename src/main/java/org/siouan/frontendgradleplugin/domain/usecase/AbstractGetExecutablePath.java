@@ -4,11 +4,13 @@ import java.nio.file.Path;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
 import org.siouan.frontendgradleplugin.domain.model.Platform;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 
 /**
- * Gets the path to an executable given an install directory and a platform.
+ * Gets the path to an executable given an install directory and a platform. Executables found are remembered in a
+ * cache, so as their presence is checked once per build.
  *
  * @since 2.0.0
  */
@@ -16,8 +18,11 @@ public abstract class AbstractGetExecutablePath {
 
     private final FileManager fileManager;
 
-    public AbstractGetExecutablePath(final FileManager fileManager) {
+    private final ExecutablePathCache executablePathCache;
+
+    public AbstractGetExecutablePath(final FileManager fileManager, final ExecutablePathCache executablePathCache) {
         this.fileManager = fileManager;
+        this.executablePathCache = executablePathCache;
     }
 
     /**
@@ -36,7 +41,15 @@ public abstract class AbstractGetExecutablePath {
             relativeExecutablePath = getNonWindowsRelativeExecutablePath();
         }
 
-        return Optional.of(relativeExecutablePath).map(installDirectory::resolve).filter(fileManager::exists);
+        final Path executablePath = installDirectory.resolve(relativeExecutablePath);
+        if (executablePathCache.contains(executablePath)) {
+            return Optional.of(executablePath);
+        }
+        if (fileManager.exists(executablePath)) {
+            executablePathCache.add(executablePath);
+            return Optional.of(executablePath);
+        }
+        return Optional.empty();
     }
 
     /**
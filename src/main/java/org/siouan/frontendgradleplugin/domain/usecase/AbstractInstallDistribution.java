@@ -1,8 +1,12 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
 import org.siouan.frontendgradleplugin.domain.exception.DistributionValidatorException;
@@ -10,11 +14,17 @@ import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlEx
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.DeploymentMetrics;
 import org.siouan.frontendgradleplugin.domain.model.DeploymentSettings;
+import org.siouan.frontendgradleplugin.domain.model.DistributionFile;
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
 import org.siouan.frontendgradleplugin.domain.model.GetDistributionSettings;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.InstallMetrics;
 import org.siouan.frontendgradleplugin.domain.model.InstallSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
 
 /**
  * Base class that installs a distribution.
@@ -25,19 +35,61 @@ public abstract class AbstractInstallDistribution {
 
     public static final String EXTRACT_DIRECTORY_NAME = "extract";
 
+    /**
+     * Prefix of the name of the lock file created next to the install directory, followed by the name of the install
+     * directory.
+     *
+     * @since 2.2.0
+     */
+    public static final String LOCK_FILE_PREFIX = ".";
+
+    /**
+     * Suffix of the name of the lock file created next to the install directory. The lock file is hidden and its name
+     * is specific to the plugin, so as it cannot clash with a file of the project (e.g. a {@code yarn.lock} file next
+     * to a {@code yarn} install directory).
+     *
+     * @since 2.2.0
+     */
+    public static final String LOCK_FILE_SUFFIX = ".frontend-install.lock";
+
     protected final FileManager fileManager;
 
     protected final GetDistribution getDistribution;
 
     protected final DeployDistribution deployDistribution;
 
+    protected final StreamDistribution streamDistribution;
+
+    protected final ReadInstallManifest readInstallManifest;
+
+    protected final WriteInstallManifest writeInstallManifest;
+
+    protected final CountInstalledFiles countInstalledFiles;
+
+    protected final GetInstalledFilesSize getInstalledFilesSize;
+
+    protected final GetInstalledSymbolicLinks getInstalledSymbolicLinks;
+
+    protected final ExecutablePathCache executablePathCache;
+
     protected final Logger logger;
 
     protected AbstractInstallDistribution(final FileManager fileManager, final GetDistribution getDistribution,
-        final DeployDistribution deployDistribution, final Logger logger) {
+        final DeployDistribution deployDistribution, final StreamDistribution streamDistribution,
+        final ReadInstallManifest readInstallManifest, final WriteInstallManifest writeInstallManifest,
+        final CountInstalledFiles countInstalledFiles, final GetInstalledFilesSize getInstalledFilesSize,
+        final GetInstalledSymbolicLinks getInstalledSymbolicLinks, final ExecutablePathCache executablePathCache,
+        final Logger logger) {
         this.fileManager = fileManager;
         this.getDistribution = getDistribution;
         this.deployDistribution = deployDistribution;
+        this.streamDistribution = streamDistribution;
+        this.readInstallManifest = readInstallManifest;
+        this.writeInstallManifest = writeInstallManifest;
+        this.countInstalledFiles = countInstalledFiles;
+        this.getInstalledFilesSize = getInstalledFilesSize;
+        this.getInstalledSymbolicLinks = getInstalledSymbolicLinks;
+        this.executablePathCache = executablePathCache;
         this.logger = logger;
     }
 
@@ -52,13 +104,23 @@ public abstract class AbstractInstallDistribution {
     /**
      * Installs a distribution:
      * <ul>
+     * <li>If the install directory contains a manifest matching the distribution requested, and the number of files
+     * recorded in this manifest, nothing is done.</li>
+     * <li>Lock the install directory, waiting for other threads/processes installing a distribution in the same
+     * directory. Once the lock is acquired, check again the manifest, since another thread/process may just have
+     * installed the distribution requested.</li>
      * <li>Empty the install directory.</li>
-     * <li>Download and validate the distribution.</li>
+     * <li>If streaming is enabled and the distribution cache is disabled, download, explode and validate the
+     * distribution at once, when its archive format allows it.</li>
+     * <li>Otherwise, download and validate the distribution.</li>
      * <li>Deploy the distribution in the install directory.</li>
      * <li>Delete the distribution archive.</li>
+     * <li>Write the manifest in the install directory, recording symbolic links it contains.</li>
+     * <li>Release the lock.</li>
      * </ul>
      *
      * @param installSettings Settings to install the distribution.
+     * @return Metrics of the install.
      * @throws UnsupportedDistributionIdException If the type of distribution to install is not supported.
      * @throws UnsupportedDistributionArchiveException If the distribution file type is not supported.
      * @throws UnsupportedPlatformException If the underlying platform is not supported.
@@ -67,27 +129,170 @@ public abstract class AbstractInstallDistribution {
      * @throws ArchiverException If an error occurs in the archiver exploding the distribution.
      * @throws IOException If an I/O error occurs.
      */
-    public void execute(@Nonnull final InstallSettings installSettings)
+    @Nonnull
+    public InstallMetrics execute(@Nonnull final InstallSettings installSettings)
+        throws UnsupportedDistributionArchiveException, ArchiverException, UnsupportedPlatformException,
+        UnsupportedDistributionIdException, InvalidDistributionUrlException, DistributionValidatorException,
+        IOException {
+        final long startTimeNs = System.nanoTime();
+        final String downloadUrl = (installSettings.getDownloadUrl() == null) ? null : installSettings
+            .getDownloadUrl()
+            .toString();
+        if (isInstalled(installSettings, downloadUrl)) {
+            logger.info("Distribution already installed in '{}'", installSettings.getInstallDirectoryPath());
+            return InstallMetrics.alreadyInstalled(getDistributionId(), installSettings.getVersion(),
+                SystemUtils.getElapsedTimeMs(startTimeNs));
+        }
+
+        // The lock file cannot be located in the install directory, which is deleted during the installation. It is
+        // located next to it, so as builds sharing the same install directory use the same lock file.
+        final Path installDirectoryPath = installSettings.getInstallDirectoryPath();
+        final Path lockFilePath = installDirectoryPath.resolveSibling(
+            LOCK_FILE_PREFIX + installDirectoryPath.getFileName().toString() + LOCK_FILE_SUFFIX);
+        fileManager.createDirectories(lockFilePath.getParent());
+        logger.debug("Acquiring lock '{}'", lockFilePath);
+        try (final Closeable ignored = fileManager.lock(lockFilePath)) {
+            if (isInstalled(installSettings, downloadUrl)) {
+                logger.info("Distribution installed meanwhile in '{}'", installDirectoryPath);
+                return InstallMetrics.alreadyInstalled(getDistributionId(), installSettings.getVersion(),
+                    SystemUtils.getElapsedTimeMs(startTimeNs));
+            }
+
+            return install(installSettings, downloadUrl, startTimeNs);
+        }
+    }
+
+    /**
+     * Installs a distribution, once the install directory is locked.
+     *
+     * @param installSettings Settings to install the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param startTimeNs Value of the high-resolution time source when the install started.
+     * @return Metrics of the install.
+     * @throws UnsupportedDistributionIdException If the type of distribution to install is not supported.
+     * @throws UnsupportedDistributionArchiveException If the distribution file type is not supported.
+     * @throws UnsupportedPlatformException If the underlying platform is not supported.
+     * @throws InvalidDistributionUrlException If the URL to download the distribution is not valid.
+     * @throws DistributionValidatorException If the downloaded distribution file is not valid.
+     * @throws ArchiverException If an error occurs in the archiver exploding the distribution.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private InstallMetrics install(@Nonnull final InstallSettings installSettings, @Nullable final String downloadUrl,
+        final long startTimeNs)
         throws UnsupportedDistributionArchiveException, ArchiverException, UnsupportedPlatformException,
         UnsupportedDistributionIdException, InvalidDistributionUrlException, DistributionValidatorException,
         IOException {
         logger.info(getClass().getSimpleName() + " Removing install directory '{}'",
             installSettings.getInstallDirectoryPath());
+        // Executables found in the install directory before it is replaced shall be checked again.
+        executablePathCache.invalidate(installSettings.getInstallDirectoryPath());
         fileManager.deleteFileTree(installSettings.getInstallDirectoryPath(), true);
 
         final GetDistributionSettings getDistributionSettings = new GetDistributionSettings(getDistributionId(),
             installSettings.getPlatform(), installSettings.getVersion(), installSettings.getDownloadUrl(),
-            installSettings.getTemporaryDirectoryPath(), installSettings.getProxy());
-        final Path distributionFilePath = getDistribution.execute(getDistributionSettings);
+            installSettings.getTemporaryDirectoryPath(), installSettings.getProxy(),
+            installSettings.getCacheDirectoryPath(), installSettings.getDownloadRetrySettings(),
+            installSettings.getDownloadConnectionCount());
+        final Path extractDirectoryPath = installSettings.getTemporaryDirectoryPath().resolve(EXTRACT_DIRECTORY_NAME);
+        if (installSettings.isDistributionStreamingEnabled() && (installSettings.getCacheDirectoryPath() == null)) {
+            final long streamStartTimeNs = System.nanoTime();
+            final Optional<String> distributionFileHash = streamDistribution.execute(getDistributionSettings,
+                extractDirectoryPath, installSettings.getInstallDirectoryPath(),
+                installSettings.getExplodeWorkerCount());
+            if (distributionFileHash.isPresent()) {
+                final long streamDurationMs = SystemUtils.getElapsedTimeMs(streamStartTimeNs);
+                final long installedFileCount = writeInstallManifest(installSettings, downloadUrl,
+                    distributionFileHash.get());
+                logger.info("Distribution installed in '{}'", installSettings.getInstallDirectoryPath());
+                return new InstallMetrics(getDistributionId(), installSettings.getVersion(), true, true, null,
+                    streamDurationMs, null, null, null, installedFileCount,
+                    getInstalledFilesSize.execute(installSettings.getInstallDirectoryPath()),
+                    SystemUtils.getElapsedTimeMs(startTimeNs));
+            }
+            logger.info("Distribution cannot be streamed, downloading it first");
+        }
+
+        // The hash of the distribution file is computed while it is downloaded or verified in the cache.
+        final long downloadStartTimeNs = System.nanoTime();
+        final DistributionFile distributionFile = getDistribution.execute(getDistributionSettings);
+        final long downloadDurationMs = SystemUtils.getElapsedTimeMs(downloadStartTimeNs);
+        final Path distributionFilePath = distributionFile.getFilePath();
+        final long distributionFileSize = fileManager.size(distributionFilePath);
 
         // Deploys the distribution
-        deployDistribution.execute(new DeploymentSettings(installSettings.getPlatform(),
-            installSettings.getTemporaryDirectoryPath().resolve(EXTRACT_DIRECTORY_NAME),
-            installSettings.getInstallDirectoryPath(), distributionFilePath));
+        final DeploymentMetrics deploymentMetrics = deployDistribution.execute(
+            new DeploymentSettings(installSettings.getPlatform(), extractDirectoryPath,
+                installSettings.getInstallDirectoryPath(), distributionFilePath,
+                installSettings.getExplodeWorkerCount()));
 
         logger.info("Removing distribution file '{}'", distributionFilePath);
         fileManager.delete(distributionFilePath);
 
+        final long installedFileCount = writeInstallManifest(installSettings, downloadUrl,
+            distributionFile.getHash());
         logger.info("Distribution installed in '{}'", installSettings.getInstallDirectoryPath());
+        return new InstallMetrics(getDistributionId(), installSettings.getVersion(), true, false,
+            distributionFileSize, downloadDurationMs, deploymentMetrics.getExplodeDurationMs(),
+            deploymentMetrics.getMoveDurationMs(), deploymentMetrics.isAtomicMove(), installedFileCount,
+            getInstalledFilesSize.execute(installSettings.getInstallDirectoryPath()),
+            SystemUtils.getElapsedTimeMs(startTimeNs));
+    }
+
+    /**
+     * Tells whether the install directory contains the distribution requested, based on its manifest.
+     *
+     * @param installSettings Settings to install the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @return {@code true} if the distribution is already installed.
+     * @throws IOException If an I/O error occurs.
+     */
+    private boolean isInstalled(@Nonnull final InstallSettings installSettings, @Nullable final String downloadUrl)
+        throws IOException {
+        final Optional<InstallManifest> installManifest = readInstallManifest.execute(
+            installSettings.getInstallDirectoryPath());
+        if (!installManifest.isPresent()) {
+            return false;
+        }
+
+        final InstallManifest manifest = installManifest.get();
+        final boolean matching = manifest.getDistributionId().equals(getDistributionId()) && manifest
+            .getVersion()
+            .equals(installSettings.getVersion()) && manifest
+            .getPlatformId()
+            .equals(InstallManifest.toPlatformId(installSettings.getPlatform())) && Objects.equals(
+            manifest.getDownloadUrl(), downloadUrl);
+        if (!matching) {
+            logger.debug("Install manifest does not match the distribution requested");
+            return false;
+        }
+
+        // A file count mismatch reveals a partially deleted or modified installation.
+        final long fileCount = countInstalledFiles.execute(installSettings.getInstallDirectoryPath());
+        if (fileCount != manifest.getFileCount()) {
+            logger.debug("Install manifest expects {} files, {} found", manifest.getFileCount(), fileCount);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the manifest of the distribution installed.
+     *
+     * @param installSettings Settings to install the distribution.
+     * @param downloadUrl URL to download the distribution.
+     * @param distributionFileHash SHA-256 hash of the distribution file.
+     * @return Number of files installed, as recorded in the manifest.
+     * @throws IOException If an I/O error occurs.
+     */
+    private long writeInstallManifest(@Nonnull final InstallSettings installSettings,
+        @Nullable final String downloadUrl, @Nonnull final String distributionFileHash) throws IOException {
+        final Path installDirectoryPath = installSettings.getInstallDirectoryPath();
+        final long fileCount = countInstalledFiles.execute(installDirectoryPath);
+        writeInstallManifest.execute(installDirectoryPath,
+            new InstallManifest(getDistributionId(), installSettings.getVersion(),
+                InstallManifest.toPlatformId(installSettings.getPlatform()), downloadUrl, distributionFileHash,
+                fileCount, getInstalledSymbolicLinks.execute(installDirectoryPath)));
+        return fileCount;
     }
 }
@@ -0,0 +1,89 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Stores a distribution file in the distribution cache. Files are first written with a unique temporary name, and
+ * then atomically moved to their final location, so as builds sharing the cache never read a partial file.
+ *
+ * @since 2.2.0
+ */
+public class CacheDistribution {
+
+    private final FileManager fileManager;
+
+    private final Logger logger;
+
+    public CacheDistribution(final FileManager fileManager, final Logger logger) {
+        this.fileManager = fileManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Stores a distribution file in the cache. The distribution file is left untouched.
+     *
+     * @param distributionCacheSettings Settings to access the distribution in the cache.
+     * @param distributionFilePath Path to the distribution file, which shall be already validated.
+     * @param hash SHA-256 hash of the distribution file, as an hexadecimal string.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void execute(@Nonnull final DistributionCacheSettings distributionCacheSettings,
+        @Nonnull final Path distributionFilePath, @Nonnull final String hash) throws IOException {
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(hash);
+        if (!fileManager.exists(contentFilePath)) {
+            fileManager.createDirectories(contentFilePath.getParent());
+            final Path temporaryContentFilePath = resolveTemporaryFilePath(contentFilePath);
+            try {
+                try {
+                    fileManager.createLink(temporaryContentFilePath, distributionFilePath);
+                } catch (final IOException | UnsupportedOperationException e) {
+                    fileManager.copy(distributionFilePath, temporaryContentFilePath);
+                }
+                fileManager.move(temporaryContentFilePath, contentFilePath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final FileAlreadyExistsException e) {
+                // Another build stored the same content concurrently.
+                logger.debug("Distribution already cached: '{}'", contentFilePath);
+            } finally {
+                fileManager.deleteIfExists(temporaryContentFilePath);
+            }
+        }
+
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        fileManager.createDirectories(indexFilePath.getParent());
+        final Path temporaryIndexFilePath = resolveTemporaryFilePath(indexFilePath);
+        try {
+            // The size allows to detect a truncated or replaced distribution file without hashing it again.
+            final String index = hash + '\n' + fileManager.size(contentFilePath) + '\n';
+            try (final OutputStream outputStream = fileManager.newOutputStream(temporaryIndexFilePath)) {
+                outputStream.write(index.getBytes(StandardCharsets.US_ASCII));
+            }
+            fileManager.move(temporaryIndexFilePath, indexFilePath, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            fileManager.deleteIfExists(temporaryIndexFilePath);
+        }
+        logger.info("Distribution cached: '{}'", contentFilePath);
+    }
+
+    /**
+     * Resolves the path to a temporary file, unique in the directory of the given file.
+     *
+     * @param filePath File path.
+     * @return Path.
+     */
+    @Nonnull
+    private Path resolveTemporaryFilePath(@Nonnull final Path filePath) {
+        return filePath.resolveSibling(
+            filePath.getFileName().toString() + '.' + UUID.randomUUID() + DownloadResource.TMP_EXTENSION);
+    }
+}
@@ -0,0 +1,42 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Counts files, directories and links in an install directory, excluding the directory itself and the install
+ * manifest file.
+ *
+ * @since 2.2.0
+ */
+public class CountInstalledFiles {
+
+    private final FileManager fileManager;
+
+    public CountInstalledFiles(final FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    /**
+     * Counts files in an install directory.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     * @return Number of files, {@code 0} if the directory does not exist.
+     * @throws IOException If an I/O error occurs.
+     */
+    public long execute(@Nonnull final Path installDirectoryPath) throws IOException {
+        if (!fileManager.isDirectory(installDirectoryPath)) {
+            return 0;
+        }
+
+        final Path manifestFilePath = installDirectoryPath.resolve(InstallManifest.FILE_NAME);
+        try (final Stream<Path> paths = fileManager.walk(installDirectoryPath)) {
+            return paths.filter(path -> !path.equals(installDirectoryPath) && !path.equals(manifestFilePath)).count();
+        }
+    }
+}
@@ -1,20 +1,18 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
-import static java.util.stream.Collectors.toSet;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Set;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
+import org.siouan.frontendgradleplugin.domain.model.DeploymentMetrics;
 import org.siouan.frontendgradleplugin.domain.model.DeploymentSettings;
 import org.siouan.frontendgradleplugin.domain.model.ExplodeSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.domain.provider.ArchiverProvider;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
 
 /**
  * Deploys a distribution archive in a target directory.
@@ -27,12 +25,15 @@ public class DeployDistribution {
 
     private final ArchiverProvider archiverProvider;
 
+    private final MoveExplodedDistribution moveExplodedDistribution;
+
     private final Logger logger;
 
     public DeployDistribution(final FileManager fileManager, final ArchiverProvider archiverProvider,
-        final Logger logger) {
+        final MoveExplodedDistribution moveExplodedDistribution, final Logger logger) {
         this.fileManager = fileManager;
         this.archiverProvider = archiverProvider;
+        this.moveExplodedDistribution = moveExplodedDistribution;
         this.logger = logger;
     }
 
@@ -40,11 +41,13 @@ public class DeployDistribution {
      * Deploys a distribution by exploding the archive and cleaning all unnecessary files.
      *
      * @param deploymentSettings Settings to deploy the archive content in a target directory.
+     * @return Durations of the deployment steps.
      * @throws UnsupportedDistributionArchiveException If the distribution file type is not supported.
      * @throws ArchiverException If an error occurs in the archiver exploding the distribution.
      * @throws IOException If an I/O error occurs.
      */
-    public void execute(@Nonnull final DeploymentSettings deploymentSettings)
+    @Nonnull
+    public DeploymentMetrics execute(@Nonnull final DeploymentSettings deploymentSettings)
         throws UnsupportedDistributionArchiveException, ArchiverException, IOException {
         final Path distributionFilePath = deploymentSettings.getDistributionFilePath();
 
@@ -52,28 +55,18 @@ public class DeployDistribution {
         final Path extractDirectoryPath = fileManager.createDirectory(deploymentSettings.getExtractDirectoryPath());
 
         logger.info("Exploding distribution into '{}'", extractDirectoryPath);
+        final long explodeStartTimeNs = System.nanoTime();
         final ExplodeSettings explodeSettings = new ExplodeSettings(deploymentSettings.getPlatform(),
-            distributionFilePath, extractDirectoryPath);
+            distributionFilePath, extractDirectoryPath, null, deploymentSettings.getExplodeWorkerCount());
         archiverProvider
             .findByArchiveFilePath(distributionFilePath)
             .orElseThrow(() -> new UnsupportedDistributionArchiveException(distributionFilePath))
             .explode(explodeSettings);
+        final long explodeDurationMs = SystemUtils.getElapsedTimeMs(explodeStartTimeNs);
 
-        logger.info("Moving distribution into '{}'", deploymentSettings.getInstallDirectoryPath());
-        // Removes the root directory of exploded content, if any.
-        final Set<Path> distributionFilePaths;
-        try (final Stream<Path> childFilePaths = fileManager.list(extractDirectoryPath)) {
-            distributionFilePaths = childFilePaths.collect(toSet());
-        }
-        final Path distributionRootDirectoryPath;
-        if (distributionFilePaths.size() == 1) {
-            distributionRootDirectoryPath = distributionFilePaths.iterator().next();
-        } else {
-            distributionRootDirectoryPath = extractDirectoryPath;
-        }
-        fileManager.moveFileTree(distributionRootDirectoryPath, deploymentSettings.getInstallDirectoryPath());
-
-        logger.info("Removing explode directory '{}'", extractDirectoryPath);
-        fileManager.deleteIfExists(extractDirectoryPath);
+        final long moveStartTimeNs = System.nanoTime();
+        final boolean atomicMove = moveExplodedDistribution.execute(extractDirectoryPath,
+            deploymentSettings.getInstallDirectoryPath());
+        return new DeploymentMetrics(explodeDurationMs, SystemUtils.getElapsedTimeMs(moveStartTimeNs), atomicMove);
     }
 }
@@ -1,61 +1,123 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
+import java.io.EOFException;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
 import org.siouan.frontendgradleplugin.domain.model.DownloadSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.ResumedResource;
+import org.siouan.frontendgradleplugin.domain.model.RetrySettings;
 import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.util.DigestReadableByteChannel;
 
 /**
  * Downloads a resource with efficient behavior and low impact on memory. This downloader uses a temporary directory to
- * store data being downloaded.
+ * store data being downloaded. The SHA-256 hash of the resource is computed while data is transferred, so as callers
+ * do not need to read the downloaded file again to verify its integrity. When multiple connections are allowed, and the
+ * server supports range requests, segments of the resource are downloaded concurrently and written at their position
+ * in the temporary file.
  */
 public class DownloadResource {
 
     public static final String TMP_EXTENSION = ".tmp";
 
+    /**
+     * Capacity of the buffer used to read bytes already received when a download is resumed.
+     */
+    private static final int BUFFER_CAPACITY = 8192;
+
+    /**
+     * Minimum number of bytes in a segment, below which opening an additional connection is not worth it.
+     */
+    private static final long MIN_SEGMENT_LENGTH = 1024 * 1024;
+
     private final FileManager fileManager;
 
     private final ChannelProvider channelProvider;
 
+    private final ConvertToHexadecimalString convertToHexadecimalString;
+
     private final Logger logger;
 
-    public DownloadResource(final FileManager fileManager, final ChannelProvider channelProvider, final Logger logger) {
+    public DownloadResource(final FileManager fileManager, final ChannelProvider channelProvider,
+        final ConvertToHexadecimalString convertToHexadecimalString, final Logger logger) {
         this.fileManager = fileManager;
         this.channelProvider = channelProvider;
+        this.convertToHexadecimalString = convertToHexadecimalString;
         this.logger = logger;
     }
 
     /**
      * Downloads a resource at a given URL in a destination file, by using a temporary directory. It is up to the caller
-     * to ensure the temporary directory and the directory receiving the destination file exist and are writable.
+     * to ensure the temporary directory and the directory receiving the destination file exist and are writable. If
+     * the transfer fails, and retry settings allow it, bytes already received are kept, and the download is resumed
+     * after a delay, which is doubled after each failed attempt. The download is resumed only if the resource did not
+     * change in the meantime, otherwise it restarts from the beginning. A resource that does not exist is never
+     * requested again. A resource downloaded in segments is downloaded again from the beginning after a failed attempt.
      *
      * @param downloadSettings Download parameters.
+     * @return The SHA-256 hash of the downloaded resource, as an hexadecimal string.
      * @throws IOException If the resource could not be downloaded, or could not be written in the temporary directory,
      * or moved to the destination file. In this case, any file created in the temporary directory is removed.
      */
-    public void execute(@Nonnull final DownloadSettings downloadSettings) throws IOException {
-        final URL resourceUrl = downloadSettings.getResourceUrl();
+    @Nonnull
+    public String execute(@Nonnull final DownloadSettings downloadSettings) throws IOException {
         final String resourceName = downloadSettings.getDestinationFilePath().getFileName().toString();
         final Path downloadedFilePath = downloadSettings
             .getTemporaryDirectoryPath()
             .resolve(resourceName + TMP_EXTENSION);
         logger.debug("Downloading resource at '{}' (proxy: {})", downloadSettings.getResourceUrl(),
             downloadSettings.getProxy());
-        try (final ReadableByteChannel resourceInputChannel = channelProvider.getReadableByteChannel(resourceUrl,
-            downloadSettings.getProxy());
-             final FileChannel resourceOutputChannel = channelProvider.getWritableFileChannelForNewFile(
-                 downloadedFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
-                 StandardOpenOption.TRUNCATE_EXISTING)) {
-            resourceOutputChannel.transferFrom(resourceInputChannel, 0, Long.MAX_VALUE);
+        final RetrySettings retrySettings = downloadSettings.getRetrySettings();
+        String resourceHash = null;
+        try {
+            final OptionalLong segmentableResourceLength = getSegmentableResourceLength(downloadSettings);
+            final AtomicReference<ResourceMetadata> resourceMetadata = new AtomicReference<>();
+            long delayMs = retrySettings.getInitialDelayMs();
+            for (int attempt = 1; resourceHash == null; attempt++) {
+                try {
+                    if (segmentableResourceLength.isPresent()) {
+                        resourceHash = downloadSegments(downloadSettings, downloadedFilePath,
+                            segmentableResourceLength.getAsLong());
+                    } else {
+                        resourceHash = (attempt == 1) ? download(downloadSettings, downloadedFilePath,
+                            resourceMetadata) : resumeDownload(downloadSettings, downloadedFilePath, resourceMetadata);
+                    }
+                } catch (final FileNotFoundException e) {
+                    throw e;
+                } catch (final IOException e) {
+                    if (attempt >= retrySettings.getMaxAttempts()) {
+                        throw e;
+                    }
+                    logger.info("Download attempt {}/{} failed ({}), retrying in {} ms", attempt,
+                        retrySettings.getMaxAttempts(), e.getMessage(), delayMs);
+                    sleep(delayMs);
+                    delayMs *= 2;
+                }
+            }
         } catch (final IOException e) {
             fileManager.deleteIfExists(downloadedFilePath);
             throw e;
@@ -63,5 +125,320 @@ public class DownloadResource {
 
         fileManager.move(downloadedFilePath, downloadSettings.getDestinationFilePath(),
             StandardCopyOption.REPLACE_EXISTING);
+        return resourceHash;
+    }
+
+    /**
+     * Downloads the whole resource in a new temporary file.
+     *
+     * @param downloadSettings Download parameters.
+     * @param downloadedFilePath Path to the temporary file.
+     * @param resourceMetadata Reference receiving the metadata of the resource, which allows to validate a resumed
+     * download.
+     * @return The SHA-256 hash of the downloaded resource, as an hexadecimal string.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private String download(@Nonnull final DownloadSettings downloadSettings, @Nonnull final Path downloadedFilePath,
+        @Nonnull final AtomicReference<ResourceMetadata> resourceMetadata) throws IOException {
+        final MessageDigest messageDigest = newMessageDigest();
+        try (final ResumedResource resource = channelProvider.getResumedResource(downloadSettings.getResourceUrl(),
+            downloadSettings.getProxy(), 0, null);
+             final FileChannel resourceOutputChannel = channelProvider.getWritableFileChannelForNewFile(
+                 downloadedFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                 StandardOpenOption.TRUNCATE_EXISTING)) {
+            resourceMetadata.set(resource.getMetadata());
+            transfer(new DigestReadableByteChannel(resource.getChannel(), messageDigest), resourceOutputChannel, 0);
+        }
+        return convertToHexadecimalString.execute(messageDigest.digest());
+    }
+
+    /**
+     * Downloads the remaining part of a resource, and appends it to the temporary file containing bytes already
+     * received. The remaining part is requested only if the resource did not change since the previous attempt, based
+     * on its entity tag or last modification date. Otherwise, or if the server does not support range requests, the
+     * whole resource is received again and overwrites the temporary file.
+     *
+     * @param downloadSettings Download parameters.
+     * @param downloadedFilePath Path to the temporary file.
+     * @param resourceMetadata Reference containing the metadata of the resource received by the previous attempt, if
+     * any, and receiving the metadata of the resource received by this attempt.
+     * @return The SHA-256 hash of the downloaded resource, as an hexadecimal string.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private String resumeDownload(@Nonnull final DownloadSettings downloadSettings,
+        @Nonnull final Path downloadedFilePath, @Nonnull final AtomicReference<ResourceMetadata> resourceMetadata)
+        throws IOException {
+        final MessageDigest messageDigest = newMessageDigest();
+        try (final FileChannel resourceOutputChannel = channelProvider.getWritableFileChannelForNewFile(
+            downloadedFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+            final long offset = resourceOutputChannel.size();
+            logger.debug("Resuming download at offset {}", offset);
+            try (final ResumedResource resource = channelProvider.getResumedResource(downloadSettings.getResourceUrl(),
+                downloadSettings.getProxy(), offset, resourceMetadata.get())) {
+                resourceMetadata.set(resource.getMetadata());
+                if (resource.getOffset() == 0) {
+                    logger.debug("Resource changed or range requests not supported, downloading from the beginning");
+                    resourceOutputChannel.truncate(0);
+                } else {
+                    // The hash must cover bytes already received.
+                    updateDigest(messageDigest, downloadedFilePath);
+                }
+                transfer(new DigestReadableByteChannel(resource.getChannel(), messageDigest), resourceOutputChannel,
+                    resource.getOffset());
+            }
+        }
+        return convertToHexadecimalString.execute(messageDigest.digest());
+    }
+
+    /**
+     * Gets the length of the resource, if it shall be downloaded in segments. Segments are used only if multiple
+     * connections are allowed, if the server supports range requests, and if the resource is large enough.
+     *
+     * @param downloadSettings Download parameters.
+     * @return Number of bytes in the resource, or an empty value if the resource shall be downloaded with a single
+     * connection.
+     */
+    @Nonnull
+    private OptionalLong getSegmentableResourceLength(@Nonnull final DownloadSettings downloadSettings) {
+        if (downloadSettings.getConnectionCount() <= 1) {
+            return OptionalLong.empty();
+        }
+
+        final OptionalLong resourceLength;
+        try {
+            resourceLength = channelProvider.getRangeableResourceLength(downloadSettings.getResourceUrl(),
+                downloadSettings.getProxy());
+        } catch (final IOException e) {
+            // The regular download will report the error, if it persists.
+            logger.debug("Length of resource could not be resolved ({}), downloading with a single connection",
+                e.getMessage());
+            return OptionalLong.empty();
+        }
+        if (!resourceLength.isPresent()) {
+            logger.debug("Server does not support range requests, downloading with a single connection");
+            return OptionalLong.empty();
+        }
+        if (resourceLength.getAsLong() < 2 * MIN_SEGMENT_LENGTH) {
+            return OptionalLong.empty();
+        }
+        return resourceLength;
+    }
+
+    /**
+     * Downloads segments of the resource concurrently in a new temporary file. The file is first extended to the length
+     * of the resource, so as each segment is written directly at its position. Since segments are received out of
+     * order, their bytes cannot be hashed while they are transferred. Instead, the calling thread waits for segments
+     * in order, and hashes each one from the temporary file as soon as it and all previous segments are complete, while
+     * next segments are still being downloaded. Bytes are therefore read back from the file once, most likely from
+     * the page cache, but hashing overlaps with the transfer instead of adding a full pass over the file after it.
+     * This is why segments are used only for resources of at least {@link #MIN_SEGMENT_LENGTH} bytes per connection.
+     *
+     * @param downloadSettings Download parameters.
+     * @param downloadedFilePath Path to the temporary file.
+     * @param resourceLength Number of bytes in the resource.
+     * @return The SHA-256 hash of the downloaded resource, as an hexadecimal string.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private String downloadSegments(@Nonnull final DownloadSettings downloadSettings,
+        @Nonnull final Path downloadedFilePath, final long resourceLength) throws IOException {
+        final int segmentCount = (int) Math.min(downloadSettings.getConnectionCount(),
+            resourceLength / MIN_SEGMENT_LENGTH);
+        final long segmentLength = (resourceLength + segmentCount - 1) / segmentCount;
+        logger.debug("Downloading {} bytes with {} connections", resourceLength, segmentCount);
+        final MessageDigest messageDigest = newMessageDigest();
+        try (final FileChannel resourceOutputChannel = channelProvider.getWritableFileChannelForNewFile(
+            downloadedFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            resourceOutputChannel.write(ByteBuffer.allocate(1), resourceLength - 1);
+            final ExecutorService executorService = Executors.newFixedThreadPool(segmentCount);
+            try (final InputStream inputStream = fileManager.newInputStream(downloadedFilePath)) {
+                final List<Future<Void>> futures = new ArrayList<>();
+                final List<Long> lengths = new ArrayList<>();
+                for (long offset = 0; offset < resourceLength; offset += segmentLength) {
+                    final long segmentOffset = offset;
+                    final long length = Math.min(segmentLength, resourceLength - segmentOffset);
+                    futures.add(executorService.submit(() -> {
+                        downloadSegment(downloadSettings, resourceOutputChannel, segmentOffset, length);
+                        return null;
+                    }));
+                    lengths.add(length);
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    await(futures.get(i));
+                    // All segments up to this one are complete: the contiguous prefix of the file can be hashed.
+                    updateDigest(messageDigest, inputStream, lengths.get(i));
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+        return convertToHexadecimalString.execute(messageDigest.digest());
+    }
+
+    /**
+     * Downloads a segment of the resource, and writes it at its position in the temporary file.
+     *
+     * @param downloadSettings Download parameters.
+     * @param resourceOutputChannel Channel to write the temporary file.
+     * @param offset Offset of the first byte of the segment in the resource.
+     * @param length Number of bytes in the segment.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void downloadSegment(@Nonnull final DownloadSettings downloadSettings,
+        @Nonnull final FileChannel resourceOutputChannel, final long offset, final long length) throws IOException {
+        try (final ReadableByteChannel resourceInputChannel = channelProvider.getReadableByteChannel(
+            downloadSettings.getResourceUrl(), downloadSettings.getProxy(), offset, length)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+            final long endPosition = offset + length;
+            long position = offset;
+            while (position < endPosition) {
+                clear(buffer);
+                // Bytes beyond the segment must never overwrite the next segment.
+                setLimit(buffer, (int) Math.min(BUFFER_CAPACITY, endPosition - position));
+                if (resourceInputChannel.read(buffer) == -1) {
+                    throw new EOFException("Segment ended " + (endPosition - position) + " bytes before its end");
+                }
+                flip(buffer);
+                while (buffer.hasRemaining()) {
+                    position += resourceOutputChannel.write(buffer, position);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the completion of a task downloading a segment.
+     *
+     * @param future Task.
+     * @throws IOException If the task failed, or if the current thread is interrupted.
+     */
+    private void await(@Nonnull final Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while downloading resource");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Updates a message digest with the content of a file.
+     *
+     * @param messageDigest Message digest.
+     * @param filePath Path to the file.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void updateDigest(@Nonnull final MessageDigest messageDigest, @Nonnull final Path filePath)
+        throws IOException {
+        try (final InputStream inputStream = fileManager.newInputStream(filePath)) {
+            final byte[] buffer = new byte[BUFFER_CAPACITY];
+            int numberOfBytesRead = inputStream.read(buffer);
+            while (numberOfBytesRead != -1) {
+                messageDigest.update(buffer, 0, numberOfBytesRead);
+                numberOfBytesRead = inputStream.read(buffer);
+            }
+        }
+    }
+
+    /**
+     * Updates a message digest with the next bytes of an input stream.
+     *
+     * @param messageDigest Message digest.
+     * @param inputStream Input stream.
+     * @param length Number of bytes to read.
+     * @throws IOException If an I/O error occurs, or if the stream ends before the given number of bytes is read.
+     */
+    private void updateDigest(@Nonnull final MessageDigest messageDigest, @Nonnull final InputStream inputStream,
+        final long length) throws IOException {
+        final byte[] buffer = new byte[BUFFER_CAPACITY];
+        long remainingLength = length;
+        while (remainingLength > 0) {
+            final int numberOfBytesRead = inputStream.read(buffer, 0, (int) Math.min(BUFFER_CAPACITY, remainingLength));
+            if (numberOfBytesRead == -1) {
+                throw new EOFException("File ended " + remainingLength + " bytes before the end of the segment");
+            }
+            messageDigest.update(buffer, 0, numberOfBytesRead);
+            remainingLength -= numberOfBytesRead;
+        }
+    }
+
+    /**
+     * Transfers all bytes from an input channel to an output channel. When the input channel fails after some bytes
+     * were transferred, the {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} method returns the
+     * number of bytes transferred instead of throwing the error. Transferring bytes again until no byte is available
+     * makes the input channel either report the end of the resource, or throw the error.
+     *
+     * @param inputChannel Input channel.
+     * @param outputChannel Output channel.
+     * @param position Position in the output channel where the first byte shall be written.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void transfer(@Nonnull final ReadableByteChannel inputChannel, @Nonnull final FileChannel outputChannel,
+        final long position) throws IOException {
+        long currentPosition = position;
+        long numberOfBytesTransferred = outputChannel.transferFrom(inputChannel, currentPosition, Long.MAX_VALUE);
+        while (numberOfBytesTransferred > 0) {
+            currentPosition += numberOfBytesTransferred;
+            numberOfBytesTransferred = outputChannel.transferFrom(inputChannel, currentPosition, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Waits before a new attempt.
+     *
+     * @param delayMs Delay in milliseconds.
+     * @throws InterruptedIOException If the current thread is interrupted.
+     */
+    private void sleep(final long delayMs) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry download");
+        }
+    }
+
+    /**
+     * Creates a new message digest. A message digest is created for each download, so as concurrent downloads never
+     * share its state.
+     *
+     * @return Message digest.
+     */
+    @Nonnull
+    private MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HashFile.ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support this algorithm.
+            throw new IllegalStateException("Hash algorithm not supported: " + HashFile.ALGORITHM, e);
+        }
+    }
+
+    // Since JDK 9, ByteBuffer class overrides some methods and their return type in the Buffer class. To ensure
+    // compatibility with JDK 8, calling these methods forces using the JDK 8 Buffer's methods signature.
+
+    private static void clear(@Nonnull final Buffer buffer) {
+        buffer.clear();
+    }
+
+    private static void flip(@Nonnull final Buffer buffer) {
+        buffer.flip();
+    }
+
+    private static void setLimit(@Nonnull final Buffer buffer, final int limit) {
+        buffer.limit(limit);
     }
 }
@@ -0,0 +1,108 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Gets a distribution file from the distribution cache. The distribution file is linked into the target location when
+ * the file system supports hard links, or copied otherwise. Distribution files are validated before being stored, and
+ * moved atomically in the cache, so as they are not hashed again when they are reused: a cache entry whose
+ * distribution file is missing, or whose size differs from the size recorded in the index file, is evicted.
+ *
+ * @since 2.2.0
+ */
+public class GetCachedDistribution {
+
+    private final FileManager fileManager;
+
+    private final Logger logger;
+
+    public GetCachedDistribution(final FileManager fileManager, final Logger logger) {
+        this.fileManager = fileManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Gets a distribution file from the cache.
+     *
+     * @param distributionCacheSettings Settings to access the distribution in the cache.
+     * @param targetFilePath Path to the file receiving the distribution, replaced if it exists.
+     * @return SHA-256 hash of the distribution file verified in the cache, as an hexadecimal string, or an empty value
+     * if the distribution was not found in the cache. When a value is returned, the distribution is available at the
+     * target path.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    public Optional<String> execute(@Nonnull final DistributionCacheSettings distributionCacheSettings,
+        @Nonnull final Path targetFilePath) throws IOException {
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        if (!fileManager.exists(indexFilePath)) {
+            logger.debug("Distribution not found in cache: '{}'", indexFilePath);
+            return Optional.empty();
+        }
+
+        final String expectedHash;
+        final Long expectedSize;
+        try (final BufferedReader reader = fileManager.newBufferedReader(indexFilePath)) {
+            expectedHash = trim(reader.readLine());
+            expectedSize = parseSize(trim(reader.readLine()));
+        }
+
+        final Path contentFilePath = expectedHash.isEmpty() ? null : distributionCacheSettings.getContentFilePath(
+            expectedHash);
+        if ((contentFilePath == null) || (expectedSize == null) || !fileManager.exists(contentFilePath) || (
+            fileManager.size(contentFilePath) != expectedSize)) {
+            logger.info("Evicting invalid distribution from cache: '{}'", indexFilePath);
+            fileManager.deleteIfExists(indexFilePath);
+            if (contentFilePath != null) {
+                fileManager.deleteIfExists(contentFilePath);
+            }
+            return Optional.empty();
+        }
+
+        logger.info("Distribution found in cache: '{}'", contentFilePath);
+        fileManager.deleteIfExists(targetFilePath);
+        try {
+            fileManager.createLink(targetFilePath, contentFilePath);
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.debug("Hard link not supported, copying distribution file: {}", e.getMessage());
+            fileManager.copy(contentFilePath, targetFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return Optional.of(expectedHash);
+    }
+
+    /**
+     * Trims a line of the index file.
+     *
+     * @param line Line, or {@code null} if the end of the file was reached.
+     * @return Trimmed line, or an empty string.
+     */
+    @Nonnull
+    private static String trim(@Nullable final String line) {
+        return (line == null) ? "" : line.trim();
+    }
+
+    /**
+     * Parses the size of the distribution file recorded in the index file.
+     *
+     * @param value Value.
+     * @return Size in bytes, or {@code null} if the value is missing or malformed.
+     */
+    @Nullable
+    private static Long parseSize(@Nonnull final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
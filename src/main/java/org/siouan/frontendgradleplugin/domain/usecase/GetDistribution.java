@@ -12,7 +12,9 @@ import org.siouan.frontendgradleplugin.domain.exception.DistributionValidatorExc
 import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
 import org.siouan.frontendgradleplugin.domain.model.DistributionDefinition;
+import org.siouan.frontendgradleplugin.domain.model.DistributionFile;
 import org.siouan.frontendgradleplugin.domain.model.DistributionUrlResolver;
 import org.siouan.frontendgradleplugin.domain.model.DistributionValidator;
 import org.siouan.frontendgradleplugin.domain.model.DistributionValidatorSettings;
@@ -38,14 +40,21 @@ public class GetDistribution {
 
     private final GetDistributionValidator getDistributionValidator;
 
+    private final GetCachedDistribution getCachedDistribution;
+
+    private final CacheDistribution cacheDistribution;
+
     private final Logger logger;
 
     public GetDistribution(final GetDistributionUrlResolver getDistributionUrlResolver,
         final DownloadResource downloadResource, final GetDistributionValidator getDistributionValidator,
+        final GetCachedDistribution getCachedDistribution, final CacheDistribution cacheDistribution,
         final Logger logger) {
         this.getDistributionUrlResolver = getDistributionUrlResolver;
         this.downloadResource = downloadResource;
         this.getDistributionValidator = getDistributionValidator;
+        this.getCachedDistribution = getCachedDistribution;
+        this.cacheDistribution = cacheDistribution;
         this.logger = logger;
     }
 
@@ -53,12 +62,14 @@ public class GetDistribution {
      * Gets a distribution:
      * <ul>
      * <li>Resolve the URL to download the distribution.</li>
-     * <li>Download the distribution.</li>
+     * <li>If the distribution cache is enabled and contains the distribution, get the distribution from the cache.</li>
+     * <li>Otherwise, download the distribution.</li>
      * <li>Validate the downloaded distribution.</li>
+     * <li>If the distribution cache is enabled, store the distribution in the cache.</li>
      * </ul>
      *
      * @param getDistributionSettings Settings to get the distribution file.
-     * @return Path to the distribution file.
+     * @return Distribution file, with the hash computed while it was downloaded or verified in the cache.
      * @throws UnsupportedDistributionIdException If the type of distribution to install is not supported.
      * @throws UnsupportedPlatformException If the target platform is not supported.
      * @throws InvalidDistributionUrlException If the URL to download the distribution is invalid.
@@ -66,7 +77,7 @@ public class GetDistribution {
      * @throws IOException If an I/O error occurs.
      */
     @Nonnull
-    public Path execute(@Nonnull final GetDistributionSettings getDistributionSettings)
+    public DistributionFile execute(@Nonnull final GetDistributionSettings getDistributionSettings)
         throws UnsupportedDistributionIdException, UnsupportedPlatformException, InvalidDistributionUrlException,
         DistributionValidatorException, IOException {
         // Resolve the URL to download the distribution
@@ -78,27 +89,62 @@ public class GetDistribution {
             getDistributionSettings.getDistributionUrl());
         final URL distributionUrl = distributionUrlResolver.execute(distributionDefinition);
 
-        // Download the distribution
-        logger.info("Downloading distribution at '{}'", distributionUrl);
+        final String distributionFileName = resolveDistributionFileName(distributionUrl);
         final Path distributionFilePath = getDistributionSettings
             .getTemporaryDirectoryPath()
-            .resolve(resolveDistributionFileName(distributionUrl));
-        downloadResource.execute(new DownloadSettings(distributionUrl, getDistributionSettings.getProxy(),
-            getDistributionSettings.getTemporaryDirectoryPath(), distributionFilePath));
+            .resolve(distributionFileName);
+        final Path cacheDirectoryPath = getDistributionSettings.getCacheDirectoryPath();
+        final DistributionCacheSettings distributionCacheSettings;
+        if (cacheDirectoryPath == null) {
+            distributionCacheSettings = null;
+        } else {
+            distributionCacheSettings = new DistributionCacheSettings(cacheDirectoryPath,
+                getDistributionSettings.getDistributionId(), getDistributionSettings.getVersion(),
+                getDistributionSettings.getPlatform(), distributionUrl, distributionFileName);
+            final Optional<String> cachedDistributionFileHash = getCachedDistribution.execute(
+                distributionCacheSettings, distributionFilePath);
+            if (cachedDistributionFileHash.isPresent()) {
+                return new DistributionFile(distributionFilePath, cachedDistributionFileHash.get());
+            }
+        }
+
+        // Download the distribution
+        logger.info("Downloading distribution at '{}'", distributionUrl);
+        final String distributionFileHash = downloadResource.execute(
+            new DownloadSettings(distributionUrl, getDistributionSettings.getProxy(),
+                getDistributionSettings.getTemporaryDirectoryPath(), distributionFilePath,
+                getDistributionSettings.getDownloadRetrySettings(),
+                getDistributionSettings.getDownloadConnectionCount()));
 
         final Optional<DistributionValidator> distributionValidator = getDistributionValidator.execute(
             getDistributionSettings.getDistributionId());
         if (distributionValidator.isPresent()) {
             final DistributionValidatorSettings distributionValidatorSettings = new DistributionValidatorSettings(
                 getDistributionSettings.getTemporaryDirectoryPath(), distributionUrl, distributionFilePath,
-                getDistributionSettings.getProxy());
+                getDistributionSettings.getProxy(), distributionFileHash, cacheDirectoryPath);
             distributionValidator.get().execute(distributionValidatorSettings);
         }
-        return distributionFilePath;
+
+        if (distributionCacheSettings != null) {
+            try {
+                cacheDistribution.execute(distributionCacheSettings, distributionFilePath, distributionFileHash);
+            } catch (final IOException e) {
+                // The cache is an optimization, failing to store the distribution must not prevent its installation.
+                logger.info("Distribution could not be cached: {}", e.getMessage());
+            }
+        }
+        return new DistributionFile(distributionFilePath, distributionFileHash);
     }
 
+    /**
+     * Resolves the name of the distribution file from the URL used to download it.
+     *
+     * @param distributionUrl URL to download the distribution.
+     * @return File name.
+     * @throws InvalidDistributionUrlException If the URL does not contain a file name.
+     */
     @Nonnull
-    private String resolveDistributionFileName(@Nonnull final URL distributionUrl)
+    static String resolveDistributionFileName(@Nonnull final URL distributionUrl)
         throws InvalidDistributionUrlException {
         final String distributionUrlPath = distributionUrl.getPath();
         final Matcher fileNameMatcher = URL_FILENAME_PATTERN.matcher(distributionUrlPath);
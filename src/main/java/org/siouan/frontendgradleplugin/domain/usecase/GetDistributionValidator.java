@@ -19,17 +19,25 @@ public class GetDistributionValidator {
 
     private final DownloadResource downloadResource;
 
+    private final GetRevalidatedResource getRevalidatedResource;
+
     private final ReadNodeDistributionShasum readNodeDistributionShasum;
 
+    private final GetNodeDistributionShasums getNodeDistributionShasums;
+
     private final HashFile hashFile;
 
     private final Logger logger;
 
     public GetDistributionValidator(final FileManager fileManager, final DownloadResource downloadResource,
-        final ReadNodeDistributionShasum readNodeDistributionShasum, final HashFile hashFile, final Logger logger) {
+        final GetRevalidatedResource getRevalidatedResource,
+        final ReadNodeDistributionShasum readNodeDistributionShasum,
+        final GetNodeDistributionShasums getNodeDistributionShasums, final HashFile hashFile, final Logger logger) {
         this.fileManager = fileManager;
         this.downloadResource = downloadResource;
+        this.getRevalidatedResource = getRevalidatedResource;
         this.readNodeDistributionShasum = readNodeDistributionShasum;
+        this.getNodeDistributionShasums = getNodeDistributionShasums;
         this.hashFile = hashFile;
         this.logger = logger;
     }
@@ -46,8 +54,8 @@ public class GetDistributionValidator {
         switch (distributionId) {
         case DistributionId.NODE:
             return Optional.of(
-                new ValidateNodeDistribution(fileManager, downloadResource, readNodeDistributionShasum, hashFile,
-                    logger));
+                new ValidateNodeDistribution(fileManager, downloadResource, getRevalidatedResource,
+                    readNodeDistributionShasum, getNodeDistributionShasums, hashFile, logger));
         case DistributionId.YARN:
         default:
             return Optional.empty();
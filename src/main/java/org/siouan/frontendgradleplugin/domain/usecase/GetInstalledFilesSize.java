@@ -0,0 +1,50 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Gets the size of files and links in an install directory, excluding directories and the install manifest file.
+ *
+ * @since 2.2.0
+ */
+public class GetInstalledFilesSize {
+
+    private final FileManager fileManager;
+
+    public GetInstalledFilesSize(final FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    /**
+     * Gets the size of files in an install directory.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     * @return Size in bytes, {@code 0} if the directory does not exist.
+     * @throws IOException If an I/O error occurs.
+     */
+    public long execute(@Nonnull final Path installDirectoryPath) throws IOException {
+        if (!fileManager.isDirectory(installDirectoryPath)) {
+            return 0;
+        }
+
+        final Path manifestFilePath = installDirectoryPath.resolve(InstallManifest.FILE_NAME);
+        long size = 0;
+        try (final Stream<Path> paths = fileManager.walk(installDirectoryPath)) {
+            final Iterator<Path> iterator = paths.iterator();
+            while (iterator.hasNext()) {
+                final Path path = iterator.next();
+                if (!path.equals(manifestFilePath) && !fileManager.isDirectory(path)) {
+                    size += fileManager.size(path);
+                }
+            }
+        }
+        return size;
+    }
+}
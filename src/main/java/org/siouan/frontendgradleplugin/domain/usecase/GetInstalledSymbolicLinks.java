@@ -0,0 +1,54 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Gets the symbolic links in an install directory, so as they can be recorded in the install manifest.
+ *
+ * @since 2.2.0
+ */
+public class GetInstalledSymbolicLinks {
+
+    private final FileManager fileManager;
+
+    public GetInstalledSymbolicLinks(final FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    /**
+     * Gets the symbolic links in an install directory.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     * @return Map of the path of each link relative to the install directory, with '/' separators, to the target of
+     * the link, as stored in the link. The map is empty if the directory does not exist.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    public Map<String, String> execute(@Nonnull final Path installDirectoryPath) throws IOException {
+        final Map<String, String> symbolicLinks = new TreeMap<>();
+        if (!fileManager.isDirectory(installDirectoryPath)) {
+            return symbolicLinks;
+        }
+
+        final String separator = installDirectoryPath.getFileSystem().getSeparator();
+        try (final Stream<Path> paths = fileManager.walk(installDirectoryPath)) {
+            final Iterator<Path> iterator = paths.iterator();
+            while (iterator.hasNext()) {
+                final Path path = iterator.next();
+                if (fileManager.isSymbolicLink(path)) {
+                    symbolicLinks.put(installDirectoryPath.relativize(path).toString().replace(separator, "/"),
+                        fileManager.readSymbolicLink(path).toString().replace(separator, "/"));
+                }
+            }
+        }
+        return symbolicLinks;
+    }
+}
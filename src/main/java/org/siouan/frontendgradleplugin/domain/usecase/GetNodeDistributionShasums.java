@@ -0,0 +1,218 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.RevalidatedResource;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Gets the shasums of all distributions of a given Node version, from a Node's file providing all shasums. The file is
+ * parsed once, and the shasums are stored in an index file next to it, so as later lookups - including for other
+ * distributions of the same version - do not need to parse the file again. The index contains the version of the
+ * shasums file it was built from, i.e. the entity tag or the date of last modification returned by the server when the
+ * file was revalidated, and is rebuilt whenever the server returns another version. Shasums are also kept in memory, so
+ * as further lookups do not perform any I/O as long as the server returns the same version. When the server provides
+ * neither an entity tag nor a date of last modification, the version of the file is unknown, and the file is parsed
+ * each time.
+ *
+ * @since 2.2.0
+ */
+public class GetNodeDistributionShasums {
+
+    /**
+     * Extension of an index file.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".index";
+
+    /**
+     * Name of the property containing the version of the shasums file in an index file. Node distribution file names
+     * never contain angle brackets, so as this name can not clash with the name of a distribution.
+     */
+    static final String SHASUMS_VERSION_PROPERTY_NAME = "<version>";
+
+    private static final String SEPARATOR = "  ";
+
+    private final FileManager fileManager;
+
+    private final Logger logger;
+
+    /**
+     * Shasums already read, with the path to the shasums file as keys.
+     */
+    private final Map<Path, IndexedShasums> indexedShasumsByPath;
+
+    public GetNodeDistributionShasums(final FileManager fileManager, final Logger logger) {
+        this.fileManager = fileManager;
+        this.logger = logger;
+        this.indexedShasumsByPath = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the shasums in the given shasum file.
+     *
+     * @param nodeDistributionShasums Revalidated file containing shasums of all Node distributions of a given version.
+     * @return Unmodifiable map of shasums, with distribution file names as keys.
+     * @throws IOException If the shasum file was not found or could not be read.
+     */
+    @Nonnull
+    public Map<String, String> execute(@Nonnull final RevalidatedResource nodeDistributionShasums)
+        throws IOException {
+        final Path nodeDistributionShasumFilePath = nodeDistributionShasums.getFilePath();
+        final String shasumsVersion = resolveVersion(nodeDistributionShasums.getMetadata());
+        if (shasumsVersion == null) {
+            logger.debug("Parsing shasums in '{}'", nodeDistributionShasumFilePath);
+            return parseShasums(nodeDistributionShasumFilePath);
+        }
+
+        final IndexedShasums indexedShasums = indexedShasumsByPath.get(nodeDistributionShasumFilePath);
+        if ((indexedShasums != null) && indexedShasums.getVersion().equals(shasumsVersion)) {
+            return indexedShasums.getShasums();
+        }
+
+        final Path indexFilePath = nodeDistributionShasumFilePath.resolveSibling(
+            nodeDistributionShasumFilePath.getFileName().toString() + INDEX_FILE_EXTENSION);
+        Map<String, String> shasums = null;
+        if (fileManager.exists(indexFilePath)) {
+            logger.debug("Reading shasums index '{}'", indexFilePath);
+            final Map<String, String> index = readIndex(indexFilePath);
+            if (shasumsVersion.equals(index.remove(SHASUMS_VERSION_PROPERTY_NAME))) {
+                shasums = Collections.unmodifiableMap(index);
+            }
+        }
+        if (shasums == null) {
+            logger.debug("Indexing shasums in '{}'", indexFilePath);
+            shasums = parseShasums(nodeDistributionShasumFilePath);
+            writeIndex(shasums, shasumsVersion, indexFilePath);
+        }
+        indexedShasumsByPath.put(nodeDistributionShasumFilePath, new IndexedShasums(shasumsVersion, shasums));
+        return shasums;
+    }
+
+    /**
+     * Resolves the version of a shasums file from the metadata returned by the server.
+     *
+     * @param metadata Metadata.
+     * @return Version, or {@code null} if the metadata do not identify the version of the file.
+     */
+    @Nullable
+    private static String resolveVersion(@Nullable final ResourceMetadata metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        if (metadata.getEntityTag() != null) {
+            return "etag " + metadata.getEntityTag();
+        }
+        if (metadata.getLastModified() != null) {
+            return "lastModified " + metadata.getLastModified();
+        }
+        return null;
+    }
+
+    /**
+     * Parses shasums in a shasums file.
+     *
+     * @param nodeDistributionShasumFilePath Path to the shasums file.
+     * @return Unmodifiable map of shasums.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private Map<String, String> parseShasums(@Nonnull final Path nodeDistributionShasumFilePath) throws IOException {
+        final Map<String, String> shasums = new HashMap<>();
+        try (final BufferedReader reader = fileManager.newBufferedReader(nodeDistributionShasumFilePath)) {
+            String line = reader.readLine();
+            while (line != null) {
+                final int separatorIndex = line.indexOf(SEPARATOR);
+                if (separatorIndex > 0) {
+                    shasums.put(line.substring(separatorIndex + SEPARATOR.length()), line.substring(0, separatorIndex));
+                }
+                line = reader.readLine();
+            }
+        }
+        return Collections.unmodifiableMap(shasums);
+    }
+
+    /**
+     * Reads shasums in an index file.
+     *
+     * @param indexFilePath Path to the index file.
+     * @return Map of shasums, including the version of the shasums file the index was built from, if any.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private Map<String, String> readIndex(@Nonnull final Path indexFilePath) throws IOException {
+        final Properties properties = new Properties();
+        try (final InputStream inputStream = fileManager.newInputStream(indexFilePath)) {
+            properties.load(inputStream);
+        }
+        final Map<String, String> shasums = new HashMap<>();
+        properties.stringPropertyNames().forEach(name -> shasums.put(name, properties.getProperty(name)));
+        return shasums;
+    }
+
+    /**
+     * Writes shasums in an index file. The file is first written with a unique temporary name, and then atomically
+     * moved to its final location, so as builds sharing the cache never read a partial index.
+     *
+     * @param shasums Map of shasums.
+     * @param shasumsVersion Version of the shasums file.
+     * @param indexFilePath Path to the index file.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void writeIndex(@Nonnull final Map<String, String> shasums, @Nonnull final String shasumsVersion,
+        @Nonnull final Path indexFilePath) throws IOException {
+        final Properties properties = new Properties();
+        properties.putAll(shasums);
+        properties.setProperty(SHASUMS_VERSION_PROPERTY_NAME, shasumsVersion);
+        final Path temporaryIndexFilePath = indexFilePath.resolveSibling(
+            indexFilePath.getFileName().toString() + '.' + UUID.randomUUID() + DownloadResource.TMP_EXTENSION);
+        try {
+            try (final OutputStream outputStream = fileManager.newOutputStream(temporaryIndexFilePath)) {
+                properties.store(outputStream, null);
+            }
+            fileManager.move(temporaryIndexFilePath, indexFilePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            fileManager.deleteIfExists(temporaryIndexFilePath);
+        }
+    }
+
+    /**
+     * Shasums read from a shasums file, with the version of this file.
+     */
+    private static class IndexedShasums {
+
+        private final String version;
+
+        private final Map<String, String> shasums;
+
+        IndexedShasums(@Nonnull final String version, @Nonnull final Map<String, String> shasums) {
+            this.version = version;
+            this.shasums = shasums;
+        }
+
+        @Nonnull
+        String getVersion() {
+            return version;
+        }
+
+        @Nonnull
+        Map<String, String> getShasums() {
+            return shasums;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import javax.annotation.Nonnull;
 
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 
 /**
@@ -23,8 +24,8 @@ public class GetNodeExecutablePath extends AbstractGetExecutablePath {
      */
     public static final Path NON_WINDOWS_EXECUTABLE_PATH = Paths.get("bin", "node");
 
-    public GetNodeExecutablePath(final FileManager fileManager) {
-        super(fileManager);
+    public GetNodeExecutablePath(final FileManager fileManager, final ExecutablePathCache executablePathCache) {
+        super(fileManager, executablePathCache);
     }
 
     @Override
@@ -0,0 +1,220 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.ModifiedResource;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.RevalidatedResource;
+import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Gets a resource stored in the cache directory, after revalidating it with a conditional request. The resource is
+ * downloaded again only if the server tells it was modified. Resources are stored in a directory named after the
+ * SHA-256 hash of their URL:
+ * <ul>
+ * <li>{@code <cache-directory>/resources/<url-hash>/<file-name>}: the content of the resource.</li>
+ * <li>{@code <cache-directory>/resources/<url-hash>/<file-name>.properties}: the metadata of the content.</li>
+ * </ul>
+ *
+ * @since 2.2.0
+ */
+public class GetRevalidatedResource {
+
+    /**
+     * Name of the directory containing resources in the cache directory.
+     */
+    public static final String RESOURCES_DIRECTORY_NAME = "resources";
+
+    /**
+     * Extension of a metadata file.
+     */
+    public static final String METADATA_FILE_EXTENSION = ".properties";
+
+    static final String ENTITY_TAG_PROPERTY = "etag";
+
+    static final String LAST_MODIFIED_PROPERTY = "lastModified";
+
+    private final FileManager fileManager;
+
+    private final ChannelProvider channelProvider;
+
+    private final ConvertToHexadecimalString convertToHexadecimalString;
+
+    private final Logger logger;
+
+    public GetRevalidatedResource(final FileManager fileManager, final ChannelProvider channelProvider,
+        final ConvertToHexadecimalString convertToHexadecimalString, final Logger logger) {
+        this.fileManager = fileManager;
+        this.channelProvider = channelProvider;
+        this.convertToHexadecimalString = convertToHexadecimalString;
+        this.logger = logger;
+    }
+
+    /**
+     * Gets a resource. The file returned is replaced atomically when the resource is modified, so as it may be read
+     * safely while another build revalidates the resource.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy used for the connection.
+     * @param cacheDirectoryPath Path to the cache directory.
+     * @return Resource, with the path to the file containing it in the cache directory, and the metadata of the
+     * version of the content.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    public RevalidatedResource execute(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
+        @Nonnull final Path cacheDirectoryPath) throws IOException {
+        final String resourceUrlPath = resourceUrl.getPath();
+        final String fileName = resourceUrlPath.substring(resourceUrlPath.lastIndexOf('/') + 1);
+        final Path resourceDirectoryPath = cacheDirectoryPath
+            .resolve(RESOURCES_DIRECTORY_NAME)
+            .resolve(hash(resourceUrl.toString()));
+        final Path contentFilePath = resourceDirectoryPath.resolve(fileName);
+        final Path metadataFilePath = resourceDirectoryPath.resolve(fileName + METADATA_FILE_EXTENSION);
+
+        final ResourceMetadata metadata = readMetadata(contentFilePath, metadataFilePath);
+        final Optional<ModifiedResource> modifiedResource = channelProvider.getModifiedResource(resourceUrl, proxy,
+            metadata);
+        if (modifiedResource.isPresent()) {
+            logger.debug("Storing resource at '{}' in '{}'", resourceUrl, contentFilePath);
+            try (final ModifiedResource resource = modifiedResource.get()) {
+                final boolean stored = store(resource, contentFilePath, metadataFilePath);
+                final ResourceMetadata resourceMetadata = resource.getMetadata();
+                // When the content could not replace the existing file, the version of the content is unknown.
+                return new RevalidatedResource(contentFilePath,
+                    (stored && resourceMetadata.isRevalidable()) ? resourceMetadata : null);
+            }
+        }
+
+        logger.debug("Resource not modified: '{}'", contentFilePath);
+        return new RevalidatedResource(contentFilePath, metadata);
+    }
+
+    /**
+     * Reads the metadata of a resource already stored.
+     *
+     * @param contentFilePath Path to the content file.
+     * @param metadataFilePath Path to the metadata file.
+     * @return Metadata, or {@code null} if the resource is not stored, or if its metadata do not allow a conditional
+     * request.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nullable
+    private ResourceMetadata readMetadata(@Nonnull final Path contentFilePath, @Nonnull final Path metadataFilePath)
+        throws IOException {
+        if (!fileManager.exists(contentFilePath) || !fileManager.exists(metadataFilePath)) {
+            return null;
+        }
+
+        final Properties properties = new Properties();
+        try (final InputStream inputStream = fileManager.newInputStream(metadataFilePath)) {
+            properties.load(inputStream);
+        }
+        final ResourceMetadata metadata = new ResourceMetadata(properties.getProperty(ENTITY_TAG_PROPERTY),
+            properties.getProperty(LAST_MODIFIED_PROPERTY));
+        return metadata.isRevalidable() ? metadata : null;
+    }
+
+    /**
+     * Stores the content and the metadata of a resource. Files are first written with a unique temporary name, and
+     * then atomically moved to their final location, so as builds sharing the cache never read a partial file. The
+     * content file is replaced first, and the metadata file last. Meanwhile, a concurrent build may read the new
+     * content with the previous metadata: its conditional request then reports the resource as modified, and the
+     * resource is downloaded again, which is safe. Metadata never describe a content not yet stored.
+     *
+     * @param resource Resource.
+     * @param contentFilePath Path to the content file.
+     * @param metadataFilePath Path to the metadata file.
+     * @return {@code true} if the content file was replaced, {@code false} if the file system could not replace the
+     * existing file atomically, in which case it is kept.
+     * @throws IOException If an I/O error occurs.
+     */
+    private boolean store(@Nonnull final ModifiedResource resource, @Nonnull final Path contentFilePath,
+        @Nonnull final Path metadataFilePath) throws IOException {
+        fileManager.createDirectories(contentFilePath.getParent());
+        final Path temporaryContentFilePath = resolveTemporaryFilePath(contentFilePath);
+        final Path temporaryMetadataFilePath = resolveTemporaryFilePath(metadataFilePath);
+        try {
+            fileManager.copy(Channels.newInputStream(resource.getChannel()), temporaryContentFilePath);
+
+            final Properties properties = new Properties();
+            final ResourceMetadata metadata = resource.getMetadata();
+            if (metadata.getEntityTag() != null) {
+                properties.setProperty(ENTITY_TAG_PROPERTY, metadata.getEntityTag());
+            }
+            if (metadata.getLastModified() != null) {
+                properties.setProperty(LAST_MODIFIED_PROPERTY, metadata.getLastModified());
+            }
+            try (final OutputStream outputStream = fileManager.newOutputStream(temporaryMetadataFilePath)) {
+                properties.store(outputStream, null);
+            }
+
+            try {
+                fileManager.move(temporaryContentFilePath, contentFilePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } catch (final FileAlreadyExistsException e) {
+                // The existing file, possibly stored by another build, is kept with its metadata.
+                logger.debug("Resource not replaced: '{}'", contentFilePath);
+                return false;
+            }
+            try {
+                fileManager.move(temporaryMetadataFilePath, metadataFilePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } catch (final FileAlreadyExistsException e) {
+                // Previous metadata only make the next build download the resource again.
+                logger.debug("Resource metadata not replaced: '{}'", metadataFilePath);
+            }
+            return true;
+        } finally {
+            fileManager.deleteIfExists(temporaryContentFilePath);
+            fileManager.deleteIfExists(temporaryMetadataFilePath);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of a value.
+     *
+     * @param value Value.
+     * @return Hash as an hexadecimal string.
+     */
+    @Nonnull
+    private String hash(@Nonnull final String value) {
+        try {
+            return convertToHexadecimalString.execute(
+                MessageDigest.getInstance(HashFile.ALGORITHM).digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support this algorithm.
+            throw new IllegalStateException("Hash algorithm not supported: " + HashFile.ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Resolves the path to a temporary file, unique in the directory of the given file.
+     *
+     * @param filePath File path.
+     * @return Path.
+     */
+    @Nonnull
+    private Path resolveTemporaryFilePath(@Nonnull final Path filePath) {
+        return filePath.resolveSibling(
+            filePath.getFileName().toString() + '.' + UUID.randomUUID() + DownloadResource.TMP_EXTENSION);
+    }
+}
@@ -12,33 +12,34 @@ import javax.annotation.Nonnull;
 import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
 
 /**
- * This class resolves the hash of a file, using the SHA-256 algorithm, and an internal buffer of 8 KB.
+ * This class resolves the hash of a file, using the SHA-256 algorithm, and an internal buffer of 8 KB by default. A
+ * message digest is created for each file, so as an instance may hash several files concurrently.
  */
 public class HashFile {
 
     /**
-     * Capacity of the buffer allocated to read the input file.
+     * Name of the hash algorithm.
      */
-    private static final int BUFFER_CAPACITY = 8192;
+    public static final String ALGORITHM = "SHA-256";
+
+    /**
+     * Default capacity of the buffer allocated to read the input file.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 8192;
 
     private final ChannelProvider channelProvider;
 
     private final ConvertToHexadecimalString convertToHexadecimalString;
 
-    private final MessageDigest messageDigest;
-
     /**
      * Builds a hasher using the SHA-256 algorithm.
      *
      * @param channelProvider Channel provider.
      * @param convertToHexadecimalString Converter of byte buffer to hexadecimal string.
-     * @throws NoSuchAlgorithmException If the algorithm is not supported.
      */
-    public HashFile(final ChannelProvider channelProvider, final ConvertToHexadecimalString convertToHexadecimalString)
-        throws NoSuchAlgorithmException {
+    public HashFile(final ChannelProvider channelProvider, final ConvertToHexadecimalString convertToHexadecimalString) {
         this.channelProvider = channelProvider;
         this.convertToHexadecimalString = convertToHexadecimalString;
-        this.messageDigest = MessageDigest.getInstance("SHA-256");
     }
 
     /**
@@ -50,22 +51,67 @@ public class HashFile {
      */
     @Nonnull
     public String execute(@Nonnull final Path filePath) throws IOException {
-        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+        return execute(filePath, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Computes the hash of the file at the given path, reading the file with a buffer of the given capacity. The buffer
+     * is allocated in the heap: a direct buffer or a file mapped in memory would not save any copy, since the message
+     * digest copies the content of such buffers in the heap before processing it.
+     *
+     * @param filePath The file to be hashed.
+     * @param bufferCapacity Capacity of the buffer allocated to read the file, in bytes.
+     * @return The hash as an hexadecimal string.
+     * @throws IOException If the input file is not readable.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public String execute(@Nonnull final Path filePath, final int bufferCapacity) throws IOException {
+        final MessageDigest messageDigest = newMessageDigest();
         try (final SeekableByteChannel inputChannel = channelProvider.getSeekableByteChannel(filePath)) {
-            int numberOfBytesRead = inputChannel.read(buffer);
-            while (numberOfBytesRead != -1) {
-                // Since JDK 9, ByteBuffer class overrides some methods and their return type in the Buffer class. To
-                // ensure compatibility with JDK 8, calling the 'flipBuffer' and 'clearBuffer' methods forces using the
-                // JDK 8 Buffer's methods signature, and avoids explicit casts.
-                flipBuffer(buffer);
-                messageDigest.update(buffer);
-                clearBuffer(buffer);
-                numberOfBytesRead = inputChannel.read(buffer);
-            }
+            updateDigest(messageDigest, inputChannel, bufferCapacity);
         }
         return convertToHexadecimalString.execute(messageDigest.digest());
     }
 
+    /**
+     * Updates the digest with the content of a file read with a buffer.
+     *
+     * @param messageDigest Message digest.
+     * @param inputChannel Channel to read the file.
+     * @param bufferCapacity Capacity of the buffer allocated to read the file, in bytes.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void updateDigest(@Nonnull final MessageDigest messageDigest,
+        @Nonnull final SeekableByteChannel inputChannel, final int bufferCapacity) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(bufferCapacity);
+        int numberOfBytesRead = inputChannel.read(buffer);
+        while (numberOfBytesRead != -1) {
+            // Since JDK 9, ByteBuffer class overrides some methods and their return type in the Buffer class. To
+            // ensure compatibility with JDK 8, calling the 'flipBuffer' and 'clearBuffer' methods forces using the
+            // JDK 8 Buffer's methods signature, and avoids explicit casts.
+            flipBuffer(buffer);
+            messageDigest.update(buffer);
+            clearBuffer(buffer);
+            numberOfBytesRead = inputChannel.read(buffer);
+        }
+    }
+
+    /**
+     * Creates a new message digest.
+     *
+     * @return Message digest.
+     */
+    @Nonnull
+    private MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support this algorithm.
+            throw new IllegalStateException("Hash algorithm not supported: " + ALGORITHM, e);
+        }
+    }
+
     ////////////////////
     // The 2 methods below force the use of the flip method and clear method in the Buffer class instead of the
     // ByteBuffer class. This is mandatory because the signature of each method is not the same in the ByteBuffer class
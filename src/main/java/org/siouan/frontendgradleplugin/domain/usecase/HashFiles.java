@@ -0,0 +1,89 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+
+/**
+ * Resolves the hash of several files as a batch, using the SHA-256 algorithm. Files are hashed in parallel by a
+ * limited number of workers.
+ *
+ * @since 2.2.0
+ */
+public class HashFiles {
+
+    private final HashFile hashFile;
+
+    public HashFiles(final HashFile hashFile) {
+        this.hashFile = hashFile;
+    }
+
+    /**
+     * Computes the hash of the files at the given paths.
+     *
+     * @param filePaths Files to be hashed.
+     * @param workerCount Maximum number of files hashed in parallel.
+     * @return Unmodifiable map of hashes as hexadecimal strings, with file paths as keys, in the iteration order of the
+     * given collection.
+     * @throws IOException If an input file is not readable, or if the current thread is interrupted.
+     */
+    @Nonnull
+    public Map<Path, String> execute(@Nonnull final Collection<Path> filePaths, final int workerCount)
+        throws IOException {
+        final Map<Path, String> hashes = new LinkedHashMap<>();
+        if (filePaths.isEmpty()) {
+            return Collections.unmodifiableMap(hashes);
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(workerCount, filePaths.size())));
+        try {
+            final Map<Path, Future<String>> futures = new LinkedHashMap<>();
+            for (final Path filePath : filePaths) {
+                futures.put(filePath, executorService.submit(() -> hashFile.execute(filePath)));
+            }
+            for (final Map.Entry<Path, Future<String>> future : futures.entrySet()) {
+                hashes.put(future.getKey(), await(future.getValue()));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return Collections.unmodifiableMap(hashes);
+    }
+
+    /**
+     * Waits for the completion of a task hashing a file.
+     *
+     * @param future Task.
+     * @return The hash as an hexadecimal string.
+     * @throws IOException If the task failed, or if the current thread is interrupted.
+     */
+    @Nonnull
+    private String await(@Nonnull final Future<String> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while hashing files");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
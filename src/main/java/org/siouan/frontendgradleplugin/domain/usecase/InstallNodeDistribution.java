@@ -3,6 +3,7 @@ package org.siouan.frontendgradleplugin.domain.usecase;
 import javax.annotation.Nonnull;
 
 import org.siouan.frontendgradleplugin.domain.model.DistributionId;
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 
@@ -14,8 +15,14 @@ import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 public class InstallNodeDistribution extends AbstractInstallDistribution {
 
     public InstallNodeDistribution(final FileManager fileManager, final GetDistribution getDistribution,
-        final DeployDistribution deployDistribution, final Logger logger) {
-        super(fileManager, getDistribution, deployDistribution, logger);
+        final DeployDistribution deployDistribution, final StreamDistribution streamDistribution,
+        final ReadInstallManifest readInstallManifest, final WriteInstallManifest writeInstallManifest,
+        final CountInstalledFiles countInstalledFiles, final GetInstalledFilesSize getInstalledFilesSize,
+        final GetInstalledSymbolicLinks getInstalledSymbolicLinks, final ExecutablePathCache executablePathCache,
+        final Logger logger) {
+        super(fileManager, getDistribution, deployDistribution, streamDistribution, readInstallManifest,
+            writeInstallManifest, countInstalledFiles, getInstalledFilesSize, getInstalledSymbolicLinks,
+            executablePathCache, logger);
     }
 
     @Override
@@ -0,0 +1,66 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Moves the content of an exploded distribution into its install directory.
+ *
+ * @since 2.2.0
+ */
+public class MoveExplodedDistribution {
+
+    private final FileManager fileManager;
+
+    private final Logger logger;
+
+    public MoveExplodedDistribution(final FileManager fileManager, final Logger logger) {
+        this.fileManager = fileManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Moves the content of an exploded distribution into the install directory. If the extract directory contains a
+     * single root directory, the content of this directory is moved instead. The extract directory is removed
+     * afterwards.
+     *
+     * @param extractDirectoryPath Path to the directory containing the exploded distribution.
+     * @param installDirectoryPath Path to the directory where the distribution shall be installed.
+     * @return {@code true} if the distribution was moved with an atomic rename, {@code false} if it was copied then
+     * deleted, because the extract directory and the install directory are on different volumes.
+     * @throws IOException If an I/O error occurs.
+     */
+    public boolean execute(@Nonnull final Path extractDirectoryPath, @Nonnull final Path installDirectoryPath)
+        throws IOException {
+        logger.info("Moving distribution into '{}'", installDirectoryPath);
+        // Removes the root directory of exploded content, if any.
+        final Set<Path> distributionFilePaths;
+        try (final Stream<Path> childFilePaths = fileManager.list(extractDirectoryPath)) {
+            distributionFilePaths = childFilePaths.collect(toSet());
+        }
+        final Path distributionRootDirectoryPath;
+        if (distributionFilePaths.size() == 1) {
+            distributionRootDirectoryPath = distributionFilePaths.iterator().next();
+        } else {
+            distributionRootDirectoryPath = extractDirectoryPath;
+        }
+        final boolean atomicMove = fileManager.moveFileTree(distributionRootDirectoryPath, installDirectoryPath);
+        if (atomicMove) {
+            logger.info("Distribution moved with an atomic rename");
+        } else {
+            logger.info("Distribution moved with a copy, extract and install directories are on different volumes");
+        }
+
+        logger.info("Removing explode directory '{}'", extractDirectoryPath);
+        fileManager.deleteIfExists(extractDirectoryPath);
+        return atomicMove;
+    }
+}
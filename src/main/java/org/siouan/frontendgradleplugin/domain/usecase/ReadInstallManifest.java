@@ -0,0 +1,82 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Reads the manifest of a distribution installed in a directory.
+ *
+ * @since 2.2.0
+ */
+public class ReadInstallManifest {
+
+    private final FileManager fileManager;
+
+    private final Logger logger;
+
+    public ReadInstallManifest(final FileManager fileManager, final Logger logger) {
+        this.fileManager = fileManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Reads the manifest in an install directory.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     * @return The manifest, or an empty value if the manifest file does not exist or is not valid.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    public Optional<InstallManifest> execute(@Nonnull final Path installDirectoryPath) throws IOException {
+        final Path manifestFilePath = installDirectoryPath.resolve(InstallManifest.FILE_NAME);
+        if (!fileManager.exists(manifestFilePath)) {
+            logger.debug("Install manifest not found: '{}'", manifestFilePath);
+            return Optional.empty();
+        }
+
+        final Properties properties = new Properties();
+        try (final InputStream inputStream = fileManager.newInputStream(manifestFilePath)) {
+            properties.load(inputStream);
+        }
+
+        final String distributionId = properties.getProperty(WriteInstallManifest.DISTRIBUTION_ID_PROPERTY);
+        final String version = properties.getProperty(WriteInstallManifest.VERSION_PROPERTY);
+        final String platformId = properties.getProperty(WriteInstallManifest.PLATFORM_PROPERTY);
+        final String distributionFileHash = properties.getProperty(
+            WriteInstallManifest.DISTRIBUTION_FILE_HASH_PROPERTY);
+        final String fileCount = properties.getProperty(WriteInstallManifest.FILE_COUNT_PROPERTY);
+        if ((distributionId == null) || (version == null) || (platformId == null) || (distributionFileHash == null)
+            || (fileCount == null)) {
+            logger.debug("Invalid install manifest: '{}'", manifestFilePath);
+            return Optional.empty();
+        }
+
+        final Map<String, String> symbolicLinks = new TreeMap<>();
+        for (final String propertyName : properties.stringPropertyNames()) {
+            if (propertyName.startsWith(WriteInstallManifest.SYMBOLIC_LINK_PROPERTY_PREFIX)) {
+                symbolicLinks.put(
+                    propertyName.substring(WriteInstallManifest.SYMBOLIC_LINK_PROPERTY_PREFIX.length()),
+                    properties.getProperty(propertyName));
+            }
+        }
+
+        try {
+            return Optional.of(new InstallManifest(distributionId, version, platformId,
+                properties.getProperty(WriteInstallManifest.DOWNLOAD_URL_PROPERTY), distributionFileHash,
+                Long.parseLong(fileCount), symbolicLinks));
+        } catch (final NumberFormatException e) {
+            logger.debug("Invalid install manifest: '{}'", manifestFilePath);
+            return Optional.empty();
+        }
+    }
+}
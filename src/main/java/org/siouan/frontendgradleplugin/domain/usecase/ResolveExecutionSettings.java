@@ -51,6 +51,8 @@ public class ResolveExecutionSettings {
 
     private final GetYarnExecutablePath getYarnExecutablePath;
 
+    private final StringSplitter scriptSplitter;
+
     public ResolveExecutionSettings(final GetNodeExecutablePath getNodeExecutablePath,
         final GetNpmExecutablePath getNpmExecutablePath, final GetNpxExecutablePath getNpxExecutablePath,
         final GetYarnExecutablePath getYarnExecutablePath) {
@@ -58,6 +60,7 @@ public class ResolveExecutionSettings {
         this.getNpmExecutablePath = getNpmExecutablePath;
         this.getNpxExecutablePath = getNpxExecutablePath;
         this.getYarnExecutablePath = getYarnExecutablePath;
+        this.scriptSplitter = new StringSplitter(LINUX_SCRIPT_ARG_SEPARATOR_CHAR, LINUX_SCRIPT_ARG_ESCAPE_CHAR);
     }
 
     /**
@@ -114,8 +117,7 @@ public class ResolveExecutionSettings {
             args.add('"' + scriptExecutablePath.toString() + "\" " + script.trim());
         } else {
             executable = scriptExecutablePath;
-            args.addAll(new StringSplitter(LINUX_SCRIPT_ARG_SEPARATOR_CHAR, LINUX_SCRIPT_ARG_ESCAPE_CHAR).execute(
-                script.trim()));
+            args.addAll(scriptSplitter.execute(script.trim()));
         }
 
         final Set<Path> executablePaths = new HashSet<>();
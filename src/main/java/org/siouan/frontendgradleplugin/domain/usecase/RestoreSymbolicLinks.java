@@ -0,0 +1,66 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Restores symbolic links recorded in the manifest of an install directory. Some caches, such as the Gradle build
+ * cache, do not preserve symbolic links and restore a copy of their target instead, which breaks scripts resolving
+ * files relatively to their real location (e.g. {@code npm} in a Node distribution). Links are restored in place, so as
+ * restorations are serialized: tasks using the same install directory may run in parallel.
+ *
+ * @since 2.2.0
+ */
+public class RestoreSymbolicLinks {
+
+    private final FileManager fileManager;
+
+    private final ReadInstallManifest readInstallManifest;
+
+    private final Logger logger;
+
+    public RestoreSymbolicLinks(final FileManager fileManager, final ReadInstallManifest readInstallManifest,
+        final Logger logger) {
+        this.fileManager = fileManager;
+        this.readInstallManifest = readInstallManifest;
+        this.logger = logger;
+    }
+
+    /**
+     * Replaces each file recorded as a symbolic link in the manifest of an install directory, and that is not a
+     * symbolic link anymore, with a symbolic link to the recorded target.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     * @return Number of links restored.
+     * @throws IOException If an I/O error occurs.
+     */
+    public synchronized int execute(@Nonnull final Path installDirectoryPath) throws IOException {
+        final Optional<InstallManifest> installManifest = readInstallManifest.execute(installDirectoryPath);
+        if (!installManifest.isPresent()) {
+            return 0;
+        }
+
+        final Path normalizedInstallDirectoryPath = installDirectoryPath.normalize();
+        int restoredLinkCount = 0;
+        for (final Map.Entry<String, String> symbolicLink : installManifest.get().getSymbolicLinks().entrySet()) {
+            final Path linkFilePath = installDirectoryPath.resolve(symbolicLink.getKey());
+            if (!linkFilePath.normalize().startsWith(normalizedInstallDirectoryPath)) {
+                logger.info("Ignoring symbolic link outside install directory: '{}'", symbolicLink.getKey());
+            } else if (!fileManager.isSymbolicLink(linkFilePath)) {
+                logger.debug("Restoring symbolic link '{}' -> '{}'", linkFilePath, symbolicLink.getValue());
+                fileManager.deleteFileTree(linkFilePath, true);
+                fileManager.createSymbolicLink(linkFilePath,
+                    installDirectoryPath.getFileSystem().getPath(symbolicLink.getValue()));
+                restoredLinkCount++;
+            }
+        }
+        return restoredLinkCount;
+    }
+}
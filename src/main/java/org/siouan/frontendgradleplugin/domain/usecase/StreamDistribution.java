@@ -0,0 +1,198 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
+import org.siouan.frontendgradleplugin.domain.exception.DistributionValidatorException;
+import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlException;
+import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
+import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
+import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.Archiver;
+import org.siouan.frontendgradleplugin.domain.model.DistributionDefinition;
+import org.siouan.frontendgradleplugin.domain.model.DistributionUrlResolver;
+import org.siouan.frontendgradleplugin.domain.model.DistributionValidator;
+import org.siouan.frontendgradleplugin.domain.model.DistributionValidatorSettings;
+import org.siouan.frontendgradleplugin.domain.model.ExplodeSettings;
+import org.siouan.frontendgradleplugin.domain.model.GetDistributionSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.ArchiverProvider;
+import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.util.DigestReadableByteChannel;
+
+/**
+ * Downloads and explodes a distribution at the same time, without storing the distribution file. Bytes received are
+ * hashed and passed to the archiver as they arrive, so as the install duration is bound by the slowest of the network
+ * and the disk, instead of their sum. The distribution is validated before it is moved into the install directory.
+ *
+ * @since 2.2.0
+ */
+public class StreamDistribution {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileManager fileManager;
+
+    private final ChannelProvider channelProvider;
+
+    private final ArchiverProvider archiverProvider;
+
+    private final GetDistributionUrlResolver getDistributionUrlResolver;
+
+    private final GetDistributionValidator getDistributionValidator;
+
+    private final MoveExplodedDistribution moveExplodedDistribution;
+
+    private final ConvertToHexadecimalString convertToHexadecimalString;
+
+    private final Logger logger;
+
+    public StreamDistribution(final FileManager fileManager, final ChannelProvider channelProvider,
+        final ArchiverProvider archiverProvider, final GetDistributionUrlResolver getDistributionUrlResolver,
+        final GetDistributionValidator getDistributionValidator,
+        final MoveExplodedDistribution moveExplodedDistribution,
+        final ConvertToHexadecimalString convertToHexadecimalString, final Logger logger) {
+        this.fileManager = fileManager;
+        this.channelProvider = channelProvider;
+        this.archiverProvider = archiverProvider;
+        this.getDistributionUrlResolver = getDistributionUrlResolver;
+        this.getDistributionValidator = getDistributionValidator;
+        this.moveExplodedDistribution = moveExplodedDistribution;
+        this.convertToHexadecimalString = convertToHexadecimalString;
+        this.logger = logger;
+    }
+
+    /**
+     * Streams a distribution:
+     * <ul>
+     * <li>Resolve the URL to download the distribution.</li>
+     * <li>Download the distribution, and explode it while bytes are received.</li>
+     * <li>Validate the distribution with the hash computed during the download.</li>
+     * <li>Move the distribution into the install directory.</li>
+     * </ul>
+     * If the archiver does not support streaming (e.g. ZIP archives require random access), nothing is done.
+     *
+     * @param getDistributionSettings Settings to get the distribution.
+     * @param extractDirectoryPath Path to a directory where the distribution content may be temporarily extracted.
+     * @param installDirectoryPath Path to a directory where the distribution shall be installed.
+     * @param explodeWorkerCount Maximum number of threads used to explode the distribution.
+     * @return The SHA-256 hash of the distribution file as an hexadecimal string if the distribution was installed, an
+     * empty value if it cannot be streamed.
+     * @throws UnsupportedDistributionIdException If the type of distribution to install is not supported.
+     * @throws UnsupportedPlatformException If the target platform is not supported.
+     * @throws InvalidDistributionUrlException If the URL to download the distribution is invalid.
+     * @throws UnsupportedDistributionArchiveException If the distribution file type is not supported.
+     * @throws DistributionValidatorException If the downloaded distribution is invalid.
+     * @throws ArchiverException If an error occurs in the archiver exploding the distribution.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    public Optional<String> execute(@Nonnull final GetDistributionSettings getDistributionSettings,
+        @Nonnull final Path extractDirectoryPath, @Nonnull final Path installDirectoryPath,
+        final int explodeWorkerCount) throws UnsupportedDistributionIdException, UnsupportedPlatformException,
+        InvalidDistributionUrlException, UnsupportedDistributionArchiveException, DistributionValidatorException,
+        ArchiverException, IOException {
+        // Resolve the URL to download the distribution
+        final DistributionUrlResolver distributionUrlResolver = getDistributionUrlResolver
+            .execute(getDistributionSettings.getDistributionId())
+            .orElseThrow(() -> new UnsupportedDistributionIdException(getDistributionSettings.getDistributionId()));
+        final URL distributionUrl = distributionUrlResolver.execute(
+            new DistributionDefinition(getDistributionSettings.getPlatform(), getDistributionSettings.getVersion(),
+                getDistributionSettings.getDistributionUrl()));
+
+        // The distribution file is never written, its path is only used to resolve the archiver and validate the file.
+        final Path distributionFilePath = getDistributionSettings
+            .getTemporaryDirectoryPath()
+            .resolve(GetDistribution.resolveDistributionFileName(distributionUrl));
+        final Archiver archiver = archiverProvider
+            .findByArchiveFilePath(distributionFilePath)
+            .orElseThrow(() -> new UnsupportedDistributionArchiveException(distributionFilePath));
+        if (!archiver.isStreamingSupported()) {
+            logger.debug("Distribution archive cannot be streamed: '{}'", distributionFilePath);
+            return Optional.empty();
+        }
+
+        final Path createdExtractDirectoryPath = fileManager.createDirectory(extractDirectoryPath);
+        final String distributionFileHash;
+        boolean validated = false;
+        try {
+            logger.info("Streaming distribution at '{}' into '{}'", distributionUrl, createdExtractDirectoryPath);
+            final MessageDigest messageDigest = newMessageDigest();
+            try (final ReadableByteChannel distributionChannel = channelProvider.getReadableByteChannel(
+                distributionUrl, getDistributionSettings.getProxy())) {
+                final DigestReadableByteChannel digestChannel = new DigestReadableByteChannel(distributionChannel,
+                    messageDigest);
+                archiver.explode(new ExplodeSettings(getDistributionSettings.getPlatform(), distributionFilePath,
+                    createdExtractDirectoryPath, digestChannel, explodeWorkerCount));
+                // The archiver may stop reading before the end of the channel (e.g. trailing padding), remaining bytes
+                // must be read so as the hash covers the whole distribution file.
+                drain(digestChannel);
+            }
+            distributionFileHash = convertToHexadecimalString.execute(messageDigest.digest());
+
+            final Optional<DistributionValidator> distributionValidator = getDistributionValidator.execute(
+                getDistributionSettings.getDistributionId());
+            if (distributionValidator.isPresent()) {
+                distributionValidator
+                    .get()
+                    .execute(new DistributionValidatorSettings(getDistributionSettings.getTemporaryDirectoryPath(),
+                        distributionUrl, distributionFilePath, getDistributionSettings.getProxy(),
+                        distributionFileHash));
+            }
+            validated = true;
+        } finally {
+            if (!validated) {
+                logger.info("Removing explode directory '{}'", createdExtractDirectoryPath);
+                fileManager.deleteFileTree(createdExtractDirectoryPath, true);
+            }
+        }
+
+        moveExplodedDistribution.execute(createdExtractDirectoryPath, installDirectoryPath);
+        return Optional.of(distributionFileHash);
+    }
+
+    /**
+     * Reads all remaining bytes in a channel.
+     *
+     * @param channel Channel.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void drain(@Nonnull final ReadableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (channel.read(buffer) != -1) {
+            // Since JDK 9, ByteBuffer class overrides some methods and their return type in the Buffer class. To
+            // ensure compatibility with JDK 8, calling the 'clearBuffer' method forces using the JDK 8 Buffer's method
+            // signature, and avoids explicit casts.
+            clearBuffer(buffer);
+        }
+    }
+
+    private void clearBuffer(@Nonnull final Buffer buffer) {
+        buffer.clear();
+    }
+
+    /**
+     * Creates a new message digest.
+     *
+     * @return Message digest.
+     */
+    @Nonnull
+    private MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HashFile.ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support this algorithm.
+            throw new IllegalStateException("Hash algorithm not supported: " + HashFile.ALGORITHM, e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.siouan.frontendgradleplugin.domain.model.DistributionValidator;
 import org.siouan.frontendgradleplugin.domain.model.DistributionValidatorSettings;
 import org.siouan.frontendgradleplugin.domain.model.DownloadSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.RevalidatedResource;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 
 /**
@@ -24,17 +25,25 @@ public class ValidateNodeDistribution implements DistributionValidator {
 
     private final DownloadResource downloadResource;
 
+    private final GetRevalidatedResource getRevalidatedResource;
+
     private final ReadNodeDistributionShasum readNodeDistributionShasum;
 
+    private final GetNodeDistributionShasums getNodeDistributionShasums;
+
     private final HashFile hashFile;
 
     private final Logger logger;
 
     public ValidateNodeDistribution(final FileManager fileManager, final DownloadResource downloadResource,
-        final ReadNodeDistributionShasum readNodeDistributionShasum, final HashFile hashFile, final Logger logger) {
+        final GetRevalidatedResource getRevalidatedResource,
+        final ReadNodeDistributionShasum readNodeDistributionShasum,
+        final GetNodeDistributionShasums getNodeDistributionShasums, final HashFile hashFile, final Logger logger) {
         this.fileManager = fileManager;
         this.downloadResource = downloadResource;
+        this.getRevalidatedResource = getRevalidatedResource;
         this.readNodeDistributionShasum = readNodeDistributionShasum;
+        this.getNodeDistributionShasums = getNodeDistributionShasums;
         this.hashFile = hashFile;
         this.logger = logger;
     }
@@ -42,35 +51,60 @@ public class ValidateNodeDistribution implements DistributionValidator {
     /**
      * {@inheritDoc} This implementation downloads the Node official file providing shasums - one for each supported
      * platform, resolves the expected shasum matching the distribution file name, and verifies the actual shasum of the
-     * distribution file matches this expected shasum.
+     * distribution file matches this expected shasum. If the hash of the distribution file was computed during its
+     * download, the file is not read again. If a cache directory is provided, the shasums file is stored in this
+     * directory, downloaded again only if the server tells it was modified, and shasums are looked up in an index built
+     * once per version of the file returned by the server.
      */
     @Override
     public void execute(@Nonnull final DistributionValidatorSettings distributionValidatorSettings)
         throws InvalidNodeDistributionException, IOException, NodeDistributionShasumNotFoundException {
         // Resolve the URL to download the shasum file
-        final Path shasumsFilePath = distributionValidatorSettings
-            .getTemporaryDirectoryPath()
-            .resolve(SHASUMS_FILENAME);
+        final URL shasumsFileUrl = new URL(distributionValidatorSettings.getDistributionUrl(), SHASUMS_FILENAME);
+        final String distributionFileName = distributionValidatorSettings
+            .getDistributionFilePath()
+            .getFileName()
+            .toString();
+        final Path cacheDirectoryPath = distributionValidatorSettings.getCacheDirectoryPath();
         final String expectedShasum;
-        try {
-            final URL shasumsFileUrl = new URL(distributionValidatorSettings.getDistributionUrl(), SHASUMS_FILENAME);
+        if (cacheDirectoryPath == null) {
+            final Path shasumsFilePath = distributionValidatorSettings
+                .getTemporaryDirectoryPath()
+                .resolve(SHASUMS_FILENAME);
+            try {
+                // Download the shasum file
+                logger.info("Downloading shasums at '{}'", shasumsFileUrl);
+                downloadResource.execute(new DownloadSettings(shasumsFileUrl, distributionValidatorSettings.getProxy(),
+                    distributionValidatorSettings.getTemporaryDirectoryPath(), shasumsFilePath));
 
-            // Download the shasum file
-            logger.info("Downloading shasums at '{}'", shasumsFileUrl);
-            downloadResource.execute(new DownloadSettings(shasumsFileUrl, distributionValidatorSettings.getProxy(),
-                distributionValidatorSettings.getTemporaryDirectoryPath(), shasumsFilePath));
+                // Verify the distribution integrity
+                logger.info("Verifying distribution integrity");
+                expectedShasum = readNodeDistributionShasum
+                    .execute(shasumsFilePath, distributionFileName)
+                    .orElseThrow(NodeDistributionShasumNotFoundException::new);
+            } finally {
+                fileManager.deleteIfExists(shasumsFilePath);
+            }
+        } else {
+            logger.info("Getting shasums at '{}'", shasumsFileUrl);
+            final RevalidatedResource shasums = getRevalidatedResource.execute(shasumsFileUrl,
+                distributionValidatorSettings.getProxy(), cacheDirectoryPath);
 
             // Verify the distribution integrity
             logger.info("Verifying distribution integrity");
-            expectedShasum = readNodeDistributionShasum
-                .execute(shasumsFilePath,
-                    distributionValidatorSettings.getDistributionFilePath().getFileName().toString())
-                .orElseThrow(NodeDistributionShasumNotFoundException::new);
-        } finally {
-            fileManager.deleteIfExists(shasumsFilePath);
+            expectedShasum = getNodeDistributionShasums.execute(shasums).get(distributionFileName);
+            if (expectedShasum == null) {
+                throw new NodeDistributionShasumNotFoundException();
+            }
         }
 
-        if (!hashFile.execute(distributionValidatorSettings.getDistributionFilePath()).equals(expectedShasum)) {
+        final String distributionFileHash;
+        if (distributionValidatorSettings.getDistributionFileHash() == null) {
+            distributionFileHash = hashFile.execute(distributionValidatorSettings.getDistributionFilePath());
+        } else {
+            distributionFileHash = distributionValidatorSettings.getDistributionFileHash();
+        }
+        if (!distributionFileHash.equals(expectedShasum)) {
             throw new InvalidNodeDistributionException();
         }
     }
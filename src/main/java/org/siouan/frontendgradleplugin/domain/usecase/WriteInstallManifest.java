@@ -0,0 +1,66 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Properties;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Writes the manifest of a distribution installed in a directory, as a properties file.
+ *
+ * @since 2.2.0
+ */
+public class WriteInstallManifest {
+
+    static final String DISTRIBUTION_ID_PROPERTY = "distributionId";
+
+    static final String VERSION_PROPERTY = "version";
+
+    static final String PLATFORM_PROPERTY = "platform";
+
+    static final String DOWNLOAD_URL_PROPERTY = "downloadUrl";
+
+    static final String DISTRIBUTION_FILE_HASH_PROPERTY = "distributionFileSha256";
+
+    static final String FILE_COUNT_PROPERTY = "fileCount";
+
+    static final String SYMBOLIC_LINK_PROPERTY_PREFIX = "symbolicLink.";
+
+    private final FileManager fileManager;
+
+    public WriteInstallManifest(final FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    /**
+     * Writes the manifest in an install directory, replacing any existing manifest.
+     *
+     * @param installDirectoryPath Path to the install directory.
+     * @param installManifest Manifest.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void execute(@Nonnull final Path installDirectoryPath, @Nonnull final InstallManifest installManifest)
+        throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(DISTRIBUTION_ID_PROPERTY, installManifest.getDistributionId());
+        properties.setProperty(VERSION_PROPERTY, installManifest.getVersion());
+        properties.setProperty(PLATFORM_PROPERTY, installManifest.getPlatformId());
+        if (installManifest.getDownloadUrl() != null) {
+            properties.setProperty(DOWNLOAD_URL_PROPERTY, installManifest.getDownloadUrl());
+        }
+        properties.setProperty(DISTRIBUTION_FILE_HASH_PROPERTY, installManifest.getDistributionFileHash());
+        properties.setProperty(FILE_COUNT_PROPERTY, Long.toString(installManifest.getFileCount()));
+        installManifest
+            .getSymbolicLinks()
+            .forEach((linkPath, targetPath) -> properties.setProperty(SYMBOLIC_LINK_PROPERTY_PREFIX + linkPath,
+                targetPath));
+        try (final OutputStream outputStream = fileManager.newOutputStream(
+            installDirectoryPath.resolve(InstallManifest.FILE_NAME))) {
+            properties.store(outputStream, "Generated by the Frontend Gradle plugin, do not edit.");
+        }
+    }
+}
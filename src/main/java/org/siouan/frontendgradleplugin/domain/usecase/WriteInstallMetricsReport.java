@@ -0,0 +1,82 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallMetrics;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Writes the metrics of a distribution install in a report file, as a JSON object. Unknown metrics are written as
+ * {@code null} values, so as reports of all installs share the same properties.
+ *
+ * @since 2.2.0
+ */
+public class WriteInstallMetricsReport {
+
+    private final FileManager fileManager;
+
+    public WriteInstallMetricsReport(final FileManager fileManager) {
+        this.fileManager = fileManager;
+    }
+
+    /**
+     * Writes the report, replacing any existing report file.
+     *
+     * @param reportFilePath Path to the report file.
+     * @param installMetrics Metrics of the install.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void execute(@Nonnull final Path reportFilePath, @Nonnull final InstallMetrics installMetrics)
+        throws IOException {
+        final Path reportDirectoryPath = reportFilePath.getParent();
+        if (reportDirectoryPath != null) {
+            fileManager.createDirectories(reportDirectoryPath);
+        }
+
+        final StringBuilder json = new StringBuilder("{\n");
+        appendString(json, "distributionId", installMetrics.getDistributionId());
+        appendString(json, "version", installMetrics.getVersion());
+        append(json, "installed", installMetrics.isInstalled());
+        append(json, "streamed", installMetrics.isStreamed());
+        append(json, "distributionFileSize", installMetrics.getDistributionFileSize());
+        append(json, "downloadDurationMs", installMetrics.getDownloadDurationMs());
+        append(json, "downloadThroughput", installMetrics.getDownloadThroughput());
+        append(json, "explodeDurationMs", installMetrics.getExplodeDurationMs());
+        append(json, "moveDurationMs", installMetrics.getMoveDurationMs());
+        append(json, "atomicMove", installMetrics.isAtomicMove());
+        append(json, "installedFileCount", installMetrics.getInstalledFileCount());
+        append(json, "installedFileSize", installMetrics.getInstalledFileSize());
+        json.append("  \"totalDurationMs\": ").append(installMetrics.getTotalDurationMs()).append("\n}\n");
+
+        try (final Writer writer = new OutputStreamWriter(fileManager.newOutputStream(reportFilePath),
+            StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+    }
+
+    private static void appendString(@Nonnull final StringBuilder json, @Nonnull final String name,
+        @Nonnull final String value) {
+        json.append("  \"").append(name).append("\": \"");
+        for (final char c : value.toCharArray()) {
+            if ((c == '"') || (c == '\\')) {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append("\",\n");
+    }
+
+    private static void append(@Nonnull final StringBuilder json, @Nonnull final String name,
+        @Nullable final Object value) {
+        json.append("  \"").append(name).append("\": ").append(value).append(",\n");
+    }
+}
@@ -0,0 +1,77 @@
+package org.siouan.frontendgradleplugin.domain.util;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import javax.annotation.Nonnull;
+
+/**
+ * A readable byte channel that updates a message digest with all bytes read from an underlying channel. This allows
+ * to compute the hash of data while it is transferred, without reading it a second time.
+ *
+ * @since 2.2.0
+ */
+public final class DigestReadableByteChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel channel;
+
+    private final MessageDigest messageDigest;
+
+    /**
+     * Builds a channel.
+     *
+     * @param channel Underlying channel.
+     * @param messageDigest Message digest updated with bytes read.
+     */
+    public DigestReadableByteChannel(@Nonnull final ReadableByteChannel channel,
+        @Nonnull final MessageDigest messageDigest) {
+        this.channel = channel;
+        this.messageDigest = messageDigest;
+    }
+
+    @Override
+    public int read(@Nonnull final ByteBuffer buffer) throws IOException {
+        final int position = buffer.position();
+        final int numberOfBytesRead = channel.read(buffer);
+        if (numberOfBytesRead > 0) {
+            // Since JDK 9, ByteBuffer class overrides some methods and their return type in the Buffer class. To
+            // ensure compatibility with JDK 8, calling the 'setPosition' and 'setLimit' methods forces using the JDK 8
+            // Buffer's methods signature, and avoids explicit casts.
+            final ByteBuffer readBuffer = buffer.duplicate();
+            setLimit(readBuffer, position + numberOfBytesRead);
+            setPosition(readBuffer, position);
+            messageDigest.update(readBuffer);
+        }
+        return numberOfBytesRead;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Gets the message digest updated with bytes read.
+     *
+     * @return Message digest.
+     */
+    @Nonnull
+    public MessageDigest getMessageDigest() {
+        return messageDigest;
+    }
+
+    private static void setLimit(@Nonnull final Buffer buffer, final int limit) {
+        buffer.limit(limit);
+    }
+
+    private static void setPosition(@Nonnull final Buffer buffer, final int position) {
+        buffer.position(position);
+    }
+}
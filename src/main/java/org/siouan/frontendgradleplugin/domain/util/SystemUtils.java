@@ -1,6 +1,7 @@
 package org.siouan.frontendgradleplugin.domain.util;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 /**
@@ -37,6 +38,17 @@ public final class SystemUtils {
         return getPropertyAndAssertNotNull(OS_NAME_PROPERTY);
     }
 
+    /**
+     * Gets the time elapsed since a given value of the high-resolution time source.
+     *
+     * @param startTimeNs Value returned by {@link System#nanoTime()} when the measure started.
+     * @return Elapsed time in milliseconds.
+     * @since 2.2.0
+     */
+    public static long getElapsedTimeMs(final long startTimeNs) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNs);
+    }
+
     @Nonnull
     private static String getPropertyAndAssertNotNull(@Nonnull final String property) {
         return Objects.requireNonNull(System.getProperty(property),
@@ -12,4 +12,15 @@ public class BeanInstanciationException extends BeanRegistryException {
     BeanInstanciationException(@Nonnull final Class<?> beanClass, @Nonnull final Throwable cause) {
         super(beanClass, "Cannot create instance of bean '" + beanClass.getName() + '\'', cause);
     }
+
+    /**
+     * Builds an exception without a cause.
+     *
+     * @param beanClass Bean class.
+     * @param message Message.
+     * @since 2.2.0
+     */
+    BeanInstanciationException(@Nonnull final Class<?> beanClass, @Nonnull final String message) {
+        super(beanClass, message);
+    }
 }
@@ -5,9 +5,13 @@ import static java.util.stream.Collectors.toSet;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -19,20 +23,49 @@ import javax.annotation.Nullable;
  * available. The registry handles recursive instanciation of constructor parameters, using reflection. However, the
  * registry does not provide a package-scan feature, e.g. to search for implementations of non-instanciable classes.
  * Some implementations must be registered explicitly using the {@link #registerBean(Class)} method or the {@link
- * #registerBean(Object)} method. The registry handles singleton instances only.
+ * #registerBean(Object)} method. The registry handles singleton instances only. The registry is thread-safe: beans
+ * already instanciated are returned without locking, whereas instanciations are serialized, so as a bean is never
+ * instanciated twice when requested concurrently. Once a bean is retrieved, the registry remembers which instance
+ * matches the class requested, so as further requests - e.g. with an interface - are resolved with a single lookup.
  *
  * @since 2.0.0
  */
 public class BeanRegistry {
 
     /**
-     * Map of singleton instances, whose values may be {@code null} when a bean has been registered only, and not
-     * retrieved yet.
+     * Set of registered bean classes, including classes whose singleton instance has not been created yet.
      */
-    private final Map<Class<?>, Object> singletons;
+    private final Set<Class<?>> beanClasses;
+
+    /**
+     * Map of singleton instances.
+     */
+    private final ConcurrentMap<Class<?>, Object> singletons;
+
+    /**
+     * Map of singleton instances resolved for a class requested, which may be the bean class, or a parent class or an
+     * interface of the bean class. This map is cleared whenever a new bean class is registered, because the bean class
+     * resolved for a parent class or an interface may change.
+     */
+    private final ConcurrentMap<Class<?>, Object> resolvedBeans;
+
+    /**
+     * Lock serializing instanciations and registrations of beans. This lock is reentrant, since instanciating a bean
+     * may require to instanciate recursively the parameters of its constructor.
+     */
+    private final Lock instanciationLock;
+
+    /**
+     * Bean classes being instanciated by the thread holding the instanciation lock, in the order they were requested.
+     */
+    private final Deque<Class<?>> beanClassesInCreation;
 
     public BeanRegistry() {
-        this.singletons = new HashMap<>();
+        this.beanClasses = ConcurrentHashMap.newKeySet();
+        this.singletons = new ConcurrentHashMap<>();
+        this.resolvedBeans = new ConcurrentHashMap<>();
+        this.instanciationLock = new ReentrantLock();
+        this.beanClassesInCreation = new ArrayDeque<>();
         // The registry itself is available for injection.
         registerBean(BeanRegistry.class, this);
     }
@@ -49,25 +82,50 @@ public class BeanRegistry {
      * constructor, or if a parameter class in the public constructor does not match the same requirement.
      * @throws TooManyCandidateBeansException If multiple instances of the bean class are available in the registry,
      * generally because these instances are child classes of the bean class.
-     * @throws BeanInstanciationException If the bean cannot be instanciated.
+     * @throws BeanInstanciationException If the bean cannot be instanciated, e.g. a {@link
+     * CircularDependencyException} if the bean depends on itself.
      */
     @Nonnull
     public <T> T getBean(@Nonnull final Class<T> beanClass)
         throws BeanInstanciationException, TooManyCandidateBeansException, ZeroOrMultiplePublicConstructorsException {
-        final T existingBean = (T) singletons.get(beanClass);
-        if (existingBean != null) {
-            return existingBean;
+        final T resolvedBean = (T) resolvedBeans.get(beanClass);
+        if (resolvedBean != null) {
+            return resolvedBean;
         }
 
-        final Class<? extends T> assignableClass = getAssignableClass(beanClass);
-        if (assignableClass != null) {
-            return getBean(assignableClass);
-        }
+        instanciationLock.lock();
+        try {
+            // Another thread may have instanciated the bean while the current thread was waiting for the lock.
+            final T bean = (T) singletons.get(beanClass);
+            if (bean != null) {
+                resolvedBeans.put(beanClass, bean);
+                return bean;
+            }
+
+            final Class<? extends T> assignableClass = getAssignableClass(beanClass);
+            if (assignableClass != null) {
+                final T assignableBean = getBean(assignableClass);
+                resolvedBeans.put(beanClass, assignableBean);
+                return assignableBean;
+            }
 
-        assertBeanClassIsInstanciable(beanClass);
-        final T newBean = createInstance(beanClass);
-        registerBean(beanClass, newBean);
-        return newBean;
+            assertBeanClassIsInstanciable(beanClass);
+            if (beanClassesInCreation.contains(beanClass)) {
+                throw new CircularDependencyException(beanClass, beanClassesInCreation);
+            }
+            beanClassesInCreation.addLast(beanClass);
+            final T newBean;
+            try {
+                newBean = createInstance(beanClass);
+            } finally {
+                beanClassesInCreation.removeLast();
+            }
+            registerBean(beanClass, newBean);
+            resolvedBeans.put(beanClass, newBean);
+            return newBean;
+        } finally {
+            instanciationLock.unlock();
+        }
     }
 
     /**
@@ -79,11 +137,16 @@ public class BeanRegistry {
      * @param <T> Type of bean.
      */
     public <T> void registerBean(@Nonnull final Class<T> beanClass) {
-        if (isBeanRegistered(beanClass)) {
-            return;
+        instanciationLock.lock();
+        try {
+            if (isBeanRegistered(beanClass)) {
+                return;
+            }
+            assertBeanClassIsInstanciable(beanClass);
+            registerBean(beanClass, null);
+        } finally {
+            instanciationLock.unlock();
         }
-        assertBeanClassIsInstanciable(beanClass);
-        registerBean(beanClass, null);
     }
 
     /**
@@ -95,21 +158,32 @@ public class BeanRegistry {
      */
     public <T> void registerBean(@Nonnull final T bean) {
         final Class<T> beanClass = (Class<T>) bean.getClass();
-        if (isBeanRegistered(beanClass)) {
-            return;
+        instanciationLock.lock();
+        try {
+            if (isBeanRegistered(beanClass)) {
+                return;
+            }
+            registerBean(beanClass, bean);
+        } finally {
+            instanciationLock.unlock();
         }
-        registerBean(beanClass, bean);
     }
 
     /**
-     * Registers a bean class, an optionally the singleton instance.
+     * Registers a bean class, an optionally the singleton instance. This method must be called while holding the
+     * instanciation lock, or in the constructor.
      *
      * @param beanClass Bean class.
      * @param bean Optional singleton instance.
      * @param <T> Type of bean.
      */
     private <T> void registerBean(@Nonnull final Class<T> beanClass, @Nullable final T bean) {
-        singletons.put(beanClass, bean);
+        if (bean != null) {
+            singletons.putIfAbsent(beanClass, bean);
+        }
+        if (beanClasses.add(beanClass)) {
+            resolvedBeans.clear();
+        }
     }
 
     /**
@@ -122,7 +196,7 @@ public class BeanRegistry {
      * @return {@code true} if the bean class is already registered, or is an instance of a bean registry.
      */
     private <T> boolean isBeanRegistered(@Nonnull final Class<T> beanClass) {
-        return getClass().isAssignableFrom(beanClass) || singletons.containsKey(beanClass);
+        return getClass().isAssignableFrom(beanClass) || beanClasses.contains(beanClass);
     }
 
     /**
@@ -151,8 +225,7 @@ public class BeanRegistry {
     @Nullable
     private <T, C extends T> Class<C> getAssignableClass(@Nonnull final Class<T> beanClass)
         throws TooManyCandidateBeansException {
-        final Set<Class<C>> assignableBeanClasses = singletons
-            .keySet()
+        final Set<Class<C>> assignableBeanClasses = beanClasses
             .stream()
             .filter(clazz -> !clazz.equals(beanClass))
             .filter(beanClass::isAssignableFrom)
@@ -187,13 +260,14 @@ public class BeanRegistry {
             throw new ZeroOrMultiplePublicConstructorsException(beanClass);
         }
 
-        final Class<?>[] parameterTypes = constructors[0].getParameterTypes();
+        final Constructor<?> constructor = constructors[0];
+        final Class<?>[] parameterTypes = constructor.getParameterTypes();
         final Object[] parameters = new Object[parameterTypes.length];
         for (int i = 0; i < parameterTypes.length; i++) {
             parameters[i] = getBean(parameterTypes[i]);
         }
         try {
-            return (T) beanClass.getConstructors()[0].newInstance(parameters);
+            return (T) constructor.newInstance(parameters);
         } catch (final InvocationTargetException | InstantiationException | IllegalAccessException e) {
             throw new BeanInstanciationException(beanClass, e);
         }
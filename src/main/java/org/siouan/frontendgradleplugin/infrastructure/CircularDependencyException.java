@@ -0,0 +1,39 @@
+package org.siouan.frontendgradleplugin.infrastructure;
+
+import java.util.Collection;
+import java.util.StringJoiner;
+import javax.annotation.Nonnull;
+
+/**
+ * Exception thrown when a bean cannot be instanciated because it depends - directly or indirectly - on itself.
+ *
+ * @since 2.2.0
+ */
+public class CircularDependencyException extends BeanInstanciationException {
+
+    CircularDependencyException(@Nonnull final Class<?> beanClass,
+        @Nonnull final Collection<Class<?>> beanClassesInCreation) {
+        super(beanClass, "Circular dependency detected: " + formatCycle(beanClass, beanClassesInCreation));
+    }
+
+    /**
+     * Formats the chain of bean classes leading from the given class to itself.
+     *
+     * @param beanClass Bean class.
+     * @param beanClassesInCreation Bean classes being instanciated, in the order they were requested.
+     * @return Chain of bean class names.
+     */
+    @Nonnull
+    private static String formatCycle(@Nonnull final Class<?> beanClass,
+        @Nonnull final Collection<Class<?>> beanClassesInCreation) {
+        final StringJoiner joiner = new StringJoiner(" -> ");
+        boolean inCycle = false;
+        for (final Class<?> clazz : beanClassesInCreation) {
+            inCycle = inCycle || clazz.equals(beanClass);
+            if (inCycle) {
+                joiner.add(clazz.getName());
+            }
+        }
+        return joiner.add(beanClass.getName()).toString();
+    }
+}
@@ -0,0 +1,253 @@
+package org.siouan.frontendgradleplugin.infrastructure.archiver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+/**
+ * Writes files with a pool of threads, so as the thread reading an archive does not block on file system calls. The
+ * content of a file is held in fixed-size buffers taken from a pool. The number of buffers is limited, which bounds
+ * the memory used: the thread acquiring buffers blocks until writer threads release enough of them. A file that
+ * cannot be written makes the next acquisition of buffers fail, so as the caller stops reading the archive without
+ * waiting for all files to be submitted. This class is not thread-safe: a single thread shall acquire buffers and
+ * submit files.
+ *
+ * @since 2.2.0
+ */
+class AsyncFileWriter implements Closeable {
+
+    /**
+     * Maximum time to wait for writer threads to stop, when the writer is closed.
+     */
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    private final FileManager fileManager;
+
+    private final int bufferSize;
+
+    private final int bufferCount;
+
+    private final ExecutorService executorService;
+
+    /**
+     * Number of buffers that may still be acquired.
+     */
+    private final Semaphore availableBuffers;
+
+    /**
+     * Buffers released by writer threads, that may be reused.
+     */
+    private final Queue<byte[]> bufferPool;
+
+    private final List<Future<Void>> pendingWrites;
+
+    /**
+     * First error raised by a writer thread since pending writes were last awaited.
+     */
+    private final AtomicReference<Throwable> writeFailure;
+
+    /**
+     * Builds a writer.
+     *
+     * @param fileManager File manager.
+     * @param workerCount Number of writer threads.
+     * @param bufferSize Size of a buffer, in bytes.
+     * @param bufferCount Maximum number of buffers in use at the same time.
+     */
+    AsyncFileWriter(@Nonnull final FileManager fileManager, final int workerCount, final int bufferSize,
+        final int bufferCount) {
+        this.fileManager = fileManager;
+        this.bufferSize = bufferSize;
+        this.bufferCount = bufferCount;
+        this.executorService = Executors.newFixedThreadPool(workerCount);
+        this.availableBuffers = new Semaphore(bufferCount);
+        this.bufferPool = new ConcurrentLinkedQueue<>();
+        this.pendingWrites = new ArrayList<>();
+        this.writeFailure = new AtomicReference<>();
+    }
+
+    /**
+     * Gets the maximum size of a file that may be written asynchronously. Larger files shall be written by the caller.
+     *
+     * @return Size, in bytes.
+     */
+    long getMaxFileSize() {
+        return ((long) bufferSize) * bufferCount;
+    }
+
+    /**
+     * Acquires enough buffers to hold a file with the given size. This method blocks until enough buffers are
+     * available.
+     *
+     * @param fileSize Size of the file.
+     * @return Buffers.
+     * @throws InterruptedIOException If the current thread is interrupted while waiting for buffers.
+     * @throws IOException If a file submitted previously could not be written.
+     * @throws IllegalArgumentException If the file size exceeds the maximum file size.
+     */
+    @Nonnull
+    List<byte[]> acquireBuffers(final long fileSize) throws IOException {
+        if (fileSize > getMaxFileSize()) {
+            throw new IllegalArgumentException("File too large to be written asynchronously: " + fileSize);
+        }
+        checkWriteFailure();
+        final int count = (int) ((fileSize + bufferSize - 1) / bufferSize);
+        try {
+            availableBuffers.acquire(count);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for buffers");
+        }
+        // A writer thread records its failure before releasing its buffers: a failure that released the buffers just
+        // acquired is visible here.
+        try {
+            checkWriteFailure();
+        } catch (final IOException | RuntimeException | Error e) {
+            availableBuffers.release(count);
+            throw e;
+        }
+        final List<byte[]> buffers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final byte[] buffer = bufferPool.poll();
+            buffers.add((buffer == null) ? new byte[bufferSize] : buffer);
+        }
+        return buffers;
+    }
+
+    /**
+     * Releases buffers, so as they may be reused.
+     *
+     * @param buffers Buffers.
+     */
+    void releaseBuffers(@Nonnull final List<byte[]> buffers) {
+        bufferPool.addAll(buffers);
+        availableBuffers.release(buffers.size());
+    }
+
+    /**
+     * Submits a file to be written asynchronously. Buffers are released once the file is written.
+     *
+     * @param filePath Path to the file.
+     * @param buffers Buffers acquired with {@link #acquireBuffers(long)}, containing the file content.
+     * @param fileSize Size of the file.
+     * @param postWriteAction Action executed by the writer thread once the file is written.
+     */
+    void submit(@Nonnull final Path filePath, @Nonnull final List<byte[]> buffers, final long fileSize,
+        @Nonnull final PostWriteAction postWriteAction) {
+        pendingWrites.add(executorService.submit(() -> {
+            try {
+                try (final OutputStream outputStream = fileManager.newOutputStream(filePath)) {
+                    long remainingBytes = fileSize;
+                    for (final byte[] buffer : buffers) {
+                        final int length = (int) Math.min(remainingBytes, buffer.length);
+                        outputStream.write(buffer, 0, length);
+                        remainingBytes -= length;
+                    }
+                }
+                postWriteAction.execute();
+            } catch (final Throwable e) {
+                writeFailure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                releaseBuffers(buffers);
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Waits until all files submitted are written.
+     *
+     * @throws IOException If a file could not be written, or if the current thread is interrupted.
+     */
+    void awaitPendingWrites() throws IOException {
+        try {
+            for (final Future<Void> pendingWrite : pendingWrites) {
+                pendingWrite.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for files to be written");
+        } catch (final ExecutionException e) {
+            rethrow(e.getCause());
+        } finally {
+            pendingWrites.clear();
+            writeFailure.set(null);
+        }
+    }
+
+    /**
+     * Checks whether a writer thread failed since pending writes were last awaited.
+     *
+     * @throws IOException If a file could not be written.
+     */
+    private void checkWriteFailure() throws IOException {
+        final Throwable failure = writeFailure.get();
+        if (failure != null) {
+            rethrow(failure);
+        }
+    }
+
+    /**
+     * Throws the error raised by a writer thread.
+     *
+     * @param cause Error.
+     * @throws IOException If the error is an I/O error, or a checked exception.
+     */
+    private static void rethrow(@Nonnull final Throwable cause) throws IOException {
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IOException(cause);
+    }
+
+    /**
+     * Cancels pending writes, and waits for writer threads to stop.
+     *
+     * @throws InterruptedIOException If the current thread is interrupted while waiting for writer threads.
+     */
+    @Override
+    public void close() throws InterruptedIOException {
+        executorService.shutdownNow();
+        try {
+            executorService.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for writer threads to stop");
+        }
+    }
+
+    /**
+     * Action executed by a writer thread once a file is written.
+     */
+    @FunctionalInterface
+    interface PostWriteAction {
+
+        /**
+         * Executes the action.
+         *
+         * @throws IOException If an I/O error occurs.
+         */
+        void execute() throws IOException;
+    }
+}
@@ -1,9 +1,13 @@
 package org.siouan.frontendgradleplugin.infrastructure.archiver;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -16,9 +20,12 @@ import org.siouan.frontendgradleplugin.domain.util.PathUtils;
 import org.siouan.frontendgradleplugin.infrastructure.exception.UnexpectedEofException;
 
 /**
- * A non thread-safe archiver that deals with TAR archives and uses a 1 KB buffer to extract entries. When exploding
- * archives, the exploder tries to restore symbolic links and Unix permissions of each entry in the archive. However, on
- * Windows O/S:
+ * An archiver that deals with TAR archives and uses a 1 KB buffer to extract entries. Since entries are read
+ * sequentially, this archiver supports streaming. When the explode settings allow multiple workers, the thread reading
+ * the archive only copies the content of regular files in memory, and a pool of threads writes the files. The memory
+ * used is bounded: the reading thread blocks while the memory budget is exhausted, and files larger than this budget
+ * are written synchronously. When exploding archives, the exploder tries to restore symbolic links and Unix
+ * permissions of each entry in the archive. However, on Windows O/S:
  * <ul>
  * <li>Unix permissions are ignored.</li>
  * <li>Exploding will probably fail if the archive contains symbolic links, and the JVM does not run with administrator
@@ -29,11 +36,28 @@ import org.siouan.frontendgradleplugin.infrastructure.exception.UnexpectedEofExc
  */
 public class TarArchiver extends AbstractArchiver<TarArchiverContext, TarEntry> {
 
-    private final byte[] buffer;
+    /**
+     * Size of the buffer used to write files synchronously.
+     */
+    static final int BUFFER_SIZE = 1024;
+
+    /**
+     * Size of a buffer holding the content of files written asynchronously.
+     */
+    static final int ASYNC_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Maximum number of buffers holding the content of files written asynchronously, i.e. a 16 MB memory budget.
+     */
+    static final int ASYNC_BUFFER_COUNT = 1024;
 
     public TarArchiver(final FileManager fileManager) {
         super(fileManager);
-        this.buffer = new byte[1024];
+    }
+
+    @Override
+    public boolean isStreamingSupported() {
+        return true;
     }
 
     @Nonnull
@@ -41,10 +65,24 @@ public class TarArchiver extends AbstractArchiver<TarArchiverContext, TarEntry>
     protected TarArchiverContext initializeContext(@Nonnull final ExplodeSettings settings) throws IOException {
         InputStream archiveInputStream = null;
         try {
-            archiveInputStream = fileManager.newInputStream(settings.getArchiveFilePath());
+            final ReadableByteChannel archiveChannel = settings.getArchiveChannel();
+            if (archiveChannel == null) {
+                archiveInputStream = fileManager.newInputStream(settings.getArchiveFilePath());
+            } else {
+                // The channel is owned by the caller, closing the context must not close it.
+                archiveInputStream = new UnclosableInputStream(Channels.newInputStream(archiveChannel));
+            }
             // In case of creating the uncompress input stream fails, the archive input stream must be closed.
-            return new TarArchiverContext(settings,
-                buildLowLevelInputStream(uncompressInputStream(settings, archiveInputStream)));
+            final TarArchiveInputStream inputStream = buildLowLevelInputStream(
+                uncompressInputStream(settings, archiveInputStream));
+            final AsyncFileWriter fileWriter;
+            if (settings.getWorkerCount() > 1) {
+                fileWriter = new AsyncFileWriter(fileManager, settings.getWorkerCount(), ASYNC_BUFFER_SIZE,
+                    ASYNC_BUFFER_COUNT);
+            } else {
+                fileWriter = null;
+            }
+            return new TarArchiverContext(settings, inputStream, fileWriter);
         } catch (final IOException e) {
             if (archiveInputStream != null) {
                 archiveInputStream.close();
@@ -94,9 +132,70 @@ public class TarArchiver extends AbstractArchiver<TarArchiverContext, TarEntry>
         return entry.getLowLevelEntry().getLinkName();
     }
 
+    @Override
+    protected void extractRegularFile(@Nonnull final TarArchiverContext context, @Nonnull final TarEntry entry,
+        @Nonnull final Path filePath) throws IOException {
+        final AsyncFileWriter fileWriter = context.getFileWriter();
+        final long entrySize = entry.getLowLevelEntry().getSize();
+        if ((fileWriter == null) || (entrySize > fileWriter.getMaxFileSize())) {
+            super.extractRegularFile(context, entry, filePath);
+            return;
+        }
+
+        final List<byte[]> buffers = fileWriter.acquireBuffers(entrySize);
+        boolean submitted = false;
+        try {
+            long bytesToRead = entrySize;
+            for (final byte[] buffer : buffers) {
+                final int length = (int) Math.min(bytesToRead, buffer.length);
+                readFully(context, entry, buffer, length, entrySize - bytesToRead);
+                bytesToRead -= length;
+            }
+            fileWriter.submit(filePath, buffers, entrySize, () -> setPermissions(context, entry, filePath));
+            submitted = true;
+        } finally {
+            if (!submitted) {
+                fileWriter.releaseBuffers(buffers);
+            }
+        }
+    }
+
+    @Override
+    protected void awaitPendingWrites(@Nonnull final TarArchiverContext context) throws IOException {
+        final AsyncFileWriter fileWriter = context.getFileWriter();
+        if (fileWriter != null) {
+            fileWriter.awaitPendingWrites();
+        }
+    }
+
+    /**
+     * Reads the given number of bytes of the current entry in a buffer.
+     *
+     * @param context Context.
+     * @param entry Archive entry.
+     * @param buffer Buffer.
+     * @param length Number of bytes to read.
+     * @param entryBytesRead Number of bytes of the entry read in previous buffers.
+     * @throws UnexpectedEofException If the end of the archive is reached before all bytes are read.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void readFully(@Nonnull final TarArchiverContext context, @Nonnull final TarEntry entry,
+        @Nonnull final byte[] buffer, final int length, final long entryBytesRead) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            final int bytesRead = context.getInputStream().read(buffer, offset, length - offset);
+            if (bytesRead == -1) {
+                throw new UnexpectedEofException(entry.getName(), entry.getLowLevelEntry().getSize(),
+                    (int) (entryBytesRead + offset));
+            }
+            offset += bytesRead;
+        }
+    }
+
     @Override
     protected void writeRegularFile(@Nonnull final TarArchiverContext context, @Nonnull final TarEntry entry,
         @Nonnull final Path filePath) throws IOException {
+        final byte[] buffer = context.getBuffer();
         final long entrySize = entry.getLowLevelEntry().getSize();
         int bytesRead;
         int bytesToRead = (int) entrySize;
@@ -104,7 +203,7 @@ public class TarArchiver extends AbstractArchiver<TarArchiverContext, TarEntry>
             while (bytesToRead > 0) {
                 bytesRead = context.getInputStream().read(buffer, 0, Math.min(bytesToRead, buffer.length));
                 if (bytesRead == -1) {
-                    throw new UnexpectedEofException(entry.getName(), entrySize, bytesRead);
+                    throw new UnexpectedEofException(entry.getName(), entrySize, (int) (entrySize - bytesToRead));
                 } else {
                     outputStream.write(buffer, 0, bytesRead);
                     bytesToRead -= bytesRead;
@@ -112,4 +211,19 @@ public class TarArchiver extends AbstractArchiver<TarArchiverContext, TarEntry>
             }
         }
     }
+
+    /**
+     * Input stream that does not close the underlying stream.
+     */
+    private static class UnclosableInputStream extends FilterInputStream {
+
+        UnclosableInputStream(final InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream is intentionally left open.
+        }
+    }
 }
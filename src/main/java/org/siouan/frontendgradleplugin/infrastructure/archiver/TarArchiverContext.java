@@ -3,6 +3,7 @@ package org.siouan.frontendgradleplugin.infrastructure.archiver;
 import java.io.IOException;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.siouan.frontendgradleplugin.domain.model.ArchiverContext;
@@ -25,6 +26,16 @@ class TarArchiverContext implements ArchiverContext {
      */
     private final TarArchiveInputStream inputStream;
 
+    /**
+     * Writer used to write files asynchronously, may be {@code null}.
+     */
+    private final AsyncFileWriter fileWriter;
+
+    /**
+     * Buffer used to write files synchronously.
+     */
+    private final byte[] buffer;
+
     /**
      * Builds a context providing explode settings, and archive input stream.
      *
@@ -32,8 +43,23 @@ class TarArchiverContext implements ArchiverContext {
      * @param inputStream Archive input stream.
      */
     public TarArchiverContext(final ExplodeSettings settings, final TarArchiveInputStream inputStream) {
+        this(settings, inputStream, null);
+    }
+
+    /**
+     * Builds a context providing explode settings, archive input stream, and a writer to write files asynchronously.
+     *
+     * @param settings Explode settings.
+     * @param inputStream Archive input stream.
+     * @param fileWriter Writer used to write files asynchronously, {@code null} to write files synchronously.
+     * @since 2.2.0
+     */
+    TarArchiverContext(final ExplodeSettings settings, final TarArchiveInputStream inputStream,
+        @Nullable final AsyncFileWriter fileWriter) {
         this.settings = settings;
         this.inputStream = inputStream;
+        this.fileWriter = fileWriter;
+        this.buffer = new byte[TarArchiver.BUFFER_SIZE];
     }
 
     @Nonnull
@@ -51,8 +77,36 @@ class TarArchiverContext implements ArchiverContext {
         return inputStream;
     }
 
+    /**
+     * Gets the writer used to write files asynchronously.
+     *
+     * @return Writer, may be {@code null} if files shall be written synchronously.
+     * @since 2.2.0
+     */
+    @Nullable
+    AsyncFileWriter getFileWriter() {
+        return fileWriter;
+    }
+
+    /**
+     * Gets the buffer used to write files synchronously.
+     *
+     * @return Buffer.
+     * @since 2.2.0
+     */
+    @Nonnull
+    byte[] getBuffer() {
+        return buffer;
+    }
+
     @Override
     public void close() throws IOException {
-        inputStream.close();
+        try {
+            inputStream.close();
+        } finally {
+            if (fileWriter != null) {
+                fileWriter.close();
+            }
+        }
     }
 }
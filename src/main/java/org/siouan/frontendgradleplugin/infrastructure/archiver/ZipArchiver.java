@@ -15,8 +15,9 @@ import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 import org.siouan.frontendgradleplugin.domain.usecase.AbstractArchiver;
 
 /**
- * An archiver that deals with ZIP archives. When exploding archives, the archiver tries to restore symbolic links and
- * Unix permissions of each entry in the archive. However, on Windows O/S:
+ * An archiver that deals with ZIP archives. Since the central directory of a ZIP archive provides random access to
+ * entries, regular files may be written concurrently. When exploding archives, the archiver tries to restore symbolic
+ * links and Unix permissions of each entry in the archive. However, on Windows O/S:
  * <ul>
  * <li>Unix permissions are ignored.</li>
  * <li>Exploding will probably fail if the archive contains symbolic links, and the JVM does not run with administrator
@@ -52,6 +53,15 @@ public class ZipArchiver extends AbstractArchiver<ZipArchiverContext, ZipEntry>
         return readSymbolicLinkTarget(context.getZipFile(), entry.getLowLevelEntry());
     }
 
+    @Override
+    protected boolean isRandomAccessSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} This method is thread-safe: the ZIP file resolves the data offset of all entries when it is opened,
+     * and each entry input stream reads the archive independently.
+     */
     @Override
     protected void writeRegularFile(@Nonnull final ZipArchiverContext context, @Nonnull final ZipEntry entry,
         @Nonnull final Path filePath) throws IOException {
@@ -1,17 +1,31 @@
 package org.siouan.frontendgradleplugin.infrastructure.gradle;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
 
 import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectories;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.workers.WorkerExecutor;
 import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
 import org.siouan.frontendgradleplugin.domain.model.Platform;
+import org.siouan.frontendgradleplugin.domain.usecase.RestoreSymbolicLinks;
 import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
 import org.siouan.frontendgradleplugin.infrastructure.Beans;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.GradleScriptRunnerAdapter;
@@ -20,6 +34,19 @@ import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.ScriptPrope
 /**
  * This abstract class provides the reusable logic to run a command with an executable. Sub-classes must expose inputs
  * and outputs.
+ * <p>
+ * Files read and directories written by the command are unknown to the plugin. They may be declared with the
+ * {@code inputFiles} property and the {@code outputDirectories} property, so as Gradle may skip the task when it is
+ * up-to-date, or restore its outputs from the build cache. Without output directories, the task is always executed.
+ * <p>
+ * Scripts are submitted to Gradle's Worker API, so as independent tasks of the same project may run concurrently. The
+ * {@code scriptWorkerCount} property of the extension limits the number of tasks of a project running scripts in
+ * parallel: tasks use the {@link ScriptWorkerService} of the project, and Gradle does not start a task until the
+ * service is available.
+ * <p>
+ * Before a script is run, symbolic links recorded in the manifest of the Node/Yarn install directories are restored,
+ * because install tasks do not execute any action when their outputs are loaded from the build cache, which does not
+ * preserve symbolic links.
  */
 public abstract class AbstractRunCommandTask extends DefaultTask {
 
@@ -28,6 +55,13 @@ public abstract class AbstractRunCommandTask extends DefaultTask {
      */
     final Property<File> packageJsonDirectory;
 
+    /**
+     * Path to the directory where the 'package.json' file is located, relative to the project directory.
+     *
+     * @since 2.2.0
+     */
+    private final Provider<String> packageJsonDirectoryRelativePath;
+
     /**
      * Directory where the Node distribution is installed.
      */
@@ -48,51 +82,151 @@ public abstract class AbstractRunCommandTask extends DefaultTask {
      */
     final Property<String> script;
 
+    /**
+     * Files read by the command (e.g. 'package.json' file, lock file, source files).
+     *
+     * @since 2.2.0
+     */
+    final ConfigurableFileCollection inputFiles;
+
+    /**
+     * Directories written by the command (e.g. 'node_modules' directory, build directory).
+     *
+     * @since 2.2.0
+     */
+    final ConfigurableFileCollection outputDirectories;
+
     AbstractRunCommandTask() {
         packageJsonDirectory = getProject().getObjects().property(File.class);
+        final Path projectDirectoryPath = getProject().getProjectDir().toPath().toAbsolutePath();
+        packageJsonDirectoryRelativePath = packageJsonDirectory.map(directory -> projectDirectoryPath
+            .relativize(directory.toPath().toAbsolutePath())
+            .toString()
+            .replace(File.separatorChar, '/'));
         nodeInstallDirectory = getProject().getObjects().directoryProperty();
         yarnEnabled = getProject().getObjects().property(Boolean.class);
         yarnInstallDirectory = getProject().getObjects().directoryProperty();
         script = getProject().getObjects().property(String.class);
+        inputFiles = getProject().getObjects().fileCollection();
+        outputDirectories = getProject().getObjects().fileCollection();
+        usesService(ScriptWorkerService.registerIfAbsent(getProject(),
+            Objects.requireNonNull(getProject().getExtensions().findByType(FrontendExtension.class))));
     }
 
-    @Input
-    @Optional
+    @Internal
     public Property<File> getPackageJsonDirectory() {
         return packageJsonDirectory;
     }
 
+    /**
+     * Gets the path to the directory where the 'package.json' file is located, relative to the project directory. The
+     * directory is tracked with this relative path, so as moving the project does not invalidate the task outputs nor
+     * its build cache entries.
+     *
+     * @return Relative path, with '/' separators.
+     * @since 2.2.0
+     */
+    @Input
+    public Provider<String> getPackageJsonDirectoryRelativePath() {
+        return packageJsonDirectoryRelativePath;
+    }
+
     @InputDirectory
     @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
     public DirectoryProperty getNodeInstallDirectory() {
         return nodeInstallDirectory;
     }
 
     @InputDirectory
     @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
     public DirectoryProperty getYarnInstallDirectory() {
         return yarnInstallDirectory;
     }
 
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public ConfigurableFileCollection getInputFiles() {
+        return inputFiles;
+    }
+
+    @OutputDirectories
+    public ConfigurableFileCollection getOutputDirectories() {
+        return outputDirectories;
+    }
+
     @Internal
     protected abstract String getExecutableType();
 
+    /**
+     * Gets the executor of Gradle's Worker API. This method is implemented by Gradle.
+     *
+     * @return Executor.
+     * @since 2.2.0
+     */
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
     /**
      * Executes the task. If a command has been provided, it is run with the selected type of executable. Otherwise, the
      * task does nothing.
      *
      * @throws ExecutableNotFoundException When the executable cannot be found (Node, npx, npm, Yarn).
      * @throws BeanRegistryException If a component cannot be instanciated.
+     * @throws IOException If symbolic links in install directories cannot be restored.
      */
     @TaskAction
-    public void execute() throws ExecutableNotFoundException, BeanRegistryException {
+    public void execute() throws ExecutableNotFoundException, BeanRegistryException, IOException {
         if (script.isPresent()) {
-            Beans
-                .getBean(GradleScriptRunnerAdapter.class)
-                .execute(new ScriptProperties(getProject(), packageJsonDirectory.map(File::toPath).get(),
-                    getExecutableType(), nodeInstallDirectory.getAsFile().map(File::toPath).get(),
-                    yarnInstallDirectory.getAsFile().map(File::toPath).getOrNull(), script.get(),
-                    Beans.getBean(Platform.class)));
+            restoreSymbolicLinks();
+            run(new ScriptProperties(getProject(), packageJsonDirectory.map(File::toPath).get(), getExecutableType(),
+                nodeInstallDirectory.getAsFile().map(File::toPath).get(),
+                yarnInstallDirectory.getAsFile().map(File::toPath).getOrNull(), script.get(),
+                Beans.getBean(Platform.class)));
         }
     }
+
+    /**
+     * Restores symbolic links recorded in the manifest of the Node install directory, and of the Yarn install directory
+     * if any, when they were replaced with a copy of their target.
+     *
+     * @throws BeanRegistryException If a component cannot be instanciated.
+     * @throws IOException If an I/O error occurs.
+     * @since 2.2.0
+     */
+    void restoreSymbolicLinks() throws BeanRegistryException, IOException {
+        final RestoreSymbolicLinks restoreSymbolicLinks = Beans.getBean(RestoreSymbolicLinks.class);
+        for (final DirectoryProperty installDirectory : Arrays.asList(nodeInstallDirectory, yarnInstallDirectory)) {
+            if (installDirectory.isPresent()) {
+                final Path installDirectoryPath = installDirectory.getAsFile().get().toPath();
+                final int restoredLinkCount = restoreSymbolicLinks.execute(installDirectoryPath);
+                if (restoredLinkCount > 0) {
+                    getLogger().info("{} symbolic link(s) restored in '{}'", restoredLinkCount, installDirectoryPath);
+                }
+            }
+        }
+    }
+
+    /**
+     * Submits the script to Gradle's Worker API, so as it is run in a new process. Sub-classes may override this method
+     * to run the script differently.
+     *
+     * @param scriptProperties Script properties.
+     * @throws ExecutableNotFoundException When the executable cannot be found (Node, npx, npm, Yarn).
+     * @throws BeanRegistryException If a component cannot be instanciated.
+     * @since 2.2.0
+     */
+    protected void run(@Nonnull final ScriptProperties scriptProperties)
+        throws ExecutableNotFoundException, BeanRegistryException {
+        final boolean verboseModeEnabled = Objects
+            .requireNonNull(getProject().getExtensions().findByType(FrontendExtension.class))
+            .getVerboseModeEnabled()
+            .get();
+        Beans
+            .getBean(GradleScriptRunnerAdapter.class)
+            .submit(scriptProperties, getWorkerExecutor().noIsolation(), getLogger().getName(),
+                TaskLoggerConfigurer.resolveLogLevel(this), verboseModeEnabled,
+                TaskLoggerConfigurer.resolvePrefix(this));
+    }
 }
@@ -1,13 +1,15 @@
 package org.siouan.frontendgradleplugin.infrastructure.gradle;
 
 import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.Optional;
 
 /**
  * This task executes frontend tests.
  */
-public class CheckTask extends AbstractRunPredefinedCommandTask {
+@CacheableTask
+public abstract class CheckTask extends AbstractRunPredefinedCommandTask {
 
     @Input
     @Optional
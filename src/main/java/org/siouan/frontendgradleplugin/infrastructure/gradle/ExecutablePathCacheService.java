@@ -0,0 +1,60 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle;
+
+import javax.annotation.Nonnull;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
+import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
+import org.siouan.frontendgradleplugin.infrastructure.Beans;
+
+/**
+ * Build service holding the cache of executable paths during a build. A single service is registered for the whole
+ * build, whatever the number of projects applying the plugin, and the cache is cleared when the service is closed at
+ * the end of the build, since install directories may be modified between builds run by the same Gradle daemon.
+ *
+ * @since 2.2.0
+ */
+public abstract class ExecutablePathCacheService implements BuildService<BuildServiceParameters.None>,
+    AutoCloseable {
+
+    /**
+     * Name of the service in the build.
+     */
+    public static final String NAME = "frontendExecutablePathCache";
+
+    private final ExecutablePathCache executablePathCache;
+
+    public ExecutablePathCacheService() {
+        try {
+            executablePathCache = Beans.getBean(ExecutablePathCache.class);
+        } catch (final BeanRegistryException e) {
+            throw new GradleException("Cannot get instance of executable path cache", e);
+        }
+    }
+
+    /**
+     * Registers the service in the build of the given project, unless it was already registered by another project,
+     * and starts it, so as it is closed when the build completes.
+     *
+     * @param project Project.
+     */
+    public static void start(@Nonnull final Project project) {
+        project
+            .getGradle()
+            .getSharedServices()
+            .registerIfAbsent(NAME, ExecutablePathCacheService.class, spec -> {
+            })
+            .get();
+    }
+
+    /**
+     * Clears the cache of executable paths.
+     */
+    @Override
+    public void close() {
+        executablePathCache.clear();
+    }
+}
@@ -104,6 +104,64 @@ public class FrontendExtension {
      */
     private final Property<Integer> proxyPort;
 
+    /**
+     * Whether distributions shall be cached, to be reused by other installations.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Boolean> distributionCacheEnabled;
+
+    /**
+     * Directory where the plugin caches data shared by builds.
+     *
+     * @since 2.2.0
+     */
+    private final DirectoryProperty cacheDirectory;
+
+    /**
+     * Whether distributions may be exploded while they are downloaded, when the distribution cache is disabled.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Boolean> distributionStreamingEnabled;
+
+    /**
+     * Maximum number of threads used to explode distributions.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> explodeWorkerCount;
+
+    /**
+     * Maximum number of attempts to download a distribution, including the first one.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> downloadMaxAttempts;
+
+    /**
+     * Delay in milliseconds before downloading a distribution again after a first failure. This delay is doubled after
+     * each failed attempt.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Long> downloadRetryInitialDelayMs;
+
+    /**
+     * Maximum number of concurrent connections used to download a distribution, when the server supports range
+     * requests.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> downloadConnectionCount;
+
+    /**
+     * Maximum number of scripts run in parallel by tasks of a project.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> scriptWorkerCount;
+
     /**
      * Whether verbose mode is enabled.
      *
@@ -129,6 +187,14 @@ public class FrontendExtension {
         packageJsonDirectory = project.getObjects().property(File.class);
         proxyHost = project.getObjects().property(String.class);
         proxyPort = project.getObjects().property(Integer.class);
+        distributionCacheEnabled = project.getObjects().property(Boolean.class);
+        cacheDirectory = project.getObjects().directoryProperty();
+        distributionStreamingEnabled = project.getObjects().property(Boolean.class);
+        explodeWorkerCount = project.getObjects().property(Integer.class);
+        downloadMaxAttempts = project.getObjects().property(Integer.class);
+        downloadRetryInitialDelayMs = project.getObjects().property(Long.class);
+        downloadConnectionCount = project.getObjects().property(Integer.class);
+        scriptWorkerCount = project.getObjects().property(Integer.class);
         verboseModeEnabled = project.getObjects().property(Boolean.class);
     }
 
@@ -200,6 +266,38 @@ public class FrontendExtension {
         return proxyPort;
     }
 
+    public Property<Boolean> getDistributionCacheEnabled() {
+        return distributionCacheEnabled;
+    }
+
+    public DirectoryProperty getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public Property<Boolean> getDistributionStreamingEnabled() {
+        return distributionStreamingEnabled;
+    }
+
+    public Property<Integer> getExplodeWorkerCount() {
+        return explodeWorkerCount;
+    }
+
+    public Property<Integer> getDownloadMaxAttempts() {
+        return downloadMaxAttempts;
+    }
+
+    public Property<Long> getDownloadRetryInitialDelayMs() {
+        return downloadRetryInitialDelayMs;
+    }
+
+    public Property<Integer> getDownloadConnectionCount() {
+        return downloadConnectionCount;
+    }
+
+    public Property<Integer> getScriptWorkerCount() {
+        return scriptWorkerCount;
+    }
+
     public Property<Boolean> getVerboseModeEnabled() {
         return verboseModeEnabled;
     }
@@ -4,10 +4,13 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URL;
+import java.nio.file.Path;
 
 import org.gradle.api.DefaultTask;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
@@ -19,15 +22,22 @@ import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlEx
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.InstallMetrics;
 import org.siouan.frontendgradleplugin.domain.model.InstallSettings;
 import org.siouan.frontendgradleplugin.domain.model.Platform;
+import org.siouan.frontendgradleplugin.domain.model.RetrySettings;
 import org.siouan.frontendgradleplugin.domain.usecase.InstallNodeDistribution;
+import org.siouan.frontendgradleplugin.domain.usecase.WriteInstallMetricsReport;
 import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
 import org.siouan.frontendgradleplugin.infrastructure.Beans;
 
 /**
- * Task that downloads and installs a Node distribution.
+ * Task that downloads and installs a Node distribution. The task output may be stored in the build cache. Since the
+ * build cache does not preserve symbolic links, and since task actions are not executed when the output is loaded from
+ * the cache, links recorded in the install manifest are restored by tasks running scripts with this distribution (see
+ * {@link AbstractRunCommandTask}).
  */
+@CacheableTask
 public class NodeInstallTask extends DefaultTask {
 
     /**
@@ -45,6 +55,13 @@ public class NodeInstallTask extends DefaultTask {
      */
     private final Property<String> nodeDistributionUrl;
 
+    /**
+     * ID of the platform the distribution is installed for.
+     *
+     * @since 2.2.0
+     */
+    private final Property<String> platform;
+
     /**
      * Proxy host used to download resources.
      *
@@ -59,12 +76,77 @@ public class NodeInstallTask extends DefaultTask {
      */
     private final Property<Integer> proxyPort;
 
+    /**
+     * Whether distributions shall be cached.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Boolean> distributionCacheEnabled;
+
+    /**
+     * Directory where distributions are cached.
+     *
+     * @since 2.2.0
+     */
+    private final DirectoryProperty cacheDirectory;
+
+    /**
+     * Whether the distribution may be exploded while it is downloaded.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Boolean> distributionStreamingEnabled;
+
+    /**
+     * Maximum number of threads used to explode the distribution.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> explodeWorkerCount;
+
+    /**
+     * Maximum number of attempts to download the distribution, including the first one.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> downloadMaxAttempts;
+
+    /**
+     * Delay in milliseconds before downloading the distribution again after a first failure.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Long> downloadRetryInitialDelayMs;
+
+    /**
+     * Maximum number of concurrent connections used to download the distribution.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Integer> downloadConnectionCount;
+
+    /**
+     * File where metrics of the install are written, as a JSON object.
+     *
+     * @since 2.2.0
+     */
+    private final RegularFileProperty metricsReportFile;
+
     public NodeInstallTask() {
         this.nodeVersion = getProject().getObjects().property(String.class);
         this.nodeInstallDirectory = getProject().getObjects().directoryProperty();
         this.nodeDistributionUrl = getProject().getObjects().property(String.class);
+        this.platform = getProject().getObjects().property(String.class);
         this.proxyHost = getProject().getObjects().property(String.class);
         this.proxyPort = getProject().getObjects().property(Integer.class);
+        this.distributionCacheEnabled = getProject().getObjects().property(Boolean.class);
+        this.cacheDirectory = getProject().getObjects().directoryProperty();
+        this.distributionStreamingEnabled = getProject().getObjects().property(Boolean.class);
+        this.explodeWorkerCount = getProject().getObjects().property(Integer.class);
+        this.downloadMaxAttempts = getProject().getObjects().property(Integer.class);
+        this.downloadRetryInitialDelayMs = getProject().getObjects().property(Long.class);
+        this.downloadConnectionCount = getProject().getObjects().property(Integer.class);
+        this.metricsReportFile = getProject().getObjects().fileProperty();
     }
 
     @Input
@@ -84,6 +166,11 @@ public class NodeInstallTask extends DefaultTask {
         return nodeInstallDirectory;
     }
 
+    @Input
+    public Property<String> getPlatform() {
+        return platform;
+    }
+
     @Internal
     public Property<String> getProxyHost() {
         return proxyHost;
@@ -94,8 +181,48 @@ public class NodeInstallTask extends DefaultTask {
         return proxyPort;
     }
 
+    @Internal
+    public Property<Boolean> getDistributionCacheEnabled() {
+        return distributionCacheEnabled;
+    }
+
+    @Internal
+    public DirectoryProperty getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    @Internal
+    public Property<Boolean> getDistributionStreamingEnabled() {
+        return distributionStreamingEnabled;
+    }
+
+    @Internal
+    public Property<Integer> getExplodeWorkerCount() {
+        return explodeWorkerCount;
+    }
+
+    @Internal
+    public Property<Integer> getDownloadMaxAttempts() {
+        return downloadMaxAttempts;
+    }
+
+    @Internal
+    public Property<Long> getDownloadRetryInitialDelayMs() {
+        return downloadRetryInitialDelayMs;
+    }
+
+    @Internal
+    public Property<Integer> getDownloadConnectionCount() {
+        return downloadConnectionCount;
+    }
+
+    @Internal
+    public RegularFileProperty getMetricsReportFile() {
+        return metricsReportFile;
+    }
+
     /**
-     * Installs a Node.js distribution.
+     * Installs a Node.js distribution, and writes metrics of the install in the report file, if any.
      *
      * @throws BeanRegistryException If a component cannot be instanciated.
      * @throws UnsupportedDistributionIdException If the type of distribution to install is not supported.
@@ -114,9 +241,23 @@ public class NodeInstallTask extends DefaultTask {
         final Proxy proxy = proxyHost
             .map(host -> new Proxy(Proxy.Type.HTTP, new InetSocketAddress(host, proxyPort.get())))
             .getOrElse(Proxy.NO_PROXY);
-        Beans
+        final Path cacheDirectoryPath;
+        if (distributionCacheEnabled.getOrElse(false)) {
+            cacheDirectoryPath = cacheDirectory.getAsFile().get().toPath();
+        } else {
+            cacheDirectoryPath = null;
+        }
+        final InstallMetrics installMetrics = Beans
             .getBean(InstallNodeDistribution.class)
             .execute(new InstallSettings(Beans.getBean(Platform.class), nodeVersion.get(), distributionUrl, proxy,
-                getTemporaryDir().toPath(), nodeInstallDirectory.getAsFile().get().toPath()));
+                getTemporaryDir().toPath(), nodeInstallDirectory.getAsFile().get().toPath(),
+                cacheDirectoryPath, distributionStreamingEnabled.getOrElse(false), explodeWorkerCount.getOrElse(1),
+                new RetrySettings(downloadMaxAttempts.getOrElse(1), downloadRetryInitialDelayMs.getOrElse(0L)),
+                downloadConnectionCount.getOrElse(1)));
+        if (metricsReportFile.isPresent()) {
+            Beans
+                .getBean(WriteInstallMetricsReport.class)
+                .execute(metricsReportFile.getAsFile().get().toPath(), installMetrics);
+        }
     }
 }
@@ -0,0 +1,84 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.LoggerOutputStream;
+import org.siouan.frontendgradleplugin.infrastructure.node.NodeWorker;
+
+/**
+ * Build service keeping Node workers alive during a build, so as tasks running scripts in a worker reuse the same Node
+ * process. A worker is started for each distinct Node executable, working directory and environment. Workers are
+ * stopped when the build completes. Since a worker is shared by several tasks, messages written by a Node process
+ * outside of any script are logged with the logger of this service.
+ *
+ * @since 2.2.0
+ */
+public abstract class NodeWorkerService implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+
+    /**
+     * Name of the service in the build.
+     */
+    public static final String NAME = "frontendNodeWorkers";
+
+    private final Map<List<Object>, NodeWorker> workers = new HashMap<>();
+
+    /**
+     * Gets a running worker, and starts it if necessary.
+     *
+     * @param nodeExecutablePath Path to the Node executable.
+     * @param workingDirectoryPath Working directory of the Node process.
+     * @param environment Environment variables added to/replaced in the environment of the Gradle process.
+     * @return Worker.
+     * @throws IOException If the worker cannot be started.
+     */
+    @Nonnull
+    public synchronized NodeWorker getWorker(@Nonnull final Path nodeExecutablePath,
+        @Nonnull final Path workingDirectoryPath, @Nonnull final Map<String, String> environment) throws IOException {
+        final List<Object> key = Arrays.asList(nodeExecutablePath, workingDirectoryPath, environment);
+        NodeWorker worker = workers.get(key);
+        if ((worker == null) || !worker.isAlive()) {
+            if (worker != null) {
+                worker.close();
+            }
+            worker = NodeWorker.start(nodeExecutablePath, workingDirectoryPath, environment,
+                new LoggerOutputStream(Logging.getLogger(NodeWorkerService.class), LogLevel.ERROR));
+            workers.put(key, worker);
+        }
+        return worker;
+    }
+
+    /**
+     * Stops all workers.
+     *
+     * @throws IOException If a worker cannot be stopped.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        IOException exception = null;
+        for (final NodeWorker worker : workers.values()) {
+            try {
+                worker.close();
+            } catch (final IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        workers.clear();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
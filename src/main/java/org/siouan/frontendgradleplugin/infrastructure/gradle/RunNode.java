@@ -1,10 +1,18 @@
 package org.siouan.frontendgradleplugin.infrastructure.gradle;
 
 import java.util.Objects;
+import javax.annotation.Nonnull;
 
 import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
 import org.siouan.frontendgradleplugin.domain.model.ExecutableType;
+import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
+import org.siouan.frontendgradleplugin.infrastructure.Beans;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.NodeWorkerScriptRunnerAdapter;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.ScriptProperties;
 
 /**
  * Task type allowing developers to implement custom task and run a {@code node} command. To do so, the {@code script}
@@ -19,10 +27,35 @@ import org.siouan.frontendgradleplugin.domain.model.ExecutableType;
  *     script = 'myscript'
  * }
  * </pre>
+ * <p>
+ * When the {@code workerEnabled} property is {@code true}, the script is run in a worker thread of a Node process kept
+ * alive until the build completes, instead of a new Node process. The script must then start with the path to a
+ * script file, optionally followed by arguments. The file is loaded as a regular module, since a worker thread has no
+ * main module: a script checking {@code require.main === module} shall be run in a new process. Worker mode is
+ * available with this task type only: other task types running scripts always start a new process.
  *
  * @since 1.2.0
  */
-public class RunNode extends AbstractRunCommandTask {
+public abstract class RunNode extends AbstractRunCommandTask {
+
+    /**
+     * Whether the script is run in a Node process kept alive until the build completes.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Boolean> workerEnabled;
+
+    /**
+     * Delay in milliseconds after which a script run in a worker is terminated, {@code 0} to wait indefinitely.
+     *
+     * @since 2.2.0
+     */
+    private final Property<Long> workerTimeoutMs;
+
+    /**
+     * Service providing Node workers.
+     */
+    private final Provider<NodeWorkerService> nodeWorkerService;
 
     public RunNode() {
         super();
@@ -30,6 +63,13 @@ public class RunNode extends AbstractRunCommandTask {
             getProject().getExtensions().findByType(FrontendExtension.class));
         packageJsonDirectory.set(extension.getPackageJsonDirectory());
         nodeInstallDirectory.set(extension.getNodeInstallDirectory());
+        workerEnabled = getProject().getObjects().property(Boolean.class).convention(false);
+        workerTimeoutMs = getProject().getObjects().property(Long.class).convention(0L);
+        nodeWorkerService = getProject()
+            .getGradle()
+            .getSharedServices()
+            .registerIfAbsent(NodeWorkerService.NAME, NodeWorkerService.class, spec -> {
+            });
     }
 
     @Input
@@ -37,8 +77,30 @@ public class RunNode extends AbstractRunCommandTask {
         return script;
     }
 
+    @Internal
+    public Property<Boolean> getWorkerEnabled() {
+        return workerEnabled;
+    }
+
+    @Internal
+    public Property<Long> getWorkerTimeoutMs() {
+        return workerTimeoutMs;
+    }
+
     @Override
     protected String getExecutableType() {
         return ExecutableType.NODE;
     }
+
+    @Override
+    protected void run(@Nonnull final ScriptProperties scriptProperties)
+        throws ExecutableNotFoundException, BeanRegistryException {
+        if (workerEnabled.get()) {
+            Beans
+                .getBean(NodeWorkerScriptRunnerAdapter.class)
+                .execute(scriptProperties, nodeWorkerService.get(), workerTimeoutMs.get(), getLogger());
+        } else {
+            super.run(scriptProperties);
+        }
+    }
 }
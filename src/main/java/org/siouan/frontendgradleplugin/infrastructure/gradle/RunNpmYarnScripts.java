@@ -0,0 +1,113 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
+
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.TaskAction;
+import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
+import org.siouan.frontendgradleplugin.domain.model.ExecutableType;
+import org.siouan.frontendgradleplugin.domain.model.Platform;
+import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
+import org.siouan.frontendgradleplugin.infrastructure.Beans;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.GradleScriptsRunnerAdapter;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.ScriptsProperties;
+
+/**
+ * Task type allowing developers to implement custom task and run several independent scripts of the
+ * {@code package.json} file in a single Node process. Scripts are run the same way than with {@code npm run <script>}
+ * or {@code yarn run <script>}, without paying the startup cost of npm or Yarn for each script. To do so, the
+ * {@code scripts} property must be defined, and custom task shall depend on the {@code installFrontend} task.
+ * <p>
+ * A typical usage of this task in a 'build.gradle' file would be:
+ * <pre>
+ * import org.siouan.frontendgradleplugin.infrastructure.gradle.RunNpmYarnScripts
+ * tasks.register('mytask', RunNpmYarnScripts) {
+ *     dependsOn tasks.named('installFrontend')
+ *     scripts = ['lint', 'test']
+ *     maxParallelScripts = 2
+ * }
+ * </pre>
+ * <p>
+ * All scripts are run even if some of them fail, and the task fails once all of them are complete, listing the scripts
+ * which failed with their exit value. The exit value and the duration of each script are logged at the INFO level.
+ * <p>
+ * npm and Yarn are not run, so only a subset of the environment they provide to scripts is available: the
+ * {@code node_modules/.bin} directories and the directory of the Node executable in the {@code PATH}, and the
+ * {@code npm_lifecycle_event}, {@code npm_lifecycle_script}, {@code npm_node_execpath}, {@code npm_package_json},
+ * {@code npm_package_name} and {@code npm_package_version} variables. Scripts relying on other variables (e.g.
+ * {@code npm_config_*}, {@code npm_execpath}, {@code INIT_CWD}) or on features specific to a package manager (e.g. Yarn
+ * Plug'n'Play) shall be run with the {@link RunNpmYarn} task type.
+ * <p>
+ * The scripts are run in a process started by the task itself, not with Gradle's Worker API. Like other tasks running
+ * scripts, the task uses the {@link ScriptWorkerService} of the project, so as the {@code scriptWorkerCount} property
+ * of the extension also limits the number of such tasks running in parallel. The {@code script} property inherited
+ * from {@link AbstractRunCommandTask} is neither exposed nor settable, so as it is not an input of the task.
+ *
+ * @since 2.2.0
+ */
+public abstract class RunNpmYarnScripts extends AbstractRunCommandTask {
+
+    /**
+     * Names of the scripts to run.
+     */
+    private final ListProperty<String> scripts;
+
+    /**
+     * Maximum number of scripts run in parallel.
+     */
+    private final Property<Integer> maxParallelScripts;
+
+    public RunNpmYarnScripts() {
+        super();
+        final FrontendExtension extension = Objects.requireNonNull(
+            getProject().getExtensions().findByType(FrontendExtension.class));
+        packageJsonDirectory.set(extension.getPackageJsonDirectory());
+        nodeInstallDirectory.set(extension.getNodeInstallDirectory());
+        // The task runs the scripts listed in the 'scripts' property only.
+        script.disallowChanges();
+        scripts = getProject().getObjects().listProperty(String.class);
+        maxParallelScripts = getProject().getObjects().property(Integer.class).convention(1);
+    }
+
+    @Input
+    public ListProperty<String> getScripts() {
+        return scripts;
+    }
+
+    @Internal
+    public Property<Integer> getMaxParallelScripts() {
+        return maxParallelScripts;
+    }
+
+    @Override
+    protected String getExecutableType() {
+        return ExecutableType.NODE;
+    }
+
+    /**
+     * Executes the task. If scripts have been provided, they are run in a single Node process. Otherwise, the task
+     * does nothing.
+     *
+     * @throws ExecutableNotFoundException When the Node executable cannot be found.
+     * @throws BeanRegistryException If a component cannot be instanciated.
+     * @throws IOException If symbolic links in the Node install directory cannot be restored.
+     */
+    @Override
+    @TaskAction
+    public void execute() throws ExecutableNotFoundException, BeanRegistryException, IOException {
+        if (!scripts.get().isEmpty()) {
+            restoreSymbolicLinks();
+            Beans
+                .getBean(GradleScriptsRunnerAdapter.class)
+                .execute(new ScriptsProperties(getProject(), packageJsonDirectory.map(File::toPath).get(),
+                    nodeInstallDirectory.getAsFile().map(File::toPath).get(), scripts.get(),
+                    Math.max(1, maxParallelScripts.get()), getTemporaryDir().toPath(),
+                    Beans.getBean(Platform.class)));
+        }
+    }
+}
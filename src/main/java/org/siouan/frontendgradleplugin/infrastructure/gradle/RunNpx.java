@@ -1,5 +1,6 @@
 package org.siouan.frontendgradleplugin.infrastructure.gradle;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.gradle.api.provider.Property;
@@ -24,7 +25,7 @@ import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
  *
  * @since 1.2.0
  */
-public class RunNpx extends AbstractRunCommandTask {
+public abstract class RunNpx extends AbstractRunCommandTask {
 
     public RunNpx() {
         super();
@@ -46,7 +47,7 @@ public class RunNpx extends AbstractRunCommandTask {
     }
 
     @Override
-    public void execute() throws BeanRegistryException, ExecutableNotFoundException {
+    public void execute() throws BeanRegistryException, ExecutableNotFoundException, IOException {
         if (yarnEnabled.get()) {
             throw new UnsupportedOperationException("Running a npx command is not supported when Yarn is enabled"
                 + " to avoid mixing dependencies from both package managers. An equivalent command with Yarn may be"
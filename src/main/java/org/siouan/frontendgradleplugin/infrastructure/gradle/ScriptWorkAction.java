@@ -0,0 +1,85 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.process.ExecOperations;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.siouan.frontendgradleplugin.domain.model.ExecutionSettings;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.GradleLoggerAdapter;
+
+/**
+ * Unit of work submitted to Gradle's Worker API to run a script with resolved execution settings. The work fails if
+ * the script execution fails, or does not terminate with a zero exit value. The logger adapter of the task is bound to
+ * the thread executing the task: messages are logged with the logger of the task, looked up by its name, and the
+ * logging configuration of the task given as parameters.
+ *
+ * @since 2.2.0
+ */
+public abstract class ScriptWorkAction implements WorkAction<ScriptWorkAction.Parameters> {
+
+    @Inject
+    public abstract ExecOperations getExecOperations();
+
+    @Override
+    public void execute() {
+        final Parameters parameters = getParameters();
+        final Set<Path> additionalExecutablePaths = parameters
+            .getAdditionalExecutableDirectories()
+            .get()
+            .stream()
+            .map(File::toPath)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        final ExecutionSettings executionSettings = new ExecutionSettings(
+            parameters.getWorkingDirectory().get().toPath(), additionalExecutablePaths,
+            parameters.getExecutable().get().toPath(), parameters.getArguments().get());
+
+        final GradleLoggerAdapter logger = new GradleLoggerAdapter();
+        logger.init(Logging.getLogger(parameters.getLoggerName().get()), parameters.getLoggingLevel().get(),
+            parameters.getVerboseModeEnabled().get(), parameters.getLoggingPrefix().get());
+        try {
+            getExecOperations()
+                .exec(new ExecSpecAction(executionSettings, execSpec -> {
+                    logger.debug("Execution environment: {}", execSpec.getEnvironment());
+                    logger.info("Running '{}' with arguments: [{}]", execSpec.getExecutable(),
+                        String.join("], [", execSpec.getArgs()));
+                }))
+                .rethrowFailure()
+                .assertNormalExitValue();
+        } finally {
+            logger.reset();
+        }
+    }
+
+    /**
+     * Parameters of the work: execution settings of the script, and the logger and the logging configuration of the
+     * task.
+     */
+    public interface Parameters extends WorkParameters {
+
+        Property<File> getWorkingDirectory();
+
+        ListProperty<File> getAdditionalExecutableDirectories();
+
+        Property<File> getExecutable();
+
+        ListProperty<String> getArguments();
+
+        Property<String> getLoggerName();
+
+        Property<LogLevel> getLoggingLevel();
+
+        Property<Boolean> getVerboseModeEnabled();
+
+        Property<String> getLoggingPrefix();
+    }
+}
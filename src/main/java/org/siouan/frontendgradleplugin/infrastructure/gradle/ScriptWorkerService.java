@@ -0,0 +1,43 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle;
+
+import javax.annotation.Nonnull;
+
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build service limiting the number of scripts run in parallel by tasks of a project. Tasks submit scripts to Gradle's
+ * Worker API, so as independent tasks of the same project may run concurrently. Each task running scripts declares it
+ * uses this service, and Gradle does not start more tasks than the maximum number of parallel usages of the service.
+ * Unlike a lock acquired by the work itself, a task waiting for the service does not hold a worker lease, and does not
+ * prevent unrelated work from running. A service is registered for each project.
+ *
+ * @since 2.2.0
+ */
+public abstract class ScriptWorkerService implements BuildService<BuildServiceParameters.None> {
+
+    /**
+     * Prefix of the name of the service in the build, followed by the path of the project.
+     */
+    public static final String NAME_PREFIX = "frontendScriptWorkers";
+
+    /**
+     * Registers the service of a project, if not already registered.
+     *
+     * @param project Project.
+     * @param extension Extension of the project.
+     * @return Provider of the service.
+     */
+    @Nonnull
+    public static Provider<ScriptWorkerService> registerIfAbsent(@Nonnull final Project project,
+        @Nonnull final FrontendExtension extension) {
+        return project
+            .getGradle()
+            .getSharedServices()
+            .registerIfAbsent(NAME_PREFIX + project.getPath(), ScriptWorkerService.class, spec -> spec
+                .getMaxParallelUsages()
+                .set(extension.getScriptWorkerCount().map(scriptWorkerCount -> Math.max(1, scriptWorkerCount))));
+    }
+}
@@ -3,6 +3,7 @@ package org.siouan.frontendgradleplugin.infrastructure.gradle;
 import javax.annotation.Nonnull;
 
 import org.gradle.api.GradleException;
+import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.execution.TaskExecutionListener;
 import org.gradle.api.logging.LogLevel;
@@ -13,7 +14,10 @@ import org.siouan.frontendgradleplugin.infrastructure.BeanRegistryException;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.adapter.GradleLoggerAdapter;
 
 /**
- * Class injecting in the bean registry a logger forwarding messages to the logger of a Gradle task.
+ * Class injecting in the bean registry a logger forwarding messages to the logger of a Gradle task. The logger is
+ * initialized for the thread executing the task, and reset once the task is executed, so as tasks may be executed in
+ * parallel. Listeners are registered on the Gradle instance shared by all projects: a configurer only handles tasks of
+ * the project it was created for, so as the configuration of a project never applies to tasks of another project.
  *
  * @since 2.0.0
  */
@@ -23,13 +27,21 @@ public class TaskLoggerConfigurer implements TaskExecutionListener {
 
     private final FrontendExtension extension;
 
-    public TaskLoggerConfigurer(final BeanRegistry beanRegistry, final FrontendExtension extension) {
+    private final Project project;
+
+    public TaskLoggerConfigurer(final BeanRegistry beanRegistry, final FrontendExtension extension,
+        final Project project) {
         this.beanRegistry = beanRegistry;
         this.extension = extension;
+        this.project = project;
     }
 
     @Override
     public void beforeExecute(@Nonnull final Task task) {
+        if (task.getProject() != project) {
+            return;
+        }
+
         task
             .getLogger()
             .debug("Configuring logger for task '{}', verboseModeEnabled: {}", task.getName(),
@@ -38,7 +50,7 @@ public class TaskLoggerConfigurer implements TaskExecutionListener {
             beanRegistry
                 .getBean(GradleLoggerAdapter.class)
                 .init(task.getLogger(), resolveLogLevel(task), extension.getVerboseModeEnabled().get(),
-                    '[' + task.getName() + "] ");
+                    resolvePrefix(task));
         } catch (final BeanRegistryException e) {
             throw new GradleException("Cannot get instance of bean registry", e);
         }
@@ -46,7 +58,15 @@ public class TaskLoggerConfigurer implements TaskExecutionListener {
 
     @Override
     public void afterExecute(@Nonnull final Task task, @Nonnull final TaskState state) {
-        // Event not used
+        if (task.getProject() != project) {
+            return;
+        }
+
+        try {
+            beanRegistry.getBean(GradleLoggerAdapter.class).reset();
+        } catch (final BeanRegistryException e) {
+            throw new GradleException("Cannot get instance of bean registry", e);
+        }
     }
 
     /**
@@ -59,7 +79,7 @@ public class TaskLoggerConfigurer implements TaskExecutionListener {
      * @return Logging level.
      */
     @Nonnull
-    private LogLevel resolveLogLevel(@Nonnull final Task task) {
+    public static LogLevel resolveLogLevel(@Nonnull final Task task) {
         LogLevel loggingLevel = task.getLogging().getLevel();
         if (loggingLevel != null) {
             return loggingLevel;
@@ -72,4 +92,16 @@ public class TaskLoggerConfigurer implements TaskExecutionListener {
 
         return task.getProject().getGradle().getStartParameter().getLogLevel();
     }
+
+    /**
+     * Resolves the prefix prepended before each message logged by a task.
+     *
+     * @param task Task.
+     * @return Prefix.
+     * @since 2.2.0
+     */
+    @Nonnull
+    public static String resolvePrefix(@Nonnull final Task task) {
+        return '[' + task.getName() + "] ";
+    }
 }
@@ -7,27 +7,24 @@ import org.gradle.api.logging.LogLevel;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 
 /**
- * Implementation that delegate logging to a Gradle logger.
+ * Implementation that delegate logging to a Gradle logger. The adapter is shared by all tasks, but is initialized per
+ * thread, so as tasks executed in parallel log messages with their own Gradle logger. Threads created by the thread
+ * executing a task do not inherit its configuration: they may outlive the task (e.g. threads of a long-lived process
+ * shared by several tasks), and their messages would be attributed to the wrong task. Work running in such threads
+ * shall receive explicitly the information required to log messages.
  *
  * @since 2.0.0
  */
 public class GradleLoggerAdapter implements Logger {
 
-    private org.gradle.api.logging.Logger gradleLogger;
-
-    private LogLevel loggingLevel;
-
-    private boolean verboseModeEnabled;
-
-    private String prefix;
+    private final ThreadLocal<Configuration> configuration;
 
     public GradleLoggerAdapter() {
-        this.loggingLevel = LogLevel.LIFECYCLE;
-        this.verboseModeEnabled = false;
+        this.configuration = new ThreadLocal<>();
     }
 
     /**
-     * Initializes the logger to delegate logging to the given Gradle logger.
+     * Initializes the logger to delegate logging to the given Gradle logger, for the current thread only.
      *
      * @param gradleLogger Gradle logger.
      * @param loggingLevel Current logging level.
@@ -36,36 +33,73 @@ public class GradleLoggerAdapter implements Logger {
      */
     public void init(@Nullable final org.gradle.api.logging.Logger gradleLogger, @Nonnull final LogLevel loggingLevel,
         final boolean verboseModeEnabled, @Nullable final String prefix) {
-        this.gradleLogger = gradleLogger;
-        this.loggingLevel = loggingLevel;
-        this.verboseModeEnabled = verboseModeEnabled;
-        this.prefix = prefix;
+        if (gradleLogger == null) {
+            configuration.remove();
+        } else {
+            configuration.set(new Configuration(gradleLogger, loggingLevel, verboseModeEnabled, prefix));
+        }
+    }
+
+    /**
+     * Resets the logger for the current thread, so as messages are no longer logged.
+     *
+     * @since 2.2.0
+     */
+    public void reset() {
+        configuration.remove();
     }
 
     @Override
     public void debug(@Nonnull final String message, @Nullable Object... parameters) {
-        if (gradleLogger == null) {
+        final Configuration currentConfiguration = configuration.get();
+        if (currentConfiguration == null) {
             return;
         }
 
-        gradleLogger.debug(formatMessage(message), parameters);
+        currentConfiguration.gradleLogger.debug(currentConfiguration.formatMessage(message), parameters);
     }
 
     @Override
     public void info(@Nonnull final String message, @Nullable final Object... parameters) {
-        if (gradleLogger == null) {
+        final Configuration currentConfiguration = configuration.get();
+        if (currentConfiguration == null) {
             return;
         }
 
-        if (verboseModeEnabled) {
-            gradleLogger.log(loggingLevel, formatMessage(message), parameters);
+        if (currentConfiguration.verboseModeEnabled) {
+            currentConfiguration.gradleLogger.log(currentConfiguration.loggingLevel,
+                currentConfiguration.formatMessage(message), parameters);
         } else {
-            gradleLogger.info(formatMessage(message), parameters);
+            currentConfiguration.gradleLogger.info(currentConfiguration.formatMessage(message), parameters);
         }
     }
 
-    @Nonnull
-    private String formatMessage(@Nonnull final String message) {
-        return (prefix == null) ? message : prefix + message;
+    /**
+     * Configuration of the logger for a thread.
+     *
+     * @since 2.2.0
+     */
+    private static class Configuration {
+
+        private final org.gradle.api.logging.Logger gradleLogger;
+
+        private final LogLevel loggingLevel;
+
+        private final boolean verboseModeEnabled;
+
+        private final String prefix;
+
+        Configuration(@Nonnull final org.gradle.api.logging.Logger gradleLogger, @Nonnull final LogLevel loggingLevel,
+            final boolean verboseModeEnabled, @Nullable final String prefix) {
+            this.gradleLogger = gradleLogger;
+            this.loggingLevel = loggingLevel;
+            this.verboseModeEnabled = verboseModeEnabled;
+            this.prefix = prefix;
+        }
+
+        @Nonnull
+        String formatMessage(@Nonnull final String message) {
+            return (prefix == null) ? message : prefix + message;
+        }
     }
 }
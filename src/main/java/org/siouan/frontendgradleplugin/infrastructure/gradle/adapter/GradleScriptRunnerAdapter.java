@@ -1,12 +1,17 @@
 package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
 
+import java.nio.file.Path;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import org.gradle.api.logging.LogLevel;
+import org.gradle.workers.WorkQueue;
 import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
 import org.siouan.frontendgradleplugin.domain.model.ExecutionSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.domain.usecase.ResolveExecutionSettings;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.ExecSpecAction;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.ScriptWorkAction;
 
 /**
  * An adapter that delegates running a script to the executor available in a Gradle project.
@@ -44,4 +49,47 @@ public class GradleScriptRunnerAdapter {
                 String.join("], [", execSpec.getArgs()));
         })).rethrowFailure().assertNormalExitValue();
     }
+
+    /**
+     * Submits the given script to a queue of Gradle's Worker API. Execution settings are resolved immediately, and the
+     * script is run asynchronously. The task submitting the script completes when the script terminates, and fails if
+     * the script execution fails, or does not terminate with a zero exit value.
+     *
+     * @param scriptProperties Script properties.
+     * @param workQueue Queue of work.
+     * @param loggerName Name of the logger of the task submitting the script.
+     * @param loggingLevel Logging level of the task submitting the script.
+     * @param verboseModeEnabled Whether verbose mode is enabled.
+     * @param loggingPrefix Prefix prepended before each message logged while the script is run.
+     * @throws ExecutableNotFoundException When a executable required is not found.
+     * @since 2.2.0
+     */
+    public void submit(@Nonnull final ScriptProperties scriptProperties, @Nonnull final WorkQueue workQueue,
+        @Nonnull final String loggerName, @Nonnull final LogLevel loggingLevel,
+        final boolean verboseModeEnabled, @Nonnull final String loggingPrefix) throws ExecutableNotFoundException {
+        final ExecutionSettings executionSettings = resolveExecutionSettings.execute(
+            scriptProperties.getPackageJsonDirectoryPath(), scriptProperties.getExecutableType(),
+            scriptProperties.getNodeInstallDirectory(), scriptProperties.getYarnInstallDirectory(),
+            scriptProperties.getPlatform(), scriptProperties.getScript());
+        logger.debug("Execution settings: {}", executionSettings);
+        logger.info("Submitting '{}' with arguments: [{}]", executionSettings.getExecutablePath(),
+            String.join("], [", executionSettings.getArguments()));
+
+        workQueue.submit(ScriptWorkAction.class, parameters -> {
+            parameters.getWorkingDirectory().set(executionSettings.getWorkingDirectoryPath().toFile());
+            parameters
+                .getAdditionalExecutableDirectories()
+                .set(executionSettings
+                    .getAdditionalExecutablePaths()
+                    .stream()
+                    .map(Path::toFile)
+                    .collect(Collectors.toList()));
+            parameters.getExecutable().set(executionSettings.getExecutablePath().toFile());
+            parameters.getArguments().set(executionSettings.getArguments());
+            parameters.getLoggerName().set(loggerName);
+            parameters.getLoggingLevel().set(loggingLevel);
+            parameters.getVerboseModeEnabled().set(verboseModeEnabled);
+            parameters.getLoggingPrefix().set(loggingPrefix);
+        });
+    }
 }
@@ -0,0 +1,132 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+import org.gradle.api.GradleException;
+import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
+import org.siouan.frontendgradleplugin.domain.model.ExecutionSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.usecase.GetNodeExecutablePath;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.ExecSpecAction;
+
+/**
+ * An adapter that runs several scripts of a {@code package.json} file in a single Node process, with the executor
+ * available in a Gradle project. Scripts are run the same way than {@code npm run <script>} does - including
+ * {@code pre<script>} and {@code post<script>} scripts -, but without starting npm or Yarn for each script. All scripts
+ * are run, even if some of them fail, and their exit values and durations are reported once all of them are complete.
+ *
+ * @since 2.2.0
+ */
+public class GradleScriptsRunnerAdapter {
+
+    /**
+     * Name of the resource containing the Node script that runs scripts.
+     */
+    static final String RUNNER_SCRIPT_RESOURCE_NAME = "run-scripts.js";
+
+    /**
+     * Name of the file where the runner reports the exit value and duration of each script.
+     */
+    static final String REPORT_FILE_NAME = "scripts-report.txt";
+
+    private static final char REPORT_FIELD_SEPARATOR = ' ';
+
+    private final GetNodeExecutablePath getNodeExecutablePath;
+
+    private final FileManager fileManager;
+
+    private final Logger logger;
+
+    public GradleScriptsRunnerAdapter(final GetNodeExecutablePath getNodeExecutablePath,
+        final FileManager fileManager, final Logger logger) {
+        this.getNodeExecutablePath = getNodeExecutablePath;
+        this.fileManager = fileManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Executes the given scripts with the executor available in the project.
+     *
+     * @param scriptsProperties Scripts properties.
+     * @throws ExecutableNotFoundException When the Node executable is not found.
+     */
+    public void execute(@Nonnull final ScriptsProperties scriptsProperties) throws ExecutableNotFoundException {
+        final Path nodeExecutablePath = getNodeExecutablePath
+            .execute(scriptsProperties.getNodeInstallDirectory(), scriptsProperties.getPlatform())
+            .orElseThrow(ExecutableNotFoundException::newNodeExecutableNotFoundException);
+        final Path runnerScriptFilePath = scriptsProperties
+            .getTemporaryDirectoryPath()
+            .resolve(RUNNER_SCRIPT_RESOURCE_NAME);
+        final Path reportFilePath = scriptsProperties.getTemporaryDirectoryPath().resolve(REPORT_FILE_NAME);
+        try {
+            fileManager.deleteIfExists(runnerScriptFilePath);
+            fileManager.deleteIfExists(reportFilePath);
+            try (final InputStream inputStream = GradleScriptsRunnerAdapter.class.getResourceAsStream(
+                RUNNER_SCRIPT_RESOURCE_NAME)) {
+                fileManager.copy(inputStream, runnerScriptFilePath);
+            }
+        } catch (final IOException e) {
+            throw new GradleException("Cannot write scripts runner '" + runnerScriptFilePath + "'", e);
+        }
+
+        final List<String> arguments = new ArrayList<>();
+        arguments.add(runnerScriptFilePath.toString());
+        arguments.add(Integer.toString(scriptsProperties.getMaxParallelScripts()));
+        arguments.add(reportFilePath.toString());
+        arguments.addAll(scriptsProperties.getScripts());
+        final ExecutionSettings executionSettings = new ExecutionSettings(
+            scriptsProperties.getPackageJsonDirectoryPath(), Collections.singleton(nodeExecutablePath.getParent()),
+            nodeExecutablePath, arguments);
+        logger.debug("Execution settings: {}", executionSettings);
+
+        scriptsProperties.getProject().exec(new ExecSpecAction(executionSettings, execSpec -> {
+            logger.debug("Execution environment: {}", execSpec.getEnvironment());
+            logger.info("Running scripts with at most {} in parallel: [{}]",
+                scriptsProperties.getMaxParallelScripts(), String.join("], [", scriptsProperties.getScripts()));
+        })).rethrowFailure().assertNormalExitValue();
+
+        final List<String> failedScripts = readReport(reportFilePath);
+        if (!failedScripts.isEmpty()) {
+            throw new GradleException("Script(s) failed: " + String.join(", ", failedScripts));
+        }
+    }
+
+    /**
+     * Reads the report written by the runner, and logs the exit value and duration of each script.
+     *
+     * @param reportFilePath Path to the report file.
+     * @return Descriptions of the scripts which terminated with a non-zero exit value.
+     */
+    @Nonnull
+    private List<String> readReport(@Nonnull final Path reportFilePath) {
+        final List<String> failedScripts = new ArrayList<>();
+        try (final BufferedReader reader = fileManager.newBufferedReader(reportFilePath)) {
+            String line = reader.readLine();
+            while (line != null) {
+                final int exitValueEndIndex = line.indexOf(REPORT_FIELD_SEPARATOR);
+                final int durationEndIndex = line.indexOf(REPORT_FIELD_SEPARATOR, exitValueEndIndex + 1);
+                if (exitValueEndIndex > 0 && durationEndIndex > exitValueEndIndex) {
+                    final String exitValue = line.substring(0, exitValueEndIndex);
+                    final String duration = line.substring(exitValueEndIndex + 1, durationEndIndex);
+                    final String script = line.substring(durationEndIndex + 1);
+                    logger.info("Script '{}' finished with exit value {} in {} ms", script, exitValue, duration);
+                    if (!exitValue.equals("0")) {
+                        failedScripts.add("'" + script + "' (exit value " + exitValue + ")");
+                    }
+                }
+                line = reader.readLine();
+            }
+        } catch (final IOException e) {
+            throw new GradleException("Cannot read scripts report '" + reportFilePath + "'", e);
+        }
+        return failedScripts;
+    }
+}
@@ -0,0 +1,81 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nonnull;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+
+/**
+ * An output stream logging each line of text written in it with a Gradle logger, at a given level. Bytes are decoded
+ * as UTF-8 characters, and line terminators are removed. A line not terminated is logged when the stream is flushed
+ * or closed.
+ *
+ * @since 2.2.0
+ */
+public class LoggerOutputStream extends OutputStream {
+
+    private static final int LINE_FEED = '\n';
+
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final Logger logger;
+
+    private final LogLevel logLevel;
+
+    private final ByteArrayOutputStream line;
+
+    /**
+     * Builds a stream logging lines with the given logger.
+     *
+     * @param logger Logger.
+     * @param logLevel Level of the messages.
+     */
+    public LoggerOutputStream(@Nonnull final Logger logger, @Nonnull final LogLevel logLevel) {
+        this.logger = logger;
+        this.logLevel = logLevel;
+        this.line = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        if (b == LINE_FEED) {
+            logLine();
+        } else {
+            line.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void write(@Nonnull final byte[] b, final int off, final int len) {
+        for (int i = off; i < off + len; i++) {
+            write(b[i]);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (line.size() > 0) {
+            logLine();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Logs the bytes buffered as a line, and clears the buffer.
+     */
+    private void logLine() {
+        String message = new String(line.toByteArray(), StandardCharsets.UTF_8);
+        if (!message.isEmpty() && (message.charAt(message.length() - 1) == CARRIAGE_RETURN)) {
+            message = message.substring(0, message.length() - 1);
+        }
+        line.reset();
+        logger.log(logLevel, message);
+    }
+}
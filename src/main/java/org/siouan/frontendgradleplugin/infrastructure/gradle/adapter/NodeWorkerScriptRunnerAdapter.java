@@ -0,0 +1,111 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.LogLevel;
+import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.usecase.GetNodeExecutablePath;
+import org.siouan.frontendgradleplugin.domain.usecase.ResolveExecutionSettings;
+import org.siouan.frontendgradleplugin.domain.util.StringSplitter;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.NodeWorkerService;
+import org.siouan.frontendgradleplugin.infrastructure.node.NodeWorker;
+
+/**
+ * An adapter that runs a Node script in a worker kept alive during the build, instead of starting a new Node process.
+ * The script is split into a script file and its arguments the same way on all platforms: arguments are separated by
+ * spaces, and a space preceded by a backslash is kept in the argument. Scripts starting with Node options cannot be
+ * run in a worker, and are run in a new process. Bytes written by the script on its standard output and on its standard
+ * error are logged line by line with the logger of the task, respectively at quiet and error levels, the same way
+ * Gradle logs the output of a new process.
+ *
+ * @since 2.2.0
+ */
+public class NodeWorkerScriptRunnerAdapter {
+
+    /**
+     * Prefix of a Node option.
+     */
+    private static final String OPTION_PREFIX = "-";
+
+    private final GetNodeExecutablePath getNodeExecutablePath;
+
+    private final GradleScriptRunnerAdapter gradleScriptRunnerAdapter;
+
+    private final Logger logger;
+
+    public NodeWorkerScriptRunnerAdapter(final GetNodeExecutablePath getNodeExecutablePath,
+        final GradleScriptRunnerAdapter gradleScriptRunnerAdapter, final Logger logger) {
+        this.getNodeExecutablePath = getNodeExecutablePath;
+        this.gradleScriptRunnerAdapter = gradleScriptRunnerAdapter;
+        this.logger = logger;
+    }
+
+    /**
+     * Executes the given Node script in a worker of the given service.
+     *
+     * @param scriptProperties Script properties.
+     * @param nodeWorkerService Service providing workers.
+     * @param timeoutMs Delay in milliseconds after which the script is terminated, or {@code 0} to wait indefinitely.
+     * @param taskLogger Logger of the task running the script.
+     * @throws ExecutableNotFoundException When the Node executable is not found.
+     */
+    public void execute(@Nonnull final ScriptProperties scriptProperties,
+        @Nonnull final NodeWorkerService nodeWorkerService, final long timeoutMs,
+        @Nonnull final org.gradle.api.logging.Logger taskLogger) throws ExecutableNotFoundException {
+        final List<String> arguments = new StringSplitter(ResolveExecutionSettings.LINUX_SCRIPT_ARG_SEPARATOR_CHAR,
+            ResolveExecutionSettings.LINUX_SCRIPT_ARG_ESCAPE_CHAR).execute(scriptProperties.getScript().trim());
+        if (arguments.isEmpty() || arguments.get(0).startsWith(OPTION_PREFIX)) {
+            logger.info("Node options are not supported in a worker, running script in a new process");
+            gradleScriptRunnerAdapter.execute(scriptProperties);
+            return;
+        }
+
+        final Path nodeExecutablePath = getNodeExecutablePath
+            .execute(scriptProperties.getNodeInstallDirectory(), scriptProperties.getPlatform())
+            .orElseThrow(ExecutableNotFoundException::newNodeExecutableNotFoundException);
+        final Path scriptFilePath = Paths.get(arguments.get(0));
+        final List<String> scriptArguments = arguments.subList(1, arguments.size());
+        logger.info("Running '{}' in a Node worker with arguments: [{}]", scriptFilePath,
+            String.join("], [", scriptArguments));
+
+        final int exitCode;
+        try (final OutputStream standardOutputStream = new LoggerOutputStream(taskLogger, LogLevel.QUIET);
+             final OutputStream errorOutputStream = new LoggerOutputStream(taskLogger, LogLevel.ERROR)) {
+            final NodeWorker worker = nodeWorkerService.getWorker(nodeExecutablePath,
+                scriptProperties.getPackageJsonDirectoryPath(), resolveEnvironment(nodeExecutablePath));
+            exitCode = worker.execute(scriptFilePath, scriptArguments, standardOutputStream, errorOutputStream,
+                timeoutMs);
+        } catch (final IOException e) {
+            throw new GradleException("Cannot run script '" + scriptFilePath + "' in a Node worker", e);
+        }
+        if (exitCode != 0) {
+            throw new GradleException("Script '" + scriptFilePath + "' finished with non-zero exit value " + exitCode);
+        }
+    }
+
+    /**
+     * Resolves the environment variables of the Node process: the directory containing the Node executable is
+     * prepended to the 'PATH' variable, the same way than when a script is run in a new process.
+     *
+     * @param nodeExecutablePath Path to the Node executable.
+     * @return Environment variables to add/replace.
+     */
+    @Nonnull
+    private Map<String, String> resolveEnvironment(@Nonnull final Path nodeExecutablePath) {
+        final Map<String, String> environment = System.getenv();
+        final String pathVariable = environment.containsKey("Path") ? "Path" : "PATH";
+        return Collections.singletonMap(pathVariable,
+            nodeExecutablePath.getParent().toString() + File.pathSeparatorChar + environment.getOrDefault(
+                pathVariable, ""));
+    }
+}
@@ -0,0 +1,103 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.gradle.api.Project;
+import org.siouan.frontendgradleplugin.domain.model.Platform;
+
+/**
+ * Properties to run several scripts of a {@code package.json} file in a single process.
+ *
+ * @since 2.2.0
+ */
+public class ScriptsProperties {
+
+    /**
+     * Gradle project.
+     */
+    private final Project project;
+
+    /**
+     * Path to the directory containing the {@code package.json} file.
+     */
+    private final Path packageJsonDirectoryPath;
+
+    /**
+     * Directory where the Node distribution is installed.
+     */
+    private final Path nodeInstallDirectory;
+
+    /**
+     * Names of the scripts to run.
+     */
+    private final List<String> scripts;
+
+    /**
+     * Maximum number of scripts run in parallel.
+     */
+    private final int maxParallelScripts;
+
+    /**
+     * Path to a temporary directory.
+     */
+    private final Path temporaryDirectoryPath;
+
+    /**
+     * Underlying platform.
+     */
+    private final Platform platform;
+
+    /**
+     * Builds properties to run scripts.
+     *
+     * @param project Gradle project.
+     * @param packageJsonDirectoryPath Path to the directory containing the {@code package.json} file.
+     * @param nodeInstallDirectory Node install directory.
+     * @param scripts Names of the scripts to run.
+     * @param maxParallelScripts Maximum number of scripts run in parallel.
+     * @param temporaryDirectoryPath Path to a temporary directory.
+     * @param platform Underlying platform.
+     */
+    public ScriptsProperties(final Project project, final Path packageJsonDirectoryPath,
+        final Path nodeInstallDirectory, final List<String> scripts, final int maxParallelScripts,
+        final Path temporaryDirectoryPath, final Platform platform) {
+        this.project = project;
+        this.packageJsonDirectoryPath = packageJsonDirectoryPath;
+        this.nodeInstallDirectory = nodeInstallDirectory;
+        this.scripts = unmodifiableList(scripts);
+        this.maxParallelScripts = maxParallelScripts;
+        this.temporaryDirectoryPath = temporaryDirectoryPath;
+        this.platform = platform;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public Path getPackageJsonDirectoryPath() {
+        return packageJsonDirectoryPath;
+    }
+
+    public Path getNodeInstallDirectory() {
+        return nodeInstallDirectory;
+    }
+
+    public List<String> getScripts() {
+        return scripts;
+    }
+
+    public int getMaxParallelScripts() {
+        return maxParallelScripts;
+    }
+
+    public Path getTemporaryDirectoryPath() {
+        return temporaryDirectoryPath;
+    }
+
+    public Platform getPlatform() {
+        return platform;
+    }
+}
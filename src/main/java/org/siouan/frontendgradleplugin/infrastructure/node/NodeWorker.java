@@ -0,0 +1,378 @@
+package org.siouan.frontendgradleplugin.infrastructure.node;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * A long-lived Node process running scripts in worker threads, so as each script does not pay the startup time of a
+ * new Node process. Scripts share the process, its working directory and its environment, but neither their globals
+ * nor their modules. Several scripts may be run concurrently.
+ * <p>
+ * Bytes written by a script on its standard output and on its standard error are forwarded by the thread waiting for
+ * the script to complete, i.e. the thread calling the {@link #execute(Path, List, OutputStream, OutputStream, long)}
+ * method. Bytes written by the Node process itself on its standard error, outside of any script, are forwarded by a
+ * dedicated thread to the stream given when the process is started.
+ *
+ * @since 2.2.0
+ */
+public class NodeWorker implements Closeable {
+
+    /**
+     * Name of the resource containing the script run by the Node process.
+     */
+    static final String DAEMON_SCRIPT_RESOURCE_NAME = "node-worker.js";
+
+    /**
+     * Additional delay granted to the Node process to report the termination of a script that timed out.
+     */
+    static final long TIMEOUT_GRACE_DELAY_MS = 5000;
+
+    /**
+     * Capacity of the buffer used to forward bytes written by the Node process on its standard error.
+     */
+    private static final int ERROR_BUFFER_CAPACITY = 1024;
+
+    private static final String STANDARD_OUTPUT_MESSAGE_TYPE = "out";
+
+    private static final String ERROR_OUTPUT_MESSAGE_TYPE = "err";
+
+    private static final String EXIT_MESSAGE_TYPE = "exit";
+
+    private static final String TIMEOUT_MESSAGE_TYPE = "timeout";
+
+    /**
+     * Type of the message posted to all pending executions when the Node process terminates.
+     */
+    private static final String TERMINATED_MESSAGE_TYPE = "terminated";
+
+    private final Writer requestWriter;
+
+    private final BufferedReader responseReader;
+
+    private final Closeable terminator;
+
+    private final AtomicLong nextRequestId;
+
+    private final ConcurrentMap<Long, BlockingQueue<Message>> pendingExecutions;
+
+    private volatile boolean alive;
+
+    /**
+     * Builds a worker communicating with a Node process through the given streams.
+     *
+     * @param requestOutputStream Stream to write requests to the Node process (its standard input).
+     * @param responseInputStream Stream to read responses from the Node process (its standard output).
+     * @param terminator Closeable called to terminate the Node process, once the request stream is closed.
+     */
+    NodeWorker(@Nonnull final OutputStream requestOutputStream, @Nonnull final InputStream responseInputStream,
+        @Nonnull final Closeable terminator) {
+        this.requestWriter = new OutputStreamWriter(requestOutputStream, StandardCharsets.UTF_8);
+        this.responseReader = new BufferedReader(new InputStreamReader(responseInputStream, StandardCharsets.UTF_8));
+        this.terminator = terminator;
+        this.nextRequestId = new AtomicLong();
+        this.pendingExecutions = new ConcurrentHashMap<>();
+        this.alive = true;
+        final Thread responseReaderThread = new Thread(this::readResponses, "node-worker-response-reader");
+        responseReaderThread.setDaemon(true);
+        responseReaderThread.start();
+    }
+
+    /**
+     * Starts a Node process running worker threads.
+     *
+     * @param nodeExecutablePath Path to the Node executable.
+     * @param workingDirectoryPath Working directory of the Node process, shared by all scripts.
+     * @param environment Environment variables added to/replaced in the environment of the current process.
+     * @param processErrorOutputStream Stream receiving bytes written by the Node process on its standard error.
+     * @return Worker.
+     * @throws IOException If the process cannot be started.
+     */
+    @Nonnull
+    public static NodeWorker start(@Nonnull final Path nodeExecutablePath, @Nonnull final Path workingDirectoryPath,
+        @Nonnull final Map<String, String> environment, @Nonnull final OutputStream processErrorOutputStream)
+        throws IOException {
+        final Path daemonScriptFilePath = Files.createTempFile("frontend-node-worker", ".js");
+        try {
+            try (final InputStream inputStream = NodeWorker.class.getResourceAsStream(DAEMON_SCRIPT_RESOURCE_NAME)) {
+                Files.copy(inputStream, daemonScriptFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            final ProcessBuilder processBuilder = new ProcessBuilder(nodeExecutablePath.toString(),
+                daemonScriptFilePath.toString())
+                .directory(workingDirectoryPath.toFile());
+            processBuilder.environment().putAll(environment);
+            final Process process = processBuilder.start();
+            final Thread errorReaderThread = new Thread(
+                () -> forward(process.getErrorStream(), processErrorOutputStream), "node-worker-error-reader");
+            errorReaderThread.setDaemon(true);
+            errorReaderThread.start();
+            return new NodeWorker(process.getOutputStream(), process.getInputStream(), () -> {
+                try {
+                    if (!process.waitFor(TIMEOUT_GRACE_DELAY_MS, TimeUnit.MILLISECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    process.destroyForcibly();
+                } finally {
+                    Files.deleteIfExists(daemonScriptFilePath);
+                }
+            });
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(daemonScriptFilePath);
+            throw e;
+        }
+    }
+
+    /**
+     * Tells whether the Node process is still running, and may execute scripts.
+     *
+     * @return {@code true} if the Node process is running.
+     */
+    public boolean isAlive() {
+        return alive;
+    }
+
+    /**
+     * Runs a script in a new worker thread, and waits for its completion.
+     *
+     * @param scriptFilePath Path to the script file, absolute or relative to the working directory of the process.
+     * @param arguments Arguments of the script.
+     * @param standardOutputStream Stream receiving bytes written by the script on its standard output.
+     * @param errorOutputStream Stream receiving bytes written by the script on its standard error.
+     * @param timeoutMs Delay in milliseconds after which the script is terminated, or {@code 0} to wait indefinitely.
+     * @return Exit code of the script.
+     * @throws IOException If the script timed out, if the Node process terminated before the script completed, or if
+     * the current thread is interrupted.
+     */
+    public int execute(@Nonnull final Path scriptFilePath, @Nonnull final List<String> arguments,
+        @Nonnull final OutputStream standardOutputStream, @Nonnull final OutputStream errorOutputStream,
+        final long timeoutMs) throws IOException {
+        final long requestId = nextRequestId.incrementAndGet();
+        final BlockingQueue<Message> messages = new LinkedBlockingQueue<>();
+        pendingExecutions.put(requestId, messages);
+        try {
+            if (!alive) {
+                throw new IOException("Node worker is terminated");
+            }
+            sendRequest(requestId, scriptFilePath, arguments, timeoutMs);
+            while (true) {
+                final Message message = nextMessage(messages, timeoutMs);
+                switch (message.type) {
+                case STANDARD_OUTPUT_MESSAGE_TYPE:
+                    standardOutputStream.write(Base64.getDecoder().decode(message.payload));
+                    break;
+                case ERROR_OUTPUT_MESSAGE_TYPE:
+                    errorOutputStream.write(Base64.getDecoder().decode(message.payload));
+                    break;
+                case EXIT_MESSAGE_TYPE:
+                    return Integer.parseInt(message.payload);
+                case TIMEOUT_MESSAGE_TYPE:
+                    throw new IOException("Script '" + scriptFilePath + "' timed out after " + timeoutMs + " ms");
+                default:
+                    throw new IOException("Node worker terminated before script '" + scriptFilePath + "' completed");
+                }
+            }
+        } finally {
+            standardOutputStream.flush();
+            errorOutputStream.flush();
+            pendingExecutions.remove(requestId);
+        }
+    }
+
+    /**
+     * Stops the Node process, once all scripts running are completed.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            synchronized (requestWriter) {
+                requestWriter.close();
+            }
+        } finally {
+            terminator.close();
+        }
+    }
+
+    /**
+     * Writes a request to run a script, as a JSON object on a single line.
+     *
+     * @param requestId Request ID.
+     * @param scriptFilePath Path to the script file.
+     * @param arguments Arguments of the script.
+     * @param timeoutMs Delay in milliseconds after which the script is terminated.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void sendRequest(final long requestId, @Nonnull final Path scriptFilePath,
+        @Nonnull final List<String> arguments, final long timeoutMs) throws IOException {
+        final StringBuilder request = new StringBuilder();
+        request.append("{\"id\":").append(requestId).append(",\"script\":");
+        appendJsonString(request, scriptFilePath.toString());
+        request.append(",\"args\":[");
+        for (int i = 0; i < arguments.size(); i++) {
+            if (i > 0) {
+                request.append(',');
+            }
+            appendJsonString(request, arguments.get(i));
+        }
+        request.append("],\"timeoutMs\":").append(timeoutMs).append("}\n");
+        synchronized (requestWriter) {
+            requestWriter.write(request.toString());
+            requestWriter.flush();
+        }
+    }
+
+    /**
+     * Waits for the next message related to a request.
+     *
+     * @param messages Queue of messages of the request.
+     * @param timeoutMs Delay in milliseconds after which the script is terminated, or {@code 0}.
+     * @return Message.
+     * @throws IOException If the Node process does not report the termination of a script that timed out, or if the
+     * current thread is interrupted.
+     */
+    @Nonnull
+    private Message nextMessage(@Nonnull final BlockingQueue<Message> messages, final long timeoutMs)
+        throws IOException {
+        try {
+            if (timeoutMs <= 0) {
+                return messages.take();
+            }
+
+            final Message message = messages.poll(timeoutMs + TIMEOUT_GRACE_DELAY_MS, TimeUnit.MILLISECONDS);
+            if (message == null) {
+                throw new IOException("Node worker did not terminate script after " + timeoutMs + " ms");
+            }
+            return message;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for script completion");
+        }
+    }
+
+    /**
+     * Forwards bytes written by the Node process on its standard error, until the process terminates.
+     *
+     * @param errorInputStream Stream to read the standard error of the Node process.
+     * @param errorOutputStream Stream receiving bytes read.
+     */
+    private static void forward(@Nonnull final InputStream errorInputStream,
+        @Nonnull final OutputStream errorOutputStream) {
+        final byte[] buffer = new byte[ERROR_BUFFER_CAPACITY];
+        try (final InputStream inputStream = errorInputStream) {
+            int numberOfBytesRead = inputStream.read(buffer);
+            while (numberOfBytesRead != -1) {
+                errorOutputStream.write(buffer, 0, numberOfBytesRead);
+                numberOfBytesRead = inputStream.read(buffer);
+            }
+        } catch (final IOException e) {
+            // The process terminated abnormally, pending executions are notified by the response reader.
+        } finally {
+            try {
+                errorOutputStream.flush();
+            } catch (final IOException e) {
+                // Nothing else can be done with remaining bytes.
+            }
+        }
+    }
+
+    /**
+     * Reads responses of the Node process, and dispatches them to pending executions. When the process terminates,
+     * pending executions are notified.
+     */
+    private void readResponses() {
+        try {
+            String line = responseReader.readLine();
+            while (line != null) {
+                dispatch(line);
+                line = responseReader.readLine();
+            }
+        } catch (final IOException e) {
+            // The process terminated abnormally, pending executions are notified below.
+        } finally {
+            alive = false;
+            pendingExecutions.values().forEach(messages -> messages.add(new Message(TERMINATED_MESSAGE_TYPE, "")));
+        }
+    }
+
+    /**
+     * Dispatches a response line formatted as {@code <request-id> <type> [<payload>]}.
+     *
+     * @param line Line.
+     */
+    private void dispatch(@Nonnull final String line) {
+        final int typeIndex = line.indexOf(' ');
+        if (typeIndex < 0) {
+            return;
+        }
+        final int payloadIndex = line.indexOf(' ', typeIndex + 1);
+        final BlockingQueue<Message> messages;
+        try {
+            messages = pendingExecutions.get(Long.parseLong(line.substring(0, typeIndex)));
+        } catch (final NumberFormatException e) {
+            return;
+        }
+        if (messages != null) {
+            messages.add((payloadIndex < 0) ? new Message(line.substring(typeIndex + 1), "")
+                : new Message(line.substring(typeIndex + 1, payloadIndex), line.substring(payloadIndex + 1)));
+        }
+    }
+
+    /**
+     * Appends a string to a JSON document, between double quotes and with special characters escaped.
+     *
+     * @param json JSON document.
+     * @param value String.
+     */
+    private static void appendJsonString(@Nonnull final StringBuilder json, @Nonnull final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if ((c == '"') || (c == '\\')) {
+                json.append('\\').append(c);
+            } else if (c < ' ') {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Message sent by the Node process about a request.
+     */
+    private static class Message {
+
+        private final String type;
+
+        private final String payload;
+
+        Message(@Nonnull final String type, @Nonnull final String payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+    }
+}
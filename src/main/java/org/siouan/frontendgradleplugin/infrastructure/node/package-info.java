@@ -0,0 +1,6 @@
+/**
+ * Provides long-lived Node processes running scripts in worker threads.
+ *
+ * @since 2.2.0
+ */
+package org.siouan.frontendgradleplugin.infrastructure.node;
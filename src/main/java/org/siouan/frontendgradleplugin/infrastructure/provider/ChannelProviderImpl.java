@@ -1,8 +1,14 @@
 package org.siouan.frontendgradleplugin.infrastructure.provider;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.Proxy;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
@@ -10,8 +16,14 @@ import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import org.siouan.frontendgradleplugin.domain.model.ModifiedResource;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.ResumedResource;
 import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
 
 /**
@@ -21,11 +33,163 @@ import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
  */
 public class ChannelProviderImpl implements ChannelProvider {
 
+    /**
+     * Name of the HTTP header requesting a part of a resource.
+     */
+    private static final String RANGE_HEADER = "Range";
+
+    /**
+     * Name of the HTTP header describing the part of a resource returned, and the length of the resource.
+     */
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
+
+    /**
+     * Name of the HTTP header providing the entity tag of a resource.
+     */
+    private static final String ENTITY_TAG_HEADER = "ETag";
+
+    /**
+     * Name of the HTTP header providing the date a resource was last modified.
+     */
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+
+    /**
+     * Name of the HTTP header requesting a resource only if its entity tag changed.
+     */
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    /**
+     * Name of the HTTP header requesting a resource only if it was modified since a date.
+     */
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+    /**
+     * Range unit supported to request a part of a resource.
+     */
+    private static final String BYTES_RANGE_UNIT = "bytes";
+
+    /**
+     * Name of the HTTP header requesting a range of a resource only if the resource did not change.
+     */
+    private static final String IF_RANGE_HEADER = "If-Range";
+
+    /**
+     * Prefix of a weak entity tag.
+     */
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+
+    /**
+     * HTTP status code telling the range requested cannot be satisfied.
+     */
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
     @Override
     @Nonnull
     public ReadableByteChannel getReadableByteChannel(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy)
         throws IOException {
-        return Channels.newChannel(resourceUrl.openConnection(proxy).getInputStream());
+        return Channels.newChannel(openInputStream(resourceUrl.openConnection(proxy)));
+    }
+
+    @Override
+    @Nonnull
+    public ResumedResource getResumedResource(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
+        final long offset, @Nullable final ResourceMetadata metadata) throws IOException {
+        final URLConnection connection = resourceUrl.openConnection(proxy);
+        if (offset > 0) {
+            connection.setRequestProperty(RANGE_HEADER, BYTES_RANGE_UNIT + '=' + offset + '-');
+            // Without a validator, the server would return a range of a resource that may have changed meanwhile.
+            final String rangeValidator = getRangeValidator(metadata);
+            if (rangeValidator != null) {
+                connection.setRequestProperty(IF_RANGE_HEADER, rangeValidator);
+            }
+        }
+        if (connection instanceof HttpURLConnection) {
+            final HttpURLConnection httpConnection = (HttpURLConnection) connection;
+            final int responseCode = httpConnection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
+                // The response announces the range returned (e.g. 'bytes 1000-1233/1234'). Appending any other range
+                // to the bytes already received would corrupt the resource.
+                final Long rangeStart = parseRangeStart(connection.getHeaderField(CONTENT_RANGE_HEADER));
+                if ((rangeStart == null) || (rangeStart != offset)) {
+                    httpConnection.disconnect();
+                    return getWholeResource(resourceUrl, proxy);
+                }
+                final ResourceMetadata resourceMetadata = (metadata == null) ? new ResourceMetadata(
+                    connection.getHeaderField(ENTITY_TAG_HEADER), connection.getHeaderField(LAST_MODIFIED_HEADER),
+                    parseResourceLength(connection.getHeaderField(CONTENT_RANGE_HEADER))) : metadata;
+                return new ResumedResource(Channels.newChannel(openInputStream(connection)), offset,
+                    resourceMetadata);
+            }
+            if (responseCode == HTTP_RANGE_NOT_SATISFIABLE) {
+                return getCompleteResource(resourceUrl, httpConnection, offset, metadata);
+            }
+        }
+
+        // The whole resource is sent, because the resource changed, or because range requests are not supported.
+        final InputStream inputStream = openInputStream(connection);
+        return new ResumedResource(Channels.newChannel(inputStream), 0, getMetadata(connection));
+    }
+
+    @Override
+    @Nonnull
+    public ReadableByteChannel getReadableByteChannel(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
+        final long offset, final long length) throws IOException {
+        final URLConnection connection = resourceUrl.openConnection(proxy);
+        connection.setRequestProperty(RANGE_HEADER, BYTES_RANGE_UNIT + '=' + offset + '-' + (offset + length - 1));
+        final InputStream inputStream = openInputStream(connection);
+        if (!((connection instanceof HttpURLConnection)
+            && (((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_PARTIAL))) {
+            inputStream.close();
+            throw new IOException("Server did not return the requested range of resource: " + resourceUrl);
+        }
+        return Channels.newChannel(inputStream);
+    }
+
+    @Override
+    @Nonnull
+    public OptionalLong getRangeableResourceLength(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy)
+        throws IOException {
+        final URLConnection connection = resourceUrl.openConnection(proxy);
+        if (!(connection instanceof HttpURLConnection)) {
+            return OptionalLong.empty();
+        }
+
+        // Requesting the first byte of the resource tells reliably whether range requests are supported, and gives the
+        // length of the resource in the 'Content-Range' response header (e.g. 'bytes 0-0/1234').
+        final HttpURLConnection httpConnection = (HttpURLConnection) connection;
+        httpConnection.setRequestProperty(RANGE_HEADER, BYTES_RANGE_UNIT + "=0-0");
+        if (httpConnection.getResponseCode() != HttpURLConnection.HTTP_PARTIAL) {
+            httpConnection.disconnect();
+            return OptionalLong.empty();
+        }
+
+        httpConnection.getInputStream().close();
+        final Long resourceLength = parseResourceLength(httpConnection.getHeaderField(CONTENT_RANGE_HEADER));
+        return (resourceLength == null) ? OptionalLong.empty() : OptionalLong.of(resourceLength);
+    }
+
+    @Override
+    @Nonnull
+    public Optional<ModifiedResource> getModifiedResource(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy,
+        @Nullable final ResourceMetadata metadata) throws IOException {
+        final URLConnection connection = resourceUrl.openConnection(proxy);
+        if (metadata != null) {
+            if (metadata.getEntityTag() != null) {
+                connection.setRequestProperty(IF_NONE_MATCH_HEADER, metadata.getEntityTag());
+            }
+            if (metadata.getLastModified() != null) {
+                connection.setRequestProperty(IF_MODIFIED_SINCE_HEADER, metadata.getLastModified());
+            }
+        }
+        if ((connection instanceof HttpURLConnection)
+            && (((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED)) {
+            // Releases the connection, the response has no body.
+            connection.getInputStream().close();
+            return Optional.empty();
+        }
+
+        final InputStream inputStream = openInputStream(connection);
+        return Optional.of(new ModifiedResource(Channels.newChannel(inputStream), getMetadata(connection)));
     }
 
     @Override
@@ -40,4 +204,190 @@ public class ChannelProviderImpl implements ChannelProvider {
         @Nonnull final OpenOption... options) throws IOException {
         return FileChannel.open(filePath, options);
     }
+
+    /**
+     * Opens the input stream of a connection. When the connection announces the length of the content, the stream
+     * fails if it ends before all bytes are received, so as a truncated response is not mistaken for a complete
+     * resource.
+     *
+     * @param connection Connection.
+     * @return Input stream.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private static InputStream openInputStream(@Nonnull final URLConnection connection) throws IOException {
+        final InputStream inputStream = connection.getInputStream();
+        final long contentLength = connection.getContentLengthLong();
+        return (contentLength < 0) ? inputStream : new ContentLengthInputStream(inputStream, contentLength);
+    }
+
+    /**
+     * Handles a response telling the range requested cannot be satisfied. When the offset requested is the known length
+     * of the resource, all bytes were already received, and the resource is complete.
+     *
+     * @param resourceUrl URL of the resource.
+     * @param httpConnection Connection.
+     * @param offset Offset requested.
+     * @param metadata Metadata returned with the content already received, or {@code null} if unknown.
+     * @return An empty content, starting at the offset.
+     * @throws IOException If the offset is not the length of the resource.
+     */
+    @Nonnull
+    private static ResumedResource getCompleteResource(@Nonnull final URL resourceUrl,
+        @Nonnull final HttpURLConnection httpConnection, final long offset, @Nullable final ResourceMetadata metadata)
+        throws IOException {
+        // The response announces the current length of the resource (e.g. 'bytes */1234').
+        final Long resourceLength = parseResourceLength(httpConnection.getHeaderField(CONTENT_RANGE_HEADER));
+        final InputStream errorStream = httpConnection.getErrorStream();
+        if (errorStream != null) {
+            errorStream.close();
+        }
+        final Long knownResourceLength = ((metadata == null) || (metadata.getLength() == null)) ? resourceLength
+            : metadata.getLength();
+        if ((knownResourceLength == null) || (knownResourceLength != offset) || ((resourceLength != null) && (
+            resourceLength != offset))) {
+            throw new IOException(
+                "Server cannot return resource from offset " + offset + " (length: " + resourceLength + "): "
+                    + resourceUrl);
+        }
+        return new ResumedResource(Channels.newChannel(new ByteArrayInputStream(new byte[0])), offset,
+            (metadata == null) ? new ResourceMetadata(null, null, resourceLength) : metadata);
+    }
+
+    /**
+     * Requests the whole resource, without any range.
+     *
+     * @param resourceUrl URL to download the resource.
+     * @param proxy Proxy to use for the connection.
+     * @return The content of the resource, from the beginning.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private static ResumedResource getWholeResource(@Nonnull final URL resourceUrl, @Nonnull final Proxy proxy)
+        throws IOException {
+        final URLConnection connection = resourceUrl.openConnection(proxy);
+        final InputStream inputStream = openInputStream(connection);
+        return new ResumedResource(Channels.newChannel(inputStream), 0, getMetadata(connection));
+    }
+
+    /**
+     * Gets the metadata of the resource returned by a connection.
+     *
+     * @param connection Connection.
+     * @return Metadata.
+     */
+    @Nonnull
+    private static ResourceMetadata getMetadata(@Nonnull final URLConnection connection) {
+        final long contentLength = connection.getContentLengthLong();
+        return new ResourceMetadata(connection.getHeaderField(ENTITY_TAG_HEADER),
+            connection.getHeaderField(LAST_MODIFIED_HEADER), (contentLength < 0) ? null : contentLength);
+    }
+
+    /**
+     * Gets the value of the {@code If-Range} header from the metadata of the content already received. A strong entity
+     * tag is preferred, since weak entity tags cannot be used in this header.
+     *
+     * @param metadata Metadata, or {@code null} if unknown.
+     * @return Value, or {@code null} if the metadata does not allow to validate the range requested.
+     */
+    @Nullable
+    private static String getRangeValidator(@Nullable final ResourceMetadata metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        if ((metadata.getEntityTag() != null) && !metadata.getEntityTag().startsWith(WEAK_ENTITY_TAG_PREFIX)) {
+            return metadata.getEntityTag();
+        }
+        return metadata.getLastModified();
+    }
+
+    /**
+     * Parses the length of a resource in the value of a {@code Content-Range} header (e.g. {@code bytes 0-0/1234} or
+     * {@code bytes *}{@code /1234}).
+     *
+     * @param contentRange Value of the header.
+     * @return Length, or {@code null} if the header is missing, or if the length is unknown (e.g. {@code bytes 0-0/*}).
+     */
+    @Nullable
+    private static Long parseResourceLength(@Nullable final String contentRange) {
+        if ((contentRange == null) || !contentRange.startsWith(BYTES_RANGE_UNIT + ' ')) {
+            return null;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the offset of the first byte of a range in the value of a {@code Content-Range} header (e.g.
+     * {@code bytes 1000-1233/1234}).
+     *
+     * @param contentRange Value of the header.
+     * @return Offset, or {@code null} if the header is missing or malformed.
+     */
+    @Nullable
+    private static Long parseRangeStart(@Nullable final String contentRange) {
+        if ((contentRange == null) || !contentRange.startsWith(BYTES_RANGE_UNIT + ' ')) {
+            return null;
+        }
+        final int separatorIndex = contentRange.indexOf('-');
+        if (separatorIndex == -1) {
+            return null;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(BYTES_RANGE_UNIT.length() + 1, separatorIndex).trim());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Input stream failing when the end of an underlying stream is reached before an expected number of bytes is read.
+     */
+    private static class ContentLengthInputStream extends FilterInputStream {
+
+        private long remainingCount;
+
+        ContentLengthInputStream(@Nonnull final InputStream inputStream, final long contentLength) {
+            super(inputStream);
+            this.remainingCount = contentLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                checkEndOfStream();
+            } else {
+                remainingCount--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(@Nonnull final byte[] buffer, final int offset, final int length) throws IOException {
+            final int numberOfBytesRead = super.read(buffer, offset, length);
+            if (numberOfBytesRead == -1) {
+                checkEndOfStream();
+            } else {
+                remainingCount -= numberOfBytesRead;
+            }
+            return numberOfBytesRead;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            final long numberOfBytesSkipped = super.skip(count);
+            remainingCount -= numberOfBytesSkipped;
+            return numberOfBytesSkipped;
+        }
+
+        private void checkEndOfStream() throws EOFException {
+            if (remainingCount > 0) {
+                throw new EOFException("Connection closed before " + remainingCount + " remaining bytes were received");
+            }
+        }
+    }
 }
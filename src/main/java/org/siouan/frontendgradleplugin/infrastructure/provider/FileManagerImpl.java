@@ -4,18 +4,28 @@ import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.CopyOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
@@ -29,11 +39,20 @@ import org.siouan.frontendgradleplugin.domain.provider.FileManager;
  */
 public class FileManagerImpl implements FileManager {
 
+    private static final ConcurrentMap<Path, Lock> THREAD_LOCKS = new ConcurrentHashMap<>();
+
     @Override
     public long copy(@Nonnull final InputStream inputStream, @Nonnull final Path filePath) throws IOException {
         return Files.copy(inputStream, filePath);
     }
 
+    @Override
+    @Nonnull
+    public Path copy(@Nonnull final Path sourcePath, @Nonnull final Path targetPath,
+        @Nonnull final CopyOption... options) throws IOException {
+        return Files.copy(sourcePath, targetPath, options);
+    }
+
     @Override
     public void copyFileTree(@Nonnull final Path sourcePath, @Nonnull final Path targetPath) throws IOException {
         Files.walkFileTree(sourcePath, new FileCopyVisitor(sourcePath, targetPath));
@@ -51,6 +70,13 @@ public class FileManagerImpl implements FileManager {
         return Files.createDirectory(directoryPath);
     }
 
+    @Nonnull
+    @Override
+    public Path createLink(@Nonnull final Path linkFilePath, @Nonnull final Path existingFilePath)
+        throws IOException {
+        return Files.createLink(linkFilePath, existingFilePath);
+    }
+
     @Nonnull
     @Override
     public Path createSymbolicLink(@Nonnull final Path linkFilePath, @Nonnull final Path targetFilePath)
@@ -90,12 +116,60 @@ public class FileManagerImpl implements FileManager {
         return Files.isSameFile(path1, path2);
     }
 
+    @Override
+    public boolean isSymbolicLink(@Nonnull final Path filePath) {
+        return Files.isSymbolicLink(filePath);
+    }
+
     @Override
     @Nonnull
     public Stream<Path> list(@Nonnull final Path directoryPath) throws IOException {
         return Files.list(directoryPath);
     }
 
+    @Override
+    @Nonnull
+    public Closeable lock(@Nonnull final Path lockFilePath) throws IOException {
+        // A file lock is held on behalf of the whole JVM, and cannot be acquired by 2 threads at once: threads are
+        // serialized first with an in-memory lock.
+        final Lock threadLock = THREAD_LOCKS.computeIfAbsent(lockFilePath.toAbsolutePath().normalize(),
+            path -> new ReentrantLock());
+        try {
+            threadLock.lockInterruptibly();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for lock: " + lockFilePath);
+        }
+
+        try {
+            final FileChannel channel = FileChannel.open(lockFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+            try {
+                channel.lock();
+            } catch (final IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return () -> {
+                try {
+                    // Closing the channel releases the file lock.
+                    channel.close();
+                } finally {
+                    threadLock.unlock();
+                }
+            };
+        } catch (final IOException | RuntimeException e) {
+            threadLock.unlock();
+            throw e;
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Stream<Path> walk(@Nonnull final Path directoryPath) throws IOException {
+        return Files.walk(directoryPath);
+    }
+
     @Override
     @Nonnull
     public Path move(@Nonnull final Path sourcePath, @Nonnull final Path targetPath,
@@ -122,9 +196,22 @@ public class FileManagerImpl implements FileManager {
     }
 
     @Override
-    public void moveFileTree(@Nonnull final Path sourcePath, @Nonnull final Path targetPath) throws IOException {
-        copyFileTree(sourcePath, targetPath);
-        deleteFileTree(sourcePath, true);
+    @Nonnull
+    public Path readSymbolicLink(@Nonnull final Path linkFilePath) throws IOException {
+        return Files.readSymbolicLink(linkFilePath);
+    }
+
+    @Override
+    public boolean moveFileTree(@Nonnull final Path sourcePath, @Nonnull final Path targetPath) throws IOException {
+        try {
+            Files.move(sourcePath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (final AtomicMoveNotSupportedException e) {
+            // Source and target are not on the same file store.
+            copyFileTree(sourcePath, targetPath);
+            deleteFileTree(sourcePath, true);
+            return false;
+        }
     }
 
     @Override
@@ -145,6 +232,11 @@ public class FileManagerImpl implements FileManager {
         return Files.setPosixFilePermissions(path, permissions);
     }
 
+    @Override
+    public long size(@Nonnull final Path filePath) throws IOException {
+        return Files.readAttributes(filePath, BasicFileAttributes.class, NOFOLLOW_LINKS).size();
+    }
+
     /**
      * Marks the file as executable. This method does nothing under Windows. This method allows to restore a file's
      * permissions by providing the original permissions, in case they cannot be retrieved.
@@ -0,0 +1,126 @@
+'use strict';
+
+// Runs scripts of the 'package.json' file located in the current directory the same way than 'npm run <script>' and
+// 'yarn run <script>' do, but in a single Node process, so as the startup cost of the package manager is not paid for
+// each script. For each script, the 'pre<script>' and 'post<script>' scripts are run if they exist, and commands are
+// run in a shell with the 'node_modules/.bin' directories in the 'PATH' variable.
+//
+// Only a subset of the environment provided by package managers is set: the 'npm_lifecycle_event',
+// 'npm_lifecycle_script', 'npm_node_execpath', 'npm_package_json', 'npm_package_name' and 'npm_package_version'
+// variables. Other variables (e.g. 'npm_config_*', 'npm_execpath', 'INIT_CWD') are not set.
+//
+// Usage: node run-scripts.js <max-parallel-scripts> <report-file> <script>...
+//
+// When several scripts run in parallel, each line they output is prefixed with the name of the script. Once all
+// scripts are complete, a line per script is written in the report file, in the order of the arguments: the exit
+// code, the duration in milliseconds, and the name of the script, separated by a space. The process exits with a
+// non-zero code only if the scripts could not be run.
+
+const childProcess = require('child_process');
+const fs = require('fs');
+const path = require('path');
+const readline = require('readline');
+
+const maxParallelScripts = Math.max(1, parseInt(process.argv[2], 10) || 1);
+const reportFile = process.argv[3];
+const scriptNames = process.argv.slice(4);
+const packageJson = JSON.parse(fs.readFileSync(path.resolve('package.json'), 'utf8'));
+const scripts = packageJson.scripts || {};
+const labelled = maxParallelScripts > 1 && scriptNames.length > 1;
+
+const pathVariable = Object.keys(process.env).find(name => name.toUpperCase() === 'PATH') || 'PATH';
+const executableDirectories = [];
+for (let directory = process.cwd(); ; directory = path.dirname(directory)) {
+    executableDirectories.push(path.join(directory, 'node_modules', '.bin'));
+    if (path.dirname(directory) === directory) {
+        break;
+    }
+}
+executableDirectories.push(path.dirname(process.execPath));
+if (process.env[pathVariable]) {
+    executableDirectories.push(process.env[pathVariable]);
+}
+
+function pipeLines(input, output, label) {
+    readline.createInterface({ input: input, crlfDelay: Infinity }).on('line', line => {
+        output.write(label + line + '\n');
+    });
+}
+
+function runCommand(scriptName, event, command) {
+    return new Promise(resolve => {
+        const env = Object.assign({}, process.env, {
+            npm_lifecycle_event: event,
+            npm_lifecycle_script: command,
+            npm_node_execpath: process.execPath,
+            npm_package_json: path.resolve('package.json'),
+            npm_package_name: packageJson.name || '',
+            npm_package_version: packageJson.version || ''
+        });
+        env[pathVariable] = executableDirectories.join(path.delimiter);
+        const child = childProcess.spawn(command, [], {
+            env: env,
+            shell: true,
+            stdio: labelled ? ['ignore', 'pipe', 'pipe'] : 'inherit'
+        });
+        if (labelled) {
+            const label = '[' + scriptName + '] ';
+            pipeLines(child.stdout, process.stdout, label);
+            pipeLines(child.stderr, process.stderr, label);
+        }
+        let complete = false;
+        child.on('error', error => {
+            if (!complete) {
+                complete = true;
+                process.stderr.write('Cannot run script \'' + event + '\': ' + error.message + '\n');
+                resolve(1);
+            }
+        });
+        child.on('close', code => {
+            if (!complete) {
+                complete = true;
+                resolve(code === null ? 1 : code);
+            }
+        });
+    });
+}
+
+function runScript(scriptName) {
+    if (!Object.prototype.hasOwnProperty.call(scripts, scriptName)) {
+        process.stderr.write('Missing script: \'' + scriptName + '\'\n');
+        return Promise.resolve(1);
+    }
+
+    const events = ['pre' + scriptName, scriptName, 'post' + scriptName].filter(
+        event => Object.prototype.hasOwnProperty.call(scripts, event));
+    return events.reduce((previous, event) => previous.then(code => {
+        return code === 0 ? runCommand(scriptName, event, scripts[event]) : code;
+    }), Promise.resolve(0));
+}
+
+const results = new Array(scriptNames.length);
+let nextScriptIndex = 0;
+
+function runNextScript() {
+    if (nextScriptIndex >= scriptNames.length) {
+        return Promise.resolve();
+    }
+
+    const scriptIndex = nextScriptIndex++;
+    const startTime = Date.now();
+    return runScript(scriptNames[scriptIndex]).then(code => {
+        results[scriptIndex] = code + ' ' + (Date.now() - startTime) + ' ' + scriptNames[scriptIndex];
+        return runNextScript();
+    });
+}
+
+const runners = [];
+for (let i = 0; i < Math.min(maxParallelScripts, scriptNames.length); i++) {
+    runners.push(runNextScript());
+}
+Promise.all(runners).then(() => {
+    fs.writeFileSync(reportFile, results.map(result => result + '\n').join(''), 'utf8');
+}).catch(error => {
+    process.stderr.write(error.stack + '\n');
+    process.exitCode = 1;
+});
@@ -0,0 +1,70 @@
+'use strict';
+
+/*
+ * Node worker daemon of the Frontend Gradle plugin. Requests are read from the standard input, one JSON object per
+ * line: {"id": <number>, "script": "<path>", "args": ["<arg>", ...], "timeoutMs": <number>}. Each script is run in a
+ * dedicated worker thread, so as scripts share the started process, but neither their globals nor their modules.
+ * Responses are written on the standard output, one per line:
+ * - '<id> out <base64>': bytes written by the script on its standard output.
+ * - '<id> err <base64>': bytes written by the script on its standard error.
+ * - '<id> exit <code>': the script terminated with the given exit code.
+ * - '<id> timeout': the script was terminated because it did not complete in time.
+ */
+const path = require('path');
+const readline = require('readline');
+const { Worker } = require('worker_threads');
+
+const RUNNER = `
+const { workerData } = require('worker_threads');
+process.argv = [process.argv[0], workerData.script].concat(workerData.args);
+// The script is loaded as a regular module: a worker thread has no main module (require.main is undefined).
+require(workerData.script);
+`;
+
+function send(id, type, payload) {
+    process.stdout.write(id + ' ' + type + (payload === undefined ? '' : ' ' + payload) + '\n');
+}
+
+function run(request) {
+    const worker = new Worker(RUNNER, {
+        eval: true,
+        stdout: true,
+        stderr: true,
+        workerData: { script: path.resolve(request.script), args: request.args }
+    });
+    let remainingEvents = 3;
+    let exitCode = 1;
+    let timedOut = false;
+    const timer = request.timeoutMs > 0 ? setTimeout(() => {
+        timedOut = true;
+        worker.terminate();
+    }, request.timeoutMs) : undefined;
+    // The response is sent once the worker exited, and both output streams were fully forwarded.
+    const onEvent = () => {
+        remainingEvents--;
+        if (remainingEvents === 0) {
+            clearTimeout(timer);
+            if (timedOut) {
+                send(request.id, 'timeout');
+            } else {
+                send(request.id, 'exit', exitCode);
+            }
+        }
+    };
+    worker.stdout.on('data', chunk => send(request.id, 'out', chunk.toString('base64')));
+    worker.stdout.on('end', onEvent);
+    worker.stderr.on('data', chunk => send(request.id, 'err', chunk.toString('base64')));
+    worker.stderr.on('end', onEvent);
+    worker.on('error', error => send(request.id, 'err',
+        Buffer.from(((error && error.stack) || String(error)) + '\n').toString('base64')));
+    worker.on('exit', code => {
+        exitCode = code;
+        onEvent();
+    });
+}
+
+readline.createInterface({ input: process.stdin }).on('line', line => {
+    if (line.length > 0) {
+        run(JSON.parse(line));
+    }
+});
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.Platform;
+import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.AssembleTask;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.CheckTask;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.CleanTask;
@@ -46,6 +49,8 @@ class FrontendGradlePluginTest {
         assertThat(extension.getYarnInstallDirectory().getAsFile().get()).isEqualTo(
             project.file(FrontendGradlePlugin.DEFAULT_YARN_INSTALL_DIRNAME));
 
+        final String platformId = InstallManifest.toPlatformId(
+            new Platform(SystemUtils.getSystemJvmArch(), SystemUtils.getSystemOsName()));
         final NodeInstallTask nodeInstallTask = project
             .getTasks()
             .named(FrontendGradlePlugin.NODE_INSTALL_TASK_NAME, NodeInstallTask.class)
@@ -54,6 +59,7 @@ class FrontendGradlePluginTest {
         assertThat(nodeInstallTask.getNodeDistributionUrl().isPresent()).isFalse();
         assertThat(nodeInstallTask.getNodeInstallDirectory().get()).isEqualTo(
             extension.getNodeInstallDirectory().get());
+        assertThat(nodeInstallTask.getPlatform().get()).isEqualTo(platformId);
         assertThat(nodeInstallTask.getDependsOn()).isEmpty();
 
         final YarnInstallTask yarnInstallTask = project
@@ -65,6 +71,7 @@ class FrontendGradlePluginTest {
         assertThat(yarnInstallTask.getYarnDistributionUrl().isPresent()).isFalse();
         assertThat(yarnInstallTask.getYarnInstallDirectory().get()).isEqualTo(
             extension.getYarnInstallDirectory().get());
+        assertThat(yarnInstallTask.getPlatform().get()).isEqualTo(platformId);
         assertThat(yarnInstallTask.getDependsOn()).isEmpty();
 
         final InstallTask frontendInstallTask = project
@@ -75,6 +82,7 @@ class FrontendGradlePluginTest {
         assertThat(frontendInstallTask.getNodeInstallDirectory().get()).isEqualTo(
             extension.getNodeInstallDirectory().get());
         assertThat(frontendInstallTask.getYarnInstallDirectory().isPresent()).isFalse();
+        assertThat(frontendInstallTask.getPackageJsonDirectoryRelativePath().get()).isEmpty();
         assertThat(frontendInstallTask.getDependsOn()).containsExactlyInAnyOrder(nodeInstallTask.getName(),
             yarnInstallTask.getName());
 
@@ -130,6 +138,7 @@ class FrontendGradlePluginTest {
         extension.getYarnVersion().set("6.5.4");
         extension.getYarnDistributionUrl().set("http://yarn");
         extension.getYarnInstallDirectory().set(project.file("yarn-dist"));
+        extension.getPackageJsonDirectory().set(project.file("frontend/app"));
         extension.getCleanScript().set("clean");
         extension.getAssembleScript().set("assemble");
         extension.getCheckScript().set("test");
@@ -164,6 +173,7 @@ class FrontendGradlePluginTest {
             extension.getNodeInstallDirectory().get());
         assertThat(frontendInstallTask.getYarnInstallDirectory().get()).isEqualTo(
             extension.getYarnInstallDirectory().get());
+        assertThat(frontendInstallTask.getPackageJsonDirectoryRelativePath().get()).isEqualTo("frontend/app");
         assertThat(frontendInstallTask.getDependsOn()).containsExactlyInAnyOrder(nodeInstallTask.getName(),
             yarnInstallTask.getName());
 
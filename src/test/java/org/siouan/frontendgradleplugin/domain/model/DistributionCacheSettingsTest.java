@@ -0,0 +1,43 @@
+package org.siouan.frontendgradleplugin.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+
+class DistributionCacheSettingsTest {
+
+    private static final Path CACHE_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("cache");
+
+    private static final String VERSION = "12.16.1";
+
+    private static final String HASH = "0123456789abcdef";
+
+    @Test
+    void shouldResolveSamePathsWhenUrlIsSame() throws MalformedURLException {
+        final DistributionCacheSettings settings = newSettings("https://nodejs.org/dist/v12.16.1/node.zip");
+        final DistributionCacheSettings otherSettings = newSettings("https://nodejs.org/dist/v12.16.1/node.zip");
+
+        assertThat(settings.getIndexFilePath()).isEqualTo(otherSettings.getIndexFilePath());
+        assertThat(settings.getContentFilePath(HASH)).isEqualTo(otherSettings.getContentFilePath(HASH));
+    }
+
+    @Test
+    void shouldResolveDifferentIndexFilePathsWhenUrlsAreDifferent() throws MalformedURLException {
+        final DistributionCacheSettings settings = newSettings("https://nodejs.org/dist/v12.16.1/node.zip");
+        final DistributionCacheSettings mirrorSettings = newSettings("https://mirror.org/dist/v12.16.1/node.zip");
+
+        assertThat(settings.getIndexFilePath()).isNotEqualTo(mirrorSettings.getIndexFilePath());
+        assertThat(settings.getContentFilePath(HASH)).isEqualTo(mirrorSettings.getContentFilePath(HASH));
+    }
+
+    private DistributionCacheSettings newSettings(final String distributionUrl) throws MalformedURLException {
+        return new DistributionCacheSettings(CACHE_DIRECTORY_PATH, DistributionId.NODE, VERSION,
+            PlatformFixture.ANY_UNIX_PLATFORM, new URL(distributionUrl), "node.zip");
+    }
+}
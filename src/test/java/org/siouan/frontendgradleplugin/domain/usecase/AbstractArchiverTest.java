@@ -19,6 +19,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -254,4 +255,87 @@ public class AbstractArchiverTest {
         verify(context).close();
         verifyNoMoreInteractions(fileManager, context);
     }
+
+    @Test
+    void shouldFailExplodingConcurrentlyWithoutWritingAnythingWhenSlipAttackIsDetected() throws IOException {
+        when(fileManager.isDirectory(temporaryDirectoryPath)).thenReturn(true);
+        entries.add(newFileEntry("file", 0644, "content"));
+        entries.add(newDirectoryEntry("../out-dir", 0755));
+        final ExplodeSettings settings = new ExplodeSettings(PlatformFixture.LOCAL_PLATFORM, archiveFilePath,
+            temporaryDirectoryPath, null, 4);
+        when(context.getSettings()).thenReturn(settings);
+        final RandomAccessArchiverImpl archiver = new RandomAccessArchiverImpl(fileManager, context, entries, null);
+
+        assertThatThrownBy(() -> archiver.explode(settings)).isInstanceOf(SlipAttackException.class);
+
+        assertThat(archiver.getWrittenFilePaths()).isEmpty();
+        verify(context).close();
+        verifyNoMoreInteractions(fileManager, context);
+    }
+
+    @Test
+    void shouldFailExplodingConcurrentlyWhenEntryCannotBeWritten() throws IOException {
+        when(fileManager.isDirectory(temporaryDirectoryPath)).thenReturn(true);
+        entries.add(newFileEntry("unwritable-file", 0777, null));
+        entries.add(newFileEntry("other-unwritable-file", 0777, null));
+        final ExplodeSettings settings = new ExplodeSettings(PlatformFixture.LOCAL_PLATFORM, archiveFilePath,
+            temporaryDirectoryPath, null, 4);
+        when(context.getSettings()).thenReturn(settings);
+        final IOException expectedException = new IOException();
+
+        assertThatThrownBy(
+            () -> new RandomAccessArchiverImpl(fileManager, context, entries, expectedException).explode(settings))
+            .isEqualTo(expectedException);
+
+        verify(context).close();
+        verifyNoMoreInteractions(fileManager, context);
+    }
+
+    @Test
+    void shouldExplodeArchiveConcurrently() throws IOException, ArchiverException {
+        final Path rootDirPath = temporaryDirectoryPath.resolve("root-dir");
+        final Path nestedFilePath = rootDirPath.resolve("nested-file");
+        final Path rootFilePath = temporaryDirectoryPath.resolve("root-file");
+        final ExplodeSettings settings = new ExplodeSettings(new Platform(SystemUtils.getSystemJvmArch(), "linux"),
+            archiveFilePath, temporaryDirectoryPath, null, 4);
+        when(fileManager.isDirectory(temporaryDirectoryPath)).thenReturn(true);
+        when(context.getSettings()).thenReturn(settings);
+        entries.add(newSymbolicLinkEntry("root-dir/symlink-to-nested-file", "nested-file"));
+        entries.add(newFileEntry("root-dir/nested-file", 0640, "nested"));
+        entries.add(newDirectoryEntry("root-dir", 0750));
+        entries.add(newFileEntry("root-file", 0400, "root"));
+        when(fileManager.isDirectory(rootDirPath)).thenReturn(true);
+        when(fileManager.isSameFile(any(Path.class), any(Path.class))).thenReturn(true);
+        final RandomAccessArchiverImpl archiver = new RandomAccessArchiverImpl(fileManager, context, entries, null);
+
+        archiver.explode(settings);
+
+        final Map<Path, String> expectedWrittenFilePaths = new HashMap<>();
+        expectedWrittenFilePaths.put(nestedFilePath, "nested");
+        expectedWrittenFilePaths.put(rootFilePath, "root");
+        assertThat(archiver.getWrittenFilePaths()).containsExactlyInAnyOrderEntriesOf(expectedWrittenFilePaths);
+        verify(fileManager).createDirectories(rootDirPath);
+        verify(fileManager).createSymbolicLink(rootDirPath.resolve("symlink-to-nested-file"), Paths.get("nested-file"));
+        verify(fileManager).setPosixFilePermissions(rootDirPath, PosixFilePermissions.fromString("rwxr-x---"));
+        verify(fileManager).setPosixFilePermissions(nestedFilePath, PosixFilePermissions.fromString("rw-r-----"));
+        verify(fileManager).setPosixFilePermissions(rootFilePath, PosixFilePermissions.fromString("r--------"));
+        verify(context).close();
+        verifyNoMoreInteractions(fileManager, context);
+    }
+
+    /**
+     * Test implementation of an archiver supporting random access to entries.
+     */
+    private static class RandomAccessArchiverImpl extends ArchiverImpl {
+
+        RandomAccessArchiverImpl(final FileManager fileManager, final ArchiverContext context,
+            final Collection<ArchiveEntryImpl> entries, final IOException writeException) {
+            super(fileManager, context, entries, writeException);
+        }
+
+        @Override
+        protected boolean isRandomAccessSupported() {
+            return true;
+        }
+    }
 }
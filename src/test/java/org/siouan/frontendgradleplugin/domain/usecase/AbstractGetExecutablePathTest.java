@@ -1,6 +1,8 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -8,10 +10,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import javax.annotation.Nonnull;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
 import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
@@ -28,11 +32,18 @@ class AbstractGetExecutablePathTest {
     @Mock
     private FileManager fileManager;
 
+    private ExecutablePathCache executablePathCache;
+
     private AbstractGetExecutablePath usecase;
 
+    @BeforeEach
+    void setUp() {
+        executablePathCache = new ExecutablePathCache();
+    }
+
     @Test
     void shouldReturnNoExecutableWhenOsIsWindowsAndExecutableDoesNotExist() {
-        usecase = new GetExecutablePathImpl(fileManager, WINDOWS_PATH, NON_WINDOWS_PATH);
+        usecase = new GetExecutablePathImpl(fileManager, executablePathCache, WINDOWS_PATH, NON_WINDOWS_PATH);
         when(fileManager.exists(INSTALL_DIRECTORY_PATH.resolve(WINDOWS_PATH))).thenReturn(false);
 
         assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_WINDOWS_PLATFORM)).isEmpty();
@@ -42,7 +53,7 @@ class AbstractGetExecutablePathTest {
 
     @Test
     void shouldReturnNoExecutableWhenOsIsNotWindowsAndExecutableDoesNotExist() {
-        usecase = new GetExecutablePathImpl(fileManager, WINDOWS_PATH, NON_WINDOWS_PATH);
+        usecase = new GetExecutablePathImpl(fileManager, executablePathCache, WINDOWS_PATH, NON_WINDOWS_PATH);
         when(fileManager.exists(INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH))).thenReturn(false);
 
         assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).isEmpty();
@@ -52,7 +63,7 @@ class AbstractGetExecutablePathTest {
 
     @Test
     void shouldReturnExecutableWhenOsIsWindowsAndFileExists() {
-        usecase = new GetExecutablePathImpl(fileManager, WINDOWS_PATH, NON_WINDOWS_PATH);
+        usecase = new GetExecutablePathImpl(fileManager, executablePathCache, WINDOWS_PATH, NON_WINDOWS_PATH);
         when(fileManager.exists(INSTALL_DIRECTORY_PATH.resolve(WINDOWS_PATH))).thenReturn(true);
 
         assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_WINDOWS_PLATFORM)).contains(
@@ -63,7 +74,7 @@ class AbstractGetExecutablePathTest {
 
     @Test
     void shouldReturnExecutableWhenOsIsNotWindowsAndFileExists() {
-        usecase = new GetExecutablePathImpl(fileManager, WINDOWS_PATH, NON_WINDOWS_PATH);
+        usecase = new GetExecutablePathImpl(fileManager, executablePathCache, WINDOWS_PATH, NON_WINDOWS_PATH);
         when(fileManager.exists(INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH))).thenReturn(true);
 
         assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).contains(
@@ -72,15 +83,45 @@ class AbstractGetExecutablePathTest {
         verifyNoMoreInteractions(fileManager);
     }
 
+    @Test
+    void shouldNotCheckExecutableAgainWhenFoundAlready() {
+        usecase = new GetExecutablePathImpl(fileManager, executablePathCache, WINDOWS_PATH, NON_WINDOWS_PATH);
+        when(fileManager.exists(INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH))).thenReturn(true);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).contains(
+            INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH));
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).contains(
+            INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH));
+
+        verify(fileManager).exists(INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH));
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldCheckExecutableAgainWhenNotFoundOrInvalidated() {
+        usecase = new GetExecutablePathImpl(fileManager, executablePathCache, WINDOWS_PATH, NON_WINDOWS_PATH);
+        when(fileManager.exists(INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH))).thenReturn(false, true, true);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).isEmpty();
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).contains(
+            INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH));
+        executablePathCache.invalidate(INSTALL_DIRECTORY_PATH);
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH, PlatformFixture.ANY_NON_WINDOWS_PLATFORM)).contains(
+            INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH));
+
+        verify(fileManager, times(3)).exists(INSTALL_DIRECTORY_PATH.resolve(NON_WINDOWS_PATH));
+        verifyNoMoreInteractions(fileManager);
+    }
+
     private static class GetExecutablePathImpl extends AbstractGetExecutablePath {
 
         private final Path windowsExecutablePath;
 
         private final Path nonWindowsExecutablePath;
 
-        GetExecutablePathImpl(final FileManager fileManager, final Path windowsExecutablePath,
-            final Path nonWindowsExecutablePath) {
-            super(fileManager);
+        GetExecutablePathImpl(final FileManager fileManager, final ExecutablePathCache executablePathCache,
+            final Path windowsExecutablePath, final Path nonWindowsExecutablePath) {
+            super(fileManager, executablePathCache);
             this.windowsExecutablePath = windowsExecutablePath;
             this.nonWindowsExecutablePath = nonWindowsExecutablePath;
         }
@@ -1,7 +1,11 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -13,6 +17,8 @@ import java.net.MalformedURLException;
 import java.net.Proxy;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,15 +33,21 @@ import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlEx
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.DeploymentMetrics;
 import org.siouan.frontendgradleplugin.domain.model.DeploymentSettings;
+import org.siouan.frontendgradleplugin.domain.model.DistributionFile;
 import org.siouan.frontendgradleplugin.domain.model.DistributionId;
+import org.siouan.frontendgradleplugin.domain.model.ExecutablePathCache;
 import org.siouan.frontendgradleplugin.domain.model.GetDistributionSettings;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.InstallMetrics;
 import org.siouan.frontendgradleplugin.domain.model.InstallSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
 import org.siouan.frontendgradleplugin.test.util.DeploymentSettingsMatcher;
 import org.siouan.frontendgradleplugin.test.util.GetDistributionSettingsMatcher;
+import org.siouan.frontendgradleplugin.test.util.InstallManifestMatcher;
 
 @ExtendWith(MockitoExtension.class)
 class AbstractInstallDistributionTest {
@@ -46,6 +58,19 @@ class AbstractInstallDistributionTest {
 
     private static final String DISTRIBUTION_URL = "https://domain.com/distro.tar.gz";
 
+    private static final String DISTRIBUTION_HASH = "0123456789abcdef";
+
+    private static final long FILE_COUNT = 5;
+
+    private static final Map<String, String> SYMBOLIC_LINKS = singletonMap("bin/npm",
+        "../lib/node_modules/npm/bin/npm-cli.js");
+
+    private static final long DISTRIBUTION_FILE_SIZE = 2048;
+
+    private static final long INSTALLED_FILE_SIZE = 8192;
+
+    private static final DeploymentMetrics DEPLOYMENT_METRICS = new DeploymentMetrics(300, 10, true);
+
     @TempDir
     Path temporaryDirectoryPath;
 
@@ -60,16 +85,43 @@ class AbstractInstallDistributionTest {
     @Mock
     private DeployDistribution deployDistribution;
 
+    @Mock
+    private StreamDistribution streamDistribution;
+
+    @Mock
+    private ReadInstallManifest readInstallManifest;
+
+    @Mock
+    private WriteInstallManifest writeInstallManifest;
+
+    @Mock
+    private CountInstalledFiles countInstalledFiles;
+
+    @Mock
+    private GetInstalledFilesSize getInstalledFilesSize;
+
+    @Mock
+    private GetInstalledSymbolicLinks getInstalledSymbolicLinks;
+
+    @Mock
+    private ExecutablePathCache executablePathCache;
+
     private AbstractInstallDistribution usecase;
 
     private URL distributionUrl;
 
     private Path installDirectoryPath;
 
+    private Path lockFilePath;
+
     @BeforeEach
     void setUp() throws MalformedURLException {
-        usecase = new InstallDistributionImpl(fileManager, getDistribution, deployDistribution, mock(Logger.class));
+        usecase = new InstallDistributionImpl(fileManager, getDistribution, deployDistribution, streamDistribution,
+            readInstallManifest, writeInstallManifest, countInstalledFiles, getInstalledFilesSize,
+            getInstalledSymbolicLinks, executablePathCache, mock(Logger.class));
         installDirectoryPath = temporaryDirectoryPath.resolve("install");
+        lockFilePath = temporaryDirectoryPath.resolve(
+            AbstractInstallDistribution.LOCK_FILE_PREFIX + "install" + AbstractInstallDistribution.LOCK_FILE_SUFFIX);
         extractDirectoryPath = temporaryDirectoryPath.resolve(AbstractInstallDistribution.EXTRACT_DIRECTORY_NAME);
         distributionUrl = new URL(DISTRIBUTION_URL);
     }
@@ -83,7 +135,9 @@ class AbstractInstallDistributionTest {
 
         assertThatThrownBy(() -> usecase.execute(installSettings)).isEqualTo(expectedException);
 
-        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution);
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
     }
 
     @Test
@@ -99,8 +153,10 @@ class AbstractInstallDistributionTest {
 
         assertThatThrownBy(() -> usecase.execute(installSettings)).isEqualTo(expectedException);
 
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
         verify(fileManager).deleteFileTree(installDirectoryPath, true);
-        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
     }
 
     @Test
@@ -111,7 +167,8 @@ class AbstractInstallDistributionTest {
         final Path distributionFilePath = temporaryDirectoryPath.resolve("dist.zip");
         when(getDistribution.execute(argThat(new GetDistributionSettingsMatcher(
             new GetDistributionSettings(usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION,
-                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(distributionFilePath);
+                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(
+            new DistributionFile(distributionFilePath, DISTRIBUTION_HASH));
         final Exception expectedException = mock(UnsupportedDistributionArchiveException.class);
         doThrow(expectedException)
             .when(deployDistribution)
@@ -123,8 +180,11 @@ class AbstractInstallDistributionTest {
 
         assertThatThrownBy(() -> usecase.execute(installSettings)).isEqualTo(expectedException);
 
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
         verify(fileManager).deleteFileTree(installDirectoryPath, true);
-        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution);
+        verify(fileManager).size(distributionFilePath);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
     }
 
     @Test
@@ -135,7 +195,8 @@ class AbstractInstallDistributionTest {
         final Path distributionFilePath = temporaryDirectoryPath.resolve("dist.zip");
         when(getDistribution.execute(argThat(new GetDistributionSettingsMatcher(
             new GetDistributionSettings(usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION,
-                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(distributionFilePath);
+                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(
+            new DistributionFile(distributionFilePath, DISTRIBUTION_HASH));
         final Exception expectedException = new IOException();
         doThrow(expectedException).when(fileManager).delete(distributionFilePath);
         final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
@@ -143,11 +204,14 @@ class AbstractInstallDistributionTest {
 
         assertThatThrownBy(() -> usecase.execute(installSettings)).isEqualTo(expectedException);
 
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
         verify(fileManager).deleteFileTree(installDirectoryPath, true);
+        verify(fileManager).size(distributionFilePath);
         verify(deployDistribution).execute(argThat(new DeploymentSettingsMatcher(
             new DeploymentSettings(PlatformFixture.LOCAL_PLATFORM, extractDirectoryPath, installDirectoryPath,
                 distributionFilePath))));
-        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
     }
 
     @Test
@@ -158,25 +222,251 @@ class AbstractInstallDistributionTest {
         final Path distributionFilePath = temporaryDirectoryPath.resolve("dist.zip");
         when(getDistribution.execute(argThat(new GetDistributionSettingsMatcher(
             new GetDistributionSettings(usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION,
-                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(distributionFilePath);
+                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(
+            new DistributionFile(distributionFilePath, DISTRIBUTION_HASH));
+        when(deployDistribution.execute(argThat(new DeploymentSettingsMatcher(
+            new DeploymentSettings(PlatformFixture.LOCAL_PLATFORM, extractDirectoryPath, installDirectoryPath,
+                distributionFilePath))))).thenReturn(DEPLOYMENT_METRICS);
+        when(fileManager.size(distributionFilePath)).thenReturn(DISTRIBUTION_FILE_SIZE);
+        when(countInstalledFiles.execute(installDirectoryPath)).thenReturn(FILE_COUNT);
+        when(getInstalledFilesSize.execute(installDirectoryPath)).thenReturn(INSTALLED_FILE_SIZE);
         final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
             distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath);
 
+        final InstallMetrics installMetrics = usecase.execute(installSettings);
+
+        assertThat(installMetrics.getDistributionId()).isEqualTo(usecase.getDistributionId());
+        assertThat(installMetrics.getVersion()).isEqualTo(VERSION);
+        assertThat(installMetrics.isInstalled()).isTrue();
+        assertThat(installMetrics.isStreamed()).isFalse();
+        assertThat(installMetrics.getDistributionFileSize()).isEqualTo(DISTRIBUTION_FILE_SIZE);
+        assertThat(installMetrics.getDownloadDurationMs()).isNotNull();
+        assertThat(installMetrics.getDownloadThroughput()).isNotNull();
+        assertThat(installMetrics.getExplodeDurationMs()).isEqualTo(DEPLOYMENT_METRICS.getExplodeDurationMs());
+        assertThat(installMetrics.getMoveDurationMs()).isEqualTo(DEPLOYMENT_METRICS.getMoveDurationMs());
+        assertThat(installMetrics.isAtomicMove()).isTrue();
+        assertThat(installMetrics.getInstalledFileCount()).isEqualTo(FILE_COUNT);
+        assertThat(installMetrics.getInstalledFileSize()).isEqualTo(INSTALLED_FILE_SIZE);
+
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verify(fileManager).deleteFileTree(installDirectoryPath, true);
+        verify(fileManager).delete(distributionFilePath);
+        verify(executablePathCache).invalidate(installDirectoryPath);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution,
+            executablePathCache);
+    }
+
+    @Test
+    void shouldInstallDistributionWithStreaming()
+        throws IOException, UnsupportedDistributionIdException, UnsupportedPlatformException,
+        DistributionValidatorException, UnsupportedDistributionArchiveException, ArchiverException,
+        InvalidDistributionUrlException {
+        final GetDistributionSettings getDistributionSettings = new GetDistributionSettings(
+            usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION, distributionUrl,
+            temporaryDirectoryPath, PROXY);
+        when(streamDistribution.execute(argThat(new GetDistributionSettingsMatcher(getDistributionSettings)),
+            eq(extractDirectoryPath), eq(installDirectoryPath), eq(1))).thenReturn(Optional.of(DISTRIBUTION_HASH));
+        when(countInstalledFiles.execute(installDirectoryPath)).thenReturn(FILE_COUNT);
+        when(getInstalledFilesSize.execute(installDirectoryPath)).thenReturn(INSTALLED_FILE_SIZE);
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath, null, true);
+
+        final InstallMetrics installMetrics = usecase.execute(installSettings);
+
+        assertThat(installMetrics.isInstalled()).isTrue();
+        assertThat(installMetrics.isStreamed()).isTrue();
+        assertThat(installMetrics.getDistributionFileSize()).isNull();
+        assertThat(installMetrics.getDownloadDurationMs()).isNotNull();
+        assertThat(installMetrics.getDownloadThroughput()).isNull();
+        assertThat(installMetrics.getExplodeDurationMs()).isNull();
+        assertThat(installMetrics.getMoveDurationMs()).isNull();
+        assertThat(installMetrics.isAtomicMove()).isNull();
+        assertThat(installMetrics.getInstalledFileCount()).isEqualTo(FILE_COUNT);
+        assertThat(installMetrics.getInstalledFileSize()).isEqualTo(INSTALLED_FILE_SIZE);
+
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verify(fileManager).deleteFileTree(installDirectoryPath, true);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
+    }
+
+    @Test
+    void shouldInstallDistributionWithoutStreamingWhenArchiveCannotBeStreamed()
+        throws IOException, UnsupportedDistributionIdException, UnsupportedPlatformException,
+        DistributionValidatorException, UnsupportedDistributionArchiveException, ArchiverException,
+        InvalidDistributionUrlException {
+        final Path distributionFilePath = temporaryDirectoryPath.resolve("dist.zip");
+        final GetDistributionSettings getDistributionSettings = new GetDistributionSettings(
+            usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION, distributionUrl,
+            temporaryDirectoryPath, PROXY);
+        when(streamDistribution.execute(argThat(new GetDistributionSettingsMatcher(getDistributionSettings)),
+            eq(extractDirectoryPath), eq(installDirectoryPath), eq(1))).thenReturn(Optional.empty());
+        when(getDistribution.execute(argThat(new GetDistributionSettingsMatcher(getDistributionSettings)))).thenReturn(
+            new DistributionFile(distributionFilePath, DISTRIBUTION_HASH));
+        when(deployDistribution.execute(argThat(new DeploymentSettingsMatcher(
+            new DeploymentSettings(PlatformFixture.LOCAL_PLATFORM, extractDirectoryPath, installDirectoryPath,
+                distributionFilePath))))).thenReturn(DEPLOYMENT_METRICS);
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath, null, true);
+
         usecase.execute(installSettings);
 
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
         verify(fileManager).deleteFileTree(installDirectoryPath, true);
-        verify(deployDistribution).execute(argThat(new DeploymentSettingsMatcher(
+        verify(fileManager).size(distributionFilePath);
+        verify(fileManager).delete(distributionFilePath);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
+    }
+
+    @Test
+    void shouldInstallDistributionWithoutStreamingWhenCacheIsEnabled()
+        throws IOException, UnsupportedDistributionIdException, UnsupportedPlatformException,
+        DistributionValidatorException, UnsupportedDistributionArchiveException, ArchiverException,
+        InvalidDistributionUrlException {
+        final Path distributionFilePath = temporaryDirectoryPath.resolve("dist.zip");
+        final Path cacheDirectoryPath = temporaryDirectoryPath.resolve("cache");
+        when(getDistribution.execute(argThat(new GetDistributionSettingsMatcher(
+            new GetDistributionSettings(usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION,
+                distributionUrl, temporaryDirectoryPath, PROXY, cacheDirectoryPath))))).thenReturn(
+            new DistributionFile(distributionFilePath, DISTRIBUTION_HASH));
+        when(deployDistribution.execute(argThat(new DeploymentSettingsMatcher(
             new DeploymentSettings(PlatformFixture.LOCAL_PLATFORM, extractDirectoryPath, installDirectoryPath,
-                distributionFilePath))));
+                distributionFilePath))))).thenReturn(DEPLOYMENT_METRICS);
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath, cacheDirectoryPath, true);
+
+        usecase.execute(installSettings);
+
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verify(fileManager).deleteFileTree(installDirectoryPath, true);
+        verify(fileManager).size(distributionFilePath);
+        verify(fileManager).delete(distributionFilePath);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution);
+    }
+
+    @Test
+    void shouldNotInstallDistributionWhenManifestMatches() throws IOException, UnsupportedDistributionIdException,
+        UnsupportedPlatformException, DistributionValidatorException, UnsupportedDistributionArchiveException,
+        ArchiverException, InvalidDistributionUrlException {
+        when(readInstallManifest.execute(installDirectoryPath)).thenReturn(Optional.of(
+            new InstallManifest(usecase.getDistributionId(), VERSION,
+                InstallManifest.toPlatformId(PlatformFixture.LOCAL_PLATFORM), DISTRIBUTION_URL, DISTRIBUTION_HASH,
+                FILE_COUNT, emptyMap())));
+        when(countInstalledFiles.execute(installDirectoryPath)).thenReturn(FILE_COUNT);
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath);
+
+        final InstallMetrics installMetrics = usecase.execute(installSettings);
+
+        assertThat(installMetrics.getDistributionId()).isEqualTo(usecase.getDistributionId());
+        assertThat(installMetrics.getVersion()).isEqualTo(VERSION);
+        assertThat(installMetrics.isInstalled()).isFalse();
+        assertThat(installMetrics.getInstalledFileCount()).isNull();
+
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution,
+            readInstallManifest, writeInstallManifest, countInstalledFiles, getInstalledFilesSize);
+    }
+
+    @Test
+    void shouldInstallDistributionWhenManifestDoesNotMatchVersion() throws IOException,
+        UnsupportedDistributionIdException, UnsupportedPlatformException, DistributionValidatorException,
+        UnsupportedDistributionArchiveException, ArchiverException, InvalidDistributionUrlException {
+        when(readInstallManifest.execute(installDirectoryPath)).thenReturn(Optional.of(
+            new InstallManifest(usecase.getDistributionId(), "6.0.0",
+                InstallManifest.toPlatformId(PlatformFixture.LOCAL_PLATFORM), DISTRIBUTION_URL, DISTRIBUTION_HASH,
+                FILE_COUNT, emptyMap())));
+        final Path distributionFilePath = temporaryDirectoryPath.resolve("dist.zip");
+        when(getDistribution.execute(argThat(new GetDistributionSettingsMatcher(
+            new GetDistributionSettings(usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION,
+                distributionUrl, temporaryDirectoryPath, PROXY))))).thenReturn(
+            new DistributionFile(distributionFilePath, DISTRIBUTION_HASH));
+        when(countInstalledFiles.execute(installDirectoryPath)).thenReturn(FILE_COUNT);
+        when(getInstalledSymbolicLinks.execute(installDirectoryPath)).thenReturn(SYMBOLIC_LINKS);
+        when(deployDistribution.execute(argThat(new DeploymentSettingsMatcher(
+            new DeploymentSettings(PlatformFixture.LOCAL_PLATFORM, extractDirectoryPath, installDirectoryPath,
+                distributionFilePath))))).thenReturn(DEPLOYMENT_METRICS);
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath);
+
+        usecase.execute(installSettings);
+
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verify(fileManager).deleteFileTree(installDirectoryPath, true);
+        verify(fileManager).size(distributionFilePath);
         verify(fileManager).delete(distributionFilePath);
-        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution);
+        verify(writeInstallManifest).execute(eq(installDirectoryPath), argThat(new InstallManifestMatcher(
+            new InstallManifest(usecase.getDistributionId(), VERSION,
+                InstallManifest.toPlatformId(PlatformFixture.LOCAL_PLATFORM), DISTRIBUTION_URL, DISTRIBUTION_HASH,
+                FILE_COUNT, SYMBOLIC_LINKS))));
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution,
+            writeInstallManifest);
+    }
+
+    @Test
+    void shouldInstallDistributionWhenManifestDoesNotMatchFileCount() throws IOException,
+        UnsupportedDistributionIdException, UnsupportedPlatformException, DistributionValidatorException,
+        UnsupportedDistributionArchiveException, ArchiverException, InvalidDistributionUrlException {
+        when(readInstallManifest.execute(installDirectoryPath)).thenReturn(Optional.of(
+            new InstallManifest(usecase.getDistributionId(), VERSION,
+                InstallManifest.toPlatformId(PlatformFixture.LOCAL_PLATFORM), DISTRIBUTION_URL, DISTRIBUTION_HASH,
+                FILE_COUNT, emptyMap())));
+        when(countInstalledFiles.execute(installDirectoryPath)).thenReturn(FILE_COUNT - 1, FILE_COUNT - 1, FILE_COUNT);
+        final GetDistributionSettings getDistributionSettings = new GetDistributionSettings(
+            usecase.getDistributionId(), PlatformFixture.LOCAL_PLATFORM, VERSION, distributionUrl,
+            temporaryDirectoryPath, PROXY);
+        when(streamDistribution.execute(argThat(new GetDistributionSettingsMatcher(getDistributionSettings)),
+            eq(extractDirectoryPath), eq(installDirectoryPath), eq(1))).thenReturn(Optional.of(DISTRIBUTION_HASH));
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath, null, true);
+
+        usecase.execute(installSettings);
+
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verify(fileManager).deleteFileTree(installDirectoryPath, true);
+        verify(writeInstallManifest).execute(eq(installDirectoryPath), argThat(new InstallManifestMatcher(
+            new InstallManifest(usecase.getDistributionId(), VERSION,
+                InstallManifest.toPlatformId(PlatformFixture.LOCAL_PLATFORM), DISTRIBUTION_URL, DISTRIBUTION_HASH,
+                FILE_COUNT, emptyMap()))));
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution,
+            writeInstallManifest);
+    }
+
+    @Test
+    void shouldNotInstallDistributionWhenInstalledWhileWaitingForLock() throws IOException,
+        UnsupportedDistributionIdException, UnsupportedPlatformException, DistributionValidatorException,
+        UnsupportedDistributionArchiveException, ArchiverException, InvalidDistributionUrlException {
+        when(readInstallManifest.execute(installDirectoryPath)).thenReturn(Optional.empty(), Optional.of(
+            new InstallManifest(usecase.getDistributionId(), VERSION,
+                InstallManifest.toPlatformId(PlatformFixture.LOCAL_PLATFORM), DISTRIBUTION_URL, DISTRIBUTION_HASH,
+                FILE_COUNT, emptyMap())));
+        when(countInstalledFiles.execute(installDirectoryPath)).thenReturn(FILE_COUNT);
+        final InstallSettings installSettings = new InstallSettings(PlatformFixture.LOCAL_PLATFORM, VERSION,
+            distributionUrl, PROXY, temporaryDirectoryPath, installDirectoryPath);
+
+        usecase.execute(installSettings);
+
+        verify(fileManager).createDirectories(temporaryDirectoryPath);
+        verify(fileManager).lock(lockFilePath);
+        verifyNoMoreInteractions(fileManager, getDistribution, deployDistribution, streamDistribution,
+            readInstallManifest, writeInstallManifest, countInstalledFiles, executablePathCache);
     }
 
     private static class InstallDistributionImpl extends AbstractInstallDistribution {
 
         InstallDistributionImpl(final FileManager fileManager, final GetDistribution getDistribution,
-            final DeployDistribution deployDistribution, final Logger logger) {
-            super(fileManager, getDistribution, deployDistribution, logger);
+            final DeployDistribution deployDistribution, final StreamDistribution streamDistribution,
+            final ReadInstallManifest readInstallManifest, final WriteInstallManifest writeInstallManifest,
+            final CountInstalledFiles countInstalledFiles, final GetInstalledFilesSize getInstalledFilesSize,
+            final GetInstalledSymbolicLinks getInstalledSymbolicLinks, final ExecutablePathCache executablePathCache,
+            final Logger logger) {
+            super(fileManager, getDistribution, deployDistribution, streamDistribution, readInstallManifest,
+                writeInstallManifest, countInstalledFiles, getInstalledFilesSize, getInstalledSymbolicLinks,
+                executablePathCache, logger);
         }
 
         @Nonnull
@@ -0,0 +1,99 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
+import org.siouan.frontendgradleplugin.domain.model.DistributionId;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+
+@ExtendWith(MockitoExtension.class)
+class CacheDistributionTest {
+
+    private static final String HASH = "0123456789abcdef";
+
+    private static final long SIZE = 1234;
+
+    private static final Path DISTRIBUTION_FILE_PATH = PathFixture.TMP_PATH.resolve("node.zip");
+
+    @Mock
+    private FileManager fileManager;
+
+    private CacheDistribution usecase;
+
+    private DistributionCacheSettings distributionCacheSettings;
+
+    @BeforeEach
+    void setUp() throws MalformedURLException {
+        usecase = new CacheDistribution(fileManager, mock(Logger.class));
+        distributionCacheSettings = new DistributionCacheSettings(PathFixture.ANY_PATH.resolve("cache"),
+            DistributionId.NODE, "12.16.1", PlatformFixture.ANY_UNIX_PLATFORM,
+            new URL("https://nodejs.org/dist/v12.16.1/node.zip"), "node.zip");
+    }
+
+    @Test
+    void shouldOnlyUpdateIndexWhenDistributionFileIsAlreadyCached() throws IOException {
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(HASH);
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        when(fileManager.exists(contentFilePath)).thenReturn(true);
+        when(fileManager.size(contentFilePath)).thenReturn(SIZE);
+        final ByteArrayOutputStream indexOutputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(indexOutputStream);
+
+        usecase.execute(distributionCacheSettings, DISTRIBUTION_FILE_PATH, HASH);
+
+        final ArgumentCaptor<Path> temporaryIndexFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).createDirectories(indexFilePath.getParent());
+        verify(fileManager).newOutputStream(temporaryIndexFilePathCaptor.capture());
+        final Path temporaryIndexFilePath = temporaryIndexFilePathCaptor.getValue();
+        assertThat(temporaryIndexFilePath.getParent()).isEqualTo(indexFilePath.getParent());
+        assertThat(temporaryIndexFilePath.getFileName().toString()).endsWith(DownloadResource.TMP_EXTENSION);
+        assertThat(new String(indexOutputStream.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo(
+            HASH + '\n' + SIZE + '\n');
+        verify(fileManager).move(temporaryIndexFilePath, indexFilePath, StandardCopyOption.ATOMIC_MOVE);
+        verify(fileManager).deleteIfExists(temporaryIndexFilePath);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldStoreDistributionFileAndIndex() throws IOException {
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(HASH);
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        when(fileManager.exists(contentFilePath)).thenReturn(false);
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(new ByteArrayOutputStream());
+
+        usecase.execute(distributionCacheSettings, DISTRIBUTION_FILE_PATH, HASH);
+
+        final ArgumentCaptor<Path> temporaryContentFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).createDirectories(contentFilePath.getParent());
+        verify(fileManager).createLink(temporaryContentFilePathCaptor.capture(), eq(DISTRIBUTION_FILE_PATH));
+        final Path temporaryContentFilePath = temporaryContentFilePathCaptor.getValue();
+        assertThat(temporaryContentFilePath.getParent()).isEqualTo(contentFilePath.getParent());
+        verify(fileManager).move(temporaryContentFilePath, contentFilePath, StandardCopyOption.ATOMIC_MOVE);
+        verify(fileManager).deleteIfExists(temporaryContentFilePath);
+        verify(fileManager).createDirectories(indexFilePath.getParent());
+        verify(fileManager).move(any(Path.class), eq(indexFilePath), eq(StandardCopyOption.ATOMIC_MOVE));
+    }
+}
@@ -0,0 +1,51 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class CountInstalledFilesTest {
+
+    private static final Path INSTALL_DIRECTORY_PATH = Paths.get("install");
+
+    @Mock
+    private FileManager fileManager;
+
+    @InjectMocks
+    private CountInstalledFiles usecase;
+
+    @Test
+    void shouldReturnZeroWhenInstallDirectoryDoesNotExist() throws IOException {
+        when(fileManager.isDirectory(INSTALL_DIRECTORY_PATH)).thenReturn(false);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isZero();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldCountFilesExceptInstallDirectoryAndManifest() throws IOException {
+        when(fileManager.isDirectory(INSTALL_DIRECTORY_PATH)).thenReturn(true);
+        when(fileManager.walk(INSTALL_DIRECTORY_PATH)).thenReturn(
+            Stream.of(INSTALL_DIRECTORY_PATH, INSTALL_DIRECTORY_PATH.resolve(InstallManifest.FILE_NAME),
+                INSTALL_DIRECTORY_PATH.resolve("bin"), INSTALL_DIRECTORY_PATH.resolve("bin").resolve("node")));
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEqualTo(2);
+
+        verifyNoMoreInteractions(fileManager);
+    }
+}
@@ -1,5 +1,6 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -31,6 +32,7 @@ import org.mockito.stubbing.Answer;
 import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
 import org.siouan.frontendgradleplugin.domain.model.Archiver;
+import org.siouan.frontendgradleplugin.domain.model.DeploymentMetrics;
 import org.siouan.frontendgradleplugin.domain.model.DeploymentSettings;
 import org.siouan.frontendgradleplugin.domain.model.ExplodeSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
@@ -65,7 +67,8 @@ class DeployDistributionTest {
     void setUp() {
         installDirectoryPath = temporaryDirectoryPath.resolve("install");
         extractDirectoryPath = temporaryDirectoryPath.resolve("extract");
-        usecase = new DeployDistribution(fileManager, archiverProvider, mock(Logger.class));
+        usecase = new DeployDistribution(fileManager, archiverProvider,
+            new MoveExplodedDistribution(fileManager, mock(Logger.class)), mock(Logger.class));
     }
 
     @Test
@@ -130,9 +133,13 @@ class DeployDistributionTest {
             Stream.of(extractDirectoryPath.resolve("file1"), extractDirectoryPath.resolve("file2")));
         final DeploymentSettings deploymentSettings = new DeploymentSettings(PlatformFixture.LOCAL_PLATFORM,
             extractDirectoryPath, installDirectoryPath, distributionFilePath);
+        when(fileManager.moveFileTree(extractDirectoryPath, installDirectoryPath)).thenReturn(true);
 
-        usecase.execute(deploymentSettings);
+        final DeploymentMetrics deploymentMetrics = usecase.execute(deploymentSettings);
 
+        assertThat(deploymentMetrics.getExplodeDurationMs()).isGreaterThanOrEqualTo(0L);
+        assertThat(deploymentMetrics.getMoveDurationMs()).isGreaterThanOrEqualTo(0L);
+        assertThat(deploymentMetrics.isAtomicMove()).isTrue();
         verify(fileManager).moveFileTree(extractDirectoryPath, installDirectoryPath);
         verify(fileManager).deleteIfExists(extractDirectoryPath);
         verifyNoMoreInteractions(fileManager, archiverProvider, archiver);
@@ -1,21 +1,35 @@
 package org.siouan.frontendgradleplugin.domain.usecase;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.Random;
 import javax.annotation.Nonnull;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,8 +42,12 @@ import org.mockito.exceptions.verification.NoInteractionsWanted;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.siouan.frontendgradleplugin.domain.model.DownloadSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.ResumedResource;
+import org.siouan.frontendgradleplugin.domain.model.RetrySettings;
 import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.util.DigestReadableByteChannel;
 
 /**
  * <b>Note on verifications</b>: exhaustive verification of interactions on the resource output channel is not possible
@@ -46,6 +64,16 @@ class DownloadResourceTest {
 
     private static final String RESOURCE_NAME = "resource.zip";
 
+    private static final String EMPTY_RESOURCE_HASH
+        = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final String RESOURCE_CONTENT = "content";
+
+    private static final String RESOURCE_CONTENT_HASH
+        = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+    private static final ResourceMetadata RESOURCE_METADATA = new ResourceMetadata("\"e1\"", null, 7L);
+
     @TempDir
     Path temporaryDirectoryPath;
 
@@ -60,15 +88,16 @@ class DownloadResourceTest {
 
     @BeforeEach
     void setUp() {
-        usecase = new DownloadResource(fileManager, channelProvider, mock(Logger.class));
+        usecase = new DownloadResource(fileManager, channelProvider, new ConvertToHexadecimalString(),
+            mock(Logger.class));
     }
 
     @Test
     void shouldFailWhenResourceCannotBeDownloaded() throws IOException {
         final DownloadSettings downloadSettings = buildDownloadParameters(Paths.get("/y45y97@p"));
         final IOException expectedException = new IOException();
-        when(channelProvider.getReadableByteChannel(downloadSettings.getResourceUrl(),
-            downloadSettings.getProxy())).thenThrow(expectedException);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenThrow(expectedException);
 
         assertThatThrownBy(() -> usecase.execute(downloadSettings)).isEqualTo(expectedException);
 
@@ -84,8 +113,9 @@ class DownloadResourceTest {
     void shouldFailWhenTemporaryFileCannotBeCreated() throws IOException {
         final DownloadSettings downloadSettings = buildDownloadParameters(Paths.get("/volezp", "gixkkle"));
         final ReadableByteChannel resourceInputChannel = mock(ReadableByteChannel.class);
-        when(channelProvider.getReadableByteChannel(downloadSettings.getResourceUrl(),
-            downloadSettings.getProxy())).thenReturn(resourceInputChannel);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(resourceInputChannel, 0, RESOURCE_METADATA));
         final Path temporaryFilePath = downloadSettings
             .getTemporaryDirectoryPath()
             .resolve(
@@ -105,8 +135,9 @@ class DownloadResourceTest {
     void shouldFailWhenDataTransferFails() throws IOException {
         final DownloadSettings downloadSettings = buildDownloadParameters(Paths.get("/volezp", "gixkkle"));
         final ReadableByteChannel resourceInputChannel = mock(ReadableByteChannel.class);
-        when(channelProvider.getReadableByteChannel(downloadSettings.getResourceUrl(),
-            downloadSettings.getProxy())).thenReturn(resourceInputChannel);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(resourceInputChannel, 0, RESOURCE_METADATA));
         final Path temporaryFilePath = downloadSettings
             .getTemporaryDirectoryPath()
             .resolve(
@@ -115,7 +146,8 @@ class DownloadResourceTest {
         when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
             StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(resourceOutputChannel);
         final IOException expectedException = new IOException();
-        when(resourceOutputChannel.transferFrom(resourceInputChannel, 0, Long.MAX_VALUE)).thenThrow(expectedException);
+        when(resourceOutputChannel.transferFrom(any(DigestReadableByteChannel.class), eq(0L),
+            eq(Long.MAX_VALUE))).thenThrow(expectedException);
 
         assertThatThrownBy(() -> usecase.execute(downloadSettings)).isEqualTo(expectedException);
 
@@ -128,8 +160,9 @@ class DownloadResourceTest {
     void shouldFailWhenTemporaryFileCannotBeMovedToDestinationFile() throws IOException {
         final DownloadSettings downloadSettings = buildDownloadParameters(Paths.get("/volezp", "gixkkle"));
         final ReadableByteChannel resourceInputChannel = mock(ReadableByteChannel.class);
-        when(channelProvider.getReadableByteChannel(downloadSettings.getResourceUrl(),
-            downloadSettings.getProxy())).thenReturn(resourceInputChannel);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(resourceInputChannel, 0, RESOURCE_METADATA));
         final Path temporaryFilePath = downloadSettings
             .getTemporaryDirectoryPath()
             .resolve(
@@ -143,7 +176,7 @@ class DownloadResourceTest {
 
         assertThatThrownBy(() -> usecase.execute(downloadSettings)).isEqualTo(expectedException);
 
-        verify(resourceOutputChannel).transferFrom(resourceInputChannel, 0, Long.MAX_VALUE);
+        verify(resourceOutputChannel).transferFrom(any(DigestReadableByteChannel.class), eq(0L), eq(Long.MAX_VALUE));
         verify(resourceInputChannel).close();
         verifyNoMoreInteractions(fileManager, channelProvider, resourceInputChannel);
     }
@@ -154,8 +187,9 @@ class DownloadResourceTest {
         final Path destinationFilePath = destinationDirectoryPath.resolve(RESOURCE_NAME);
         final DownloadSettings downloadSettings = buildDownloadParameters(destinationFilePath);
         final ReadableByteChannel resourceInputChannel = mock(ReadableByteChannel.class);
-        when(channelProvider.getReadableByteChannel(downloadSettings.getResourceUrl(),
-            downloadSettings.getProxy())).thenReturn(resourceInputChannel);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(resourceInputChannel, 0, RESOURCE_METADATA));
         final Path temporaryFilePath = downloadSettings
             .getTemporaryDirectoryPath()
             .resolve(
@@ -164,15 +198,207 @@ class DownloadResourceTest {
         when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
             StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(resourceOutputChannel);
 
-        usecase.execute(downloadSettings);
+        assertThat(usecase.execute(downloadSettings)).isEqualTo(EMPTY_RESOURCE_HASH);
 
-        verify(resourceOutputChannel).transferFrom(resourceInputChannel, 0, Long.MAX_VALUE);
+        verify(resourceOutputChannel).transferFrom(any(DigestReadableByteChannel.class), eq(0L), eq(Long.MAX_VALUE));
         verify(resourceInputChannel).close();
         verify(fileManager).move(temporaryFilePath, downloadSettings.getDestinationFilePath(),
             StandardCopyOption.REPLACE_EXISTING);
         verifyNoMoreInteractions(fileManager, channelProvider, resourceInputChannel);
     }
 
+    @Test
+    void shouldComputeHashOfResourceWhileDownloadingIt() throws Exception {
+        final Path downloadDirectoryPath = Files.createDirectory(getDownloadDirectoryPath());
+        final Path destinationFilePath = temporaryDirectoryPath.resolve(RESOURCE_NAME);
+        final DownloadSettings downloadSettings = buildDownloadParameters(destinationFilePath);
+        final ReadableByteChannel resourceInputChannel = Channels.newChannel(
+            new ByteArrayInputStream(RESOURCE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(resourceInputChannel, 0, RESOURCE_METADATA));
+        final Path temporaryFilePath = downloadDirectoryPath.resolve(RESOURCE_NAME + DownloadResource.TMP_EXTENSION);
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(
+            FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+
+        assertThat(usecase.execute(downloadSettings)).isEqualTo(RESOURCE_CONTENT_HASH);
+
+        assertThat(temporaryFilePath).hasContent(RESOURCE_CONTENT);
+        verify(fileManager).move(temporaryFilePath, destinationFilePath, StandardCopyOption.REPLACE_EXISTING);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldNotRetryWhenResourceDoesNotExist() throws IOException {
+        final DownloadSettings downloadSettings = buildDownloadParameters(Paths.get("/y45y97@p"),
+            new RetrySettings(3, 0));
+        final IOException expectedException = new FileNotFoundException();
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenThrow(expectedException);
+
+        assertThatThrownBy(() -> usecase.execute(downloadSettings)).isEqualTo(expectedException);
+
+        final Path temporaryFilePath = downloadSettings
+            .getTemporaryDirectoryPath()
+            .resolve(
+                downloadSettings.getDestinationFilePath().getFileName().toString() + DownloadResource.TMP_EXTENSION);
+        verify(fileManager).deleteIfExists(temporaryFilePath);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldFailWhenAllAttemptsFail() throws IOException {
+        final Path downloadDirectoryPath = Files.createDirectory(getDownloadDirectoryPath());
+        final DownloadSettings downloadSettings = buildDownloadParameters(temporaryDirectoryPath.resolve(RESOURCE_NAME),
+            new RetrySettings(2, 0));
+        final Path temporaryFilePath = downloadDirectoryPath.resolve(RESOURCE_NAME + DownloadResource.TMP_EXTENSION);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenThrow(new IOException());
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE)).thenAnswer(
+            invocation -> FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE));
+        final IOException expectedException = new IOException();
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenThrow(new IOException(), expectedException);
+
+        assertThatThrownBy(() -> usecase.execute(downloadSettings)).isEqualTo(expectedException);
+
+        verify(fileManager).deleteIfExists(temporaryFilePath);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldResumeDownloadAfterTransferFailure() throws Exception {
+        final Path downloadDirectoryPath = Files.createDirectory(getDownloadDirectoryPath());
+        final Path destinationFilePath = temporaryDirectoryPath.resolve(RESOURCE_NAME);
+        final DownloadSettings downloadSettings = buildDownloadParameters(destinationFilePath,
+            new RetrySettings(2, 0));
+        final int offset = 4;
+        final byte[] resourceContent = RESOURCE_CONTENT.getBytes(StandardCharsets.UTF_8);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(new FailingReadableByteChannel(Arrays.copyOf(resourceContent, offset)), 0,
+                RESOURCE_METADATA));
+        final Path temporaryFilePath = downloadDirectoryPath.resolve(RESOURCE_NAME + DownloadResource.TMP_EXTENSION);
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(
+            FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE)).thenAnswer(
+            invocation -> FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE));
+        when(fileManager.newInputStream(temporaryFilePath)).thenAnswer(
+            invocation -> Files.newInputStream(temporaryFilePath));
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), offset,
+            RESOURCE_METADATA)).thenReturn(new ResumedResource(
+            Channels.newChannel(new ByteArrayInputStream(resourceContent, offset, resourceContent.length - offset)),
+            offset, RESOURCE_METADATA));
+
+        assertThat(usecase.execute(downloadSettings)).isEqualTo(RESOURCE_CONTENT_HASH);
+
+        assertThat(temporaryFilePath).hasContent(RESOURCE_CONTENT);
+        verify(fileManager).move(temporaryFilePath, destinationFilePath, StandardCopyOption.REPLACE_EXISTING);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldDownloadResourceAgainWhenResourceChangedAfterTransferFailure() throws Exception {
+        final Path downloadDirectoryPath = Files.createDirectory(getDownloadDirectoryPath());
+        final Path destinationFilePath = temporaryDirectoryPath.resolve(RESOURCE_NAME);
+        final DownloadSettings downloadSettings = buildDownloadParameters(destinationFilePath,
+            new RetrySettings(2, 0));
+        final int offset = 4;
+        final byte[] resourceContent = RESOURCE_CONTENT.getBytes(StandardCharsets.UTF_8);
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(new FailingReadableByteChannel(new byte[] {1, 2, 3, 4}), 0, RESOURCE_METADATA));
+        final Path temporaryFilePath = downloadDirectoryPath.resolve(RESOURCE_NAME + DownloadResource.TMP_EXTENSION);
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(
+            FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE)).thenAnswer(
+            invocation -> FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE));
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), offset,
+            RESOURCE_METADATA)).thenReturn(
+            new ResumedResource(Channels.newChannel(new ByteArrayInputStream(resourceContent)), 0,
+                new ResourceMetadata("\"e2\"", null, 7L)));
+
+        assertThat(usecase.execute(downloadSettings)).isEqualTo(RESOURCE_CONTENT_HASH);
+
+        assertThat(temporaryFilePath).hasContent(RESOURCE_CONTENT);
+        verify(fileManager).move(temporaryFilePath, destinationFilePath, StandardCopyOption.REPLACE_EXISTING);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldDownloadSegmentsConcurrentlyWhenServerSupportsRangeRequests() throws Exception {
+        final Path downloadDirectoryPath = Files.createDirectory(getDownloadDirectoryPath());
+        final Path destinationFilePath = temporaryDirectoryPath.resolve(RESOURCE_NAME);
+        final DownloadSettings downloadSettings = new DownloadSettings(getResourceFilePath().toUri().toURL(), PROXY,
+            downloadDirectoryPath, destinationFilePath, RetrySettings.NO_RETRY, 3);
+        final byte[] resourceContent = new byte[5 * 1024 * 1024 + 7];
+        new Random(0).nextBytes(resourceContent);
+        when(channelProvider.getRangeableResourceLength(downloadSettings.getResourceUrl(),
+            downloadSettings.getProxy())).thenReturn(OptionalLong.of(resourceContent.length));
+        final Path temporaryFilePath = downloadDirectoryPath.resolve(RESOURCE_NAME + DownloadResource.TMP_EXTENSION);
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(
+            FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+        when(channelProvider.getReadableByteChannel(eq(downloadSettings.getResourceUrl()),
+            eq(downloadSettings.getProxy()), anyLong(), anyLong())).thenAnswer(
+            invocation -> Channels.newChannel(
+                new ByteArrayInputStream(resourceContent, ((Long) invocation.getArgument(2)).intValue(),
+                    ((Long) invocation.getArgument(3)).intValue())));
+        when(fileManager.newInputStream(temporaryFilePath)).thenAnswer(
+            invocation -> Files.newInputStream(temporaryFilePath));
+
+        final String expectedHash = new ConvertToHexadecimalString().execute(
+            MessageDigest.getInstance(HashFile.ALGORITHM).digest(resourceContent));
+        assertThat(usecase.execute(downloadSettings)).isEqualTo(expectedHash);
+
+        assertThat(Files.readAllBytes(temporaryFilePath)).isEqualTo(resourceContent);
+        final long segmentLength = (resourceContent.length + 2) / 3;
+        verify(channelProvider).getReadableByteChannel(downloadSettings.getResourceUrl(), downloadSettings.getProxy(),
+            0, segmentLength);
+        verify(channelProvider).getReadableByteChannel(downloadSettings.getResourceUrl(), downloadSettings.getProxy(),
+            segmentLength, segmentLength);
+        verify(channelProvider).getReadableByteChannel(downloadSettings.getResourceUrl(), downloadSettings.getProxy(),
+            2 * segmentLength, resourceContent.length - 2 * segmentLength);
+        verify(fileManager).move(temporaryFilePath, destinationFilePath, StandardCopyOption.REPLACE_EXISTING);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldDownloadWithSingleConnectionWhenServerDoesNotSupportRangeRequests() throws Exception {
+        final Path downloadDirectoryPath = Files.createDirectory(getDownloadDirectoryPath());
+        final Path destinationFilePath = temporaryDirectoryPath.resolve(RESOURCE_NAME);
+        final DownloadSettings downloadSettings = new DownloadSettings(getResourceFilePath().toUri().toURL(), PROXY,
+            downloadDirectoryPath, destinationFilePath, RetrySettings.NO_RETRY, 3);
+        when(channelProvider.getRangeableResourceLength(downloadSettings.getResourceUrl(),
+            downloadSettings.getProxy())).thenReturn(OptionalLong.empty());
+        when(channelProvider.getResumedResource(downloadSettings.getResourceUrl(), downloadSettings.getProxy(), 0,
+            null)).thenReturn(
+            new ResumedResource(
+                Channels.newChannel(new ByteArrayInputStream(RESOURCE_CONTENT.getBytes(StandardCharsets.UTF_8))), 0,
+                RESOURCE_METADATA));
+        final Path temporaryFilePath = downloadDirectoryPath.resolve(RESOURCE_NAME + DownloadResource.TMP_EXTENSION);
+        when(channelProvider.getWritableFileChannelForNewFile(temporaryFilePath, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)).thenReturn(
+            FileChannel.open(temporaryFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+
+        assertThat(usecase.execute(downloadSettings)).isEqualTo(RESOURCE_CONTENT_HASH);
+
+        assertThat(temporaryFilePath).hasContent(RESOURCE_CONTENT);
+        verify(fileManager).move(temporaryFilePath, destinationFilePath, StandardCopyOption.REPLACE_EXISTING);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
     private Path getDownloadDirectoryPath() {
         return temporaryDirectoryPath.resolve(DOWNLOAD_DIRECTORY_NAME);
     }
@@ -186,4 +412,47 @@ class DownloadResourceTest {
         return new DownloadSettings(getResourceFilePath().toUri().toURL(), PROXY, getDownloadDirectoryPath(),
             destinationFilePath);
     }
+
+    private DownloadSettings buildDownloadParameters(@Nonnull final Path destinationFilePath,
+        @Nonnull final RetrySettings retrySettings) throws MalformedURLException {
+        return new DownloadSettings(getResourceFilePath().toUri().toURL(), PROXY, getDownloadDirectoryPath(),
+            destinationFilePath, retrySettings);
+    }
+
+    /**
+     * Channel providing some bytes, and then failing as a broken connection would.
+     */
+    private static class FailingReadableByteChannel implements ReadableByteChannel {
+
+        private final ByteBuffer content;
+
+        private boolean open;
+
+        FailingReadableByteChannel(@Nonnull final byte[] content) {
+            this.content = ByteBuffer.wrap(content);
+            this.open = true;
+        }
+
+        @Override
+        public int read(@Nonnull final ByteBuffer buffer) throws IOException {
+            if (!content.hasRemaining()) {
+                throw new IOException("Connection reset");
+            }
+            final int numberOfBytesRead = Math.min(buffer.remaining(), content.remaining());
+            for (int i = 0; i < numberOfBytesRead; i++) {
+                buffer.put(content.get());
+            }
+            return numberOfBytesRead;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
+import org.siouan.frontendgradleplugin.domain.model.DistributionId;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+
+@ExtendWith(MockitoExtension.class)
+class GetCachedDistributionTest {
+
+    private static final String HASH = "0123456789abcdef";
+
+    private static final long SIZE = 1234;
+
+    private static final String INDEX = HASH + '\n' + SIZE + '\n';
+
+    private static final Path TARGET_FILE_PATH = PathFixture.TMP_PATH.resolve("node.zip");
+
+    @Mock
+    private FileManager fileManager;
+
+    private GetCachedDistribution usecase;
+
+    private DistributionCacheSettings distributionCacheSettings;
+
+    @BeforeEach
+    void setUp() throws MalformedURLException {
+        usecase = new GetCachedDistribution(fileManager, mock(Logger.class));
+        distributionCacheSettings = new DistributionCacheSettings(PathFixture.ANY_PATH.resolve("cache"),
+            DistributionId.NODE, "12.16.1", PlatformFixture.ANY_UNIX_PLATFORM,
+            new URL("https://nodejs.org/dist/v12.16.1/node.zip"), "node.zip");
+    }
+
+    @Test
+    void shouldReturnEmptyHashWhenIndexFileDoesNotExist() throws IOException {
+        when(fileManager.exists(distributionCacheSettings.getIndexFilePath())).thenReturn(false);
+
+        assertThat(usecase.execute(distributionCacheSettings, TARGET_FILE_PATH)).isEmpty();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldFailWhenIndexFileCannotBeRead() throws IOException {
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        when(fileManager.exists(indexFilePath)).thenReturn(true);
+        final IOException expectedException = new IOException();
+        when(fileManager.newBufferedReader(indexFilePath)).thenThrow(expectedException);
+
+        assertThatThrownBy(() -> usecase.execute(distributionCacheSettings, TARGET_FILE_PATH)).isEqualTo(
+            expectedException);
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldEvictEntryWhenIndexFileDoesNotContainSize() throws IOException {
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(HASH);
+        when(fileManager.exists(indexFilePath)).thenReturn(true);
+        when(fileManager.newBufferedReader(indexFilePath)).thenReturn(new BufferedReader(new StringReader(HASH)));
+
+        assertThat(usecase.execute(distributionCacheSettings, TARGET_FILE_PATH)).isEmpty();
+
+        verify(fileManager).deleteIfExists(indexFilePath);
+        verify(fileManager).deleteIfExists(contentFilePath);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldEvictEntryWhenDistributionFileDoesNotMatchSize() throws IOException {
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(HASH);
+        when(fileManager.exists(indexFilePath)).thenReturn(true);
+        when(fileManager.newBufferedReader(indexFilePath)).thenReturn(new BufferedReader(new StringReader(INDEX)));
+        when(fileManager.exists(contentFilePath)).thenReturn(true);
+        when(fileManager.size(contentFilePath)).thenReturn(SIZE - 1);
+
+        assertThat(usecase.execute(distributionCacheSettings, TARGET_FILE_PATH)).isEmpty();
+
+        verify(fileManager).deleteIfExists(indexFilePath);
+        verify(fileManager).deleteIfExists(contentFilePath);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldLinkDistributionFileWhenEntryIsValid() throws IOException {
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(HASH);
+        when(fileManager.exists(indexFilePath)).thenReturn(true);
+        when(fileManager.newBufferedReader(indexFilePath)).thenReturn(new BufferedReader(new StringReader(INDEX)));
+        when(fileManager.exists(contentFilePath)).thenReturn(true);
+        when(fileManager.size(contentFilePath)).thenReturn(SIZE);
+
+        assertThat(usecase.execute(distributionCacheSettings, TARGET_FILE_PATH)).contains(HASH);
+
+        verify(fileManager).deleteIfExists(TARGET_FILE_PATH);
+        verify(fileManager).createLink(TARGET_FILE_PATH, contentFilePath);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldCopyDistributionFileWhenLinkCannotBeCreated() throws IOException {
+        final Path indexFilePath = distributionCacheSettings.getIndexFilePath();
+        final Path contentFilePath = distributionCacheSettings.getContentFilePath(HASH);
+        when(fileManager.exists(indexFilePath)).thenReturn(true);
+        when(fileManager.newBufferedReader(indexFilePath)).thenReturn(new BufferedReader(new StringReader(INDEX)));
+        when(fileManager.exists(contentFilePath)).thenReturn(true);
+        when(fileManager.size(contentFilePath)).thenReturn(SIZE);
+        when(fileManager.createLink(TARGET_FILE_PATH, contentFilePath)).thenThrow(
+            new UnsupportedOperationException());
+
+        assertThat(usecase.execute(distributionCacheSettings, TARGET_FILE_PATH)).contains(HASH);
+
+        verify(fileManager).deleteIfExists(TARGET_FILE_PATH);
+        verify(fileManager).copy(contentFilePath, TARGET_FILE_PATH, StandardCopyOption.REPLACE_EXISTING);
+        verifyNoMoreInteractions(fileManager);
+    }
+}
@@ -3,6 +3,7 @@ package org.siouan.frontendgradleplugin.domain.usecase;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -28,7 +29,9 @@ import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlEx
 import org.siouan.frontendgradleplugin.domain.exception.InvalidNodeDistributionException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
 import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
 import org.siouan.frontendgradleplugin.domain.model.DistributionDefinition;
+import org.siouan.frontendgradleplugin.domain.model.DistributionFile;
 import org.siouan.frontendgradleplugin.domain.model.DistributionId;
 import org.siouan.frontendgradleplugin.domain.model.DistributionUrlResolver;
 import org.siouan.frontendgradleplugin.domain.model.DistributionValidator;
@@ -37,6 +40,7 @@ import org.siouan.frontendgradleplugin.domain.model.DownloadSettings;
 import org.siouan.frontendgradleplugin.domain.model.GetDistributionSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+import org.siouan.frontendgradleplugin.test.util.DistributionCacheSettingsMatcher;
 import org.siouan.frontendgradleplugin.test.util.DistributionDefintionMatcher;
 import org.siouan.frontendgradleplugin.test.util.DistributionValidatorSettingsMatcher;
 import org.siouan.frontendgradleplugin.test.util.DownloadSettingsMatcher;
@@ -46,6 +50,8 @@ class GetDistributionTest {
 
     private static final String DISTRIBUTION_NAME = "file";
 
+    private static final String DISTRIBUTION_HASH = "0123456789abcdef";
+
     private static final URL DOWNLOAD_URL;
 
     private static final String DISTRIBUTION_ID = DistributionId.NODE;
@@ -80,13 +86,19 @@ class GetDistributionTest {
     @Mock
     private DistributionValidator distributionValidator;
 
+    @Mock
+    private GetCachedDistribution getCachedDistribution;
+
+    @Mock
+    private CacheDistribution cacheDistribution;
+
     @InjectMocks
     private GetDistribution usecase;
 
     @BeforeEach
     void setUp() {
         usecase = new GetDistribution(getDistributionUrlResolver, downloadResource, getDistributionValidator,
-            mock(Logger.class));
+            getCachedDistribution, cacheDistribution, mock(Logger.class));
     }
 
     @Test
@@ -99,7 +111,7 @@ class GetDistributionTest {
             UnsupportedDistributionIdException.class);
 
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -115,7 +127,7 @@ class GetDistributionTest {
         assertThatThrownBy(() -> usecase.execute(getDistributionSettings)).isEqualTo(expectedException);
 
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -132,7 +144,7 @@ class GetDistributionTest {
         assertThatThrownBy(() -> usecase.execute(getDistributionSettings)).isEqualTo(expectedException);
 
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -148,7 +160,7 @@ class GetDistributionTest {
             InvalidDistributionUrlException.class);
 
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -170,7 +182,7 @@ class GetDistributionTest {
         assertThatThrownBy(() -> usecase.execute(getDistributionSettings)).isEqualTo(expectedException);
 
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -186,12 +198,12 @@ class GetDistributionTest {
             PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL, temporaryDirectoryPath, PROXY);
         final Path distributionFilePath = temporaryDirectoryPath.resolve(DISTRIBUTION_NAME);
 
-        assertThat(usecase.execute(getDistributionSettings)).isEqualTo(distributionFilePath);
+        assertThat(usecase.execute(getDistributionSettings).getFilePath()).isEqualTo(distributionFilePath);
 
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(DOWNLOAD_URL, PROXY, temporaryDirectoryPath, distributionFilePath))));
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -216,7 +228,7 @@ class GetDistributionTest {
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(DOWNLOAD_URL, PROXY, temporaryDirectoryPath, distributionFilePath))));
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 
     @Test
@@ -232,13 +244,72 @@ class GetDistributionTest {
             PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL, temporaryDirectoryPath, PROXY);
         final Path distributionFilePath = temporaryDirectoryPath.resolve(DISTRIBUTION_NAME);
 
-        assertThat(usecase.execute(getDistributionSettings)).isEqualTo(distributionFilePath);
+        assertThat(usecase.execute(getDistributionSettings).getFilePath()).isEqualTo(distributionFilePath);
 
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(DOWNLOAD_URL, PROXY, temporaryDirectoryPath, distributionFilePath))));
         verify(distributionValidator).execute(argThat(new DistributionValidatorSettingsMatcher(
             new DistributionValidatorSettings(temporaryDirectoryPath, DOWNLOAD_URL, distributionFilePath, PROXY))));
         verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
-            getDistributionValidator, distributionValidator);
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
+    }
+
+    @Test
+    void shouldGetDistributionFromCacheWithoutDownloadingIt()
+        throws UnsupportedPlatformException, IOException, DistributionValidatorException,
+        UnsupportedDistributionIdException, InvalidDistributionUrlException {
+        when(getDistributionUrlResolver.execute(DISTRIBUTION_ID)).thenReturn(Optional.of(distributionUrlResolver));
+        when(distributionUrlResolver.execute(argThat(new DistributionDefintionMatcher(
+            new DistributionDefinition(PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL))))).thenReturn(
+            DOWNLOAD_URL);
+        final Path cacheDirectoryPath = temporaryDirectoryPath.resolve("cache");
+        final Path distributionFilePath = temporaryDirectoryPath.resolve(DISTRIBUTION_NAME);
+        when(getCachedDistribution.execute(argThat(new DistributionCacheSettingsMatcher(
+            new DistributionCacheSettings(cacheDirectoryPath, DISTRIBUTION_ID, VERSION, PlatformFixture.LOCAL_PLATFORM,
+                DOWNLOAD_URL, DISTRIBUTION_NAME))), eq(distributionFilePath))).thenReturn(
+            Optional.of(DISTRIBUTION_HASH));
+        final GetDistributionSettings getDistributionSettings = new GetDistributionSettings(DistributionId.NODE,
+            PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL, temporaryDirectoryPath, PROXY, cacheDirectoryPath);
+
+        final DistributionFile distributionFile = usecase.execute(getDistributionSettings);
+
+        assertThat(distributionFile.getFilePath()).isEqualTo(distributionFilePath);
+        assertThat(distributionFile.getHash()).isEqualTo(DISTRIBUTION_HASH);
+        verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
+    }
+
+    @Test
+    void shouldCacheValidDistributionWhenNotFoundInCache()
+        throws UnsupportedPlatformException, IOException, DistributionValidatorException,
+        UnsupportedDistributionIdException, InvalidDistributionUrlException {
+        when(getDistributionUrlResolver.execute(DISTRIBUTION_ID)).thenReturn(Optional.of(distributionUrlResolver));
+        when(distributionUrlResolver.execute(argThat(new DistributionDefintionMatcher(
+            new DistributionDefinition(PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL))))).thenReturn(
+            DOWNLOAD_URL);
+        final Path cacheDirectoryPath = temporaryDirectoryPath.resolve("cache");
+        final Path distributionFilePath = temporaryDirectoryPath.resolve(DISTRIBUTION_NAME);
+        final DistributionCacheSettings distributionCacheSettings = new DistributionCacheSettings(cacheDirectoryPath,
+            DISTRIBUTION_ID, VERSION, PlatformFixture.LOCAL_PLATFORM, DOWNLOAD_URL, DISTRIBUTION_NAME);
+        when(getCachedDistribution.execute(argThat(new DistributionCacheSettingsMatcher(distributionCacheSettings)),
+            eq(distributionFilePath))).thenReturn(Optional.empty());
+        when(downloadResource.execute(argThat(new DownloadSettingsMatcher(
+            new DownloadSettings(DOWNLOAD_URL, PROXY, temporaryDirectoryPath, distributionFilePath))))).thenReturn(
+            DISTRIBUTION_HASH);
+        when(getDistributionValidator.execute(DISTRIBUTION_ID)).thenReturn(Optional.of(distributionValidator));
+        final GetDistributionSettings getDistributionSettings = new GetDistributionSettings(DistributionId.NODE,
+            PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL, temporaryDirectoryPath, PROXY, cacheDirectoryPath);
+
+        final DistributionFile distributionFile = usecase.execute(getDistributionSettings);
+
+        assertThat(distributionFile.getFilePath()).isEqualTo(distributionFilePath);
+        assertThat(distributionFile.getHash()).isEqualTo(DISTRIBUTION_HASH);
+        verify(distributionValidator).execute(argThat(new DistributionValidatorSettingsMatcher(
+            new DistributionValidatorSettings(temporaryDirectoryPath, DOWNLOAD_URL, distributionFilePath, PROXY,
+                DISTRIBUTION_HASH, cacheDirectoryPath))));
+        verify(cacheDistribution).execute(argThat(new DistributionCacheSettingsMatcher(distributionCacheSettings)),
+            eq(distributionFilePath), eq(DISTRIBUTION_HASH));
+        verifyNoMoreInteractions(getDistributionUrlResolver, distributionUrlResolver, downloadResource,
+            getDistributionValidator, distributionValidator, getCachedDistribution, cacheDistribution);
     }
 }
@@ -0,0 +1,59 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class GetInstalledFilesSizeTest {
+
+    private static final Path INSTALL_DIRECTORY_PATH = Paths.get("install");
+
+    @Mock
+    private FileManager fileManager;
+
+    @InjectMocks
+    private GetInstalledFilesSize usecase;
+
+    @Test
+    void shouldReturnZeroWhenInstallDirectoryDoesNotExist() throws IOException {
+        when(fileManager.isDirectory(INSTALL_DIRECTORY_PATH)).thenReturn(false);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isZero();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldSumSizeOfFilesExceptDirectoriesAndManifest() throws IOException {
+        final Path binDirectoryPath = INSTALL_DIRECTORY_PATH.resolve("bin");
+        final Path nodeExecutablePath = binDirectoryPath.resolve("node");
+        final Path licenseFilePath = INSTALL_DIRECTORY_PATH.resolve("LICENSE");
+        when(fileManager.isDirectory(INSTALL_DIRECTORY_PATH)).thenReturn(true);
+        when(fileManager.walk(INSTALL_DIRECTORY_PATH)).thenReturn(
+            Stream.of(INSTALL_DIRECTORY_PATH, INSTALL_DIRECTORY_PATH.resolve(InstallManifest.FILE_NAME),
+                binDirectoryPath, nodeExecutablePath, licenseFilePath));
+        when(fileManager.isDirectory(binDirectoryPath)).thenReturn(true);
+        when(fileManager.isDirectory(nodeExecutablePath)).thenReturn(false);
+        when(fileManager.isDirectory(licenseFilePath)).thenReturn(false);
+        when(fileManager.size(nodeExecutablePath)).thenReturn(1000L);
+        when(fileManager.size(licenseFilePath)).thenReturn(24L);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEqualTo(1024);
+
+        verifyNoMoreInteractions(fileManager);
+    }
+}
@@ -0,0 +1,60 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class GetInstalledSymbolicLinksTest {
+
+    private static final Path INSTALL_DIRECTORY_PATH = Paths.get("install");
+
+    @Mock
+    private FileManager fileManager;
+
+    @InjectMocks
+    private GetInstalledSymbolicLinks usecase;
+
+    @Test
+    void shouldReturnNoLinksWhenInstallDirectoryDoesNotExist() throws IOException {
+        when(fileManager.isDirectory(INSTALL_DIRECTORY_PATH)).thenReturn(false);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEmpty();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldReturnRelativeLinkPathsAndTargets() throws IOException {
+        final Path binDirectoryPath = INSTALL_DIRECTORY_PATH.resolve("bin");
+        final Path nodeFilePath = binDirectoryPath.resolve("node");
+        final Path npmFilePath = binDirectoryPath.resolve("npm");
+        when(fileManager.isDirectory(INSTALL_DIRECTORY_PATH)).thenReturn(true);
+        when(fileManager.walk(INSTALL_DIRECTORY_PATH)).thenReturn(
+            Stream.of(INSTALL_DIRECTORY_PATH, binDirectoryPath, nodeFilePath, npmFilePath));
+        when(fileManager.isSymbolicLink(INSTALL_DIRECTORY_PATH)).thenReturn(false);
+        when(fileManager.isSymbolicLink(binDirectoryPath)).thenReturn(false);
+        when(fileManager.isSymbolicLink(nodeFilePath)).thenReturn(false);
+        when(fileManager.isSymbolicLink(npmFilePath)).thenReturn(true);
+        when(fileManager.readSymbolicLink(npmFilePath)).thenReturn(
+            Paths.get("..", "lib", "node_modules", "npm", "bin", "npm-cli.js"));
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH))
+            .hasSize(1)
+            .containsEntry("bin/npm", "../lib/node_modules/npm/bin/npm-cli.js");
+
+        verifyNoMoreInteractions(fileManager);
+    }
+}
@@ -0,0 +1,173 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.RevalidatedResource;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+
+@ExtendWith(MockitoExtension.class)
+class GetNodeDistributionShasumsTest {
+
+    private static final Path SHASUMS_FILE_PATH = PathFixture.ANY_PATH.resolve("shasums.txt");
+
+    private static final Path INDEX_FILE_PATH = PathFixture.ANY_PATH.resolve(
+        "shasums.txt" + GetNodeDistributionShasums.INDEX_FILE_EXTENSION);
+
+    private static final String DISTRIBUTION_FILENAME = "node-10.0.0.zip";
+
+    private static final String SHASUM = "523ab86h853e86";
+
+    private static final String SHASUMS = "ht7kuyfff74vz9  node-10.1.0.zip\n" + SHASUM + "  " + DISTRIBUTION_FILENAME
+        + "\n6htskfy72291ds  node-10.0.2.zip\n";
+
+    private static final String ENTITY_TAG = "\"5e7c2a1b-f1b\"";
+
+    private static final String SHASUMS_VERSION = "etag " + ENTITY_TAG;
+
+    private static final RevalidatedResource SHASUMS_RESOURCE = new RevalidatedResource(SHASUMS_FILE_PATH,
+        new ResourceMetadata(ENTITY_TAG, "Thu, 26 Mar 2020 15:43:14 GMT"));
+
+    @Mock
+    private FileManager fileManager;
+
+    private GetNodeDistributionShasums usecase;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new GetNodeDistributionShasums(fileManager, mock(Logger.class));
+    }
+
+    @Test
+    void shouldParseShasumsWithoutIndexWhenVersionIsUnknown() throws IOException {
+        when(fileManager.newBufferedReader(SHASUMS_FILE_PATH)).thenReturn(
+            new BufferedReader(new StringReader(SHASUMS)));
+
+        assertThat(usecase.execute(new RevalidatedResource(SHASUMS_FILE_PATH, null)))
+            .hasSize(3)
+            .containsEntry(DISTRIBUTION_FILENAME, SHASUM);
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldParseShasumsAndWriteIndexWhenIndexDoesNotExist() throws IOException {
+        when(fileManager.exists(INDEX_FILE_PATH)).thenReturn(false);
+        when(fileManager.newBufferedReader(SHASUMS_FILE_PATH)).thenReturn(
+            new BufferedReader(new StringReader(SHASUMS)));
+        final ByteArrayOutputStream indexOutputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(indexOutputStream);
+
+        final Map<String, String> shasums = usecase.execute(SHASUMS_RESOURCE);
+
+        assertThat(shasums).hasSize(3).containsEntry(DISTRIBUTION_FILENAME, SHASUM);
+        final Properties index = new Properties();
+        index.load(new ByteArrayInputStream(indexOutputStream.toByteArray()));
+        assertThat(index.remove(GetNodeDistributionShasums.SHASUMS_VERSION_PROPERTY_NAME)).isEqualTo(
+            SHASUMS_VERSION);
+        assertThat(index).isEqualTo(shasums);
+        final ArgumentCaptor<Path> temporaryIndexFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).newOutputStream(temporaryIndexFilePathCaptor.capture());
+        verify(fileManager).move(temporaryIndexFilePathCaptor.getValue(), INDEX_FILE_PATH,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        verify(fileManager).deleteIfExists(temporaryIndexFilePathCaptor.getValue());
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldParseShasumsAndWriteIndexWhenIndexWasBuiltFromAnotherVersion() throws IOException {
+        when(fileManager.exists(INDEX_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(INDEX_FILE_PATH)).thenReturn(
+            newIndexInputStream("etag \"outdated\"", DISTRIBUTION_FILENAME + "=outdatedShasum"));
+        when(fileManager.newBufferedReader(SHASUMS_FILE_PATH)).thenReturn(
+            new BufferedReader(new StringReader(SHASUMS)));
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(new ByteArrayOutputStream());
+
+        assertThat(usecase.execute(SHASUMS_RESOURCE)).hasSize(3).containsEntry(DISTRIBUTION_FILENAME, SHASUM);
+
+        final ArgumentCaptor<Path> temporaryIndexFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).newOutputStream(temporaryIndexFilePathCaptor.capture());
+        verify(fileManager).move(temporaryIndexFilePathCaptor.getValue(), INDEX_FILE_PATH,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        verify(fileManager).deleteIfExists(temporaryIndexFilePathCaptor.getValue());
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldParseShasumsAndWriteIndexWhenIndexHasNoVersion() throws IOException {
+        when(fileManager.exists(INDEX_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(INDEX_FILE_PATH)).thenReturn(new ByteArrayInputStream(
+            (DISTRIBUTION_FILENAME + '=' + SHASUM).getBytes(StandardCharsets.ISO_8859_1)));
+        when(fileManager.newBufferedReader(SHASUMS_FILE_PATH)).thenReturn(
+            new BufferedReader(new StringReader(SHASUMS)));
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(new ByteArrayOutputStream());
+
+        assertThat(usecase.execute(SHASUMS_RESOURCE)).hasSize(3).containsEntry(DISTRIBUTION_FILENAME, SHASUM);
+
+        final ArgumentCaptor<Path> temporaryIndexFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).newOutputStream(temporaryIndexFilePathCaptor.capture());
+        verify(fileManager).move(temporaryIndexFilePathCaptor.getValue(), INDEX_FILE_PATH,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        verify(fileManager).deleteIfExists(temporaryIndexFilePathCaptor.getValue());
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldReadIndexWhenIndexWasBuiltFromSameVersion() throws IOException {
+        when(fileManager.exists(INDEX_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(INDEX_FILE_PATH)).thenReturn(
+            newIndexInputStream(SHASUMS_VERSION, DISTRIBUTION_FILENAME + '=' + SHASUM));
+
+        assertThat(usecase.execute(SHASUMS_RESOURCE)).isEqualTo(
+            Collections.singletonMap(DISTRIBUTION_FILENAME, SHASUM));
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldReuseShasumsInMemoryWhenVersionIsSame() throws IOException {
+        when(fileManager.exists(INDEX_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(INDEX_FILE_PATH)).thenReturn(
+            newIndexInputStream(SHASUMS_VERSION, DISTRIBUTION_FILENAME + '=' + SHASUM));
+        final Map<String, String> shasums = usecase.execute(SHASUMS_RESOURCE);
+
+        assertThat(usecase.execute(new RevalidatedResource(SHASUMS_FILE_PATH,
+            new ResourceMetadata(ENTITY_TAG, null)))).isSameAs(shasums);
+
+        verify(fileManager).exists(INDEX_FILE_PATH);
+        verify(fileManager).newInputStream(INDEX_FILE_PATH);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    private static InputStream newIndexInputStream(final String shasumsVersion, final String entries) {
+        return new ByteArrayInputStream(
+            (GetNodeDistributionShasums.SHASUMS_VERSION_PROPERTY_NAME + '=' + shasumsVersion.replace(" ", "\\ ")
+                + '\n' + entries).getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
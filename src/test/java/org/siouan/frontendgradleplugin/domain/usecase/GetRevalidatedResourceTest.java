@@ -0,0 +1,171 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.ModifiedResource;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.RevalidatedResource;
+import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+import org.siouan.frontendgradleplugin.test.util.ResourceMetadataMatcher;
+
+@ExtendWith(MockitoExtension.class)
+class GetRevalidatedResourceTest {
+
+    private static final URL RESOURCE_URL;
+
+    private static final String RESOURCE_NAME = "SHASUMS256.txt";
+
+    private static final Path CACHE_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("cache");
+
+    private static final String ENTITY_TAG = "\"5e7c2a1b-f1b\"";
+
+    private static final String LAST_MODIFIED = "Thu, 26 Mar 2020 15:43:14 GMT";
+
+    static {
+        try {
+            RESOURCE_URL = new URL("https://nodejs.org/dist/v12.16.1/" + RESOURCE_NAME);
+        } catch (final MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Mock
+    private FileManager fileManager;
+
+    @Mock
+    private ChannelProvider channelProvider;
+
+    private GetRevalidatedResource usecase;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new GetRevalidatedResource(fileManager, channelProvider, new ConvertToHexadecimalString(),
+            mock(Logger.class));
+    }
+
+    @Test
+    void shouldStoreResourceAndMetadataWhenResourceIsNotStored() throws IOException {
+        when(fileManager.exists(any(Path.class))).thenReturn(false);
+        when(channelProvider.getModifiedResource(eq(RESOURCE_URL), eq(Proxy.NO_PROXY), isNull())).thenReturn(
+            Optional.of(new ModifiedResource(Channels.newChannel(new ByteArrayInputStream(new byte[0])),
+                new ResourceMetadata(ENTITY_TAG, LAST_MODIFIED))));
+        final ByteArrayOutputStream metadataOutputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(metadataOutputStream);
+
+        final RevalidatedResource resource = usecase.execute(RESOURCE_URL, Proxy.NO_PROXY, CACHE_DIRECTORY_PATH);
+
+        assertThat(new ResourceMetadataMatcher(new ResourceMetadata(ENTITY_TAG, LAST_MODIFIED)).matches(
+            resource.getMetadata())).isTrue();
+        final Path contentFilePath = resource.getFilePath();
+        final ArgumentCaptor<Path> contentFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).exists(contentFilePathCaptor.capture());
+        final Path actualContentFilePath = contentFilePathCaptor.getValue();
+        assertThat(contentFilePath).isEqualTo(actualContentFilePath);
+        final Path actualMetadataFilePath = actualContentFilePath.resolveSibling(
+            RESOURCE_NAME + GetRevalidatedResource.METADATA_FILE_EXTENSION);
+        assertThat(actualContentFilePath.getFileName().toString()).isEqualTo(RESOURCE_NAME);
+        assertThat(actualContentFilePath.getParent().getParent()).isEqualTo(
+            CACHE_DIRECTORY_PATH.resolve(GetRevalidatedResource.RESOURCES_DIRECTORY_NAME));
+        verify(fileManager).createDirectories(actualContentFilePath.getParent());
+        final ArgumentCaptor<Path> temporaryContentFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).copy(any(InputStream.class), temporaryContentFilePathCaptor.capture());
+        final ArgumentCaptor<Path> temporaryMetadataFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).newOutputStream(temporaryMetadataFilePathCaptor.capture());
+        final Properties metadata = new Properties();
+        metadata.load(new ByteArrayInputStream(metadataOutputStream.toByteArray()));
+        assertThat(metadata.getProperty(GetRevalidatedResource.ENTITY_TAG_PROPERTY)).isEqualTo(ENTITY_TAG);
+        assertThat(metadata.getProperty(GetRevalidatedResource.LAST_MODIFIED_PROPERTY)).isEqualTo(LAST_MODIFIED);
+        final InOrder inOrder = inOrder(fileManager);
+        inOrder.verify(fileManager).move(temporaryContentFilePathCaptor.getValue(), actualContentFilePath,
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        inOrder.verify(fileManager).move(temporaryMetadataFilePathCaptor.getValue(), actualMetadataFilePath,
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        verify(fileManager).deleteIfExists(temporaryContentFilePathCaptor.getValue());
+        verify(fileManager).deleteIfExists(temporaryMetadataFilePathCaptor.getValue());
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldKeepStoredResourceAndReturnNoMetadataWhenContentFileCannotBeReplaced() throws IOException {
+        when(fileManager.exists(any(Path.class))).thenReturn(false);
+        when(channelProvider.getModifiedResource(eq(RESOURCE_URL), eq(Proxy.NO_PROXY), isNull())).thenReturn(
+            Optional.of(new ModifiedResource(Channels.newChannel(new ByteArrayInputStream(new byte[0])),
+                new ResourceMetadata(ENTITY_TAG, LAST_MODIFIED))));
+        when(fileManager.newOutputStream(any(Path.class))).thenReturn(new ByteArrayOutputStream());
+        final ArgumentCaptor<Path> temporaryContentFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        when(fileManager.move(temporaryContentFilePathCaptor.capture(), argThat(path -> path.endsWith(RESOURCE_NAME)),
+            eq(StandardCopyOption.ATOMIC_MOVE), eq(StandardCopyOption.REPLACE_EXISTING))).thenThrow(
+            FileAlreadyExistsException.class);
+
+        final RevalidatedResource resource = usecase.execute(RESOURCE_URL, Proxy.NO_PROXY, CACHE_DIRECTORY_PATH);
+
+        assertThat(resource.getMetadata()).isNull();
+        final Path contentFilePath = resource.getFilePath();
+        verify(fileManager).exists(contentFilePath);
+        verify(fileManager).createDirectories(contentFilePath.getParent());
+        verify(fileManager).copy(any(InputStream.class), eq(temporaryContentFilePathCaptor.getValue()));
+        final ArgumentCaptor<Path> temporaryMetadataFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).newOutputStream(temporaryMetadataFilePathCaptor.capture());
+        verify(fileManager).deleteIfExists(temporaryContentFilePathCaptor.getValue());
+        verify(fileManager).deleteIfExists(temporaryMetadataFilePathCaptor.getValue());
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+
+    @Test
+    void shouldReturnStoredResourceWhenResourceIsNotModified() throws IOException {
+        when(fileManager.exists(any(Path.class))).thenReturn(true);
+        when(fileManager.newInputStream(any(Path.class))).thenReturn(new ByteArrayInputStream(
+            (GetRevalidatedResource.ENTITY_TAG_PROPERTY + '=' + ENTITY_TAG).getBytes(StandardCharsets.ISO_8859_1)));
+        when(channelProvider.getModifiedResource(eq(RESOURCE_URL), eq(Proxy.NO_PROXY),
+            argThat(new ResourceMetadataMatcher(new ResourceMetadata(ENTITY_TAG, null))))).thenReturn(
+            Optional.empty());
+
+        final RevalidatedResource resource = usecase.execute(RESOURCE_URL, Proxy.NO_PROXY, CACHE_DIRECTORY_PATH);
+
+        assertThat(new ResourceMetadataMatcher(new ResourceMetadata(ENTITY_TAG, null)).matches(
+            resource.getMetadata())).isTrue();
+        final Path contentFilePath = resource.getFilePath();
+        final ArgumentCaptor<Path> metadataFilePathCaptor = ArgumentCaptor.forClass(Path.class);
+        verify(fileManager).newInputStream(metadataFilePathCaptor.capture());
+        final Path actualMetadataFilePath = metadataFilePathCaptor.getValue();
+        final Path actualContentFilePath = actualMetadataFilePath.resolveSibling(RESOURCE_NAME);
+        assertThat(contentFilePath).isEqualTo(actualContentFilePath);
+        verify(fileManager).exists(actualContentFilePath);
+        verify(fileManager).exists(actualMetadataFilePath);
+        verifyNoMoreInteractions(fileManager, channelProvider);
+    }
+}
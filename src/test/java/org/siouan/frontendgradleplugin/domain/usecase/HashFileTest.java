@@ -13,9 +13,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
@@ -41,9 +41,13 @@ class HashFileTest {
     @Mock
     private ConvertToHexadecimalString convertToHexadecimalString;
 
-    @InjectMocks
     private HashFile usecase;
 
+    @BeforeEach
+    void setUp() {
+        usecase = new HashFile(channelProvider, convertToHexadecimalString);
+    }
+
     @Test
     void shouldFailWhenFileCannotBeRead() throws IOException {
         final Exception expectedException = new IOException();
@@ -71,4 +75,29 @@ class HashFileTest {
         verify(inputChannel).close();
         verifyNoMoreInteractions(inputChannel, channelProvider, convertToHexadecimalString);
     }
+
+    @Test
+    void shouldReturnValidSha256HashWithSmallBufferingCapacity() throws IOException {
+        final SeekableByteChannel inputChannel = mock(SeekableByteChannel.class);
+        when(channelProvider.getSeekableByteChannel(FILE_PATH)).thenReturn(inputChannel);
+        final ByteBuffer data = ByteBuffer.wrap(DATA.getBytes());
+        when(inputChannel.read(any(ByteBuffer.class))).then(invocation -> {
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            final ByteBuffer buffer = invocation.getArgument(0);
+            assertThat(buffer.capacity()).isEqualTo(16);
+            final int length = Math.min(buffer.remaining(), data.remaining());
+            final byte[] bytes = new byte[length];
+            data.get(bytes);
+            buffer.put(bytes);
+            return length;
+        });
+        when(convertToHexadecimalString.execute(SHA256_HASH_BIN)).thenReturn(SHA256_HASH_HEX);
+
+        assertThat(usecase.execute(FILE_PATH, 16)).isEqualTo(SHA256_HASH_HEX);
+
+        verify(inputChannel).close();
+        verifyNoMoreInteractions(inputChannel, channelProvider, convertToHexadecimalString);
+    }
 }
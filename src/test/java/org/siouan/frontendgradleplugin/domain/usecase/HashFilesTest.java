@@ -0,0 +1,81 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+
+@ExtendWith(MockitoExtension.class)
+class HashFilesTest {
+
+    private static final Path FILE_PATH_1 = PathFixture.ANY_PATH.resolve("file1");
+
+    private static final Path FILE_PATH_2 = PathFixture.ANY_PATH.resolve("file2");
+
+    private static final Path FILE_PATH_3 = PathFixture.ANY_PATH.resolve("file3");
+
+    @Mock
+    private HashFile hashFile;
+
+    @InjectMocks
+    private HashFiles usecase;
+
+    @Test
+    void shouldReturnNoHashWhenNoFileIsProvided() throws IOException {
+        assertThat(usecase.execute(Collections.emptyList(), 2)).isEmpty();
+
+        verifyNoMoreInteractions(hashFile);
+    }
+
+    @Test
+    void shouldFailWhenAFileCannotBeRead() throws IOException {
+        final IOException expectedException = new IOException();
+        when(hashFile.execute(FILE_PATH_1)).thenReturn("hash1");
+        when(hashFile.execute(FILE_PATH_2)).thenThrow(expectedException);
+
+        assertThatThrownBy(() -> usecase.execute(Arrays.asList(FILE_PATH_1, FILE_PATH_2), 1)).isEqualTo(
+            expectedException);
+
+        verifyNoMoreInteractions(hashFile);
+    }
+
+    @Test
+    void shouldReturnHashesInOrderOfFilesWhenFilesAreHashedInParallel() throws IOException {
+        // Each file is hashed only once all files are being hashed, which proves they are hashed in parallel.
+        final CountDownLatch latch = new CountDownLatch(3);
+        when(hashFile.execute(FILE_PATH_1)).then(invocation -> awaitAndReturn(latch, "hash1"));
+        when(hashFile.execute(FILE_PATH_2)).then(invocation -> awaitAndReturn(latch, "hash2"));
+        when(hashFile.execute(FILE_PATH_3)).then(invocation -> awaitAndReturn(latch, "hash3"));
+
+        final Map<Path, String> hashes = usecase.execute(Arrays.asList(FILE_PATH_3, FILE_PATH_1, FILE_PATH_2), 3);
+
+        assertThat(hashes)
+            .containsEntry(FILE_PATH_1, "hash1")
+            .containsEntry(FILE_PATH_2, "hash2")
+            .containsEntry(FILE_PATH_3, "hash3");
+        assertThat(hashes.keySet()).containsExactly(FILE_PATH_3, FILE_PATH_1, FILE_PATH_2);
+
+        verifyNoMoreInteractions(hashFile);
+    }
+
+    private static String awaitAndReturn(final CountDownLatch latch, final String hash) throws InterruptedException {
+        latch.countDown();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        return hash;
+    }
+}
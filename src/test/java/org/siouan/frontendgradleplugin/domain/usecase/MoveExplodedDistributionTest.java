@@ -0,0 +1,83 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class MoveExplodedDistributionTest {
+
+    @TempDir
+    Path temporaryDirectoryPath;
+
+    private Path extractDirectoryPath;
+
+    private Path installDirectoryPath;
+
+    @Mock
+    private FileManager fileManager;
+
+    private MoveExplodedDistribution usecase;
+
+    @BeforeEach
+    void setUp() {
+        extractDirectoryPath = temporaryDirectoryPath.resolve("extract");
+        installDirectoryPath = temporaryDirectoryPath.resolve("install");
+        usecase = new MoveExplodedDistribution(fileManager, mock(Logger.class));
+    }
+
+    @Test
+    void shouldFailWhenContentCannotBeMoved() throws IOException {
+        when(fileManager.list(extractDirectoryPath)).thenReturn(
+            Stream.of(extractDirectoryPath.resolve("file1"), extractDirectoryPath.resolve("file2")));
+        final Exception expectedException = new IOException();
+        doThrow(expectedException).when(fileManager).moveFileTree(extractDirectoryPath, installDirectoryPath);
+
+        assertThatThrownBy(() -> usecase.execute(extractDirectoryPath, installDirectoryPath)).isEqualTo(
+            expectedException);
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldMoveContentWithoutRootDirectory() throws IOException {
+        when(fileManager.list(extractDirectoryPath)).thenReturn(
+            Stream.of(extractDirectoryPath.resolve("file1"), extractDirectoryPath.resolve("file2")));
+        when(fileManager.moveFileTree(extractDirectoryPath, installDirectoryPath)).thenReturn(true);
+
+        assertThat(usecase.execute(extractDirectoryPath, installDirectoryPath)).isTrue();
+
+        verify(fileManager).moveFileTree(extractDirectoryPath, installDirectoryPath);
+        verify(fileManager).deleteIfExists(extractDirectoryPath);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldMoveContentOfRootDirectory() throws IOException {
+        final Path rootDirectoryPath = extractDirectoryPath.resolve("root-dir");
+        when(fileManager.list(extractDirectoryPath)).thenReturn(Stream.of(rootDirectoryPath));
+
+        assertThat(usecase.execute(extractDirectoryPath, installDirectoryPath)).isFalse();
+
+        verify(fileManager).moveFileTree(rootDirectoryPath, installDirectoryPath);
+        verify(fileManager).deleteIfExists(extractDirectoryPath);
+        verifyNoMoreInteractions(fileManager);
+    }
+}
@@ -0,0 +1,95 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.test.util.InstallManifestMatcher;
+
+@ExtendWith(MockitoExtension.class)
+class ReadInstallManifestTest {
+
+    private static final Path INSTALL_DIRECTORY_PATH = Paths.get("install");
+
+    private static final Path MANIFEST_FILE_PATH = INSTALL_DIRECTORY_PATH.resolve(InstallManifest.FILE_NAME);
+
+    @Mock
+    private FileManager fileManager;
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private ReadInstallManifest usecase;
+
+    @Test
+    void shouldReturnEmptyManifestWhenFileDoesNotExist() throws IOException {
+        when(fileManager.exists(MANIFEST_FILE_PATH)).thenReturn(false);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEmpty();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldReturnEmptyManifestWhenPropertyIsMissing() throws IOException {
+        when(fileManager.exists(MANIFEST_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(MANIFEST_FILE_PATH)).thenReturn(
+            toInputStream("distributionId=node\nversion=12.16.3\nplatform=linux-amd64\n"));
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEmpty();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldReturnEmptyManifestWhenFileCountIsInvalid() throws IOException {
+        when(fileManager.exists(MANIFEST_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(MANIFEST_FILE_PATH)).thenReturn(toInputStream(
+            "distributionId=node\nversion=12.16.3\nplatform=linux-amd64\ndistributionFileSha256=0a1b\n"
+                + "fileCount=abc\n"));
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEmpty();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldReturnManifest() throws IOException {
+        when(fileManager.exists(MANIFEST_FILE_PATH)).thenReturn(true);
+        when(fileManager.newInputStream(MANIFEST_FILE_PATH)).thenReturn(toInputStream(
+            "distributionId=node\nversion=12.16.3\nplatform=linux-amd64\n"
+                + "downloadUrl=https\\://domain.com/node.tar.gz\ndistributionFileSha256=0a1b\nfileCount=42\n"
+                + "symbolicLink.bin/npm=../lib/node_modules/npm/bin/npm-cli.js\n"));
+
+        final Optional<InstallManifest> installManifest = usecase.execute(INSTALL_DIRECTORY_PATH);
+
+        assertThat(installManifest).isPresent();
+        final InstallManifest expectedInstallManifest = new InstallManifest("node", "12.16.3", "linux-amd64",
+            "https://domain.com/node.tar.gz", "0a1b", 42,
+            singletonMap("bin/npm", "../lib/node_modules/npm/bin/npm-cli.js"));
+        assertThat(new InstallManifestMatcher(expectedInstallManifest).matches(installManifest.get())).isTrue();
+
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    private static ByteArrayInputStream toInputStream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
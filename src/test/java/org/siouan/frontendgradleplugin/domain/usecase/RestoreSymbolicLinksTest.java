@@ -0,0 +1,85 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class RestoreSymbolicLinksTest {
+
+    private static final Path INSTALL_DIRECTORY_PATH = Paths.get("install");
+
+    private static final String NPM_LINK_TARGET = "../lib/node_modules/npm/bin/npm-cli.js";
+
+    @Mock
+    private FileManager fileManager;
+
+    @Mock
+    private ReadInstallManifest readInstallManifest;
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private RestoreSymbolicLinks usecase;
+
+    @Test
+    void shouldRestoreNothingWhenManifestDoesNotExist() throws IOException {
+        when(readInstallManifest.execute(INSTALL_DIRECTORY_PATH)).thenReturn(Optional.empty());
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isZero();
+
+        verifyNoMoreInteractions(fileManager, readInstallManifest);
+    }
+
+    @Test
+    void shouldIgnoreLinkOutsideInstallDirectory() throws IOException {
+        when(readInstallManifest.execute(INSTALL_DIRECTORY_PATH)).thenReturn(
+            Optional.of(newInstallManifest(singletonMap("../npm", NPM_LINK_TARGET))));
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isZero();
+
+        verifyNoMoreInteractions(fileManager, readInstallManifest);
+    }
+
+    @Test
+    void shouldReplaceFilesWithSymbolicLinks() throws IOException {
+        final Map<String, String> symbolicLinks = new HashMap<>();
+        symbolicLinks.put("bin/npm", NPM_LINK_TARGET);
+        symbolicLinks.put("bin/npx", "../lib/node_modules/npm/bin/npx-cli.js");
+        when(readInstallManifest.execute(INSTALL_DIRECTORY_PATH)).thenReturn(
+            Optional.of(newInstallManifest(symbolicLinks)));
+        final Path npmFilePath = INSTALL_DIRECTORY_PATH.resolve("bin/npm");
+        final Path npxFilePath = INSTALL_DIRECTORY_PATH.resolve("bin/npx");
+        when(fileManager.isSymbolicLink(npmFilePath)).thenReturn(false);
+        when(fileManager.isSymbolicLink(npxFilePath)).thenReturn(true);
+
+        assertThat(usecase.execute(INSTALL_DIRECTORY_PATH)).isEqualTo(1);
+
+        verify(fileManager).deleteFileTree(npmFilePath, true);
+        verify(fileManager).createSymbolicLink(npmFilePath, Paths.get(NPM_LINK_TARGET));
+        verifyNoMoreInteractions(fileManager, readInstallManifest);
+    }
+
+    private static InstallManifest newInstallManifest(final Map<String, String> symbolicLinks) {
+        return new InstallManifest("node", "12.16.3", "linux-amd64", null, "0a1b", 42, symbolicLinks);
+    }
+}
@@ -0,0 +1,236 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
+import org.siouan.frontendgradleplugin.domain.exception.DistributionValidatorException;
+import org.siouan.frontendgradleplugin.domain.exception.InvalidDistributionUrlException;
+import org.siouan.frontendgradleplugin.domain.exception.InvalidNodeDistributionException;
+import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionArchiveException;
+import org.siouan.frontendgradleplugin.domain.exception.UnsupportedDistributionIdException;
+import org.siouan.frontendgradleplugin.domain.exception.UnsupportedPlatformException;
+import org.siouan.frontendgradleplugin.domain.model.Archiver;
+import org.siouan.frontendgradleplugin.domain.model.DistributionDefinition;
+import org.siouan.frontendgradleplugin.domain.model.DistributionId;
+import org.siouan.frontendgradleplugin.domain.model.DistributionUrlResolver;
+import org.siouan.frontendgradleplugin.domain.model.DistributionValidator;
+import org.siouan.frontendgradleplugin.domain.model.DistributionValidatorSettings;
+import org.siouan.frontendgradleplugin.domain.model.ExplodeSettings;
+import org.siouan.frontendgradleplugin.domain.model.GetDistributionSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.ArchiverProvider;
+import org.siouan.frontendgradleplugin.domain.provider.ChannelProvider;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+import org.siouan.frontendgradleplugin.test.util.DistributionDefintionMatcher;
+import org.siouan.frontendgradleplugin.test.util.DistributionValidatorSettingsMatcher;
+
+@ExtendWith(MockitoExtension.class)
+class StreamDistributionTest {
+
+    private static final String DISTRIBUTION_NAME = "distribution.tar.gz";
+
+    private static final String DISTRIBUTION_CONTENT = "content";
+
+    private static final String DISTRIBUTION_CONTENT_HASH
+        = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+    private static final URL DOWNLOAD_URL;
+
+    private static final String DISTRIBUTION_ID = DistributionId.NODE;
+
+    private static final Proxy PROXY = Proxy.NO_PROXY;
+
+    private static final String VERSION = "12.16.1";
+
+    static {
+        try {
+            DOWNLOAD_URL = new URL("https://domain.com/" + DISTRIBUTION_NAME);
+        } catch (final MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @TempDir
+    Path temporaryDirectoryPath;
+
+    private Path extractDirectoryPath;
+
+    private Path installDirectoryPath;
+
+    private Path distributionFilePath;
+
+    @Mock
+    private FileManager fileManager;
+
+    @Mock
+    private ChannelProvider channelProvider;
+
+    @Mock
+    private ArchiverProvider archiverProvider;
+
+    @Mock
+    private Archiver archiver;
+
+    @Mock
+    private GetDistributionUrlResolver getDistributionUrlResolver;
+
+    @Mock
+    private DistributionUrlResolver distributionUrlResolver;
+
+    @Mock
+    private GetDistributionValidator getDistributionValidator;
+
+    @Mock
+    private DistributionValidator distributionValidator;
+
+    @Mock
+    private MoveExplodedDistribution moveExplodedDistribution;
+
+    private StreamDistribution usecase;
+
+    private GetDistributionSettings getDistributionSettings;
+
+    @BeforeEach
+    void setUp() {
+        usecase = new StreamDistribution(fileManager, channelProvider, archiverProvider, getDistributionUrlResolver,
+            getDistributionValidator, moveExplodedDistribution, new ConvertToHexadecimalString(), mock(Logger.class));
+        extractDirectoryPath = temporaryDirectoryPath.resolve("extract");
+        installDirectoryPath = temporaryDirectoryPath.resolve("install");
+        distributionFilePath = temporaryDirectoryPath.resolve(DISTRIBUTION_NAME);
+        getDistributionSettings = new GetDistributionSettings(DISTRIBUTION_ID, PlatformFixture.LOCAL_PLATFORM,
+            VERSION, DOWNLOAD_URL, temporaryDirectoryPath, PROXY);
+    }
+
+    @Test
+    void shouldFailWhenDistributionIdIsUnknown() {
+        when(getDistributionUrlResolver.execute(DISTRIBUTION_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(
+            () -> usecase.execute(getDistributionSettings, extractDirectoryPath, installDirectoryPath, 1)).isInstanceOf(
+            UnsupportedDistributionIdException.class);
+
+        verifyNoMoreInteractions(fileManager, channelProvider, archiverProvider, getDistributionUrlResolver,
+            getDistributionValidator, moveExplodedDistribution);
+    }
+
+    @Test
+    void shouldFailWhenNoArchiverFoundToExplodeDistribution()
+        throws UnsupportedPlatformException, MalformedURLException {
+        givenDistributionUrlResolved();
+        when(archiverProvider.findByArchiveFilePath(distributionFilePath)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(
+            () -> usecase.execute(getDistributionSettings, extractDirectoryPath, installDirectoryPath, 1)).isInstanceOf(
+            UnsupportedDistributionArchiveException.class);
+
+        verifyNoMoreInteractions(fileManager, channelProvider, archiverProvider, getDistributionUrlResolver,
+            getDistributionValidator, moveExplodedDistribution);
+    }
+
+    @Test
+    void shouldNotStreamDistributionWhenArchiverDoesNotSupportStreaming()
+        throws UnsupportedPlatformException, IOException, UnsupportedDistributionIdException,
+        InvalidDistributionUrlException, UnsupportedDistributionArchiveException, DistributionValidatorException,
+        ArchiverException {
+        givenDistributionUrlResolved();
+        when(archiverProvider.findByArchiveFilePath(distributionFilePath)).thenReturn(Optional.of(archiver));
+        when(archiver.isStreamingSupported()).thenReturn(false);
+
+        assertThat(usecase.execute(getDistributionSettings, extractDirectoryPath, installDirectoryPath, 1)).isEmpty();
+
+        verifyNoMoreInteractions(fileManager, channelProvider, archiverProvider, archiver, getDistributionUrlResolver,
+            getDistributionValidator, moveExplodedDistribution);
+    }
+
+    @Test
+    void shouldFailAndRemoveExplodedContentWhenDistributionIsInvalid()
+        throws UnsupportedPlatformException, IOException, ArchiverException, DistributionValidatorException {
+        givenDistributionUrlResolved();
+        givenDistributionStreamed();
+        when(getDistributionValidator.execute(DISTRIBUTION_ID)).thenReturn(Optional.of(distributionValidator));
+        final Exception expectedException = new InvalidNodeDistributionException();
+        doThrow(expectedException)
+            .when(distributionValidator)
+            .execute(argThat(new DistributionValidatorSettingsMatcher(
+                new DistributionValidatorSettings(temporaryDirectoryPath, DOWNLOAD_URL, distributionFilePath, PROXY,
+                    DISTRIBUTION_CONTENT_HASH))));
+
+        assertThatThrownBy(
+            () -> usecase.execute(getDistributionSettings, extractDirectoryPath, installDirectoryPath, 1)).isEqualTo(
+            expectedException);
+
+        verify(fileManager).deleteFileTree(extractDirectoryPath, true);
+        verifyNoMoreInteractions(fileManager, channelProvider, archiverProvider, getDistributionUrlResolver,
+            getDistributionValidator, distributionValidator, moveExplodedDistribution);
+    }
+
+    @Test
+    void shouldStreamAndValidateDistributionWithHashOfWholeContent()
+        throws UnsupportedPlatformException, IOException, UnsupportedDistributionIdException,
+        InvalidDistributionUrlException, UnsupportedDistributionArchiveException, DistributionValidatorException,
+        ArchiverException {
+        givenDistributionUrlResolved();
+        givenDistributionStreamed();
+        when(getDistributionValidator.execute(DISTRIBUTION_ID)).thenReturn(Optional.of(distributionValidator));
+
+        assertThat(usecase.execute(getDistributionSettings, extractDirectoryPath, installDirectoryPath, 1)).contains(
+            DISTRIBUTION_CONTENT_HASH);
+
+        verify(distributionValidator).execute(argThat(new DistributionValidatorSettingsMatcher(
+            new DistributionValidatorSettings(temporaryDirectoryPath, DOWNLOAD_URL, distributionFilePath, PROXY,
+                DISTRIBUTION_CONTENT_HASH))));
+        verify(moveExplodedDistribution).execute(extractDirectoryPath, installDirectoryPath);
+        verifyNoMoreInteractions(fileManager, channelProvider, archiverProvider, getDistributionUrlResolver,
+            getDistributionValidator, distributionValidator, moveExplodedDistribution);
+    }
+
+    private void givenDistributionUrlResolved() throws UnsupportedPlatformException, MalformedURLException {
+        when(getDistributionUrlResolver.execute(DISTRIBUTION_ID)).thenReturn(Optional.of(distributionUrlResolver));
+        when(distributionUrlResolver.execute(argThat(new DistributionDefintionMatcher(
+            new DistributionDefinition(PlatformFixture.LOCAL_PLATFORM, VERSION, DOWNLOAD_URL))))).thenReturn(
+            DOWNLOAD_URL);
+    }
+
+    private void givenDistributionStreamed() throws IOException, ArchiverException {
+        when(archiverProvider.findByArchiveFilePath(distributionFilePath)).thenReturn(Optional.of(archiver));
+        when(archiver.isStreamingSupported()).thenReturn(true);
+        when(fileManager.createDirectory(extractDirectoryPath)).then(returnsFirstArg());
+        when(channelProvider.getReadableByteChannel(DOWNLOAD_URL, PROXY)).thenReturn(Channels.newChannel(
+            new ByteArrayInputStream(DISTRIBUTION_CONTENT.getBytes(StandardCharsets.UTF_8))));
+        // The archiver reads only the first byte, remaining bytes shall be read anyway to compute the hash.
+        doAnswer(invocation -> {
+            final ReadableByteChannel channel = invocation.<ExplodeSettings>getArgument(0).getArchiveChannel();
+            channel.read(ByteBuffer.allocate(1));
+            return null;
+        }).when(archiver).explode(any(ExplodeSettings.class));
+    }
+}
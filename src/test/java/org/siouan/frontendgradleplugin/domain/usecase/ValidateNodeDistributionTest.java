@@ -13,6 +13,7 @@ import java.net.MalformedURLException;
 import java.net.Proxy;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,7 @@ import org.siouan.frontendgradleplugin.domain.exception.NodeDistributionShasumNo
 import org.siouan.frontendgradleplugin.domain.model.DistributionValidatorSettings;
 import org.siouan.frontendgradleplugin.domain.model.DownloadSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.model.RevalidatedResource;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
 import org.siouan.frontendgradleplugin.test.util.DownloadSettingsMatcher;
@@ -60,9 +62,15 @@ class ValidateNodeDistributionTest {
     @Mock
     private DownloadResource downloadResource;
 
+    @Mock
+    private GetRevalidatedResource getRevalidatedResource;
+
     @Mock
     private ReadNodeDistributionShasum readNodeDistributionShasum;
 
+    @Mock
+    private GetNodeDistributionShasums getNodeDistributionShasums;
+
     @Mock
     private HashFile hashFile;
 
@@ -74,8 +82,8 @@ class ValidateNodeDistributionTest {
     @BeforeEach
     void setUp() {
         temporaryDirectoryPath = PathFixture.TMP_PATH;
-        usecase = new ValidateNodeDistribution(fileManager, downloadResource, readNodeDistributionShasum, hashFile,
-            mock(Logger.class));
+        usecase = new ValidateNodeDistribution(fileManager, downloadResource, getRevalidatedResource,
+            readNodeDistributionShasum, getNodeDistributionShasums, hashFile, mock(Logger.class));
     }
 
     @Test
@@ -92,7 +100,8 @@ class ValidateNodeDistributionTest {
         assertThatThrownBy(() -> usecase.execute(distributionValidatorSettings)).isEqualTo(expectedException);
 
         verify(fileManager).deleteIfExists(downloadedShasumFilepath);
-        verifyNoMoreInteractions(fileManager, downloadResource, readNodeDistributionShasum, hashFile);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
     }
 
     @Test
@@ -109,7 +118,8 @@ class ValidateNodeDistributionTest {
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(CHECKSUM_URL, PROXY, temporaryDirectoryPath, downloadedShasumFilepath))));
         verify(fileManager).deleteIfExists(downloadedShasumFilepath);
-        verifyNoMoreInteractions(fileManager, downloadResource, readNodeDistributionShasum, hashFile);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
     }
 
     @Test
@@ -126,7 +136,8 @@ class ValidateNodeDistributionTest {
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(CHECKSUM_URL, PROXY, temporaryDirectoryPath, downloadedShasumFilepath))));
         verify(fileManager).deleteIfExists(downloadedShasumFilepath);
-        verifyNoMoreInteractions(fileManager, downloadResource, readNodeDistributionShasum, hashFile);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
     }
 
     @Test
@@ -144,7 +155,8 @@ class ValidateNodeDistributionTest {
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(CHECKSUM_URL, PROXY, temporaryDirectoryPath, downloadedShasumFilepath))));
         verify(fileManager).deleteIfExists(downloadedShasumFilepath);
-        verifyNoMoreInteractions(fileManager, downloadResource, readNodeDistributionShasum, hashFile);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
     }
 
     @Test
@@ -163,7 +175,8 @@ class ValidateNodeDistributionTest {
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(CHECKSUM_URL, PROXY, temporaryDirectoryPath, downloadedShasumFilepath))));
         verify(fileManager).deleteIfExists(downloadedShasumFilepath);
-        verifyNoMoreInteractions(fileManager, downloadResource, readNodeDistributionShasum, hashFile);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
     }
 
     @Test
@@ -182,6 +195,62 @@ class ValidateNodeDistributionTest {
         verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
             new DownloadSettings(CHECKSUM_URL, PROXY, temporaryDirectoryPath, downloadedShasumFilepath))));
         verify(fileManager).deleteIfExists(downloadedShasumFilepath);
-        verifyNoMoreInteractions(fileManager, downloadResource, readNodeDistributionShasum, hashFile);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
+    }
+
+    @Test
+    void shouldReturnWhenDistributionFileHashIsProvidedAndValid()
+        throws IOException, NodeDistributionShasumNotFoundException, InvalidNodeDistributionException {
+        final Path downloadedShasumFilepath = temporaryDirectoryPath.resolve(ValidateNodeDistribution.SHASUMS_FILENAME);
+        final String expectedHash = "0123456789abcdef";
+        when(readNodeDistributionShasum.execute(downloadedShasumFilepath, DISTRIBUTION_FILENAME)).thenReturn(
+            Optional.of(expectedHash));
+        final DistributionValidatorSettings distributionValidatorSettings = new DistributionValidatorSettings(
+            temporaryDirectoryPath, DISTRIBUTION_URL, DISTRIBUTION_FILE_PATH, PROXY, expectedHash);
+
+        usecase.execute(distributionValidatorSettings);
+
+        verify(downloadResource).execute(argThat(new DownloadSettingsMatcher(
+            new DownloadSettings(CHECKSUM_URL, PROXY, temporaryDirectoryPath, downloadedShasumFilepath))));
+        verify(fileManager).deleteIfExists(downloadedShasumFilepath);
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
+    }
+
+    @Test
+    void shouldFailWhenShasumIsNotFoundInCachedShasums() throws IOException {
+        final Path cacheDirectoryPath = PathFixture.ANY_PATH.resolve("cache");
+        final Path cachedShasumFilepath = cacheDirectoryPath.resolve(ValidateNodeDistribution.SHASUMS_FILENAME);
+        final RevalidatedResource cachedShasums = new RevalidatedResource(cachedShasumFilepath, null);
+        when(getRevalidatedResource.execute(CHECKSUM_URL, PROXY, cacheDirectoryPath)).thenReturn(cachedShasums);
+        when(getNodeDistributionShasums.execute(cachedShasums)).thenReturn(Collections.emptyMap());
+        final DistributionValidatorSettings distributionValidatorSettings = new DistributionValidatorSettings(
+            temporaryDirectoryPath, DISTRIBUTION_URL, DISTRIBUTION_FILE_PATH, PROXY, null, cacheDirectoryPath);
+
+        assertThatThrownBy(() -> usecase.execute(distributionValidatorSettings)).isInstanceOf(
+            NodeDistributionShasumNotFoundException.class);
+
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
+    }
+
+    @Test
+    void shouldGetRevalidatedShasumsWhenCacheDirectoryIsProvided()
+        throws IOException, NodeDistributionShasumNotFoundException, InvalidNodeDistributionException {
+        final Path cacheDirectoryPath = PathFixture.ANY_PATH.resolve("cache");
+        final Path cachedShasumFilepath = cacheDirectoryPath.resolve(ValidateNodeDistribution.SHASUMS_FILENAME);
+        final String expectedHash = "0123456789abcdef";
+        final RevalidatedResource cachedShasums = new RevalidatedResource(cachedShasumFilepath, null);
+        when(getRevalidatedResource.execute(CHECKSUM_URL, PROXY, cacheDirectoryPath)).thenReturn(cachedShasums);
+        when(getNodeDistributionShasums.execute(cachedShasums)).thenReturn(
+            Collections.singletonMap(DISTRIBUTION_FILENAME, expectedHash));
+        final DistributionValidatorSettings distributionValidatorSettings = new DistributionValidatorSettings(
+            temporaryDirectoryPath, DISTRIBUTION_URL, DISTRIBUTION_FILE_PATH, PROXY, expectedHash, cacheDirectoryPath);
+
+        usecase.execute(distributionValidatorSettings);
+
+        verifyNoMoreInteractions(fileManager, downloadResource, getRevalidatedResource, readNodeDistributionShasum,
+            getNodeDistributionShasums, hashFile);
     }
 }
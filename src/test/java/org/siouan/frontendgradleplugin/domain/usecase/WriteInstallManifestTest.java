@@ -0,0 +1,79 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class WriteInstallManifestTest {
+
+    private static final Path INSTALL_DIRECTORY_PATH = Paths.get("install");
+
+    @Mock
+    private FileManager fileManager;
+
+    @InjectMocks
+    private WriteInstallManifest usecase;
+
+    @Test
+    void shouldWriteManifestWithoutDownloadUrl() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(INSTALL_DIRECTORY_PATH.resolve(InstallManifest.FILE_NAME))).thenReturn(
+            outputStream);
+
+        usecase.execute(INSTALL_DIRECTORY_PATH,
+            new InstallManifest("yarn", "1.22.4", "linux-amd64", null, "0a1b", 3, emptyMap()));
+
+        final Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(properties)
+            .containsEntry("distributionId", "yarn")
+            .containsEntry("version", "1.22.4")
+            .containsEntry("platform", "linux-amd64")
+            .containsEntry("distributionFileSha256", "0a1b")
+            .containsEntry("fileCount", "3")
+            .doesNotContainKey("downloadUrl")
+            .hasSize(5);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldWriteManifest() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(INSTALL_DIRECTORY_PATH.resolve(InstallManifest.FILE_NAME))).thenReturn(
+            outputStream);
+
+        usecase.execute(INSTALL_DIRECTORY_PATH,
+            new InstallManifest("node", "12.16.3", "linux-amd64", "https://domain.com/node.tar.gz", "0a1b", 42,
+                singletonMap("bin/npm", "../lib/node_modules/npm/bin/npm-cli.js")));
+
+        final Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(properties)
+            .containsEntry("distributionId", "node")
+            .containsEntry("version", "12.16.3")
+            .containsEntry("platform", "linux-amd64")
+            .containsEntry("downloadUrl", "https://domain.com/node.tar.gz")
+            .containsEntry("distributionFileSha256", "0a1b")
+            .containsEntry("fileCount", "42")
+            .containsEntry("symbolicLink.bin/npm", "../lib/node_modules/npm/bin/npm-cli.js");
+        verifyNoMoreInteractions(fileManager);
+    }
+}
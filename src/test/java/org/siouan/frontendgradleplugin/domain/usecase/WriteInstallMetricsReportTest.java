@@ -0,0 +1,72 @@
+package org.siouan.frontendgradleplugin.domain.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.model.InstallMetrics;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+
+@ExtendWith(MockitoExtension.class)
+class WriteInstallMetricsReportTest {
+
+    private static final Path REPORT_DIRECTORY_PATH = Paths.get("build", "reports", "frontend");
+
+    private static final Path REPORT_FILE_PATH = REPORT_DIRECTORY_PATH.resolve("installNode-metrics.json");
+
+    @Mock
+    private FileManager fileManager;
+
+    @InjectMocks
+    private WriteInstallMetricsReport usecase;
+
+    @Test
+    void shouldWriteReportWithNullValuesWhenDistributionIsAlreadyInstalled() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(REPORT_FILE_PATH)).thenReturn(outputStream);
+
+        usecase.execute(REPORT_FILE_PATH, InstallMetrics.alreadyInstalled("yarn", "1.22.4", 12));
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(
+            "{\n" + "  \"distributionId\": \"yarn\",\n" + "  \"version\": \"1.22.4\",\n" + "  \"installed\": false,\n"
+                + "  \"streamed\": false,\n" + "  \"distributionFileSize\": null,\n"
+                + "  \"downloadDurationMs\": null,\n" + "  \"downloadThroughput\": null,\n"
+                + "  \"explodeDurationMs\": null,\n"
+                + "  \"moveDurationMs\": null,\n" + "  \"installedFileCount\": null,\n"
+                + "  \"installedFileSize\": null,\n" + "  \"totalDurationMs\": 12\n" + "}\n");
+        verify(fileManager).createDirectories(REPORT_DIRECTORY_PATH);
+        verifyNoMoreInteractions(fileManager);
+    }
+
+    @Test
+    void shouldWriteReport() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(fileManager.newOutputStream(REPORT_FILE_PATH)).thenReturn(outputStream);
+
+        usecase.execute(REPORT_FILE_PATH,
+            new InstallMetrics("node", "12.16.\"3\"", true, false, 4000L, 2000L, 400L, 5L, false, 42L, 9000L,
+                2500));
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(
+            "{\n" + "  \"distributionId\": \"node\",\n" + "  \"version\": \"12.16.\\\"3\\\"\",\n"
+                + "  \"installed\": true,\n" + "  \"streamed\": false,\n" + "  \"distributionFileSize\": 4000,\n"
+                + "  \"downloadDurationMs\": 2000,\n" + "  \"downloadThroughput\": 2000,\n"
+                + "  \"explodeDurationMs\": 400,\n" + "  \"moveDurationMs\": 5,\n"
+                + "  \"atomicMove\": false,\n" + "  \"installedFileCount\": 42,\n" + "  \"installedFileSize\": 9000,\n"
+                + "  \"totalDurationMs\": 2500\n" + "}\n");
+        verify(fileManager).createDirectories(REPORT_DIRECTORY_PATH);
+        verifyNoMoreInteractions(fileManager);
+    }
+}
@@ -3,6 +3,14 @@ package org.siouan.frontendgradleplugin.infrastructure;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 
 import org.junit.jupiter.api.Test;
@@ -166,6 +174,51 @@ class BeanRegistryTest {
         assertThatThrownBy(() -> beanRegistry.getBean(Parent.class)).isInstanceOf(TooManyCandidateBeansException.class);
     }
 
+    @Test
+    void shouldResolveParentBeanAgainWhenChildBeanIsRegistered()
+        throws BeanInstanciationException, TooManyCandidateBeansException, ZeroOrMultiplePublicConstructorsException {
+        final ChildA childA = beanRegistry.getBean(ChildA.class);
+        assertThat(beanRegistry.getBean(Parent.class)).isSameAs(childA);
+        assertThat(beanRegistry.getBean(Parent.class)).isSameAs(childA);
+
+        beanRegistry.registerBean(ChildB.class);
+
+        assertThatThrownBy(() -> beanRegistry.getBean(Parent.class)).isInstanceOf(TooManyCandidateBeansException.class);
+    }
+
+    @Test
+    void shouldFailGettingBeanWithCircularDependency() {
+        assertThatThrownBy(() -> beanRegistry.getBean(CircularBeanA.class))
+            .isInstanceOf(CircularDependencyException.class)
+            .hasMessageContaining(CircularBeanA.class.getName() + " -> " + CircularBeanB.class.getName() + " -> "
+                + CircularBeanA.class.getName());
+    }
+
+    @Test
+    void shouldInstanciateBeanOnceWhenGettingBeanConcurrently() throws InterruptedException, ExecutionException {
+        final int threadCount = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Future<SlowBean>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return beanRegistry.getBean(SlowBean.class);
+                }));
+            }
+            startLatch.countDown();
+
+            final SlowBean bean = futures.get(0).get();
+            for (final Future<SlowBean> future : futures) {
+                assertThat(future.get()).isSameAs(bean);
+            }
+            assertThat(bean.getParameter()).isSameAs(beanRegistry.getBean(DefaultPublicConstructorBean.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     private enum BeanEnum {}
 
     private interface BeanInterface {}
@@ -226,6 +279,38 @@ class BeanRegistryTest {
         }
     }
 
+    private static class CircularBeanA {
+
+        public CircularBeanA(@Nonnull final CircularBeanB beanB) {
+        }
+    }
+
+    private static class CircularBeanB {
+
+        public CircularBeanB(@Nonnull final CircularBeanA beanA) {
+        }
+    }
+
+    private static class SlowBean {
+
+        private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+        private final DefaultPublicConstructorBean parameter;
+
+        public SlowBean(@Nonnull final DefaultPublicConstructorBean parameter) throws InterruptedException {
+            if (INSTANCE_COUNT.incrementAndGet() > 1) {
+                throw new IllegalStateException("Bean instanciated more than once");
+            }
+            // Leaves time to other threads to request the bean while it is being instanciated.
+            Thread.sleep(50);
+            this.parameter = parameter;
+        }
+
+        public DefaultPublicConstructorBean getParameter() {
+            return parameter;
+        }
+    }
+
     private static class Parent {}
 
     private static class ChildA extends Parent {
@@ -0,0 +1,109 @@
+package org.siouan.frontendgradleplugin.infrastructure.archiver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.infrastructure.provider.FileManagerImpl;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncFileWriterTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private static final int BUFFER_COUNT = 3;
+
+    @TempDir
+    Path temporaryDirectoryPath;
+
+    @Mock
+    private FileManagerImpl fileManager;
+
+    @Test
+    void shouldFailAcquiringBuffersWhenFileIsTooLarge() throws IOException {
+        try (final AsyncFileWriter fileWriter = new AsyncFileWriter(fileManager, 2, BUFFER_SIZE, BUFFER_COUNT)) {
+            assertThat(fileWriter.getMaxFileSize()).isEqualTo(BUFFER_SIZE * BUFFER_COUNT);
+            assertThatThrownBy(() -> fileWriter.acquireBuffers(BUFFER_SIZE * BUFFER_COUNT + 1)).isInstanceOf(
+                IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void shouldFailAwaitingPendingWritesWhenFileCannotBeWritten() throws IOException {
+        final Path filePath = temporaryDirectoryPath.resolve("file");
+        final IOException expectedException = new IOException();
+        when(fileManager.newOutputStream(filePath)).thenThrow(expectedException);
+
+        try (final AsyncFileWriter fileWriter = new AsyncFileWriter(fileManager, 2, BUFFER_SIZE, BUFFER_COUNT)) {
+            fileWriter.submit(filePath, fileWriter.acquireBuffers(BUFFER_SIZE * BUFFER_COUNT),
+                BUFFER_SIZE * BUFFER_COUNT, () -> {});
+
+            assertThatThrownBy(fileWriter::awaitPendingWrites).isEqualTo(expectedException);
+            // All buffers shall be available again.
+            assertThat(fileWriter.acquireBuffers(BUFFER_SIZE * BUFFER_COUNT)).hasSize(BUFFER_COUNT);
+        }
+    }
+
+    @Test
+    void shouldFailAcquiringBuffersWhenPreviousFileCannotBeWritten() throws IOException {
+        final Path filePath = temporaryDirectoryPath.resolve("file");
+        final IOException expectedException = new IOException();
+        when(fileManager.newOutputStream(filePath)).thenThrow(expectedException);
+
+        try (final AsyncFileWriter fileWriter = new AsyncFileWriter(fileManager, 2, BUFFER_SIZE, BUFFER_COUNT)) {
+            fileWriter.submit(filePath, fileWriter.acquireBuffers(BUFFER_SIZE * BUFFER_COUNT),
+                BUFFER_SIZE * BUFFER_COUNT, () -> {});
+
+            // Blocks until buffers used by the file are released, and reports the failure without waiting for all
+            // files to be submitted.
+            assertThatThrownBy(() -> fileWriter.acquireBuffers(BUFFER_SIZE * BUFFER_COUNT)).isEqualTo(
+                expectedException);
+            assertThatThrownBy(fileWriter::awaitPendingWrites).isEqualTo(expectedException);
+            // All buffers shall be available again.
+            assertThat(fileWriter.acquireBuffers(BUFFER_SIZE * BUFFER_COUNT)).hasSize(BUFFER_COUNT);
+        }
+    }
+
+    @Test
+    void shouldWriteFilesAndReleaseBuffers() throws IOException {
+        final Path filePath1 = temporaryDirectoryPath.resolve("file1");
+        final Path filePath2 = temporaryDirectoryPath.resolve("file2");
+        when(fileManager.newOutputStream(filePath1)).thenCallRealMethod();
+        when(fileManager.newOutputStream(filePath2)).thenCallRealMethod();
+        final boolean[] postWriteActionsExecuted = new boolean[2];
+
+        try (final AsyncFileWriter fileWriter = new AsyncFileWriter(fileManager, 2, BUFFER_SIZE, BUFFER_COUNT)) {
+            submit(fileWriter, filePath1, "content", () -> postWriteActionsExecuted[0] = true);
+            // Blocks until buffers used by the first file are released.
+            submit(fileWriter, filePath2, "other", () -> postWriteActionsExecuted[1] = true);
+            fileWriter.awaitPendingWrites();
+        }
+
+        assertThat(filePath1).hasContent("content");
+        assertThat(filePath2).hasContent("other");
+        assertThat(postWriteActionsExecuted).containsOnly(true);
+    }
+
+    private void submit(final AsyncFileWriter fileWriter, final Path filePath, final String content,
+        final AsyncFileWriter.PostWriteAction postWriteAction) throws IOException {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final List<byte[]> buffers = fileWriter.acquireBuffers(bytes.length);
+        int offset = 0;
+        for (final byte[] buffer : buffers) {
+            final int length = Math.min(bytes.length - offset, buffer.length);
+            System.arraycopy(bytes, offset, buffer, 0, length);
+            offset += length;
+        }
+        fileWriter.submit(filePath, buffers, bytes.length, postWriteAction);
+    }
+}
@@ -3,6 +3,7 @@ package org.siouan.frontendgradleplugin.infrastructure.archiver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -53,4 +54,17 @@ class TarArchiverContextTest {
         verify(inputStream).close();
         verifyNoMoreInteractions(inputStream);
     }
+
+    @Test
+    void shouldCloseFileWriterWhenClosingContext() throws IOException {
+        final AsyncFileWriter fileWriter = mock(AsyncFileWriter.class);
+        final TarArchiverContext context = new TarArchiverContext(settings, inputStream, fileWriter);
+
+        context.close();
+
+        assertThat(context.getFileWriter()).isEqualTo(fileWriter);
+        verify(inputStream).close();
+        verify(fileWriter).close();
+        verifyNoMoreInteractions(inputStream, fileWriter);
+    }
 }
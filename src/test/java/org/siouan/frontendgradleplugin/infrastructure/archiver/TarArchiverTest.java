@@ -11,7 +11,9 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
 import org.siouan.frontendgradleplugin.domain.model.ExplodeSettings;
 import org.siouan.frontendgradleplugin.domain.provider.FileManager;
 import org.siouan.frontendgradleplugin.infrastructure.exception.UnexpectedEofException;
@@ -181,6 +184,49 @@ class TarArchiverTest {
         assertThat(count).isEqualTo(2);
     }
 
+    @Test
+    void shouldSupportStreaming() {
+        assertThat(archiver.isStreamingSupported()).isTrue();
+    }
+
+    @Test
+    void shouldCheckTarGzArchiveReadFromChannelWithoutClosingIt() throws URISyntaxException, IOException {
+        final Path archiveFilePath = Paths.get(getClass().getClassLoader().getResource("archive.tar.gz").toURI());
+        final Path entryFilePath = targetDirectoryPath.resolve("aFile");
+        when(fileManager.newOutputStream(entryFilePath)).thenCallRealMethod();
+
+        int count = 0;
+        try (final ReadableByteChannel archiveChannel = Files.newByteChannel(archiveFilePath)) {
+            final ExplodeSettings settings = new ExplodeSettings(PlatformFixture.LOCAL_PLATFORM, archiveFilePath,
+                targetDirectoryPath, archiveChannel);
+            try (final TarArchiverContext context = archiver.initializeContext(settings)) {
+                Optional<TarEntry> option = archiver.getNextEntry(context);
+                while (option.isPresent()) {
+                    archiver.writeRegularFile(context, option.get(), entryFilePath);
+                    count++;
+                    option = archiver.getNextEntry(context);
+                }
+            }
+
+            assertThat(archiveChannel.isOpen()).isTrue();
+        }
+
+        verifyNoMoreInteractions(fileManager);
+        assertThat(entryFilePath).exists().hasContent("content");
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExplodeTarGzArchiveWithAsynchronousWriters() throws URISyntaxException, IOException, ArchiverException {
+        final Path archiveFilePath = Paths.get(getClass().getClassLoader().getResource("archive.tar.gz").toURI());
+        final ExplodeSettings settings = new ExplodeSettings(PlatformFixture.LOCAL_PLATFORM, archiveFilePath,
+            targetDirectoryPath, null, 4);
+
+        new TarArchiver(new FileManagerImpl()).explode(settings);
+
+        assertThat(targetDirectoryPath.resolve("aFile")).exists().hasContent("content");
+    }
+
     /**
      * Sub-class that allows simulating I/O errors.
      */
@@ -46,6 +46,11 @@ class ZipArchiverTest {
     @InjectMocks
     private ZipArchiver archiver;
 
+    @Test
+    void shouldSupportRandomAccess() {
+        assertThat(archiver.isRandomAccessSupported()).isTrue();
+    }
+
     @Test
     void shouldFailInitializingContextWhenZipArchiveDoesNotExist() {
         final Path archiveFile = temporaryDirectoryPath.resolve("archive");
@@ -114,4 +114,34 @@ class InstallTaskFuncTest {
         assertTaskUpToDate(result4, FrontendGradlePlugin.YARN_INSTALL_TASK_NAME);
         assertTaskSuccess(result4, FrontendGradlePlugin.INSTALL_TASK_NAME);
     }
+
+    @Test
+    void shouldSkipFrontendInstallWhenDeclaredInputsAndOutputsAreUnchanged() throws IOException, URISyntaxException {
+        Files.copy(Paths.get(getClass().getClassLoader().getResource("package-npm.json").toURI()),
+            projectDirectoryPath.resolve("package.json"));
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("nodeVersion", "10.16.0");
+        properties.put("nodeDistributionUrl", getClass().getClassLoader().getResource("node-v10.16.0.zip"));
+        createBuildFile(projectDirectoryPath, properties,
+            "tasks.named('installFrontend') {\n    inputFiles.from('package.json')\n"
+                + "    outputDirectories.from('node_modules')\n}\n");
+
+        final BuildResult result1 = runGradle(projectDirectoryPath, FrontendGradlePlugin.INSTALL_TASK_NAME);
+
+        assertTaskSuccess(result1, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
+        assertTaskSuccess(result1, FrontendGradlePlugin.INSTALL_TASK_NAME);
+
+        final BuildResult result2 = runGradle(projectDirectoryPath, FrontendGradlePlugin.INSTALL_TASK_NAME);
+
+        assertTaskUpToDate(result2, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
+        assertTaskUpToDate(result2, FrontendGradlePlugin.INSTALL_TASK_NAME);
+
+        Files.copy(Paths.get(getClass().getClassLoader().getResource("package-yarn.json").toURI()),
+            projectDirectoryPath.resolve("package.json"), StandardCopyOption.REPLACE_EXISTING);
+
+        final BuildResult result3 = runGradle(projectDirectoryPath, FrontendGradlePlugin.INSTALL_TASK_NAME);
+
+        assertTaskUpToDate(result3, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
+        assertTaskSuccess(result3, FrontendGradlePlugin.INSTALL_TASK_NAME);
+    }
 }
@@ -2,6 +2,7 @@ package org.siouan.frontendgradleplugin.infrastructure.gradle;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.siouan.frontendgradleplugin.test.util.GradleHelper.assertTaskFailed;
 import static org.siouan.frontendgradleplugin.test.util.GradleHelper.assertTaskSkipped;
 import static org.siouan.frontendgradleplugin.test.util.GradleHelper.assertTaskSuccess;
@@ -11,6 +12,8 @@ import static org.siouan.frontendgradleplugin.test.util.GradleHelper.runGradle;
 import static org.siouan.frontendgradleplugin.test.util.GradleHelper.runGradleAndExpectFailure;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
@@ -100,6 +103,12 @@ class NodeInstallTaskFuncTest {
         final BuildResult result1 = runGradle(projectDirectoryPath, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
 
         assertTaskSuccess(result1, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
+        final Path metricsReportFilePath = projectDirectoryPath
+            .resolve("build")
+            .resolve(FrontendGradlePlugin.METRICS_REPORT_DIRNAME)
+            .resolve(FrontendGradlePlugin.NODE_INSTALL_TASK_NAME + FrontendGradlePlugin.METRICS_REPORT_FILE_SUFFIX);
+        assertThat(new String(Files.readAllBytes(metricsReportFilePath), StandardCharsets.UTF_8)).contains(
+            "\"distributionId\": \"node\"", "\"installed\": true");
 
         final BuildResult result2 = runGradle(projectDirectoryPath, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
 
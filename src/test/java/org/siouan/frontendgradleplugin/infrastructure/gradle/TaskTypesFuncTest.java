@@ -183,6 +183,79 @@ class TaskTypesFuncTest {
         assertTaskSuccess(result8, runNpmYarnTaskName);
     }
 
+    @Test
+    void shouldRunCustomNodeTasksInWorker() throws IOException {
+        final Path tmpScriptPath = temporaryDirectoryPath.resolve("script.js");
+        createScriptFile(tmpScriptPath);
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("nodeVersion", "12.16.1");
+        properties.put("nodeInstallDirectory", projectDirectoryPath.resolve("node-dist"));
+        // In a worker, the backslash character escapes the argument separator on all platforms.
+        final String script = tmpScriptPath.toString().replace('\\', '/');
+        final String runNodeTaskName1 = "myNodeTask1";
+        final String runNodeTaskName2 = "myNodeTask2";
+        final StringBuilder additionalContent = new StringBuilder();
+        for (final String runNodeTaskName : new String[] {runNodeTaskName1, runNodeTaskName2}) {
+            additionalContent
+                .append("tasks.register('")
+                .append(runNodeTaskName)
+                .append("', ")
+                .append(RunNode.class.getName())
+                .append(") {\n")
+                .append("dependsOn tasks.named('installNode')\n")
+                .append("workerEnabled = true\n")
+                .append("workerTimeoutMs = 60000L\n")
+                .append("script = '")
+                .append(script)
+                .append("'\n}\n");
+        }
+        createBuildFile(projectDirectoryPath, properties, additionalContent.toString());
+
+        final BuildResult result = runGradle(projectDirectoryPath, LogLevel.INFO, runNodeTaskName1, runNodeTaskName2);
+
+        assertTaskSuccess(result, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
+        assertTaskSuccess(result, runNodeTaskName1);
+        assertTaskSuccess(result, runNodeTaskName2);
+    }
+
+    @Test
+    void shouldRunCustomNpmYarnScriptsTask() throws IOException, URISyntaxException {
+        Files.copy(Paths.get(getClass().getClassLoader().getResource("package-npm.json").toURI()),
+            projectDirectoryPath.resolve("package.json"));
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("nodeVersion", "12.16.1");
+        properties.put("nodeInstallDirectory", projectDirectoryPath.resolve("node-dist"));
+        final String customTaskName = "myNpmYarnScriptsTask";
+        final String customTaskDefinition =
+            "tasks.register('" + customTaskName + "', " + RunNpmYarnScripts.class.getName() + ") {\n"
+                + "dependsOn tasks.named('installNode')\n" + "scripts = ['lint', 'test', 'assemble']\n"
+                + "maxParallelScripts = 2\n}\n";
+        createBuildFile(projectDirectoryPath, properties, customTaskDefinition);
+
+        final BuildResult result = runGradle(projectDirectoryPath, LogLevel.INFO, customTaskName);
+
+        assertTaskSuccess(result, FrontendGradlePlugin.NODE_INSTALL_TASK_NAME);
+        assertTaskSuccess(result, customTaskName);
+    }
+
+    @Test
+    void shouldFailRunningCustomNpmYarnScriptsTaskWhenScriptIsMissing() throws IOException, URISyntaxException {
+        Files.copy(Paths.get(getClass().getClassLoader().getResource("package-npm.json").toURI()),
+            projectDirectoryPath.resolve("package.json"));
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("nodeVersion", "12.16.1");
+        properties.put("nodeInstallDirectory", projectDirectoryPath.resolve("node-dist"));
+        final String customTaskName = "myNpmYarnScriptsTask";
+        final String customTaskDefinition =
+            "tasks.register('" + customTaskName + "', " + RunNpmYarnScripts.class.getName() + ") {\n"
+                + "dependsOn tasks.named('installNode')\n" + "scripts = ['lint', 'missing']\n}\n";
+        createBuildFile(projectDirectoryPath, properties, customTaskDefinition);
+
+        final BuildResult result = runGradleAndExpectFailure(projectDirectoryPath, customTaskName);
+
+        assertTaskFailed(result, customTaskName);
+    }
+
     private void createScriptFile(final Path scriptPath) throws IOException {
         try (final Writer buildFileWriter = Files.newBufferedWriter(scriptPath)) {
             buildFileWriter.append("console.log('Hello my friend!');\n");
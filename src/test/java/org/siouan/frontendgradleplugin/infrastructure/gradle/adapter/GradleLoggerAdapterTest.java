@@ -1,5 +1,6 @@
 package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -77,6 +78,45 @@ class GradleLoggerAdapterTest {
         verifyNoMoreInteractions(logger);
     }
 
+    @Test
+    void shouldNotLogMessageWhenReset() {
+        adapter.init(logger, LOGGING_LEVEL, false, PREFIX);
+        adapter.reset();
+
+        adapter.debug(MESSAGE, PARAMETER_1, PARAMETER_2);
+        adapter.info(MESSAGE, PARAMETER_1, PARAMETER_2);
+
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void shouldDelegateLoggingToGradleLoggerOfCurrentThread() throws InterruptedException {
+        final org.gradle.api.logging.Logger otherLogger = mock(org.gradle.api.logging.Logger.class);
+        adapter.init(logger, LOGGING_LEVEL, false, PREFIX);
+        final Thread otherThread = new Thread(() -> {
+            adapter.init(otherLogger, LOGGING_LEVEL, false, null);
+            adapter.debug(MESSAGE, PARAMETER_1, PARAMETER_2);
+        });
+        otherThread.start();
+        otherThread.join();
+
+        adapter.debug(MESSAGE, PARAMETER_1, PARAMETER_2);
+
+        verify(logger).debug(PREFIX + MESSAGE, new Object[] {PARAMETER_1, PARAMETER_2});
+        verify(otherLogger).debug(MESSAGE, new Object[] {PARAMETER_1, PARAMETER_2});
+        verifyNoMoreInteractions(logger, otherLogger);
+    }
+
+    @Test
+    void shouldNotLogMessageFromThreadCreatedByInitializedThread() throws InterruptedException {
+        adapter.init(logger, LOGGING_LEVEL, false, PREFIX);
+        final Thread childThread = new Thread(() -> adapter.debug(MESSAGE, PARAMETER_1, PARAMETER_2));
+        childThread.start();
+        childThread.join();
+
+        verifyNoMoreInteractions(logger);
+    }
+
     @Test
     void shouldLogMessageWithoutPrefix() {
         adapter.init(logger, LOGGING_LEVEL, false, null);
@@ -4,20 +4,30 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import org.gradle.api.Action;
 import org.gradle.api.Project;
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
 import org.gradle.process.ExecResult;
+import org.gradle.workers.WorkQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,6 +37,7 @@ import org.siouan.frontendgradleplugin.domain.model.ExecutionSettings;
 import org.siouan.frontendgradleplugin.domain.model.Logger;
 import org.siouan.frontendgradleplugin.domain.usecase.ResolveExecutionSettings;
 import org.siouan.frontendgradleplugin.infrastructure.gradle.ExecSpecAction;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.ScriptWorkAction;
 import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
 import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
 import org.siouan.frontendgradleplugin.test.util.ExecSpecActionMatcher;
@@ -36,6 +47,8 @@ class GradleScriptRunnerAdapterTest {
 
     private static final String SCRIPT = "script";
 
+    private static final String LOGGER_NAME = "task-logger";
+
     @Mock
     private Project project;
 
@@ -91,4 +104,77 @@ class GradleScriptRunnerAdapterTest {
         verify(execResult).assertNormalExitValue();
         verifyNoMoreInteractions(resolveExecutionSettings, project, execResult);
     }
+
+    @Test
+    void shouldFailSubmittingScriptWhenExecutableIsNotFound() throws ExecutableNotFoundException {
+        final ScriptProperties scriptProperties = new ScriptProperties(project,
+            PathFixture.ANY_PATH.resolve("frontend"), ExecutableType.NPM, PathFixture.ANY_PATH.resolve("node"),
+            PathFixture.ANY_PATH.resolve("yarn"), SCRIPT, PlatformFixture.LOCAL_PLATFORM);
+        final ExecutableNotFoundException expectedException = ExecutableNotFoundException.newNodeExecutableNotFoundException();
+        when(resolveExecutionSettings.execute(scriptProperties.getPackageJsonDirectoryPath(),
+            scriptProperties.getExecutableType(), scriptProperties.getNodeInstallDirectory(),
+            scriptProperties.getYarnInstallDirectory(), scriptProperties.getPlatform(),
+            scriptProperties.getScript())).thenThrow(expectedException);
+        final WorkQueue workQueue = mock(WorkQueue.class);
+
+        assertThatThrownBy(
+            () -> adapter.submit(scriptProperties, workQueue, LOGGER_NAME, LogLevel.LIFECYCLE, false,
+                "[task] ")).isEqualTo(expectedException);
+
+        verifyNoMoreInteractions(resolveExecutionSettings, project, workQueue);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSubmitScriptWithResolvedSettings() throws ExecutableNotFoundException {
+        final Path nodeInstallationDirectory = PathFixture.ANY_PATH.resolve("node");
+        final ScriptProperties scriptProperties = new ScriptProperties(project,
+            PathFixture.ANY_PATH.resolve("frontend"), ExecutableType.NPM, nodeInstallationDirectory,
+            PathFixture.ANY_PATH.resolve("yarn"), SCRIPT, PlatformFixture.LOCAL_PLATFORM);
+        final Path workingDirectoryPath = PathFixture.ANY_PATH.resolve("work");
+        final Path executablePath = nodeInstallationDirectory.resolve("npm");
+        final List<String> arguments = Arrays.asList("run", SCRIPT);
+        final ExecutionSettings executionSettings = new ExecutionSettings(workingDirectoryPath,
+            Collections.singleton(nodeInstallationDirectory), executablePath, arguments);
+        when(resolveExecutionSettings.execute(scriptProperties.getPackageJsonDirectoryPath(),
+            scriptProperties.getExecutableType(), scriptProperties.getNodeInstallDirectory(),
+            scriptProperties.getYarnInstallDirectory(), scriptProperties.getPlatform(),
+            scriptProperties.getScript())).thenReturn(executionSettings);
+        final WorkQueue workQueue = mock(WorkQueue.class);
+
+        adapter.submit(scriptProperties, workQueue, LOGGER_NAME, LogLevel.INFO, true, "[task] ");
+
+        final ArgumentCaptor<Action<ScriptWorkAction.Parameters>> actionCaptor = ArgumentCaptor.forClass(
+            Action.class);
+        verify(workQueue).submit(eq(ScriptWorkAction.class), actionCaptor.capture());
+        final ScriptWorkAction.Parameters parameters = mock(ScriptWorkAction.Parameters.class);
+        final Property<File> workingDirectory = mock(Property.class);
+        final ListProperty<File> additionalExecutableDirectories = mock(ListProperty.class);
+        final Property<File> executable = mock(Property.class);
+        final ListProperty<String> argumentsProperty = mock(ListProperty.class);
+        final Property<String> loggerName = mock(Property.class);
+        final Property<LogLevel> loggingLevel = mock(Property.class);
+        final Property<Boolean> verboseModeEnabled = mock(Property.class);
+        final Property<String> loggingPrefix = mock(Property.class);
+        when(parameters.getWorkingDirectory()).thenReturn(workingDirectory);
+        when(parameters.getAdditionalExecutableDirectories()).thenReturn(additionalExecutableDirectories);
+        when(parameters.getExecutable()).thenReturn(executable);
+        when(parameters.getArguments()).thenReturn(argumentsProperty);
+        when(parameters.getLoggerName()).thenReturn(loggerName);
+        when(parameters.getLoggingLevel()).thenReturn(loggingLevel);
+        when(parameters.getVerboseModeEnabled()).thenReturn(verboseModeEnabled);
+        when(parameters.getLoggingPrefix()).thenReturn(loggingPrefix);
+        actionCaptor.getValue().execute(parameters);
+        verify(workingDirectory).set(workingDirectoryPath.toFile());
+        verify(additionalExecutableDirectories).set(Collections.singletonList(nodeInstallationDirectory.toFile()));
+        verify(executable).set(executablePath.toFile());
+        verify(argumentsProperty).set(arguments);
+        verify(loggerName).set(LOGGER_NAME);
+        verify(loggingLevel).set(LogLevel.INFO);
+        verify(verboseModeEnabled).set(true);
+        verify(loggingPrefix).set("[task] ");
+        verifyNoMoreInteractions(resolveExecutionSettings, project, workQueue, workingDirectory,
+            additionalExecutableDirectories, executable, argumentsProperty, loggerName, loggingLevel,
+            verboseModeEnabled, loggingPrefix);
+    }
 }
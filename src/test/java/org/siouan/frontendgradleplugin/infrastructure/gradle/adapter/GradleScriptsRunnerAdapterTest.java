@@ -0,0 +1,145 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.process.ExecResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
+import org.siouan.frontendgradleplugin.domain.model.ExecutionSettings;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.provider.FileManager;
+import org.siouan.frontendgradleplugin.domain.usecase.GetNodeExecutablePath;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.ExecSpecAction;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+
+@ExtendWith(MockitoExtension.class)
+class GradleScriptsRunnerAdapterTest {
+
+    private static final Path PACKAGE_JSON_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("frontend");
+
+    private static final Path NODE_INSTALL_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("node");
+
+    private static final Path NODE_EXECUTABLE_PATH = NODE_INSTALL_DIRECTORY_PATH.resolve("node");
+
+    private static final Path TEMPORARY_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("tmp");
+
+    private static final Path RUNNER_SCRIPT_FILE_PATH = TEMPORARY_DIRECTORY_PATH.resolve(
+        GradleScriptsRunnerAdapter.RUNNER_SCRIPT_RESOURCE_NAME);
+
+    private static final Path REPORT_FILE_PATH = TEMPORARY_DIRECTORY_PATH.resolve(
+        GradleScriptsRunnerAdapter.REPORT_FILE_NAME);
+
+    @Mock
+    private Project project;
+
+    @Mock
+    private GetNodeExecutablePath getNodeExecutablePath;
+
+    @Mock
+    private FileManager fileManager;
+
+    @Mock
+    private ExecResult execResult;
+
+    private GradleScriptsRunnerAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new GradleScriptsRunnerAdapter(getNodeExecutablePath, fileManager, mock(Logger.class));
+    }
+
+    @Test
+    void shouldFailWhenNodeExecutableIsNotFound() {
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.empty());
+
+        assertThatThrownBy(() -> adapter.execute(createScriptsProperties())).isInstanceOf(
+            ExecutableNotFoundException.class);
+
+        verifyNoMoreInteractions(getNodeExecutablePath, fileManager, project);
+    }
+
+    @Test
+    void shouldRunScriptsInSingleNodeProcessAndSucceedWhenAllScriptsSucceed()
+        throws ExecutableNotFoundException, IOException {
+        mockExecution("0 1200 lint\n0 3400 test\n");
+
+        adapter.execute(createScriptsProperties());
+
+        final ArgumentCaptor<ExecSpecAction> execSpecActionCaptor = ArgumentCaptor.forClass(ExecSpecAction.class);
+        verify(project).exec(execSpecActionCaptor.capture());
+        final ExecutionSettings executionSettings = execSpecActionCaptor.getValue().getExecutionSettings();
+        assertThat(executionSettings.getWorkingDirectoryPath()).isEqualTo(PACKAGE_JSON_DIRECTORY_PATH);
+        assertThat(executionSettings.getAdditionalExecutablePaths()).containsExactly(NODE_INSTALL_DIRECTORY_PATH);
+        assertThat(executionSettings.getExecutablePath()).isEqualTo(NODE_EXECUTABLE_PATH);
+        assertThat(executionSettings.getArguments()).containsExactly(RUNNER_SCRIPT_FILE_PATH.toString(), "2",
+            REPORT_FILE_PATH.toString(), "lint", "test");
+        verify(fileManager).deleteIfExists(RUNNER_SCRIPT_FILE_PATH);
+        verify(fileManager).deleteIfExists(REPORT_FILE_PATH);
+        verify(fileManager).copy(any(InputStream.class), eq(RUNNER_SCRIPT_FILE_PATH));
+        verify(execResult).assertNormalExitValue();
+        verifyNoMoreInteractions(getNodeExecutablePath, fileManager, project, execResult);
+    }
+
+    @Test
+    void shouldFailWhenSomeScriptsFail() throws IOException {
+        mockExecution("2 1200 lint\n0 3400 test\n");
+
+        assertThatThrownBy(() -> adapter.execute(createScriptsProperties()))
+            .isInstanceOf(GradleException.class)
+            .hasMessage("Script(s) failed: 'lint' (exit value 2)");
+
+        verify(execResult).assertNormalExitValue();
+    }
+
+    @Test
+    void shouldFailWhenReportCannotBeRead() throws IOException {
+        final IOException expectedException = new IOException();
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.of(NODE_EXECUTABLE_PATH));
+        when(project.exec(any(ExecSpecAction.class))).thenReturn(execResult);
+        when(execResult.rethrowFailure()).thenReturn(execResult);
+        when(fileManager.newBufferedReader(REPORT_FILE_PATH)).thenThrow(expectedException);
+
+        assertThatThrownBy(() -> adapter.execute(createScriptsProperties()))
+            .isInstanceOf(GradleException.class)
+            .hasCause(expectedException);
+    }
+
+    private void mockExecution(final String report) throws IOException {
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.of(NODE_EXECUTABLE_PATH));
+        when(project.exec(any(ExecSpecAction.class))).thenReturn(execResult);
+        when(execResult.rethrowFailure()).thenReturn(execResult);
+        when(fileManager.newBufferedReader(REPORT_FILE_PATH)).thenReturn(
+            new BufferedReader(new StringReader(report)));
+    }
+
+    private ScriptsProperties createScriptsProperties() {
+        return new ScriptsProperties(project, PACKAGE_JSON_DIRECTORY_PATH, NODE_INSTALL_DIRECTORY_PATH,
+            Arrays.asList("lint", "test"), 2, TEMPORARY_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM);
+    }
+}
@@ -0,0 +1,47 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.nio.charset.StandardCharsets;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LoggerOutputStreamTest {
+
+    @Mock
+    private Logger logger;
+
+    @Test
+    void shouldLogEachLineWithoutTerminator() {
+        final LoggerOutputStream outputStream = new LoggerOutputStream(logger, LogLevel.QUIET);
+        final byte[] bytes = "first\r\n\nsecond {}\n".getBytes(StandardCharsets.UTF_8);
+
+        outputStream.write(bytes, 0, bytes.length);
+
+        verify(logger).log(LogLevel.QUIET, "first");
+        verify(logger).log(LogLevel.QUIET, "");
+        verify(logger).log(LogLevel.QUIET, "second {}");
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void shouldLogIncompleteLineWhenStreamIsClosed() {
+        final LoggerOutputStream outputStream = new LoggerOutputStream(logger, LogLevel.ERROR);
+        final byte[] bytes = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+
+        outputStream.write(bytes, 0, 4);
+        outputStream.write(bytes, 4, bytes.length - 4);
+        outputStream.close();
+        outputStream.close();
+
+        verify(logger).log(LogLevel.ERROR, "caf\u00e9");
+        verifyNoMoreInteractions(logger);
+    }
+}
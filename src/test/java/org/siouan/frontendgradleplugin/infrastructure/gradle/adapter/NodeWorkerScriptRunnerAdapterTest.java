@@ -0,0 +1,147 @@
+package org.siouan.frontendgradleplugin.infrastructure.gradle.adapter;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.siouan.frontendgradleplugin.domain.exception.ExecutableNotFoundException;
+import org.siouan.frontendgradleplugin.domain.model.ExecutableType;
+import org.siouan.frontendgradleplugin.domain.model.Logger;
+import org.siouan.frontendgradleplugin.domain.usecase.GetNodeExecutablePath;
+import org.siouan.frontendgradleplugin.infrastructure.gradle.NodeWorkerService;
+import org.siouan.frontendgradleplugin.infrastructure.node.NodeWorker;
+import org.siouan.frontendgradleplugin.test.fixture.PathFixture;
+import org.siouan.frontendgradleplugin.test.fixture.PlatformFixture;
+
+@ExtendWith(MockitoExtension.class)
+class NodeWorkerScriptRunnerAdapterTest {
+
+    private static final Path PACKAGE_JSON_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("frontend");
+
+    private static final Path NODE_INSTALL_DIRECTORY_PATH = PathFixture.ANY_PATH.resolve("node");
+
+    private static final Path NODE_EXECUTABLE_PATH = NODE_INSTALL_DIRECTORY_PATH.resolve("node");
+
+    private static final long TIMEOUT_MS = 1000;
+
+    @Mock
+    private Project project;
+
+    @Mock
+    private GetNodeExecutablePath getNodeExecutablePath;
+
+    @Mock
+    private GradleScriptRunnerAdapter gradleScriptRunnerAdapter;
+
+    @Mock
+    private NodeWorkerService nodeWorkerService;
+
+    @Mock
+    private NodeWorker nodeWorker;
+
+    @Mock
+    private org.gradle.api.logging.Logger taskLogger;
+
+    private NodeWorkerScriptRunnerAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new NodeWorkerScriptRunnerAdapter(getNodeExecutablePath, gradleScriptRunnerAdapter,
+            mock(Logger.class));
+    }
+
+    @Test
+    void shouldRunScriptInNewProcessWhenScriptStartsWithNodeOption() throws ExecutableNotFoundException {
+        final ScriptProperties scriptProperties = createScriptProperties("--max-old-space-size=4096 script.js");
+
+        adapter.execute(scriptProperties, nodeWorkerService, TIMEOUT_MS, taskLogger);
+
+        verify(gradleScriptRunnerAdapter).execute(scriptProperties);
+        verifyNoMoreInteractions(getNodeExecutablePath, gradleScriptRunnerAdapter, nodeWorkerService);
+    }
+
+    @Test
+    void shouldFailWhenNodeExecutableIsNotFound() {
+        final ScriptProperties scriptProperties = createScriptProperties("script.js");
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.empty());
+
+        assertThatThrownBy(
+            () -> adapter.execute(scriptProperties, nodeWorkerService, TIMEOUT_MS, taskLogger)).isInstanceOf(
+            ExecutableNotFoundException.class);
+
+        verifyNoMoreInteractions(getNodeExecutablePath, gradleScriptRunnerAdapter, nodeWorkerService);
+    }
+
+    @Test
+    void shouldFailWhenWorkerCannotRunScript() throws IOException {
+        final ScriptProperties scriptProperties = createScriptProperties("script.js");
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.of(NODE_EXECUTABLE_PATH));
+        final IOException expectedException = new IOException();
+        when(nodeWorkerService.getWorker(eq(NODE_EXECUTABLE_PATH), eq(PACKAGE_JSON_DIRECTORY_PATH),
+            anyMap())).thenThrow(expectedException);
+
+        assertThatThrownBy(() -> adapter.execute(scriptProperties, nodeWorkerService, TIMEOUT_MS, taskLogger))
+            .isInstanceOf(GradleException.class)
+            .hasCause(expectedException);
+
+        verifyNoMoreInteractions(getNodeExecutablePath, gradleScriptRunnerAdapter, nodeWorkerService);
+    }
+
+    @Test
+    void shouldFailWhenScriptExitsWithNonZeroValue() throws IOException {
+        final ScriptProperties scriptProperties = createScriptProperties("script.js");
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.of(NODE_EXECUTABLE_PATH));
+        when(nodeWorkerService.getWorker(eq(NODE_EXECUTABLE_PATH), eq(PACKAGE_JSON_DIRECTORY_PATH),
+            anyMap())).thenReturn(nodeWorker);
+        when(nodeWorker.execute(eq(Paths.get("script.js")), eq(Collections.emptyList()),
+            any(LoggerOutputStream.class), any(LoggerOutputStream.class), eq(TIMEOUT_MS))).thenReturn(1);
+
+        assertThatThrownBy(
+            () -> adapter.execute(scriptProperties, nodeWorkerService, TIMEOUT_MS, taskLogger)).isInstanceOf(
+            GradleException.class);
+
+        verifyNoMoreInteractions(getNodeExecutablePath, gradleScriptRunnerAdapter, nodeWorkerService, nodeWorker);
+    }
+
+    @Test
+    void shouldRunScriptInWorker() throws IOException, ExecutableNotFoundException {
+        final ScriptProperties scriptProperties = createScriptProperties(" script.js arg1 arg\\ 2 ");
+        when(getNodeExecutablePath.execute(NODE_INSTALL_DIRECTORY_PATH, PlatformFixture.LOCAL_PLATFORM)).thenReturn(
+            Optional.of(NODE_EXECUTABLE_PATH));
+        when(nodeWorkerService.getWorker(eq(NODE_EXECUTABLE_PATH), eq(PACKAGE_JSON_DIRECTORY_PATH),
+            anyMap())).thenReturn(nodeWorker);
+        when(nodeWorker.execute(eq(Paths.get("script.js")), eq(Arrays.asList("arg1", "arg 2")),
+            any(LoggerOutputStream.class), any(LoggerOutputStream.class), eq(TIMEOUT_MS))).thenReturn(0);
+
+        adapter.execute(scriptProperties, nodeWorkerService, TIMEOUT_MS, taskLogger);
+
+        verifyNoMoreInteractions(getNodeExecutablePath, gradleScriptRunnerAdapter, nodeWorkerService, nodeWorker);
+    }
+
+    private ScriptProperties createScriptProperties(final String script) {
+        return new ScriptProperties(project, PACKAGE_JSON_DIRECTORY_PATH, ExecutableType.NODE,
+            NODE_INSTALL_DIRECTORY_PATH, null, script, PlatformFixture.LOCAL_PLATFORM);
+    }
+}
@@ -70,12 +70,13 @@ class TaskLoggerConfigurerTest {
 
     @BeforeEach
     void setUp() {
-        taskLoggerConfigurer = new TaskLoggerConfigurer(beanRegistry, extension);
+        taskLoggerConfigurer = new TaskLoggerConfigurer(beanRegistry, extension, project);
     }
 
     @Test
     void shouldFailBeforeTaskExecutionWhenLoggerIsNotInstanciable()
         throws BeanInstanciationException, TooManyCandidateBeansException, ZeroOrMultiplePublicConstructorsException {
+        when(task.getProject()).thenReturn(project);
         when(task.getName()).thenReturn(TASK_NAME);
         when(task.getLogger()).thenReturn(gradleLogger);
         when(extension.getVerboseModeEnabled()).thenReturn(verboseModeEnabled);
@@ -95,6 +96,7 @@ class TaskLoggerConfigurerTest {
     @Test
     void shouldInitLoggerBeforeTaskExecutionWithTaskLevel()
         throws BeanInstanciationException, TooManyCandidateBeansException, ZeroOrMultiplePublicConstructorsException {
+        when(task.getProject()).thenReturn(project);
         when(task.getName()).thenReturn(TASK_NAME);
         when(task.getLogger()).thenReturn(gradleLogger);
         when(task.getLogging()).thenReturn(taskLoggingManager);
@@ -157,10 +159,55 @@ class TaskLoggerConfigurerTest {
     }
 
     @Test
-    void shouldDoNothingAfterTaskExecution() {
+    void shouldResetLoggerAfterTaskExecution()
+        throws BeanInstanciationException, TooManyCandidateBeansException, ZeroOrMultiplePublicConstructorsException {
+        when(task.getProject()).thenReturn(project);
+        when(beanRegistry.getBean(GradleLoggerAdapter.class)).thenReturn(adapter);
+
         taskLoggerConfigurer.afterExecute(task, mock(TaskState.class));
 
+        verify(adapter).reset();
         verifyNoMoreInteractions(beanRegistry, task, taskLoggingManager, project, projectLoggingManager, gradle,
             adapter);
     }
+
+    @Test
+    void shouldIgnoreTaskOfAnotherProject() {
+        when(task.getProject()).thenReturn(mock(Project.class));
+
+        taskLoggerConfigurer.beforeExecute(task);
+        taskLoggerConfigurer.afterExecute(task, mock(TaskState.class));
+
+        verifyNoMoreInteractions(beanRegistry, task, taskLoggingManager, project, projectLoggingManager, gradle,
+            adapter, extension);
+    }
+
+    @Test
+    void shouldConfigureLoggerOnlyWithExtensionOfTaskProjectInMultiProjectBuild()
+        throws BeanInstanciationException, TooManyCandidateBeansException, ZeroOrMultiplePublicConstructorsException {
+        final FrontendExtension otherExtension = mock(FrontendExtension.class);
+        final TaskLoggerConfigurer otherTaskLoggerConfigurer = new TaskLoggerConfigurer(beanRegistry, otherExtension,
+            mock(Project.class));
+        when(task.getProject()).thenReturn(project);
+        when(task.getName()).thenReturn(TASK_NAME);
+        when(task.getLogger()).thenReturn(gradleLogger);
+        when(task.getLogging()).thenReturn(taskLoggingManager);
+        when(taskLoggingManager.getLevel()).thenReturn(LOGGING_LEVEL);
+        when(extension.getVerboseModeEnabled()).thenReturn(verboseModeEnabled);
+        when(verboseModeEnabled.get()).thenReturn(true);
+        when(beanRegistry.getBean(GradleLoggerAdapter.class)).thenReturn(adapter);
+
+        taskLoggerConfigurer.beforeExecute(task);
+        otherTaskLoggerConfigurer.beforeExecute(task);
+        otherTaskLoggerConfigurer.afterExecute(task, mock(TaskState.class));
+
+        verify(adapter).init(eq(gradleLogger), eq(LOGGING_LEVEL), eq(true), anyString());
+        verifyNoMoreInteractions(beanRegistry, task, taskLoggingManager, project, projectLoggingManager, gradle,
+            adapter, otherExtension);
+
+        taskLoggerConfigurer.afterExecute(task, mock(TaskState.class));
+
+        verify(adapter).reset();
+        verifyNoMoreInteractions(adapter);
+    }
 }
@@ -0,0 +1,139 @@
+package org.siouan.frontendgradleplugin.infrastructure.node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NodeWorkerTest {
+
+    private static final Path SCRIPT_FILE_PATH = Paths.get("script.js");
+
+    private static final long TIMEOUT_MS = 1000;
+
+    private final ByteArrayOutputStream standardOutputStream = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream errorOutputStream = new ByteArrayOutputStream();
+
+    private final AtomicBoolean terminated = new AtomicBoolean();
+
+    private ExecutorService executorService;
+
+    private BufferedReader requestReader;
+
+    private Writer responseWriter;
+
+    private NodeWorker worker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Scripts are executed in a separate thread, while the test thread plays the role of the Node process.
+        executorService = Executors.newSingleThreadExecutor();
+        final PipedInputStream requestInputStream = new PipedInputStream();
+        final PipedOutputStream responseOutputStream = new PipedOutputStream();
+        worker = new NodeWorker(new PipedOutputStream(requestInputStream),
+            new PipedInputStream(responseOutputStream), () -> terminated.set(true));
+        requestReader = new BufferedReader(new InputStreamReader(requestInputStream, StandardCharsets.UTF_8));
+        responseWriter = new OutputStreamWriter(responseOutputStream, StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldForwardOutputsAndReturnExitCodeWhenScriptCompletes()
+        throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        final Future<Integer> exitCode = executorService.submit(
+            () -> worker.execute(SCRIPT_FILE_PATH, Arrays.asList("a b", "c\"d\\e"), standardOutputStream,
+                errorOutputStream, 0));
+
+        assertThat(requestReader.readLine()).isEqualTo(
+            "{\"id\":1,\"script\":\"script.js\",\"args\":[\"a b\",\"c\\\"d\\\\e\"],\"timeoutMs\":0}");
+        sendResponse("1 out " + encode("Hello "));
+        sendResponse("1 err " + encode("Warning"));
+        sendResponse("1 out " + encode("world"));
+        sendResponse("1 exit 3");
+
+        assertThat(exitCode.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(new String(standardOutputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("Hello world");
+        assertThat(new String(errorOutputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("Warning");
+        assertThat(worker.isAlive()).isTrue();
+    }
+
+    @Test
+    void shouldFailWhenScriptTimesOut() throws IOException {
+        final Future<Integer> exitCode = executorService.submit(
+            () -> worker.execute(SCRIPT_FILE_PATH, Collections.emptyList(), standardOutputStream, errorOutputStream,
+                TIMEOUT_MS));
+
+        assertThat(requestReader.readLine()).isEqualTo(
+            "{\"id\":1,\"script\":\"script.js\",\"args\":[],\"timeoutMs\":" + TIMEOUT_MS + "}");
+        sendResponse("1 timeout");
+
+        assertThatThrownBy(() -> exitCode.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IOException.class);
+        assertThat(worker.isAlive()).isTrue();
+    }
+
+    @Test
+    void shouldFailWhenProcessTerminatesBeforeScriptCompletes() throws IOException {
+        final Future<Integer> exitCode = executorService.submit(
+            () -> worker.execute(SCRIPT_FILE_PATH, Collections.emptyList(), standardOutputStream, errorOutputStream,
+                0));
+
+        assertThat(requestReader.readLine()).isNotNull();
+        responseWriter.close();
+
+        assertThatThrownBy(() -> exitCode.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IOException.class);
+        assertThat(worker.isAlive()).isFalse();
+        assertThatThrownBy(
+            () -> worker.execute(SCRIPT_FILE_PATH, Collections.emptyList(), standardOutputStream, errorOutputStream,
+                0)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldStopProcessWhenClosed() throws IOException {
+        worker.close();
+
+        assertThat(requestReader.readLine()).isNull();
+        assertThat(terminated).isTrue();
+    }
+
+    private void sendResponse(final String line) throws IOException {
+        responseWriter.write(line + '\n');
+        responseWriter.flush();
+    }
+
+    private static String encode(final String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
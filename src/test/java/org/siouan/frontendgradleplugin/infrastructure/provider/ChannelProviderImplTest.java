@@ -0,0 +1,339 @@
+package org.siouan.frontendgradleplugin.infrastructure.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.siouan.frontendgradleplugin.domain.model.ModifiedResource;
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+import org.siouan.frontendgradleplugin.domain.model.ResumedResource;
+
+class ChannelProviderImplTest {
+
+    private static final String RESOURCE_PATH = "/resource.zip";
+
+    private static final byte[] RESOURCE_CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private static final int OFFSET = 4;
+
+    private static final String ENTITY_TAG = "\"5e7c2a1b-a\"";
+
+    private static final String LAST_MODIFIED = "Thu, 26 Mar 2020 15:43:14 GMT";
+
+    private HttpServer server;
+
+    private ChannelProviderImpl channelProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+        channelProvider = new ChannelProviderImpl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldReadRemainingBytesWhenResourceIsNotModified() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            final String range = exchange.getRequestHeaders().getFirst("Range");
+            if (("bytes=" + OFFSET + '-').equals(range) && ENTITY_TAG.equals(
+                exchange.getRequestHeaders().getFirst("If-Range"))) {
+                sendResponse(exchange, HttpURLConnection.HTTP_PARTIAL, OFFSET);
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        final ResumedResource resumedResource = getResumedResource(OFFSET,
+            new ResourceMetadata(ENTITY_TAG, LAST_MODIFIED, (long) RESOURCE_CONTENT.length));
+
+        assertThat(resumedResource.getOffset()).isEqualTo(OFFSET);
+        assertThat(read(resumedResource.getChannel())).isEqualTo("456789");
+    }
+
+    @Test
+    void shouldUseLastModificationDateAsRangeValidatorWhenEntityTagIsWeak() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            if (LAST_MODIFIED.equals(exchange.getRequestHeaders().getFirst("If-Range"))) {
+                sendResponse(exchange, HttpURLConnection.HTTP_PARTIAL, OFFSET);
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        final ResumedResource resumedResource = getResumedResource(OFFSET,
+            new ResourceMetadata("W/" + ENTITY_TAG, LAST_MODIFIED));
+
+        assertThat(resumedResource.getOffset()).isEqualTo(OFFSET);
+        assertThat(read(resumedResource.getChannel())).isEqualTo("456789");
+    }
+
+    @Test
+    void shouldReadWholeResourceWhenResourceIsModified() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            exchange.getResponseHeaders().add("ETag", ENTITY_TAG);
+            if (ENTITY_TAG.equals(exchange.getRequestHeaders().getFirst("If-Range"))) {
+                sendResponse(exchange, HttpURLConnection.HTTP_PARTIAL, OFFSET);
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        final ResumedResource resumedResource = getResumedResource(OFFSET, new ResourceMetadata("\"outdated\"", null));
+
+        assertThat(resumedResource.getOffset()).isZero();
+        assertThat(resumedResource.getMetadata().getEntityTag()).isEqualTo(ENTITY_TAG);
+        assertThat(resumedResource.getMetadata().getLength()).isEqualTo(RESOURCE_CONTENT.length);
+        assertThat(read(resumedResource.getChannel())).isEqualTo("0123456789");
+    }
+
+    @Test
+    void shouldReadWholeResourceWhenServerReturnsAnotherRange() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            if (exchange.getRequestHeaders().containsKey("Range")) {
+                sendResponse(exchange, HttpURLConnection.HTTP_PARTIAL, OFFSET - 1);
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        final ResumedResource resumedResource = getResumedResource(OFFSET, new ResourceMetadata(ENTITY_TAG, null));
+
+        assertThat(resumedResource.getOffset()).isZero();
+        assertThat(read(resumedResource.getChannel())).isEqualTo("0123456789");
+    }
+
+    @Test
+    void shouldReadWholeResourceWhenServerIgnoresRangeRequests() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> sendResponse(exchange, HttpURLConnection.HTTP_OK, 0));
+
+        final ResumedResource resumedResource = getResumedResource(OFFSET, new ResourceMetadata(ENTITY_TAG, null));
+
+        assertThat(resumedResource.getOffset()).isZero();
+        assertThat(read(resumedResource.getChannel())).isEqualTo("0123456789");
+    }
+
+    @Test
+    void shouldReadWholeResourceWhenOffsetIsZero() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            if (exchange.getRequestHeaders().containsKey("Range")) {
+                sendResponse(exchange, HttpURLConnection.HTTP_BAD_REQUEST, 0);
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        assertThat(read(0)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void shouldReadNoBytesWhenRangeIsNotSatisfiableAndAllBytesWereReceived() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            exchange.getResponseHeaders().add("Content-Range", "bytes */" + RESOURCE_CONTENT.length);
+            exchange.sendResponseHeaders(416, -1);
+            exchange.close();
+        });
+
+        final ResumedResource resumedResource = getResumedResource(RESOURCE_CONTENT.length,
+            new ResourceMetadata(ENTITY_TAG, null, (long) RESOURCE_CONTENT.length));
+
+        assertThat(resumedResource.getOffset()).isEqualTo(RESOURCE_CONTENT.length);
+        assertThat(read(resumedResource.getChannel())).isEmpty();
+    }
+
+    @Test
+    void shouldFailWhenRangeIsNotSatisfiableAndResourceLengthDiffers() {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            exchange.getResponseHeaders().add("Content-Range", "bytes */" + (RESOURCE_CONTENT.length + 2));
+            exchange.sendResponseHeaders(416, -1);
+            exchange.close();
+        });
+
+        assertThatThrownBy(() -> getResumedResource(RESOURCE_CONTENT.length,
+            new ResourceMetadata(ENTITY_TAG, null, (long) RESOURCE_CONTENT.length))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldFailWhenConnectionIsClosedBeforeAllBytesAreReceived() {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, RESOURCE_CONTENT.length);
+            final OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write(RESOURCE_CONTENT, 0, OFFSET);
+            // Closing the stream before all bytes are written makes the server close the connection.
+            outputStream.close();
+        });
+
+        assertThatThrownBy(() -> read(0)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void shouldReadSegmentWhenServerSupportsRangeRequests() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            if ("bytes=4-6".equals(exchange.getRequestHeaders().getFirst("Range"))) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_PARTIAL, 3);
+                try (final OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(RESOURCE_CONTENT, OFFSET, 3);
+                }
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        assertThat(read(channelProvider.getReadableByteChannel(getResourceUrl(), Proxy.NO_PROXY, OFFSET, 3))).isEqualTo(
+            "456");
+    }
+
+    @Test
+    void shouldFailReadingSegmentWhenServerIgnoresRangeRequests() {
+        server.createContext(RESOURCE_PATH, exchange -> sendResponse(exchange, HttpURLConnection.HTTP_OK, 0));
+
+        assertThatThrownBy(
+            () -> channelProvider.getReadableByteChannel(getResourceUrl(), Proxy.NO_PROXY, OFFSET, 3)).isInstanceOf(
+            IOException.class);
+    }
+
+    @Test
+    void shouldReturnResourceLengthWhenServerSupportsRangeRequests() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            if ("bytes=0-0".equals(exchange.getRequestHeaders().getFirst("Range"))) {
+                exchange.getResponseHeaders().add("Content-Range", "bytes 0-0/" + RESOURCE_CONTENT.length);
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_PARTIAL, 1);
+                try (final OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(RESOURCE_CONTENT, 0, 1);
+                }
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        assertThat(channelProvider.getRangeableResourceLength(getResourceUrl(), Proxy.NO_PROXY)).hasValue(
+            RESOURCE_CONTENT.length);
+    }
+
+    @Test
+    void shouldReturnNoResourceLengthWhenServerDoesNotSupportRangeRequests() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> sendResponse(exchange, HttpURLConnection.HTTP_OK, 0));
+
+        assertThat(channelProvider.getRangeableResourceLength(getResourceUrl(), Proxy.NO_PROXY)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNoResourceLengthWhenResourceIsNotHttpResource() throws IOException {
+        assertThat(channelProvider.getRangeableResourceLength(new URL("file:///resource.zip"), Proxy.NO_PROXY))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldReturnResourceAndMetadataWhenNoMetadataIsProvided() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            exchange.getResponseHeaders().add("ETag", ENTITY_TAG);
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+            sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+        });
+
+        final Optional<ModifiedResource> modifiedResource = channelProvider.getModifiedResource(getResourceUrl(),
+            Proxy.NO_PROXY, null);
+
+        assertThat(modifiedResource).isPresent();
+        assertThat(modifiedResource.get().getMetadata().getEntityTag()).isEqualTo(ENTITY_TAG);
+        assertThat(modifiedResource.get().getMetadata().getLastModified()).isEqualTo(LAST_MODIFIED);
+        assertThat(read(modifiedResource.get().getChannel())).isEqualTo("0123456789");
+    }
+
+    @Test
+    void shouldReturnNoResourceWhenResourceIsNotModified() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            if (ENTITY_TAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match")) && LAST_MODIFIED.equals(
+                exchange.getRequestHeaders().getFirst("If-Modified-Since"))) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_MODIFIED, -1);
+                exchange.close();
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        assertThat(channelProvider.getModifiedResource(getResourceUrl(), Proxy.NO_PROXY,
+            new ResourceMetadata(ENTITY_TAG, LAST_MODIFIED))).isEmpty();
+    }
+
+    @Test
+    void shouldReturnResourceWhenResourceIsModified() throws IOException {
+        server.createContext(RESOURCE_PATH, exchange -> {
+            exchange.getResponseHeaders().add("ETag", ENTITY_TAG);
+            if (ENTITY_TAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_MODIFIED, -1);
+                exchange.close();
+            } else {
+                sendResponse(exchange, HttpURLConnection.HTTP_OK, 0);
+            }
+        });
+
+        final Optional<ModifiedResource> modifiedResource = channelProvider.getModifiedResource(getResourceUrl(),
+            Proxy.NO_PROXY, new ResourceMetadata("\"outdated\"", null));
+
+        assertThat(modifiedResource).isPresent();
+        assertThat(modifiedResource.get().getMetadata().getEntityTag()).isEqualTo(ENTITY_TAG);
+        assertThat(read(modifiedResource.get().getChannel())).isEqualTo("0123456789");
+    }
+
+    private URL getResourceUrl() throws IOException {
+        return new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), RESOURCE_PATH);
+    }
+
+    private ResumedResource getResumedResource(final long offset, final ResourceMetadata metadata)
+        throws IOException {
+        return channelProvider.getResumedResource(getResourceUrl(), Proxy.NO_PROXY, offset, metadata);
+    }
+
+    private String read(final long offset) throws IOException {
+        return read(getResumedResource(offset, null).getChannel());
+    }
+
+    private String read(final ReadableByteChannel channel) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final InputStream inputStream = Channels.newInputStream(channel)) {
+            final byte[] buffer = new byte[RESOURCE_CONTENT.length];
+            int numberOfBytesRead = inputStream.read(buffer);
+            while (numberOfBytesRead != -1) {
+                outputStream.write(buffer, 0, numberOfBytesRead);
+                numberOfBytesRead = inputStream.read(buffer);
+            }
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void sendResponse(final HttpExchange exchange, final int status, final int offset)
+        throws IOException {
+        if (status == HttpURLConnection.HTTP_PARTIAL) {
+            exchange.getResponseHeaders().add("Content-Range",
+                "bytes " + offset + '-' + (RESOURCE_CONTENT.length - 1) + '/' + RESOURCE_CONTENT.length);
+        }
+        exchange.sendResponseHeaders(status, RESOURCE_CONTENT.length - offset);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(RESOURCE_CONTENT, offset, RESOURCE_CONTENT.length - offset);
+        }
+    }
+}
@@ -2,11 +2,18 @@ package org.siouan.frontendgradleplugin.infrastructure.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.siouan.frontendgradleplugin.domain.model.Platform;
@@ -15,6 +22,9 @@ import org.siouan.frontendgradleplugin.domain.util.SystemUtils;
 @ExtendWith(MockitoExtension.class)
 class FileManagerImplTest {
 
+    @TempDir
+    Path temporaryDirectoryPath;
+
     @InjectMocks
     private FileManagerImpl fileProvider;
 
@@ -29,4 +39,47 @@ class FileManagerImplTest {
         assertThat(fileProvider.setFileExecutable(Paths.get("afile"),
             new Platform(SystemUtils.getSystemJvmArch(), "Linux"))).isFalse();
     }
+
+    @Test
+    void shouldMoveFileTreeWithAtomicRenameOnSameVolume() throws IOException {
+        final Path sourcePath = Files.createDirectory(temporaryDirectoryPath.resolve("source"));
+        Files.createDirectory(sourcePath.resolve("dir"));
+        Files.write(sourcePath.resolve("dir").resolve("file"), "content".getBytes());
+        final Path targetPath = temporaryDirectoryPath.resolve("target");
+
+        assertThat(fileProvider.moveFileTree(sourcePath, targetPath)).isTrue();
+
+        assertThat(sourcePath).doesNotExist();
+        assertThat(targetPath.resolve("dir").resolve("file")).exists().hasContent("content");
+    }
+
+    @Test
+    void shouldGetFileSize() throws IOException {
+        final Path filePath = Files.write(temporaryDirectoryPath.resolve("file"), "content".getBytes());
+
+        assertThat(fileProvider.size(filePath)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldWaitUntilLockIsReleased() throws IOException, InterruptedException {
+        final Path lockFilePath = temporaryDirectoryPath.resolve("file.lock");
+        final CountDownLatch lockAcquired = new CountDownLatch(1);
+        final Thread thread;
+        try (final Closeable ignored = fileProvider.lock(lockFilePath)) {
+            thread = new Thread(() -> {
+                try (final Closeable ignored2 = fileProvider.lock(lockFilePath)) {
+                    lockAcquired.countDown();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            thread.start();
+
+            assertThat(lockAcquired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        }
+
+        assertThat(lockAcquired.await(5, TimeUnit.SECONDS)).isTrue();
+        thread.join();
+        assertThat(lockFilePath).exists();
+    }
 }
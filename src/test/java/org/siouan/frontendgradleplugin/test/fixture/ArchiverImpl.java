@@ -4,10 +4,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 import org.siouan.frontendgradleplugin.domain.exception.ArchiverException;
@@ -54,7 +54,8 @@ public class ArchiverImpl extends AbstractArchiver<ArchiverContext, ArchiveEntry
         this.entries = Collections.unmodifiableCollection(entries).iterator();
         this.initException = initException;
         this.writeException = writeException;
-        this.writtenFilePaths = new HashMap<>();
+        // Files may be written concurrently when the archiver supports random access.
+        this.writtenFilePaths = new ConcurrentHashMap<>();
     }
 
     @Nonnull
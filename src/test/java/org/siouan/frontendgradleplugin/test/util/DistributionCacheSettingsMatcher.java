@@ -0,0 +1,30 @@
+package org.siouan.frontendgradleplugin.test.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.DistributionCacheSettings;
+
+public class DistributionCacheSettingsMatcher extends AbstractArgumentMatcher<DistributionCacheSettings> {
+
+    public DistributionCacheSettingsMatcher(@Nonnull final DistributionCacheSettings expectedValue) {
+        super(expectedValue);
+    }
+
+    @Override
+    public boolean matches(@Nullable final DistributionCacheSettings actualValue) {
+        if (actualValue == null) {
+            return false;
+        }
+
+        return actualValue.getCacheDirectoryPath().equals(expectedValue.getCacheDirectoryPath()) && actualValue
+            .getDistributionId()
+            .equals(expectedValue.getDistributionId()) && actualValue.getVersion().equals(expectedValue.getVersion())
+            && actualValue.getPlatform().equals(expectedValue.getPlatform()) && actualValue
+            .getDistributionUrl()
+            .toString()
+            .equals(expectedValue.getDistributionUrl().toString()) && actualValue
+            .getDistributionFileName()
+            .equals(expectedValue.getDistributionFileName());
+    }
+}
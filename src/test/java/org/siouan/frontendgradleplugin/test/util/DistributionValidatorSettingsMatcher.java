@@ -1,5 +1,6 @@
 package org.siouan.frontendgradleplugin.test.util;
 
+import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -21,6 +22,8 @@ public class DistributionValidatorSettingsMatcher extends AbstractArgumentMatche
             .getTemporaryDirectoryPath()
             .equals(expectedValue.getTemporaryDirectoryPath()) && actualValue
             .getDistributionFilePath()
-            .equals(expectedValue.getDistributionFilePath());
+            .equals(expectedValue.getDistributionFilePath()) && Objects.equals(actualValue.getDistributionFileHash(),
+            expectedValue.getDistributionFileHash()) && Objects.equals(actualValue.getCacheDirectoryPath(),
+            expectedValue.getCacheDirectoryPath());
     }
 }
@@ -23,6 +23,8 @@ public class DownloadSettingsMatcher extends AbstractArgumentMatcher<DownloadSet
             .getTemporaryDirectoryPath()
             .equals(expectedValue.getTemporaryDirectoryPath()) && actualValue
             .getDestinationFilePath()
-            .equals(expectedValue.getDestinationFilePath());
+            .equals(expectedValue.getDestinationFilePath()) && new RetrySettingsMatcher(
+            expectedValue.getRetrySettings()).matches(actualValue.getRetrySettings())
+            && (actualValue.getConnectionCount() == expectedValue.getConnectionCount());
     }
 }
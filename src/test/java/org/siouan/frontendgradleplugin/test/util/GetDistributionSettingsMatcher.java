@@ -24,6 +24,10 @@ public class GetDistributionSettingsMatcher extends AbstractArgumentMatcher<GetD
             && actualValue.getTemporaryDirectoryPath().equals(expectedValue.getTemporaryDirectoryPath()) && actualValue
             .getPlatform()
             .equals(expectedValue.getPlatform()) && Objects.equals(actualValue.getDistributionUrl(),
-            expectedValue.getDistributionUrl()) && actualValue.getProxy().equals(expectedValue.getProxy());
+            expectedValue.getDistributionUrl()) && actualValue.getProxy().equals(expectedValue.getProxy())
+            && Objects.equals(actualValue.getCacheDirectoryPath(), expectedValue.getCacheDirectoryPath())
+            && new RetrySettingsMatcher(expectedValue.getDownloadRetrySettings()).matches(
+            actualValue.getDownloadRetrySettings())
+            && (actualValue.getDownloadConnectionCount() == expectedValue.getDownloadConnectionCount());
     }
 }
@@ -0,0 +1,33 @@
+package org.siouan.frontendgradleplugin.test.util;
+
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.InstallManifest;
+
+public class InstallManifestMatcher extends AbstractArgumentMatcher<InstallManifest> {
+
+    public InstallManifestMatcher(@Nonnull final InstallManifest expectedValue) {
+        super(expectedValue);
+    }
+
+    @Override
+    public boolean matches(@Nullable final InstallManifest actualValue) {
+        if (actualValue == null) {
+            return false;
+        }
+
+        return actualValue.getDistributionId().equals(expectedValue.getDistributionId()) && actualValue
+            .getVersion()
+            .equals(expectedValue.getVersion()) && actualValue
+            .getPlatformId()
+            .equals(expectedValue.getPlatformId()) && Objects.equals(actualValue.getDownloadUrl(),
+            expectedValue.getDownloadUrl()) && actualValue
+            .getDistributionFileHash()
+            .equals(expectedValue.getDistributionFileHash()) && (actualValue.getFileCount()
+            == expectedValue.getFileCount()) && actualValue
+            .getSymbolicLinks()
+            .equals(expectedValue.getSymbolicLinks());
+    }
+}
@@ -0,0 +1,24 @@
+package org.siouan.frontendgradleplugin.test.util;
+
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.ResourceMetadata;
+
+public class ResourceMetadataMatcher extends AbstractArgumentMatcher<ResourceMetadata> {
+
+    public ResourceMetadataMatcher(@Nonnull final ResourceMetadata expectedValue) {
+        super(expectedValue);
+    }
+
+    @Override
+    public boolean matches(@Nullable final ResourceMetadata actualValue) {
+        if (actualValue == null) {
+            return false;
+        }
+
+        return Objects.equals(actualValue.getEntityTag(), expectedValue.getEntityTag()) && Objects.equals(
+            actualValue.getLastModified(), expectedValue.getLastModified());
+    }
+}
@@ -0,0 +1,23 @@
+package org.siouan.frontendgradleplugin.test.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.siouan.frontendgradleplugin.domain.model.RetrySettings;
+
+public class RetrySettingsMatcher extends AbstractArgumentMatcher<RetrySettings> {
+
+    public RetrySettingsMatcher(@Nonnull final RetrySettings expectedValue) {
+        super(expectedValue);
+    }
+
+    @Override
+    public boolean matches(@Nullable final RetrySettings actualValue) {
+        if (actualValue == null) {
+            return false;
+        }
+
+        return (actualValue.getMaxAttempts() == expectedValue.getMaxAttempts()) && (actualValue.getInitialDelayMs()
+            == expectedValue.getInitialDelayMs());
+    }
+}